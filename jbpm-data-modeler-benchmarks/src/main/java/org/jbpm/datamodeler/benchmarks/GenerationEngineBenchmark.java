@@ -0,0 +1,116 @@
+/**
+ * Copyright 2012 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.datamodeler.benchmarks;
+
+import org.jbpm.datamodeler.codegen.GenerationContext;
+import org.jbpm.datamodeler.codegen.GenerationEngine;
+import org.jbpm.datamodeler.codegen.GenerationListener;
+import org.jbpm.datamodeler.codegen.GenerationTools;
+import org.jbpm.datamodeler.core.DataModel;
+import org.jbpm.datamodeler.core.DataObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the code generation throughput for synthetic data models. The allocation rate is measured by running
+ * the benchmarks with the JMH gc profiler, e.g. java -jar target/benchmarks.jar GenerationEngineBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenerationEngineBenchmark {
+
+    @Param({"10", "100"})
+    private int objects;
+
+    @Param({"10"})
+    private int properties;
+
+    @Param({"2"})
+    private int annotations;
+
+    @Param({"0", "3"})
+    private int inheritanceDepth;
+
+    @Param({"false", "true"})
+    private boolean precompiledTemplates;
+
+    private GenerationEngine engine;
+
+    private DataModel dataModel;
+
+    private DataObject dataObject;
+
+    private String filePath;
+
+    private GenerationTools generationTools;
+
+    @Setup
+    public void setup() throws Exception {
+        engine = GenerationEngine.getInstance();
+        dataModel = SyntheticModelFactory.getInstance().newModel(objects, properties, annotations, inheritanceDepth);
+        dataObject = dataModel.getDataObjects().iterator().next();
+        generationTools = new GenerationTools();
+        filePath = generationTools.getFilePath(dataObject.getPackageName(), dataObject.getName(), "java");
+    }
+
+    /**
+     * Full model generation.
+     */
+    @Benchmark
+    public void generate(Blackhole blackhole) throws Exception {
+        engine.generate(newContext(blackhole));
+    }
+
+    /**
+     * Generation of a single data object.
+     */
+    @Benchmark
+    public void generateAsset(Blackhole blackhole) throws Exception {
+        GenerationContext generationContext = newContext(blackhole);
+        generationContext.setGenerationTools(generationTools);
+        generationContext.setCurrentDataObject(dataObject);
+        engine.generateAsset(generationContext, generationContext.getAssetTemplate(), filePath);
+    }
+
+    private GenerationContext newContext(final Blackhole blackhole) {
+        GenerationContext generationContext = new GenerationContext(dataModel);
+        generationContext.setPrecompiledTemplates(precompiledTemplates);
+        generationContext.setGenerationListener(new GenerationListener() {
+            @Override
+            public void assetGenerated(String fileName, String content) {
+                blackhole.consume(content);
+            }
+        });
+        return generationContext;
+    }
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright 2012 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.datamodeler.benchmarks;
+
+import org.jbpm.datamodeler.codegen.GenerationTools;
+import org.jbpm.datamodeler.core.Annotation;
+import org.jbpm.datamodeler.core.DataObject;
+import org.jbpm.datamodeler.core.ObjectProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the GenerationTools helpers invoked by the templates for every data object and property. The allocation
+ * rate is measured by running the benchmarks with the JMH gc profiler, e.g.
+ * java -jar target/benchmarks.jar GenerationToolsBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenerationToolsBenchmark {
+
+    /**
+     * Number of distinct inputs every benchmark cycles through. With 1 input all the calls but the first one hit
+     * the memoized results of the tools, with more inputs than the tools cache size most of the calls miss.
+     */
+    @Param({"1", "1000", "10000"})
+    private int inputs;
+
+    private GenerationTools tools;
+
+    private DataObject[] dataObjects;
+
+    private String[] propertyNames;
+
+    private ObjectProperty[] multipleProperties;
+
+    private Annotation[] annotations;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        tools = new GenerationTools();
+
+        //data objects extending other data object, each one with a multiple property of a different type.
+        List<DataObject> subClasses = new ArrayList<DataObject>();
+        List<ObjectProperty> multiples = new ArrayList<ObjectProperty>();
+        for (DataObject dataObject : SyntheticModelFactory.getInstance().newModel(Math.max(2, inputs * 2), 5, 1, 1).getDataObjects()) {
+            if (dataObject.getSuperClassName() != null) {
+                subClasses.add(dataObject);
+                multiples.add(dataObject.getProperties().get("property_e"));
+            }
+        }
+        dataObjects = subClasses.toArray(new DataObject[subClasses.size()]);
+        multipleProperties = multiples.toArray(new ObjectProperty[multiples.size()]);
+
+        //a single data object with a distinct name and annotation value for every property.
+        DataObject dataObject = SyntheticModelFactory.getInstance().newModel(1, inputs, 1, 0).getDataObjects().iterator().next();
+        List<String> names = new ArrayList<String>();
+        List<Annotation> propertyAnnotations = new ArrayList<Annotation>();
+        for (ObjectProperty property : dataObject.getProperties().values()) {
+            names.add(property.getName());
+            propertyAnnotations.add(property.getAnnotations().get(0));
+        }
+        propertyNames = names.toArray(new String[names.size()]);
+        annotations = propertyAnnotations.toArray(new Annotation[propertyAnnotations.size()]);
+    }
+
+    private int next(int length) {
+        next = (next + 1) % length;
+        return next;
+    }
+
+    @Benchmark
+    public String toJavaGetter() {
+        return tools.toJavaGetter(propertyNames[next(propertyNames.length)]);
+    }
+
+    @Benchmark
+    public String toJavaSetter() {
+        return tools.toJavaSetter(propertyNames[next(propertyNames.length)]);
+    }
+
+    @Benchmark
+    public String toJavaVar() {
+        return tools.toJavaVar(propertyNames[next(propertyNames.length)]);
+    }
+
+    @Benchmark
+    public String getFilePath() {
+        DataObject dataObject = dataObjects[next(dataObjects.length)];
+        return tools.getFilePath(dataObject.getPackageName(), dataObject.getName(), "java");
+    }
+
+    @Benchmark
+    public String resolveAttributeType() {
+        return tools.resolveAttributeType(multipleProperties[next(multipleProperties.length)]);
+    }
+
+    @Benchmark
+    public String resolveAnnotationType() {
+        return tools.resolveAnnotationType(annotations[next(annotations.length)]);
+    }
+
+    @Benchmark
+    public String resolveSuperClassType() {
+        return tools.resolveSuperClassType(dataObjects[next(dataObjects.length)]);
+    }
+}
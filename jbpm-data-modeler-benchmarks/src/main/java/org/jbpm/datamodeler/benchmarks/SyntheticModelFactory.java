@@ -0,0 +1,148 @@
+/**
+ * Copyright 2012 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.datamodeler.benchmarks;
+
+import org.jbpm.datamodeler.core.Annotation;
+import org.jbpm.datamodeler.core.DataModel;
+import org.jbpm.datamodeler.core.DataObject;
+import org.jbpm.datamodeler.core.ObjectProperty;
+import org.jbpm.datamodeler.core.impl.AnnotationImpl;
+import org.jbpm.datamodeler.core.impl.ModelFactoryImpl;
+import org.jbpm.datamodeler.driver.impl.annotations.DescriptionAnnotationDefinition;
+import org.jbpm.datamodeler.driver.impl.annotations.EqualsAnnotationDefinition;
+import org.jbpm.datamodeler.driver.impl.annotations.LabelAnnotationDefinition;
+import org.jbpm.datamodeler.driver.impl.annotations.PositionAnnotationDefinition;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Builds synthetic data models of a given size for the benchmarks.
+ */
+public class SyntheticModelFactory {
+
+    public static final String BASE_PACKAGE = "org.jbpm.datamodeler.benchmarks.model";
+
+    /**
+     * Data objects are spread in this number of packages.
+     */
+    private static final int PACKAGES = 10;
+
+    /**
+     * One of every REFERENCE_PERIOD properties is a multiple reference to other data object.
+     */
+    private static final int REFERENCE_PERIOD = 5;
+
+    private static final String[] PROPERTY_TYPES = {
+            String.class.getName(),
+            Integer.class.getName(),
+            Long.class.getName(),
+            BigDecimal.class.getName(),
+            Date.class.getName(),
+            Boolean.class.getName()
+    };
+
+    public static SyntheticModelFactory getInstance() {
+        return new SyntheticModelFactory();
+    }
+
+    /**
+     * Creates a synthetic data model.
+     *
+     * @param objects Number of data objects.
+     *
+     * @param propertiesPerObject Number of properties of each data object.
+     *
+     * @param annotationsPerProperty Number of annotations of each property, the annotation types are reused when
+     * this number is bigger than the available annotation definitions.
+     *
+     * @param inheritanceDepth Length of the super class chains, data objects are grouped in chains of
+     * inheritanceDepth + 1 objects where each object extends the previous one. 0 means no inheritance.
+     *
+     * @return a new data model.
+     */
+    public DataModel newModel(int objects, int propertiesPerObject, int annotationsPerProperty, int inheritanceDepth) {
+
+        DataModel dataModel = ModelFactoryImpl.getInstance().newModel();
+        List<DataObject> dataObjects = new ArrayList<DataObject>(objects);
+
+        DataObject dataObject;
+        for (int i = 0; i < objects; i++) {
+            dataObject = dataModel.addDataObject(BASE_PACKAGE + ".p" + (i % PACKAGES), "Object" + i);
+            dataObject.addAnnotation(newAnnotation(0, "Object" + i));
+            dataObject.addAnnotation(newAnnotation(1, "Object" + i));
+            if (inheritanceDepth > 0 && i % (inheritanceDepth + 1) != 0) {
+                dataObject.setSuperClassName(dataObjects.get(i - 1).getClassName());
+            }
+            dataObjects.add(dataObject);
+        }
+
+        ObjectProperty property;
+        String propertyName;
+        for (int i = 0; i < objects; i++) {
+            dataObject = dataObjects.get(i);
+            for (int j = 0; j < propertiesPerObject; j++) {
+                propertyName = "property_" + toLetters(j);
+                if (j % REFERENCE_PERIOD == REFERENCE_PERIOD - 1) {
+                    property = dataObject.addProperty(propertyName, dataObjects.get((i + j) % objects).getClassName(), true);
+                } else {
+                    property = dataObject.addProperty(propertyName, PROPERTY_TYPES[j % PROPERTY_TYPES.length]);
+                }
+                for (int k = 0; k < annotationsPerProperty; k++) {
+                    property.addAnnotation(newAnnotation(k, propertyName));
+                }
+            }
+        }
+
+        return dataModel;
+    }
+
+    /**
+     * Property names can't contain digits, as they are removed by the generation tools.
+     */
+    private String toLetters(int index) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.insert(0, (char)('a' + index % 26));
+            index = index / 26 - 1;
+        } while (index >= 0);
+        return letters.toString();
+    }
+
+    private Annotation newAnnotation(int index, String text) {
+        Annotation annotation;
+        switch (index % 4) {
+            case 0:
+                annotation = new AnnotationImpl(LabelAnnotationDefinition.getInstance());
+                annotation.setValue("value", "Label for " + text);
+                break;
+            case 1:
+                annotation = new AnnotationImpl(DescriptionAnnotationDefinition.getInstance());
+                annotation.setValue("value", "Description for " + text);
+                break;
+            case 2:
+                annotation = new AnnotationImpl(PositionAnnotationDefinition.getInstance());
+                annotation.setValue("value", index);
+                break;
+            default:
+                annotation = new AnnotationImpl(EqualsAnnotationDefinition.getInstance());
+        }
+        return annotation;
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright 2012 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.datamodeler.codegen;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writer that counts the chars sent to the target writer.
+ */
+class CountingWriter extends Writer {
+
+    private Writer target;
+
+    private long count = 0;
+
+    CountingWriter(Writer target) {
+        this.target = target;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        target.write(cbuf, off, len);
+        count += len;
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        target.write(str, off, len);
+        count += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        target.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        target.close();
+    }
+
+    long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright 2012 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jbpm.datamodeler.codegen;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.jbpm.datamodeler.core.Annotation;
+import org.jbpm.datamodeler.core.DataObject;
+import org.jbpm.datamodeler.core.HasAnnotations;
+import org.jbpm.datamodeler.core.ObjectProperty;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Calculates a fingerprint for a data object. The fingerprint covers everything that can change the generated
+ * code: class name, super class, type annotations and properties with their annotations. It's used by the
+ * incremental generation mode to detect the data objects that hasn't changed since the last generation.
+ */
+public class DataObjectFingerprint {
+
+    /**
+     * Version of the code generator. It must be increased whenever the generated code changes for the same data
+     * object and templates, e.g. a change in the DefaultTemplatesEmitter or the GenerationTools, so the assets
+     * generated by the previous version are generated again.
+     */
+    public static final String GENERATOR_VERSION = "1";
+
+    public static DataObjectFingerprint getInstance() {
+        return new DataObjectFingerprint();
+    }
+
+    /**
+     * @param dataObject The data object to calculate the fingerprint.
+     *
+     * @param templateId Identifies the template set and its content used to generate the data object, changing
+     * the template set or editing a template changes the fingerprint too.
+     *
+     * @return a SHA-1 hex string.
+     */
+    public String calculate(DataObject dataObject, String templateId) {
+        StringBuilder content = new StringBuilder();
+
+        append(content, "generator", GENERATOR_VERSION);
+        append(content, "template", templateId);
+        append(content, "class", dataObject.getClassName());
+        append(content, "superClass", dataObject.getSuperClassName());
+        appendAnnotations(content, dataObject);
+
+        //properties are sorted to get the same fingerprint regardless of the properties map order.
+        Map<String, ObjectProperty> properties = new TreeMap<String, ObjectProperty>(dataObject.getProperties());
+        for (ObjectProperty property : properties.values()) {
+            append(content, "property", property.getName());
+            append(content, "type", property.getClassName());
+            append(content, "multiple", String.valueOf(property.isMultiple()));
+            append(content, "bag", property.getBag());
+            appendAnnotations(content, property);
+        }
+
+        return DigestUtils.sha1Hex(content.toString());
+    }
+
+    private void appendAnnotations(StringBuilder content, HasAnnotations element) {
+        if (element.getAnnotations() == null) return;
+
+        //annotations order is kept since it's the order in the generated code.
+        for (Annotation annotation : element.getAnnotations()) {
+            append(content, "annotation", annotation.getClassName());
+            Map<String, Object> values = new TreeMap<String, Object>(annotation.getValues());
+            for (Map.Entry<String, Object> value : values.entrySet()) {
+                append(content, value.getKey(), value.getValue() != null ? value.getValue().toString() : null);
+            }
+        }
+    }
+
+    private void append(StringBuilder content, String key, String value) {
+        content.append(key);
+        content.append('=');
+        if (value != null) {
+            //the length prefix avoids ambiguities between values containing separators.
+            content.append(value.length());
+            content.append(':');
+            content.append(value);
+        }
+        content.append('\n');
+    }
+}
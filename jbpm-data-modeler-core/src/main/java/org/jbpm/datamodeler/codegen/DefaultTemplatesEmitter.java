@@ -0,0 +1,190 @@
+/**
+ * Copyright 2012 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jbpm.datamodeler.codegen;
+
+import org.jbpm.datamodeler.core.Annotation;
+import org.jbpm.datamodeler.core.DataObject;
+import org.jbpm.datamodeler.core.ObjectProperty;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Plain java version of the default POJO template set (java_class.vm and the sub templates it uses). It writes
+ * exactly the same output than the velocity templates but avoids the template interpretation and the
+ * reflective calls to the engine and the name tool. Custom template sets are always processed by velocity.
+ */
+public class DefaultTemplatesEmitter {
+
+    private static final String NEW_LINE = "\n";
+
+    private static final String INDENT = "    ";
+
+    public static final String CLASS_TEMPLATE = "java_class";
+
+    /**
+     * Emits the java_class template for the current data object.
+     */
+    public void emitClass(GenerationContext generationContext, Writer out) throws IOException {
+        GenerationTools tools = generationContext.getGenerationTools();
+        DataObject dataObject = generationContext.getCurrentDataObject();
+        String className = dataObject.getName();
+        String packageName = dataObject.getPackageName();
+
+        if (packageName != null && !"".equals(packageName)) {
+            out.write("package ");
+            out.write(packageName);
+            out.write(";");
+            out.write(NEW_LINE);
+        }
+        out.write(NEW_LINE);
+        out.write("/**\n * This class was automatically generated by the data modeler tool.\n */\n");
+
+        for (Annotation typeAnnotation : dataObject.getAnnotations()) {
+            emitAnnotation(tools, typeAnnotation, "typeAnnotation", out);
+            out.write(NEW_LINE);
+        }
+
+        out.write("public class ");
+        out.write(className);
+        out.write(" ");
+        out.write(tools.resolveSuperClassType(dataObject));
+        out.write(" {");
+        out.write(NEW_LINE);
+
+        for (ObjectProperty attr : dataObject.getProperties().values()) {
+            out.write(INDENT);
+            emitAttribute(tools, attr, out);
+            out.write(NEW_LINE);
+        }
+
+        out.write(NEW_LINE);
+        out.write(INDENT);
+        out.write("public ");
+        out.write(className);
+        out.write("() {\n\n    }\n");
+
+        for (ObjectProperty attr : dataObject.getProperties().values()) {
+            out.write(INDENT);
+            emitSetterGetter(tools, attr, out);
+            out.write(NEW_LINE);
+        }
+
+        out.write(INDENT);
+        emitEquals(out);
+        out.write(NEW_LINE);
+
+        out.write(INDENT);
+        emitHashCode(className, out);
+        out.write(NEW_LINE);
+
+        out.write(NEW_LINE);
+        out.write("}");
+    }
+
+    /**
+     * java_attribute template.
+     */
+    public void emitAttribute(GenerationTools tools, ObjectProperty attr, Writer out) throws IOException {
+        out.write(NEW_LINE);
+        for (Annotation fieldAnnotation : attr.getAnnotations()) {
+            out.write(INDENT);
+            emitAnnotation(tools, fieldAnnotation, "fieldAnnotation", out);
+            out.write(NEW_LINE);
+        }
+        out.write(INDENT);
+        out.write("private ");
+        out.write(tools.resolveAttributeType(attr));
+        out.write(" ");
+        out.write(tools.toJavaVar(attr.getName()));
+        out.write(";");
+    }
+
+    /**
+     * java_setter_getter template.
+     */
+    public void emitSetterGetter(GenerationTools tools, ObjectProperty attr, Writer out) throws IOException {
+        String varName = tools.toJavaVar(attr.getName());
+        String attributeType = tools.resolveAttributeType(attr);
+
+        out.write(NEW_LINE);
+        out.write(INDENT);
+        out.write("public ");
+        out.write(attributeType);
+        out.write(" ");
+        out.write(tools.toJavaGetter(varName));
+        out.write("() {\n        return this.");
+        out.write(varName);
+        out.write(";\n    }\n\n    public void ");
+        out.write(tools.toJavaSetter(varName));
+        out.write("(  ");
+        out.write(attributeType);
+        out.write(" ");
+        out.write(varName);
+        out.write(" ) {\n        this.");
+        out.write(varName);
+        out.write(" = ");
+        out.write(varName);
+        out.write(";\n    }");
+    }
+
+    /**
+     * java_equals template.
+     */
+    public void emitEquals(Writer out) throws IOException {
+        out.write("\n    @Override\n" +
+                "    public boolean equals(Object o) {\n" +
+                "        if (this == o) return true;\n" +
+                "        if (o == null || getClass() != o.getClass()) return false;\n" +
+                "\n" +
+                "        //TODO complete this implementation\n" +
+                "        return false;\n" +
+                "    }");
+    }
+
+    /**
+     * java_hashCode template.
+     */
+    public void emitHashCode(String className, Writer out) throws IOException {
+        out.write("\n    @Override\n" +
+                "    public int hashCode() {\n" +
+                "        //TODO complete this implementation\n" +
+                "        return ");
+        //the template evaluates $className.hashCode() at generation time.
+        out.write(String.valueOf(className.hashCode()));
+        out.write(";\n    }");
+    }
+
+    /**
+     * java_type_annotation and java_field_annotation templates.
+     *
+     * @param reference name of the annotation reference in the template, velocity writes the reference literally
+     * when the annotation has no definition, e.g. "$typeAnnotation.annotationDefinition.className".
+     */
+    public void emitAnnotation(GenerationTools tools, Annotation annotation, String reference, Writer out) throws IOException {
+        out.write("@");
+        if (annotation.getAnnotationDefinition() != null && annotation.getAnnotationDefinition().getClassName() != null) {
+            out.write(annotation.getAnnotationDefinition().getClassName());
+        } else {
+            out.write("$");
+            out.write(reference);
+            out.write(".annotationDefinition.className");
+        }
+        out.write(tools.resolveAnnotationType(annotation));
+    }
+}
@@ -17,11 +17,15 @@
 package org.jbpm.datamodeler.codegen;
 
 import org.apache.velocity.VelocityContext;
+import org.jbpm.datamodeler.codegen.metrics.GenerationMeter;
 import org.jbpm.datamodeler.core.DataModel;
 import org.jbpm.datamodeler.core.DataObject;
 
-import java.io.StringWriter;
 import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 
 
 /**
@@ -36,6 +40,10 @@ public class GenerationContext {
     
     private static final String DEFAULT_INITIAL_TEMPLATE = "initial";
 
+    private static final String DEFAULT_ASSET_TEMPLATE = "java_class";
+
+    private static final String DEFAULT_ASSET_EXTENSION = "java";
+
     /**
      * Location of the templates
      */
@@ -46,6 +54,16 @@ public class GenerationContext {
      */
     private String initialTemplate;
 
+    /**
+     * Template used to generate the asset for each data object when the parallel generation mode is used.
+     */
+    private String assetTemplate;
+
+    /**
+     * File extension for the assets generated by the parallel generation mode.
+     */
+    private String assetExtension = DEFAULT_ASSET_EXTENSION;
+
     private String currentTemplate;
 
     private Writer currentOutput;
@@ -65,16 +83,59 @@ public class GenerationContext {
     
     private VelocityContext velocityContext;
 
+    private GenerationTools generationTools;
+
     /**
      * Iteration variable, keeps a reference to the next data object to be generated.
      */
     private DataObject currentDataObject;
 
+    /**
+     * Optional executor to run the generation in parallel mode. When it's set, every data object is generated
+     * as an independent generation unit instead of iterating the model with the initial template. Only applies
+     * to the default initial template, see isParallelGeneration().
+     */
+    private ExecutorService executorService;
+
+    /**
+     * When incremental generation is enabled, data objects whose fingerprint is equal to the fingerprint of
+     * the previous generation are skipped.
+     */
+    private boolean incrementalGeneration = false;
+
+    /**
+     * Fingerprints of the last generation, by data object class name.
+     */
+    private Map<String, String> previousFingerprints = new HashMap<String, String>();
+
+    /**
+     * Fingerprints of the data objects processed by this generation, by data object class name.
+     */
+    private Map<String, String> fingerprints = new HashMap<String, String>();
+
+    /**
+     * Content hashes of the template sets used by the running generation, by asset template. They are calculated
+     * once per generation instead of once per data object.
+     */
+    private final Map<String, String> templateSetHashes = new ConcurrentHashMap<String, String>();
+
+    /**
+     * When enabled, the default template set is generated by the DefaultTemplatesEmitter instead of velocity.
+     * Custom template sets are not affected by this flag.
+     */
+    private boolean precompiledTemplates = false;
+
+    /**
+     * Meter to report the generation measures to. When not set the engine default meter is used.
+     */
+    private GenerationMeter generationMeter;
+
     public GenerationContext(DataModel dataModel, boolean defaultTemplates) {
         this.dataModel = dataModel;
         if (defaultTemplates) {
             setTemplatesPath(DEFAULT_TEMPLATES_PATH);
             setInitialTemplate(DEFAULT_INITIAL_TEMPLATE);
+            setAssetTemplate(DEFAULT_ASSET_TEMPLATE);
         }
     }
 
@@ -98,6 +159,22 @@ public class GenerationContext {
         this.initialTemplate = initialTemplate;
     }
 
+    public String getAssetTemplate() {
+        return assetTemplate;
+    }
+
+    public void setAssetTemplate(String assetTemplate) {
+        this.assetTemplate = assetTemplate;
+    }
+
+    public String getAssetExtension() {
+        return assetExtension;
+    }
+
+    public void setAssetExtension(String assetExtension) {
+        this.assetExtension = assetExtension;
+    }
+
     public String getOutputPath() {
         return outputPath;
     }
@@ -153,4 +230,107 @@ public class GenerationContext {
     public void setVelocityContext(VelocityContext velocityContext) {
         this.velocityContext = velocityContext;
     }
+
+    public boolean isIncrementalGeneration() {
+        return incrementalGeneration;
+    }
+
+    public void setIncrementalGeneration(boolean incrementalGeneration) {
+        this.incrementalGeneration = incrementalGeneration;
+    }
+
+    public Map<String, String> getPreviousFingerprints() {
+        return previousFingerprints;
+    }
+
+    public void setPreviousFingerprints(Map<String, String> previousFingerprints) {
+        this.previousFingerprints = previousFingerprints;
+    }
+
+    public Map<String, String> getFingerprints() {
+        return fingerprints;
+    }
+
+    public boolean isPrecompiledTemplates() {
+        return precompiledTemplates;
+    }
+
+    public void setPrecompiledTemplates(boolean precompiledTemplates) {
+        this.precompiledTemplates = precompiledTemplates;
+    }
+
+    /**
+     * @return true if the given template must be generated with the precompiled version of the default templates.
+     */
+    public boolean isPrecompiledTemplate(String template) {
+        return precompiledTemplates &&
+                DEFAULT_TEMPLATES_PATH.equals(templatesPath) &&
+                DefaultTemplatesEmitter.CLASS_TEMPLATE.equals(template);
+    }
+
+    public GenerationMeter getGenerationMeter() {
+        return generationMeter;
+    }
+
+    public void setGenerationMeter(GenerationMeter generationMeter) {
+        this.generationMeter = generationMeter;
+    }
+
+    public GenerationTools getGenerationTools() {
+        return generationTools;
+    }
+
+    public void setGenerationTools(GenerationTools generationTools) {
+        this.generationTools = generationTools;
+    }
+
+    Map<String, String> getTemplateSetHashes() {
+        return templateSetHashes;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    /**
+     * Parallel generation replaces the default initial template, which generates one asset per data object with
+     * the asset template. Custom initial templates may do anything else, so they are always merged sequentially.
+     *
+     * @return true if an executor was set and the model can be generated as independent units.
+     */
+    public boolean isParallelGeneration() {
+        return executorService != null && assetTemplate != null && isDefaultInitialTemplate();
+    }
+
+    /**
+     * @return true if the initial template is the one of the default template set.
+     */
+    public boolean isDefaultInitialTemplate() {
+        return DEFAULT_TEMPLATES_PATH.equals(templatesPath) && DEFAULT_INITIAL_TEMPLATE.equals(initialTemplate);
+    }
+
+    /**
+     * Creates a context to generate a single data object. The new context shares the configuration of this one,
+     * but has its own current data object, output and velocity context, so it can be used from another thread.
+     *
+     * @param dataObject The data object to be generated.
+     *
+     * @return A new context with dataObject as the current data object.
+     */
+    public GenerationContext createUnitContext(DataObject dataObject) {
+        GenerationContext unitContext = new GenerationContext(dataModel, false);
+        unitContext.setTemplatesPath(templatesPath);
+        unitContext.setInitialTemplate(initialTemplate);
+        unitContext.setAssetTemplate(assetTemplate);
+        unitContext.setAssetExtension(assetExtension);
+        unitContext.setPrecompiledTemplates(precompiledTemplates);
+        unitContext.setGenerationTools(generationTools);
+        unitContext.setGenerationMeter(generationMeter);
+        unitContext.setCurrentDataObject(dataObject);
+        return unitContext;
+    }
 }
\ No newline at end of file
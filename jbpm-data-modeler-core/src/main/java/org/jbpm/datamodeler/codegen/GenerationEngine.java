@@ -16,20 +16,39 @@
 
 package org.jbpm.datamodeler.codegen;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
 import org.apache.velocity.app.VelocityEngine;
 import org.apache.velocity.runtime.RuntimeConstants;
+import org.jbpm.datamodeler.codegen.metrics.GenerationMeter;
+import org.jbpm.datamodeler.codegen.metrics.NoopGenerationMeter;
+import org.jbpm.datamodeler.commons.BoundedObjectPool;
 import org.jbpm.datamodeler.core.Annotation;
+import org.jbpm.datamodeler.core.DataObject;
 import org.jbpm.datamodeler.core.ObjectProperty;
+import org.kie.commons.io.IOService;
+import org.kie.commons.java.nio.file.Path;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
 import java.io.StringWriter;
-import java.util.Properties;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * Simple velocity based code generation engine.
@@ -38,39 +57,187 @@ public class GenerationEngine {
     
     private static final Logger logger = LoggerFactory.getLogger(GenerationEngine.class);
 
-    private static GenerationEngine singleton;
+    /**
+     * Max number of idle velocity contexts and generation tools kept for reuse.
+     */
+    private static final int POOL_MAX_IDLE = Runtime.getRuntime().availableProcessors() * 4;
+
+    /**
+     * Size of the buffer used to stream generated assets to the outputs.
+     */
+    private static final int OUTPUT_BUFFER_SIZE = 8192;
+
+    /**
+     * System property with the max number of compiled templates kept by velocity. The least recently used templates
+     * are evicted when the cache is full.
+     */
+    public static final String TEMPLATES_CACHE_SIZE = "org.jbpm.datamodeler.templates.cacheSize";
+
+    /**
+     * System property to enable or disable the compiled templates cache.
+     */
+    public static final String TEMPLATES_CACHE = "org.jbpm.datamodeler.templates.cache";
+
+    /**
+     * System property with the interval in seconds to check if a cached template was modified. Only applies to
+     * the file system and repository templates, classpath templates are never reloaded.
+     */
+    public static final String TEMPLATES_CHECK_INTERVAL = "org.jbpm.datamodeler.templates.modificationCheckInterval";
+
+    /**
+     * System property with a comma separated list of file system directories to look for templates. These
+     * directories are looked up before the repository and the classpath.
+     */
+    public static final String TEMPLATES_FILE_PATH = "org.jbpm.datamodeler.templates.filePath";
+
+    private static final int DEFAULT_TEMPLATES_CACHE_SIZE = 256;
+
+    private static final long DEFAULT_TEMPLATES_CHECK_INTERVAL = 2;
+
+    /**
+     * Sub templates invoked by the asset template of a template set, they are part of the data object fingerprints
+     * when they exist in the set.
+     */
+    private static final String[] SUB_TEMPLATES = {
+            "java_attribute", "java_setter_getter", "java_equals", "java_hashCode", "java_type_annotation", "java_field_annotation"
+    };
+
+    private static volatile GenerationEngine singleton;
 
-    private VelocityEngine velocityEngine = new VelocityEngine();
+    private final VelocityEngine velocityEngine = new VelocityEngine();
 
-    private static boolean inited = false;
+    private final DefaultTemplatesEmitter defaultTemplatesEmitter = new DefaultTemplatesEmitter();
 
+    private final IOServiceResourceLoader ioServiceResourceLoader = new IOServiceResourceLoader();
+
+    /**
+     * Content hash of the templates, by template path. Velocity creates a new template instance when a template is
+     * reloaded, so the hash is calculated again only for new instances.
+     */
+    private final ConcurrentMap<String, TemplateHash> templateHashes = new ConcurrentHashMap<String, TemplateHash>();
+
+    /**
+     * Meter used by the generations that don't set its own meter in the generation context.
+     */
+    private volatile GenerationMeter defaultMeter = NoopGenerationMeter.INSTANCE;
+
+    private final BoundedObjectPool<VelocityContext> velocityContextPool = new BoundedObjectPool<VelocityContext>(POOL_MAX_IDLE) {
+        @Override
+        protected VelocityContext create() {
+            return new VelocityContext();
+        }
+
+        @Override
+        protected void reset(VelocityContext context) {
+            for (Object key : context.getKeys()) {
+                context.remove(key);
+            }
+        }
+    };
+
+    private final BoundedObjectPool<GenerationTools> toolsPool = new BoundedObjectPool<GenerationTools>(POOL_MAX_IDLE) {
+        @Override
+        protected GenerationTools create() {
+            return new GenerationTools();
+        }
+
+        @Override
+        protected void reset(GenerationTools tools) {
+            //name caches don't depend on the model and are kept between generations.
+            tools.clearModelCaches();
+        }
+    };
+
+    /**
+     * Returns the shared engine instance. The engine is lazily created and initialized by the first caller, and
+     * can be used from many threads at the same time.
+     */
     public static GenerationEngine getInstance() throws Exception {
-        if (singleton == null) {
-            singleton = new GenerationEngine();
-            singleton.init();
+        GenerationEngine engine = singleton;
+        if (engine == null) {
+            synchronized (GenerationEngine.class) {
+                engine = singleton;
+                if (engine == null) {
+                    engine = new GenerationEngine();
+                    engine.init();
+                    singleton = engine;
+                }
+            }
         }
-        return singleton;
+        return engine;
     }
 
     /**
      * Initializes the code generation engine
      */
     private void init() throws Exception {
-        if (!inited) {
-            // Init velocity engine
-            Properties properties = new Properties();
+        // Init velocity engine
+        boolean cache = Boolean.valueOf(System.getProperty(TEMPLATES_CACHE, "true"));
+        String cacheSize = System.getProperty(TEMPLATES_CACHE_SIZE, String.valueOf(DEFAULT_TEMPLATES_CACHE_SIZE));
+        String checkInterval = System.getProperty(TEMPLATES_CHECK_INTERVAL, String.valueOf(DEFAULT_TEMPLATES_CHECK_INTERVAL));
+        String filePath = System.getProperty(TEMPLATES_FILE_PATH);
 
-            properties.setProperty("resource.loader", "class");
-            properties.setProperty("class.resource.loader.description", "Velocity Classpath Resource Loader");
-            properties.setProperty("class.resource.loader.class", "org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader");
+        //custom templates are looked up in the file system and the repository before the classpath.
+        StringBuilder loaders = new StringBuilder();
+        if (filePath != null && !"".equals(filePath.trim())) {
+            loaders.append("file, ");
+            velocityEngine.setProperty("file.resource.loader.description", "Velocity File Resource Loader");
+            velocityEngine.setProperty("file.resource.loader.class", "org.apache.velocity.runtime.resource.loader.FileResourceLoader");
+            velocityEngine.setProperty("file.resource.loader.path", filePath);
+            velocityEngine.setProperty("file.resource.loader.cache", String.valueOf(cache));
+            velocityEngine.setProperty("file.resource.loader.modificationCheckInterval", checkInterval);
+        }
+        loaders.append("ioservice, class");
 
-            //TODO REVIEW THIS
-            properties.setProperty( RuntimeConstants.RUNTIME_LOG_LOGSYSTEM_CLASS, "org.apache.velocity.runtime.log.JdkLogChute");
+        velocityEngine.setProperty("resource.loader", loaders.toString());
+        velocityEngine.setProperty(RuntimeConstants.RESOURCE_MANAGER_DEFAULTCACHE_SIZE, cacheSize);
 
-            // init velocity engine
-            velocityEngine.init(properties);
-            inited = true;
-        }
+        velocityEngine.setProperty("ioservice.resource.loader.description", "Velocity IOService Resource Loader");
+        velocityEngine.setProperty("ioservice.resource.loader.instance", ioServiceResourceLoader);
+        velocityEngine.setProperty("ioservice.resource.loader.cache", String.valueOf(cache));
+        velocityEngine.setProperty("ioservice.resource.loader.modificationCheckInterval", checkInterval);
+
+        velocityEngine.setProperty("class.resource.loader.description", "Velocity Classpath Resource Loader");
+        velocityEngine.setProperty("class.resource.loader.class", "org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader");
+        //classpath templates can't change, so they are compiled once and never checked again.
+        velocityEngine.setProperty("class.resource.loader.cache", String.valueOf(cache));
+        velocityEngine.setProperty("class.resource.loader.modificationCheckInterval", "0");
+
+        //TODO REVIEW THIS
+        velocityEngine.setProperty( RuntimeConstants.RUNTIME_LOG_LOGSYSTEM_CLASS, "org.apache.velocity.runtime.log.JdkLogChute");
+
+        // init velocity engine
+        velocityEngine.init();
+    }
+
+    /**
+     * Sets the repository to look for custom template sets. Templates are resolved against the given root path
+     * using the generation context templates path, and are looked up in the repository before the classpath.
+     * Repository templates are reloaded when their last modified time changes.
+     *
+     * @param ioService The IOService for the repository, or null to stop using the repository templates.
+     *
+     * @param rootPath The root path for the template sets.
+     */
+    public void setTemplatesRepository(IOService ioService, Path rootPath) {
+        ioServiceResourceLoader.setRepository(ioService, rootPath);
+    }
+
+    public GenerationMeter getDefaultMeter() {
+        return defaultMeter;
+    }
+
+    /**
+     * Sets the meter used by the generations that don't set its own meter, e.g. to publish the statistics of all
+     * the generations by JMX.
+     */
+    public void setDefaultMeter(GenerationMeter defaultMeter) {
+        this.defaultMeter = defaultMeter != null ? defaultMeter : NoopGenerationMeter.INSTANCE;
+    }
+
+    private GenerationMeter meter(GenerationContext generationContext) {
+        GenerationMeter meter = generationContext.getGenerationMeter();
+        return meter != null ? meter : defaultMeter;
     }
 
     /**
@@ -83,7 +250,25 @@ public class GenerationEngine {
      */
     public void generate(GenerationContext generationContext) throws Exception {
 
-        VelocityContext context = buildContext(generationContext);
+        long start = System.nanoTime();
+        //templates may have been edited since the previous generation with this context.
+        generationContext.getTemplateSetHashes().clear();
+        try {
+            if (generationContext.isParallelGeneration()) {
+                generateParallel(generationContext);
+            } else {
+                if (generationContext.getExecutorService() != null && logger.isDebugEnabled()) {
+                    logger.debug("A custom initial template is configured, the executor is ignored and the model is generated sequentially.");
+                }
+                generateSequential(generationContext);
+            }
+        } finally {
+            meter(generationContext).modelGenerated(System.nanoTime() - start);
+        }
+    }
+
+    private void generateSequential(GenerationContext generationContext) throws Exception {
+
         String templatesPath = generationContext.getTemplatesPath();
         String initialTemplate = generationContext.getInitialTemplate();
 
@@ -94,31 +279,55 @@ public class GenerationEngine {
         String templatePath = getFullVelocityPath(templatesPath, initialTemplate);
         if (logger.isDebugEnabled()) logger.debug("Initial templatePath: " + templatePath);
 
-        StringWriter writer = new StringWriter();
-        Template t = velocityEngine.getTemplate(templatePath);
-        t.merge(context, writer);
+        VelocityContext context = buildContext(generationContext);
+        try {
+            StringWriter writer = new StringWriter();
+            Template t = velocityEngine.getTemplate(templatePath);
+            long start = System.nanoTime();
+            t.merge(context, writer);
+            meter(generationContext).templateMerged(initialTemplate, System.nanoTime() - start);
+        } finally {
+            generationContext.setVelocityContext(null);
+            velocityContextPool.release(context);
+            releaseTools(generationContext);
+        }
     }
 
     /**
-     * Creates a VelocityContext and inject common variables into it.
+     * Takes a VelocityContext from the pool and inject common variables into it.
      *
      * @param generationContext Generation context provided by user.
      *
-     * @return A properly initialized VelocityContext.
+     * @return A properly initialized VelocityContext. It must be returned to the pool when the merge finishes.
      */
     private VelocityContext buildContext(GenerationContext generationContext) {
-        VelocityContext context = new VelocityContext();
+        VelocityContext context = velocityContextPool.borrow();
+
+        ensureTools(generationContext);
 
         // Add main objects to velocity context
         context.put("engine", this);
         context.put("context", generationContext);
         context.put("dataModel", generationContext.getDataModel());
-        context.put("nameTool", new GenerationTools());
+        context.put("nameTool", generationContext.getGenerationTools());
         generationContext.setVelocityContext(context);
 
         return context;
     }
 
+    private void ensureTools(GenerationContext generationContext) {
+        if (generationContext.getGenerationTools() == null) {
+            //the same tools are used for all the assets generated with a given context.
+            generationContext.setGenerationTools(toolsPool.borrow());
+        }
+    }
+
+    private void releaseTools(GenerationContext generationContext) {
+        GenerationTools tools = generationContext.getGenerationTools();
+        generationContext.setGenerationTools(null);
+        toolsPool.release(tools);
+    }
+
     /**
      * Invoked from template files when a new asset has to be generated.
      *
@@ -133,50 +342,359 @@ public class GenerationEngine {
      */
     public void generateAsset(GenerationContext generationContext, String template, String filePath) throws Exception {
 
+        if (generationContext.isIncrementalGeneration() &&
+                isUpToDate(generationContext, templateId(generationContext, template), generationContext.getCurrentDataObject())) {
+            if (logger.isDebugEnabled()) logger.debug("Data object hasn't changed, skipping asset: " + filePath);
+            return;
+        }
+
+        //the tools are borrowed for the asset only when it's not generated from a template that already has them.
+        boolean borrowedTools = generationContext.getGenerationTools() == null;
+        try {
+            doGenerateAsset(generationContext, template, filePath);
+        } finally {
+            if (borrowedTools) releaseTools(generationContext);
+        }
+    }
+
+    private void doGenerateAsset(GenerationContext generationContext, String template, String filePath) throws Exception {
+
+        //generated content is streamed to the outputs, the full content is only kept in memory when the
+        //listener needs it as a String.
+        GenerationMeter meter = meter(generationContext);
+        GenerationListener listener = generationContext.getGenerationListener();
+        StringWriter contentWriter = null;
+        List<Writer> outputs = new ArrayList<Writer>(2);
+        File outputFile = openOutputFile(generationContext, filePath, outputs);
+        try {
+            if (listener instanceof StreamingGenerationListener) {
+                //streamed content is consumed by the listener while the asset is merged, only the asset start is measured.
+                long start = System.nanoTime();
+                outputs.add(((StreamingGenerationListener)listener).assetStarted(filePath));
+                meter.listenerNotified(filePath, System.nanoTime() - start);
+            } else if (listener != null) {
+                contentWriter = new StringWriter();
+                outputs.add(contentWriter);
+            }
+        } catch (Exception e) {
+            discardOutputs(outputs, outputFile);
+            throw e;
+        }
+
+        CountingWriter countingWriter = new CountingWriter(outputs.size() == 1 ? outputs.get(0) : new TeeWriter(outputs));
+        Writer writer = new BufferedWriter(countingWriter, OUTPUT_BUFFER_SIZE);
+        try {
+            mergeAsset(generationContext, template, writer);
+            writer.close();
+            meter.assetGenerated(filePath, countingWriter.getCount());
+        } catch (Exception e) {
+            notifyAssetFailed(generationContext, filePath, e);
+            //the buffered writer is not closed, the pending content is discarded instead of flushed to the outputs.
+            discardOutputs(outputs, outputFile);
+            throw e;
+        }
+
+        if (contentWriter != null) {
+            long start = System.nanoTime();
+            listener.assetGenerated(filePath, contentWriter.toString());
+            meter.listenerNotified(filePath, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Closes the outputs of a failed asset and deletes the output file if it was opened.
+     */
+    private void discardOutputs(List<Writer> outputs, File outputFile) {
+        for (Writer output : outputs) {
+            IOUtils.closeQuietly(output);
+        }
+        if (outputFile != null) outputFile.delete();
+    }
+
+    /**
+     * Opens the file to write an asset in the local filesystem. Only applies if the output path was set in the
+     * generation context.
+     *
+     * @param outputs The list of asset outputs, the file writer is added to this list.
+     *
+     * @return the opened file, or null if no output path was set.
+     */
+    private File openOutputFile(GenerationContext generationContext, String filePath, List<Writer> outputs) throws IOException {
+        if (generationContext.getOutputPath() == null) return null;
+
+        File fout = new File(generationContext.getOutputPath(), filePath);
+        fout.getParentFile().mkdirs();
+        outputs.add(new OutputStreamWriter(new FileOutputStream(fout, false)));
+        return fout;
+    }
+
+    /**
+     * Checks if the given data object has changed since the previous generation. Only applies when incremental
+     * generation is enabled, in this case the data object fingerprint is recorded for the current generation.
+     *
+     * @param templateId the asset template and the hash of its template set, see templateId.
+     * @return true if the data object can be skipped, false in any other case.
+     */
+    private boolean isUpToDate(GenerationContext generationContext, String templateId, DataObject dataObject) throws Exception {
+        if (!generationContext.isIncrementalGeneration() || dataObject == null) return false;
+
+        String fingerprint = DataObjectFingerprint.getInstance().calculate(dataObject, templateId);
+        generationContext.getFingerprints().put(dataObject.getClassName(), fingerprint);
+
+        return generationContext.getPreviousFingerprints() != null &&
+                fingerprint.equals(generationContext.getPreviousFingerprints().get(dataObject.getClassName()));
+    }
+
+    /**
+     * @return the id of the given asset template used in the fingerprints, the template set hash is calculated only
+     * once per generation.
+     */
+    private String templateId(GenerationContext generationContext, String template) throws Exception {
+        String templateSetHash = generationContext.getTemplateSetHashes().get(template);
+        if (templateSetHash == null) {
+            templateSetHash = templateSetHash(generationContext.getTemplatesPath(), template);
+            generationContext.getTemplateSetHashes().put(template, templateSetHash);
+        }
+        return generationContext.getTemplatesPath() + "/" + template + "@" + templateSetHash;
+    }
+
+    /**
+     * Calculates the content hash of the asset template and the sub templates of the set, so that editing any
+     * of them changes the data object fingerprints.
+     */
+    private String templateSetHash(String templatesPath, String template) throws Exception {
+        StringBuilder hashes = new StringBuilder();
+        hashes.append(template).append('=').append(templateHash(getFullVelocityPath(templatesPath, template))).append('\n');
+        for (String subTemplate : SUB_TEMPLATES) {
+            String templatePath = getFullVelocityPath(templatesPath, subTemplate);
+            if (velocityEngine.resourceExists(templatePath)) {
+                hashes.append(subTemplate).append('=').append(templateHash(templatePath)).append('\n');
+            }
+        }
+        return DigestUtils.sha1Hex(hashes.toString());
+    }
+
+    private String templateHash(String templatePath) throws Exception {
+        Template template = velocityEngine.getTemplate(templatePath);
+        TemplateHash templateHash = templateHashes.get(templatePath);
+        if (templateHash == null || templateHash.template != template) {
+            InputStream in = template.getResourceLoader().getResourceStream(template.getName());
+            try {
+                templateHash = new TemplateHash(template, DigestUtils.sha1Hex(in));
+            } finally {
+                IOUtils.closeQuietly(in);
+            }
+            templateHashes.put(templatePath, templateHash);
+        }
+        return templateHash.hash;
+    }
+
+    /**
+     * The precompiled java_class emits its sub templates inline, the invocations the velocity template does for the
+     * data object are recorded so the statistics don't depend on the mode.
+     */
+    private void precompiledSubTemplatesInvoked(GenerationMeter meter, DataObject dataObject) {
+        for (int i = dataObject.getAnnotations().size(); i > 0; i--) {
+            meter.subTemplateInvoked("generateTypeAnnotation");
+        }
+        for (ObjectProperty property : dataObject.getProperties().values()) {
+            meter.subTemplateInvoked("generateAttribute");
+            for (int i = property.getAnnotations().size(); i > 0; i--) {
+                meter.subTemplateInvoked("generateFieldAnnotation");
+            }
+            meter.subTemplateInvoked("generateSetterGetter");
+        }
+        meter.subTemplateInvoked("generateEquals");
+        meter.subTemplateInvoked("generateHashCode");
+    }
+
+    /**
+     * Merges the given asset template for the current data object into the given writer.
+     *
+     * @param generationContext The context currently executing.
+     *
+     * @param template The template id to use.
+     *
+     * @param writer The writer to send the generated content.
+     *
+     */
+    void mergeAsset(GenerationContext generationContext, String template, Writer writer) throws Exception {
+
+        long start;
+        if (generationContext.isPrecompiledTemplate(template)) {
+            ensureTools(generationContext);
+            generationContext.setCurrentOutput(writer);
+            start = System.nanoTime();
+            defaultTemplatesEmitter.emitClass(generationContext, writer);
+            GenerationMeter meter = meter(generationContext);
+            meter.templateMerged(template, System.nanoTime() - start);
+            precompiledSubTemplatesInvoked(meter, generationContext.getCurrentDataObject());
+            return;
+        }
+
         //read the template to use
         String templatePath = getFullVelocityPath(generationContext.getTemplatesPath(), template);
-        VelocityContext context = buildContext(generationContext);
         Template t = velocityEngine.getTemplate(templatePath);  //obs, templates are already cached by Velocity
 
-        //generate asset content.
-        StringWriter writer = new StringWriter();
-        generationContext.setCurrentOutput(writer);
-        t.merge(context, writer);
+        //assets are usually generated from the initial template, so the calling context must be restored when
+        //the asset is finished.
+        VelocityContext callerContext = generationContext.getVelocityContext();
+        VelocityContext context = buildContext(generationContext);
+        try {
+            generationContext.setCurrentOutput(writer);
+            start = System.nanoTime();
+            t.merge(context, writer);
+            meter(generationContext).templateMerged(template, System.nanoTime() - start);
+        } finally {
+            generationContext.setVelocityContext(callerContext);
+            velocityContextPool.release(context);
+        }
+    }
+
+    /**
+     * Sends a generated asset to the configured outputs, the local filesystem if the output path was set and the
+     * generation listener.
+     */
+    private void publishAsset(GenerationContext generationContext, String filePath, String content) throws Exception {
 
         if (generationContext.getOutputPath() != null) {
             //generate the java file in the filesystem only if the output path was set in the generation context.
-            File fout = new File(generationContext.getOutputPath(), filePath);
-            fout.getParentFile().mkdirs();
-            FileOutputStream fos = new FileOutputStream(fout, false);
-            IOUtils.write(writer.toString(), fos);
+            List<Writer> outputs = new ArrayList<Writer>(1);
+            openOutputFile(generationContext, filePath, outputs);
+            writeAndClose(outputs.get(0), content);
+        }
+
+        GenerationMeter meter = meter(generationContext);
+        meter.assetGenerated(filePath, content.length());
+
+        GenerationListener listener = generationContext.getGenerationListener();
+        if (listener == null) return;
+
+        long start = System.nanoTime();
+        if (listener instanceof StreamingGenerationListener) {
+            writeAndClose(((StreamingGenerationListener)listener).assetStarted(filePath), content);
+        } else {
+            listener.assetGenerated(filePath, content);
         }
+        meter.listenerNotified(filePath, System.nanoTime() - start);
+    }
 
-        if (generationContext.getGenerationListener() != null) {
-            generationContext.getGenerationListener().assetGenerated(filePath, writer.toString());
+    private void notifyAssetFailed(GenerationContext generationContext, String filePath, Exception cause) {
+        GenerationListener listener = generationContext.getGenerationListener();
+        if (listener instanceof StreamingGenerationListener) {
+            ((StreamingGenerationListener)listener).assetFailed(filePath, cause);
         }
     }
 
+    private void writeAndClose(Writer writer, String content) throws IOException {
+        try {
+            writer.write(content);
+        } finally {
+            IOUtils.closeQuietly(writer);
+        }
+    }
+
+    /**
+     * Runs the code generation in parallel mode. The model is split in one generation unit per data object, the
+     * units are merged using the context executor, and finally the generated assets are published in the calling
+     * thread following the data objects class name order. This way listeners are always invoked from the same
+     * thread and in a deterministic order.
+     *
+     * @param generationContext Context information for the generation.
+     *
+     * @throws Exception
+     */
+    private void generateParallel(GenerationContext generationContext) throws Exception {
+
+        //all the units share the same tools.
+        generationContext.setGenerationTools(toolsPool.borrow());
+        try {
+            generateUnits(generationContext);
+        } finally {
+            releaseTools(generationContext);
+        }
+    }
+
+    private void generateUnits(GenerationContext generationContext) throws Exception {
+
+        List<GenerationUnit> units = createGenerationUnits(generationContext);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Starting parallel code generation with templatesPath: " + generationContext.getTemplatesPath() +
+                    ", assetTemplate: " + generationContext.getAssetTemplate() + ", units: " + units.size());
+        }
+
+        List<Future<String>> results = generationContext.getExecutorService().invokeAll(units);
+
+        for (int i = 0; i < units.size(); i++) {
+            GenerationUnit unit = units.get(i);
+            String content;
+            try {
+                content = results.get(i).get();
+            } catch (ExecutionException e) {
+                logger.error("An error was produced during generation of data object: " + unit.getDataObject().getClassName(), e.getCause());
+                Exception cause = e.getCause() instanceof Exception ? (Exception)e.getCause() : e;
+                notifyAssetFailed(generationContext, unit.getFilePath(), cause);
+                throw cause;
+            }
+            try {
+                publishAsset(generationContext, unit.getFilePath(), content);
+            } catch (Exception e) {
+                notifyAssetFailed(generationContext, unit.getFilePath(), e);
+                throw e;
+            }
+        }
+    }
+
+    private List<GenerationUnit> createGenerationUnits(GenerationContext generationContext) throws Exception {
+
+        List<DataObject> dataObjects = new ArrayList<DataObject>(generationContext.getDataModel().getDataObjects());
+        Collections.sort(dataObjects, new Comparator<DataObject>() {
+            @Override
+            public int compare(DataObject o1, DataObject o2) {
+                return o1.getClassName().compareTo(o2.getClassName());
+            }
+        });
+
+        GenerationTools tools = generationContext.getGenerationTools();
+        List<GenerationUnit> units = new ArrayList<GenerationUnit>(dataObjects.size());
+        String templateId = generationContext.isIncrementalGeneration() ? templateId(generationContext, generationContext.getAssetTemplate()) : null;
+        String filePath;
+        for (DataObject dataObject : dataObjects) {
+            if (isUpToDate(generationContext, templateId, dataObject)) continue;
+            filePath = tools.getFilePath(dataObject.getPackageName(), dataObject.getName(), generationContext.getAssetExtension());
+            units.add(new GenerationUnit(this, generationContext, dataObject, filePath));
+        }
+        return units;
+    }
+
     public void generateAttribute(GenerationContext generationContext, ObjectProperty attribute, String template) throws Exception {
+        meter(generationContext).subTemplateInvoked("generateAttribute");
         generateSubTemplate(generationContext, template);
     }
 
     public void generateSetterGetter(GenerationContext generationContext, ObjectProperty attribute, String template) throws Exception {
+        meter(generationContext).subTemplateInvoked("generateSetterGetter");
         generateSubTemplate(generationContext, template);
     }
 
     public void generateEquals(GenerationContext generationContext, String template) throws Exception {
+        meter(generationContext).subTemplateInvoked("generateEquals");
         generateSubTemplate(generationContext, template);
     }
 
     public void generateHashCode(GenerationContext generationContext, String template) throws Exception {
+        meter(generationContext).subTemplateInvoked("generateHashCode");
         generateSubTemplate(generationContext, template);
     }
     
     public void generateTypeAnnotation(GenerationContext generationContext, Annotation annotation, String template) throws Exception {
+        meter(generationContext).subTemplateInvoked("generateTypeAnnotation");
         generateSubTemplate(generationContext, template);
     }
 
     public void generateFieldAnnotation(GenerationContext generationContext, Annotation annotation, String template) throws Exception {
+        meter(generationContext).subTemplateInvoked("generateFieldAnnotation");
         generateSubTemplate(generationContext, template);
     }
 
@@ -186,7 +704,9 @@ public class GenerationEngine {
         try {         
             templatePath = getFullVelocityPath(generationContext.getTemplatesPath(), template);
             Template t = velocityEngine.getTemplate(templatePath);
+            long start = System.nanoTime();
             t.merge(generationContext.getVelocityContext(), generationContext.getCurrentOutput());
+            meter(generationContext).templateMerged(template, System.nanoTime() - start);
         } catch (Exception e) {
             logger.error("An error was produced during template generation: template: " + template + ", templatePath: " + templatePath, e);
         }
@@ -204,4 +724,16 @@ public class GenerationEngine {
     private String getFullVelocityPath(String templatesPath, String template) {
         return "/" + templatesPath + "/" + template + ".vm";
     }
-}
\ No newline at end of file
+
+    private static class TemplateHash {
+
+        final Template template;
+
+        final String hash;
+
+        TemplateHash(Template template, String hash) {
+            this.template = template;
+            this.hash = hash;
+        }
+    }
+}
@@ -20,17 +20,55 @@ import org.jbpm.datamodeler.core.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * Helper tools to generate names and other stuff easily from code generation engine.
  */
 public class GenerationTools {
 
     private static final Logger logger = LoggerFactory.getLogger(GenerationTools.class);
-    
+
+    /**
+     * Max number of entries kept by each name cache, the cache is cleared when this size is reached.
+     */
+    private static final int MAX_CACHE_SIZE = 4096;
+
+    private static final String EXTENDS = "extends ";
+
+    private static final String DEFAULT_BAG = "java.util.List";
+
+    //names are converted many times per attribute by the templates, the conversions only depend on the given
+    //name so the results are memoized.
+    private final ConcurrentMap<String, String> javaClassNames = new ConcurrentHashMap<String, String>();
+
+    private final ConcurrentMap<String, String> javaVarNames = new ConcurrentHashMap<String, String>();
+
+    private final ConcurrentMap<String, String> javaGetterNames = new ConcurrentHashMap<String, String>();
+
+    private final ConcurrentMap<String, String> javaSetterNames = new ConcurrentHashMap<String, String>();
+
+    private final ConcurrentMap<String, String> superClassTypes = new ConcurrentHashMap<String, String>();
+
+    /**
+     * Resolved types for multiple attributes, by bag class name and attribute class name.
+     */
+    private final ConcurrentMap<String, ConcurrentMap<String, String>> multipleAttributeTypes = new ConcurrentHashMap<String, ConcurrentMap<String, String>>();
+
+    /**
+     * Rendered annotation members, by annotation class name and member values. The same annotation values are
+     * usually repeated in many fields, so each different annotation is rendered only once per generation.
+     */
+    private final ConcurrentMap<AnnotationKey, String> annotationTypes = new ConcurrentHashMap<AnnotationKey, String>();
+
     public String fitToSize(int size, String name, char padChar) {
         int n = size - name.length();
+        if (n <= 0) return name;
 
-        StringBuffer buf = new StringBuffer();
+        StringBuilder buf = new StringBuilder(size);
 
         buf.append(name);
 
@@ -42,30 +80,41 @@ public class GenerationTools {
     }
 
     public String toJavaClass(String name) {
-
-        return toJavaName(name, true);
+        String result = javaClassNames.get(name);
+        if (result == null) {
+            result = cache(javaClassNames, name, toJavaName(name, true));
+        }
+        return result;
     }
 
     public String toJavaMethod(String name) {
 
-        return toJavaName(name, false);
+        return toJavaVar(name);
     }
 
     public String toJavaGetter(String name) {
-
-        return "get" + toJavaName(name, true);
+        String result = javaGetterNames.get(name);
+        if (result == null) {
+            result = cache(javaGetterNames, name, "get" + toJavaClass(name));
+        }
+        return result;
     }
 
     public String toJavaSetter(String name) {
-
-        return "set" + toJavaName(name, true);
+        String result = javaSetterNames.get(name);
+        if (result == null) {
+            result = cache(javaSetterNames, name, "set" + toJavaClass(name));
+        }
+        return result;
     }
 
     private String toJavaName(String name, boolean firstLetterIsUpperCase) {
 
+        //the whole name is lower cased at once, String.toLowerCase applies the context sensitive and multi char mappings.
         name = name.toLowerCase();
 
-        StringBuffer res = new StringBuffer();
+        char[] res = new char[name.length()];
+        int length = 0;
 
         boolean nextIsUpperCase = firstLetterIsUpperCase;
 
@@ -77,64 +126,98 @@ public class GenerationTools {
             }
 
             if (Character.isLetter(c)) {
-                res.append(c);
+                res[length++] = c;
                 nextIsUpperCase = false;
             } else {
                 nextIsUpperCase = true;
             }
         }
 
-        return res.toString();
+        return new String(res, 0, length);
     }
 
     public String toJavaVar(String name) {
-        return toJavaName(name, false);
+        String result = javaVarNames.get(name);
+        if (result == null) {
+            result = cache(javaVarNames, name, toJavaName(name, false));
+        }
+        return result;
     }
 
     public String getFilePath(String packageName, String simpleClassName, String extension) {
+        String fileName = toFileName(simpleClassName);
+        StringBuilder path = new StringBuilder((packageName != null ? packageName.length() + 1 : 0) + fileName.length() + extension.length() + 2);
+
         if( packageName != null) {
-            packageName = "/" + packageName.replace(".", "/");
-        } else {
-            packageName = "";
+            path.append('/').append(packageName.replace('.', '/'));
         }
 
-        return packageName + "/" + toFileName(simpleClassName) + "." + extension;
+        return path.append('/').append(fileName).append('.').append(extension).toString();
     }
 
     public String toFileName(String name) {
-        return name.replaceAll("\\s", "");
+        int i = 0;
+        while (i < name.length() && !isWhitespace(name.charAt(i))) i++;
+        if (i == name.length()) return name;
+
+        //same chars as the \s regex class.
+        StringBuilder fileName = new StringBuilder(name.length());
+        fileName.append(name, 0, i);
+        for (; i < name.length(); i++) {
+            if (!isWhitespace(name.charAt(i))) fileName.append(name.charAt(i));
+        }
+        return fileName.toString();
+    }
+
+    private boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
     public String resolveAttributeType(ObjectProperty attribute) {
-        StringBuffer type = new StringBuffer("");
-        if (attribute.isMultiple()) {
-            if (attribute.getBag() != null && !"".equals(attribute.getBag())) {
-                type.append(attribute.getBag());
-            } else {
-                type.append("java.util.List");
-            }
-            type.append("<");
+        if (!attribute.isMultiple()) {
+            return String.valueOf(attribute.getClassName());
         }
-        type.append(attribute.getClassName());
-        if (attribute.isMultiple()) {
-            type.append(">");
+
+        String bag = attribute.getBag() != null && !"".equals(attribute.getBag()) ? attribute.getBag() : DEFAULT_BAG;
+        ConcurrentMap<String, String> bagTypes = multipleAttributeTypes.get(bag);
+        if (bagTypes == null) {
+            ConcurrentMap<String, String> newBagTypes = new ConcurrentHashMap<String, String>();
+            bagTypes = multipleAttributeTypes.putIfAbsent(bag, newBagTypes);
+            if (bagTypes == null) bagTypes = newBagTypes;
         }
-        return type.toString();
+
+        String className = String.valueOf(attribute.getClassName());
+        String type = bagTypes.get(className);
+        if (type == null) {
+            type = cache(bagTypes, className, bag + "<" + className + ">");
+        }
+        return type;
     }
 
     public String resolveAnnotationType (Annotation annotation) {
-        StringBuffer type = new StringBuffer();
         AnnotationDefinition annotationDefinition = annotation.getAnnotationDefinition();
 
         if (annotationDefinition == null) {
             logger.warn("Annotation definition for annotation: " + annotation + " is not defined.");
-            return type.toString();
+            return "";
         }
-        
+
         if (annotationDefinition.isMarker()) {
-            return type.toString();
+            return "";
         }
 
+        //the key is built from the current values, so a modified annotation never hits a stale entry.
+        AnnotationKey key = new AnnotationKey(annotationDefinition, annotation);
+        String type = annotationTypes.get(key);
+        if (type == null) {
+            type = cache(annotationTypes, key, renderAnnotationType(annotationDefinition, annotation));
+        }
+        return type;
+    }
+
+    private String renderAnnotationType(AnnotationDefinition annotationDefinition, Annotation annotation) {
+        StringBuilder type = new StringBuilder();
+
         //finally we can process annotation members.
         Object memberValue;
         int memberCount = 0;
@@ -151,9 +234,9 @@ public class GenerationTools {
 
         return type.toString();
     }
-    
+
     public String resolveMemberType(AnnotationMemberDefinition memberDefinition, Object value) {
-        StringBuffer type = new StringBuffer();
+        StringBuilder type = new StringBuilder();
 
         type.append(memberDefinition.getName());
         type.append(" = ");
@@ -191,11 +274,61 @@ public class GenerationTools {
     }
     
     public String resolveSuperClassType(DataObject dataObject) {
-        StringBuffer type = new StringBuffer("");
-        if (dataObject.getSuperClassName() != null && !"".equals(dataObject.getSuperClassName())) {
-            type.append("extends ");
-            type.append(dataObject.getSuperClassName());
+        String superClassName = dataObject.getSuperClassName();
+        if (superClassName == null || "".equals(superClassName)) return "";
+
+        String type = superClassTypes.get(superClassName);
+        if (type == null) {
+            type = cache(superClassTypes, superClassName, EXTENDS + superClassName);
+        }
+        return type;
+    }
+
+    /**
+     * Clears the cached values that depend on the generated model. Invoked when a generation finishes.
+     */
+    void clearModelCaches() {
+        annotationTypes.clear();
+    }
+
+    private <K> String cache(ConcurrentMap<K, String> cache, K key, String value) {
+        if (cache.size() >= MAX_CACHE_SIZE) {
+            //keep memory bounded for long running engines, names are cheap to rebuild.
+            cache.clear();
+        }
+        cache.put(key, value);
+        return value;
+    }
+
+    /**
+     * Identifies an annotation by its class name and the values of the annotation members.
+     */
+    private static final class AnnotationKey {
+
+        private final Object[] elements;
+
+        private final int hash;
+
+        AnnotationKey(AnnotationDefinition annotationDefinition, Annotation annotation) {
+            List<AnnotationMemberDefinition> members = annotationDefinition.getAnnotationMembers();
+            elements = new Object[members.size() * 2 + 1];
+            elements[0] = annotationDefinition.getClassName();
+            int i = 1;
+            for (AnnotationMemberDefinition memberDefinition : members) {
+                elements[i++] = memberDefinition.getName();
+                elements[i++] = annotation.getValue(memberDefinition.getName());
+            }
+            hash = Arrays.hashCode(elements);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || (o instanceof AnnotationKey && Arrays.equals(elements, ((AnnotationKey)o).elements));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
         }
-        return type.toString();
     }
 }
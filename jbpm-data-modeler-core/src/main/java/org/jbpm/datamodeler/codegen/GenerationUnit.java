@@ -0,0 +1,66 @@
+/**
+ * Copyright 2012 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jbpm.datamodeler.codegen;
+
+import org.jbpm.datamodeler.core.DataObject;
+
+import java.io.StringWriter;
+import java.util.concurrent.Callable;
+
+/**
+ * Generation of a single data object. Used by the parallel generation mode, every unit holds its own
+ * GenerationContext and writer so different units can be merged concurrently.
+ */
+public class GenerationUnit implements Callable<String> {
+
+    private GenerationEngine engine;
+
+    private GenerationContext unitContext;
+
+    private String filePath;
+
+    public GenerationUnit(GenerationEngine engine, GenerationContext generationContext, DataObject dataObject, String filePath) {
+        this.engine = engine;
+        this.unitContext = generationContext.createUnitContext(dataObject);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Merges the asset template for the unit data object.
+     *
+     * @return The generated asset content.
+     */
+    @Override
+    public String call() throws Exception {
+        StringWriter writer = new StringWriter();
+        engine.mergeAsset(unitContext, unitContext.getAssetTemplate(), writer);
+        return writer.toString();
+    }
+
+    public DataObject getDataObject() {
+        return unitContext.getCurrentDataObject();
+    }
+
+    public GenerationContext getUnitContext() {
+        return unitContext;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+}
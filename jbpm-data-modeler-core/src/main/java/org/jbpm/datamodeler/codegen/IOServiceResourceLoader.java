@@ -0,0 +1,112 @@
+/**
+ * Copyright 2012 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.datamodeler.codegen;
+
+import org.apache.commons.collections.ExtendedProperties;
+import org.apache.velocity.exception.ResourceNotFoundException;
+import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.resource.Resource;
+import org.apache.velocity.runtime.resource.loader.ResourceLoader;
+import org.kie.commons.io.IOService;
+import org.kie.commons.java.nio.file.Files;
+import org.kie.commons.java.nio.file.Path;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+
+/**
+ * Velocity resource loader that reads the templates from an IOService based repository. The templates are
+ * resolved against the repository root path using the same relative path used for the classpath templates.
+ * The modification checks only read the last modified attribute of the template file, the content is read when
+ * the template is reloaded.
+ */
+class IOServiceResourceLoader extends ResourceLoader {
+
+    private volatile IOService ioService;
+
+    private volatile Path rootPath;
+
+    private String encoding;
+
+    @Override
+    public void init(ExtendedProperties configuration) {
+        encoding = rsvc.getString(RuntimeConstants.INPUT_ENCODING, RuntimeConstants.ENCODING_DEFAULT);
+    }
+
+    /**
+     * Sets the repository to read the templates from.
+     *
+     * @param ioService The IOService for the repository, or null to disable this loader.
+     *
+     * @param rootPath The root path for the template sets.
+     */
+    void setRepository(IOService ioService, Path rootPath) {
+        this.rootPath = rootPath;
+        this.ioService = ioService;
+    }
+
+    @Override
+    public InputStream getResourceStream(String source) throws ResourceNotFoundException {
+        String content = readTemplate(source);
+        if (content == null) {
+            throw new ResourceNotFoundException("IOServiceResourceLoader: template not found: " + source);
+        }
+        try {
+            return new ByteArrayInputStream(content.getBytes(encoding));
+        } catch (UnsupportedEncodingException e) {
+            throw new ResourceNotFoundException("IOServiceResourceLoader: unsupported encoding: " + encoding + " for template: " + source);
+        }
+    }
+
+    @Override
+    public boolean isSourceModified(Resource resource) {
+        return getLastModified(resource) != resource.getLastModified();
+    }
+
+    @Override
+    public long getLastModified(Resource resource) {
+        IOService currentService = ioService;
+        Path path = resolve(currentService, resource.getName());
+        if (path == null || !currentService.exists(path)) return 0;
+        return Files.getLastModifiedTime(path).toMillis();
+    }
+
+    @Override
+    public boolean resourceExists(String source) {
+        IOService currentService = ioService;
+        Path path = resolve(currentService, source);
+        return path != null && currentService.exists(path);
+    }
+
+    private String readTemplate(String source) {
+        IOService currentService = ioService;
+        Path path = resolve(currentService, source);
+        if (path == null || !currentService.exists(path)) return null;
+        return currentService.readAllString(path);
+    }
+
+    private Path resolve(IOService currentService, String source) {
+        Path currentRoot = rootPath;
+        if (currentService == null || currentRoot == null || source == null) return null;
+
+        while (source.startsWith("/")) {
+            source = source.substring(1);
+        }
+        return currentRoot.resolve(source);
+    }
+}
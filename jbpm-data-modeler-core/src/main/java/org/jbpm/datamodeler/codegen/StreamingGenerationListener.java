@@ -0,0 +1,45 @@
+/**
+ * Copyright 2012 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jbpm.datamodeler.codegen;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Generation listener that receives the generated content as a stream instead of a String. When the listener
+ * of a GenerationContext implements this interface the engine writes the template output through a bounded
+ * buffer straight to the listener writer, and assetGenerated(String, String) is not invoked.
+ */
+public interface StreamingGenerationListener extends GenerationListener {
+
+    /**
+     * Invoked when the generation of an asset starts.
+     *
+     * @param fileName The file to be generated.
+     *
+     * @return The writer to send the generated content. It's closed by the engine when the asset is finished.
+     */
+    Writer assetStarted(String fileName) throws IOException;
+
+    /**
+     * Invoked when the generation of an asset fails. The content written so far is incomplete and should be
+     * discarded, the writer is closed by the engine after this call.
+     */
+    void assetFailed(String fileName, Exception cause);
+
+}
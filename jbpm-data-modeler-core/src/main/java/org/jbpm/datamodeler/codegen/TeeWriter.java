@@ -0,0 +1,69 @@
+/**
+ * Copyright 2012 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jbpm.datamodeler.codegen;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writer that sends the same content to a set of writers.
+ */
+class TeeWriter extends Writer {
+
+    private List<Writer> writers;
+
+    TeeWriter(List<Writer> writers) {
+        this.writers = writers;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        for (Writer writer : writers) {
+            writer.write(cbuf, off, len);
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        for (Writer writer : writers) {
+            writer.write(str, off, len);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        for (Writer writer : writers) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException error = null;
+        for (Writer writer : writers) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                //try to close all the writers anyway.
+                if (error == null) error = e;
+            }
+        }
+        if (error != null) throw error;
+    }
+}
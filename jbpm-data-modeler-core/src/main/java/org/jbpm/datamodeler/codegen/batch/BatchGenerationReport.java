@@ -0,0 +1,70 @@
+/**
+ * Copyright 2012 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.datamodeler.codegen.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Results of a batch generation, in the same order the projects were given.
+ */
+public class BatchGenerationReport {
+
+    private final List<ProjectGenerationResult> results;
+
+    private final long totalMillis;
+
+    public BatchGenerationReport(List<ProjectGenerationResult> results, long totalMillis) {
+        this.results = results;
+        this.totalMillis = totalMillis;
+    }
+
+    public List<ProjectGenerationResult> getResults() {
+        return results;
+    }
+
+    public List<ProjectGenerationResult> getFailures() {
+        List<ProjectGenerationResult> failures = new ArrayList<ProjectGenerationResult>();
+        for (ProjectGenerationResult result : results) {
+            if (!result.isSuccess()) failures.add(result);
+        }
+        return failures;
+    }
+
+    public boolean isSuccess() {
+        return getFailures().isEmpty();
+    }
+
+    /**
+     * @return elapsed time for the whole batch, in milliseconds.
+     */
+    public long getTotalMillis() {
+        return totalMillis;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        for (ProjectGenerationResult result : results) {
+            report.append(result).append('\n');
+        }
+        report.append("Projects: ").append(results.size());
+        report.append(", failed: ").append(getFailures().size());
+        report.append(", total time: ").append(totalMillis).append(" ms");
+        return report.toString();
+    }
+}
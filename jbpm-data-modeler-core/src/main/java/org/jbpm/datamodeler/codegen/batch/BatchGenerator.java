@@ -0,0 +1,320 @@
+/**
+ * Copyright 2012 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.datamodeler.codegen.batch;
+
+import org.jbpm.datamodeler.codegen.GenerationContext;
+import org.jbpm.datamodeler.codegen.GenerationEngine;
+import org.jbpm.datamodeler.codegen.GenerationListener;
+import org.jbpm.datamodeler.core.DataModel;
+import org.jbpm.datamodeler.driver.ModelDriver;
+import org.jbpm.datamodeler.driver.ModelDriverException;
+import org.jbpm.datamodeler.driver.impl.PojoDriver;
+import org.kie.commons.io.IOService;
+import org.kie.commons.io.impl.IOServiceDotFileImpl;
+import org.kie.commons.java.nio.file.Path;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringTokenizer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Headless code generation for many projects at a time, e.g. to regenerate the data objects of a whole repository
+ * after a template change. Every project data model is loaded with the model driver from the project sources
+ * directory, and the generated assets are written to a separate output directory of the project. Projects are
+ * processed concurrently with a bounded number of threads, and a failing project doesn't stop the rest of the batch.
+ *
+ * The sources are never overwritten: loading a source file with the model driver is lossy, e.g. methods, constants,
+ * nested classes and the annotations not configured in the driver are not part of the data model. The generated
+ * assets that differ from the current sources are reported, so they can be reviewed before replacing any source.
+ * In dry run mode the assets are only compared, nothing is written.
+ */
+public class BatchGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchGenerator.class);
+
+    public static final String DEFAULT_SOURCES_PATH = "src/main/java";
+
+    public static final String DEFAULT_OUTPUT_PATH = "target/generated-sources/datamodeler";
+
+    private final ModelDriver modelDriver;
+
+    private final IOService ioService;
+
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    private String sourcesPath = DEFAULT_SOURCES_PATH;
+
+    private String outputPath = DEFAULT_OUTPUT_PATH;
+
+    private boolean dryRun = false;
+
+    private boolean precompiledTemplates = true;
+
+    public BatchGenerator(ModelDriver modelDriver, IOService ioService) {
+        this.modelDriver = modelDriver;
+        this.ioService = ioService;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @param parallelism Max number of projects generated at the same time.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public String getSourcesPath() {
+        return sourcesPath;
+    }
+
+    /**
+     * @param sourcesPath Sources directory, relative to the project root.
+     */
+    public void setSourcesPath(String sourcesPath) {
+        this.sourcesPath = sourcesPath;
+    }
+
+    public String getOutputPath() {
+        return outputPath;
+    }
+
+    /**
+     * @param outputPath Directory for the generated assets, relative to the project root. It can't contain or be
+     * contained by the sources directory.
+     */
+    public void setOutputPath(String outputPath) {
+        this.outputPath = outputPath;
+    }
+
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    /**
+     * @param dryRun true to only compare the generated assets with the current sources, without writing them.
+     */
+    public void setDryRun(boolean dryRun) {
+        this.dryRun = dryRun;
+    }
+
+    public boolean isPrecompiledTemplates() {
+        return precompiledTemplates;
+    }
+
+    public void setPrecompiledTemplates(boolean precompiledTemplates) {
+        this.precompiledTemplates = precompiledTemplates;
+    }
+
+    /**
+     * Runs the code generation for the given projects.
+     *
+     * @param projectRoots Root directories of the projects to generate.
+     *
+     * @return the generation results, in the same order as the given projects.
+     *
+     * @throws InterruptedException if the calling thread is interrupted while waiting for the projects generation.
+     */
+    public BatchGenerationReport generate(Collection<Path> projectRoots) throws InterruptedException {
+
+        long start = System.currentTimeMillis();
+        List<Callable<ProjectGenerationResult>> tasks = new ArrayList<Callable<ProjectGenerationResult>>(projectRoots.size());
+        for (final Path projectRoot : projectRoots) {
+            tasks.add(new Callable<ProjectGenerationResult>() {
+                @Override
+                public ProjectGenerationResult call() {
+                    return generateProject(projectRoot);
+                }
+            });
+        }
+
+        List<ProjectGenerationResult> results = new ArrayList<ProjectGenerationResult>(tasks.size());
+        if (!tasks.isEmpty()) {
+            ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, tasks.size())));
+            try {
+                for (Future<ProjectGenerationResult> future : executor.invokeAll(tasks)) {
+                    results.add(getResult(future));
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        return new BatchGenerationReport(results, System.currentTimeMillis() - start);
+    }
+
+    private ProjectGenerationResult getResult(Future<ProjectGenerationResult> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (java.util.concurrent.ExecutionException e) {
+            //project errors are caught by generateProject, so this can only be a JVM error.
+            throw new IllegalStateException("Unexpected error during batch generation", e.getCause());
+        }
+    }
+
+    /**
+     * Loads and generates a single project.
+     */
+    public ProjectGenerationResult generateProject(Path projectRoot) {
+
+        ProjectGenerationResult result = new ProjectGenerationResult(projectRoot);
+        Path sourcesRoot = resolve(projectRoot, sourcesPath).normalize();
+        Path outputRoot = resolve(projectRoot, outputPath).normalize();
+        boolean loaded = false;
+        long start = System.currentTimeMillis();
+
+        try {
+            if (outputRoot.startsWith(sourcesRoot) || sourcesRoot.startsWith(outputRoot)) {
+                throw new IllegalStateException("The output path: " + outputPath + " can't overlap the sources path: " + sourcesPath);
+            }
+
+            DataModel dataModel = modelDriver.loadModel(ioService, Collections.singletonList(sourcesRoot), true);
+            if (dataModel == null) {
+                throw new ModelDriverException("No data model was loaded for project: " + projectRoot);
+            }
+            result.setDataObjects(dataModel.getDataObjects().size());
+            result.setLoadMillis(System.currentTimeMillis() - start);
+            loaded = true;
+
+            start = System.currentTimeMillis();
+            ProjectWriter projectWriter = new ProjectWriter(sourcesRoot, outputRoot);
+            GenerationContext generationContext = createGenerationContext(dataModel);
+            generationContext.setGenerationListener(projectWriter);
+            GenerationEngine.getInstance().generate(generationContext);
+
+            result.setGeneratedAssets(projectWriter.generatedAssets);
+            result.setWrittenAssets(projectWriter.writtenAssets);
+            result.setChangedAssets(projectWriter.changedAssets);
+            result.setGenerationMillis(System.currentTimeMillis() - start);
+
+        } catch (Exception e) {
+            logger.error("An error was produced during generation of project: " + projectRoot, e);
+            result.setError(e);
+            if (loaded) {
+                result.setGenerationMillis(System.currentTimeMillis() - start);
+            } else {
+                result.setLoadMillis(System.currentTimeMillis() - start);
+            }
+        }
+
+        if (logger.isDebugEnabled()) logger.debug("Project generation finished: " + result);
+        return result;
+    }
+
+    /**
+     * Creates the generation context for a project, subclasses can override it to use custom template sets.
+     */
+    protected GenerationContext createGenerationContext(DataModel dataModel) {
+        GenerationContext generationContext = new GenerationContext(dataModel);
+        generationContext.setPrecompiledTemplates(precompiledTemplates);
+        return generationContext;
+    }
+
+    private Path resolve(Path root, String relativePath) {
+        Path path = root;
+        StringTokenizer names = new StringTokenizer(relativePath, "/");
+        while (names.hasMoreTokens()) {
+            path = path.resolve(names.nextToken());
+        }
+        return path;
+    }
+
+    /**
+     * Compares the generated assets with the project sources and writes them to the project output directory.
+     * Assets with the same content as the existing output file are not written.
+     */
+    private class ProjectWriter implements GenerationListener {
+
+        private final Path sourcesRoot;
+
+        private final Path outputRoot;
+
+        private int generatedAssets = 0;
+
+        private int writtenAssets = 0;
+
+        private final List<String> changedAssets = new ArrayList<String>();
+
+        ProjectWriter(Path sourcesRoot, Path outputRoot) {
+            this.sourcesRoot = sourcesRoot;
+            this.outputRoot = outputRoot;
+        }
+
+        @Override
+        public void assetGenerated(String fileName, String content) {
+            generatedAssets++;
+            if (!content.equals(readIfExists(resolve(sourcesRoot, fileName)))) {
+                changedAssets.add(fileName);
+            }
+            if (dryRun) return;
+
+            Path filePath = resolve(outputRoot, fileName);
+            if (ioService.exists(filePath)) {
+                if (content.equals(ioService.readAllString(filePath))) return;
+            } else if (!ioService.exists(filePath.getParent())) {
+                ioService.createDirectories(filePath.getParent());
+            }
+            ioService.write(filePath, content);
+            writtenAssets++;
+        }
+
+        private String readIfExists(Path filePath) {
+            return ioService.exists(filePath) ? ioService.readAllString(filePath) : null;
+        }
+    }
+
+    /**
+     * Command line entry point. Usage: BatchGenerator [-threads n] [-output path] [-dryRun] projectDir...
+     */
+    public static void main(String[] args) throws Exception {
+
+        BatchGenerator batchGenerator = new BatchGenerator(new PojoDriver(), new IOServiceDotFileImpl());
+        List<Path> projectRoots = new ArrayList<Path>();
+
+        for (int i = 0; i < args.length; i++) {
+            if ("-threads".equals(args[i]) && i + 1 < args.length) {
+                batchGenerator.setParallelism(Integer.parseInt(args[++i]));
+            } else if ("-output".equals(args[i]) && i + 1 < args.length) {
+                batchGenerator.setOutputPath(args[++i]);
+            } else if ("-dryRun".equals(args[i])) {
+                batchGenerator.setDryRun(true);
+            } else {
+                projectRoots.add(batchGenerator.ioService.get(new File(args[i]).getAbsoluteFile().toURI()));
+            }
+        }
+
+        if (projectRoots.isEmpty()) {
+            System.err.println("Usage: BatchGenerator [-threads n] [-output path] [-dryRun] projectDir...");
+            System.exit(2);
+        }
+
+        BatchGenerationReport report = batchGenerator.generate(projectRoots);
+        System.out.println(report);
+        System.exit(report.isSuccess() ? 0 : 1);
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ * Copyright 2012 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.datamodeler.codegen.batch;
+
+import org.kie.commons.java.nio.file.Path;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of the code generation for a single project in a batch generation.
+ */
+public class ProjectGenerationResult {
+
+    private final Path projectRoot;
+
+    private long loadMillis;
+
+    private long generationMillis;
+
+    private int dataObjects;
+
+    private int generatedAssets;
+
+    private int writtenAssets;
+
+    private List<String> changedAssets = Collections.emptyList();
+
+    private Exception error;
+
+    public ProjectGenerationResult(Path projectRoot) {
+        this.projectRoot = projectRoot;
+    }
+
+    public Path getProjectRoot() {
+        return projectRoot;
+    }
+
+    /**
+     * @return time spent loading the project data model, in milliseconds.
+     */
+    public long getLoadMillis() {
+        return loadMillis;
+    }
+
+    void setLoadMillis(long loadMillis) {
+        this.loadMillis = loadMillis;
+    }
+
+    /**
+     * @return time spent generating and writing the project assets, in milliseconds.
+     */
+    public long getGenerationMillis() {
+        return generationMillis;
+    }
+
+    void setGenerationMillis(long generationMillis) {
+        this.generationMillis = generationMillis;
+    }
+
+    public long getTotalMillis() {
+        return loadMillis + generationMillis;
+    }
+
+    public int getDataObjects() {
+        return dataObjects;
+    }
+
+    void setDataObjects(int dataObjects) {
+        this.dataObjects = dataObjects;
+    }
+
+    public int getGeneratedAssets() {
+        return generatedAssets;
+    }
+
+    void setGeneratedAssets(int generatedAssets) {
+        this.generatedAssets = generatedAssets;
+    }
+
+    /**
+     * @return number of generated assets written to the output directory, assets with unchanged content are not
+     * written.
+     */
+    public int getWrittenAssets() {
+        return writtenAssets;
+    }
+
+    void setWrittenAssets(int writtenAssets) {
+        this.writtenAssets = writtenAssets;
+    }
+
+    /**
+     * @return the generated assets whose content differs from the current project sources, or that don't exist
+     * in the sources.
+     */
+    public List<String> getChangedAssets() {
+        return changedAssets;
+    }
+
+    void setChangedAssets(List<String> changedAssets) {
+        this.changedAssets = changedAssets;
+    }
+
+    /**
+     * @return the error that stopped the project generation, or null if the project was successfully generated.
+     */
+    public Exception getError() {
+        return error;
+    }
+
+    void setError(Exception error) {
+        this.error = error;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        result.append(projectRoot).append(": ");
+        if (isSuccess()) {
+            result.append("OK");
+        } else {
+            result.append("FAILED (").append(error.getMessage()).append(")");
+        }
+        result.append(", dataObjects: ").append(dataObjects);
+        result.append(", generated: ").append(generatedAssets);
+        result.append(", written: ").append(writtenAssets);
+        result.append(", changed: ").append(changedAssets.size());
+        result.append(", load: ").append(loadMillis).append(" ms");
+        result.append(", generation: ").append(generationMillis).append(" ms");
+        return result.toString();
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright 2012 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jbpm.datamodeler.codegen.metrics;
+
+/**
+ * Instrumentation SPI for the code generation engine. A meter receives the timings and counters produced by a
+ * generation run. Meters can be invoked from many threads at the same time, e.g. by the parallel generation mode,
+ * so implementations must be thread safe.
+ */
+public interface GenerationMeter {
+
+    /**
+     * Invoked when a template merge finishes. Sub templates are merged inside its parent template, so the parent
+     * template time includes the sub templates time.
+     *
+     * @param template The template id.
+     *
+     * @param nanos Merge time in nanoseconds.
+     */
+    void templateMerged(String template, long nanos);
+
+    /**
+     * Invoked when a template asks the engine for a sub template. e.g. generateAttribute, generateSetterGetter.
+     *
+     * @param operation The engine operation invoked.
+     */
+    void subTemplateInvoked(String operation);
+
+    /**
+     * Invoked when an asset was generated.
+     *
+     * @param filePath The generated file.
+     *
+     * @param size The generated content size in chars.
+     */
+    void assetGenerated(String filePath, long size);
+
+    /**
+     * Invoked when the generation listener finished to process an asset. Listeners that collect the assets to
+     * write them later, e.g. in a batch, report the write time with assetsWritten.
+     *
+     * @param filePath The generated file.
+     *
+     * @param nanos Time spent by the listener in nanoseconds.
+     */
+    void listenerNotified(String filePath, long nanos);
+
+    /**
+     * Invoked when the assets collected by a listener were written to their destination.
+     *
+     * @param assets The number of written assets.
+     *
+     * @param nanos Write time in nanoseconds.
+     */
+    void assetsWritten(int assets, long nanos);
+
+    /**
+     * Invoked when the generation of a whole model finishes.
+     *
+     * @param nanos Total generation time in nanoseconds.
+     */
+    void modelGenerated(long nanos);
+
+}
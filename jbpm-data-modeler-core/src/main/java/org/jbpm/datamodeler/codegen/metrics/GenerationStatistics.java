@@ -0,0 +1,256 @@
+/**
+ * Copyright 2012 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.datamodeler.codegen.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Meter that accumulates the generation measures. The statistics can be published as a JMX MBean.
+ */
+public class GenerationStatistics implements GenerationMeter, GenerationStatisticsMBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(GenerationStatistics.class);
+
+    public static final String DEFAULT_OBJECT_NAME = "org.jbpm.datamodeler:type=GenerationStatistics";
+
+    private final AtomicLong generatedModels = new AtomicLong();
+
+    private final AtomicLong totalGenerationNanos = new AtomicLong();
+
+    private final AtomicLong generatedAssets = new AtomicLong();
+
+    private final AtomicLong generatedChars = new AtomicLong();
+
+    private final AtomicLong maxAssetSize = new AtomicLong();
+
+    private final AtomicLong listenerNanos = new AtomicLong();
+
+    private final AtomicLong writtenAssets = new AtomicLong();
+
+    private final AtomicLong writeNanos = new AtomicLong();
+
+    private final ConcurrentMap<String, AtomicLong> templateNanos = new ConcurrentHashMap<String, AtomicLong>();
+
+    private final ConcurrentMap<String, AtomicLong> templateMerges = new ConcurrentHashMap<String, AtomicLong>();
+
+    private final ConcurrentMap<String, AtomicLong> subTemplateInvocations = new ConcurrentHashMap<String, AtomicLong>();
+
+    private ObjectName registeredName;
+
+    @Override
+    public void templateMerged(String template, long nanos) {
+        counter(templateNanos, template).addAndGet(nanos);
+        counter(templateMerges, template).incrementAndGet();
+    }
+
+    @Override
+    public void subTemplateInvoked(String operation) {
+        counter(subTemplateInvocations, operation).incrementAndGet();
+    }
+
+    @Override
+    public void assetGenerated(String filePath, long size) {
+        generatedAssets.incrementAndGet();
+        generatedChars.addAndGet(size);
+        long max;
+        while (size > (max = maxAssetSize.get()) && !maxAssetSize.compareAndSet(max, size)) {
+            //retry until the max is updated or a bigger asset was registered.
+        }
+    }
+
+    @Override
+    public void listenerNotified(String filePath, long nanos) {
+        listenerNanos.addAndGet(nanos);
+    }
+
+    @Override
+    public void assetsWritten(int assets, long nanos) {
+        writtenAssets.addAndGet(assets);
+        writeNanos.addAndGet(nanos);
+    }
+
+    @Override
+    public void modelGenerated(long nanos) {
+        generatedModels.incrementAndGet();
+        totalGenerationNanos.addAndGet(nanos);
+    }
+
+    /**
+     * Registers this statistics in the platform MBean server with the default object name.
+     */
+    public void registerMBean() {
+        registerMBean(DEFAULT_OBJECT_NAME);
+    }
+
+    /**
+     * Registers this statistics in the platform MBean server. An MBean already registered with the same name, e.g.
+     * by a previous deployment of the application, is replaced.
+     */
+    public synchronized void registerMBean(String objectName) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(objectName);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(this, name);
+            registeredName = name;
+        } catch (Exception e) {
+            logger.warn("Generation statistics couldn't be registered as MBean: " + objectName, e);
+        }
+    }
+
+    /**
+     * Removes this statistics from the platform MBean server, if they were registered.
+     */
+    public synchronized void unregisterMBean() {
+        if (registeredName == null) return;
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(registeredName)) {
+                server.unregisterMBean(registeredName);
+            }
+        } catch (Exception e) {
+            logger.warn("Generation statistics MBean couldn't be unregistered: " + registeredName, e);
+        }
+        registeredName = null;
+    }
+
+    @Override
+    public long getGeneratedModels() {
+        return generatedModels.get();
+    }
+
+    @Override
+    public long getTotalGenerationMillis() {
+        return toMillis(totalGenerationNanos.get());
+    }
+
+    @Override
+    public long getGeneratedAssets() {
+        return generatedAssets.get();
+    }
+
+    @Override
+    public long getGeneratedChars() {
+        return generatedChars.get();
+    }
+
+    @Override
+    public long getMaxAssetSize() {
+        return maxAssetSize.get();
+    }
+
+    @Override
+    public long getListenerMillis() {
+        return toMillis(listenerNanos.get());
+    }
+
+    @Override
+    public long getWrittenAssets() {
+        return writtenAssets.get();
+    }
+
+    @Override
+    public long getWriteMillis() {
+        return toMillis(writeNanos.get());
+    }
+
+    @Override
+    public Map<String, Long> getTemplateMillis() {
+        Map<String, Long> result = new TreeMap<String, Long>();
+        for (Map.Entry<String, AtomicLong> entry : templateNanos.entrySet()) {
+            result.put(entry.getKey(), toMillis(entry.getValue().get()));
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getTemplateMerges() {
+        return snapshot(templateMerges);
+    }
+
+    @Override
+    public Map<String, Long> getSubTemplateInvocations() {
+        return snapshot(subTemplateInvocations);
+    }
+
+    @Override
+    public void reset() {
+        generatedModels.set(0);
+        totalGenerationNanos.set(0);
+        generatedAssets.set(0);
+        generatedChars.set(0);
+        maxAssetSize.set(0);
+        listenerNanos.set(0);
+        writtenAssets.set(0);
+        writeNanos.set(0);
+        templateNanos.clear();
+        templateMerges.clear();
+        subTemplateInvocations.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "GenerationStatistics{" +
+                "generatedModels=" + getGeneratedModels() +
+                ", totalGenerationMillis=" + getTotalGenerationMillis() +
+                ", generatedAssets=" + getGeneratedAssets() +
+                ", generatedChars=" + getGeneratedChars() +
+                ", maxAssetSize=" + getMaxAssetSize() +
+                ", listenerMillis=" + getListenerMillis() +
+                ", writtenAssets=" + getWrittenAssets() +
+                ", writeMillis=" + getWriteMillis() +
+                ", templateMillis=" + getTemplateMillis() +
+                ", templateMerges=" + getTemplateMerges() +
+                ", subTemplateInvocations=" + getSubTemplateInvocations() +
+                '}';
+    }
+
+    private AtomicLong counter(ConcurrentMap<String, AtomicLong> counters, String key) {
+        AtomicLong counter = counters.get(key);
+        if (counter == null) {
+            AtomicLong newCounter = new AtomicLong();
+            counter = counters.putIfAbsent(key, newCounter);
+            if (counter == null) counter = newCounter;
+        }
+        return counter;
+    }
+
+    private Map<String, Long> snapshot(ConcurrentMap<String, AtomicLong> counters) {
+        Map<String, Long> result = new TreeMap<String, Long>();
+        for (Map.Entry<String, AtomicLong> entry : counters.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().get());
+        }
+        return result;
+    }
+
+    private long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
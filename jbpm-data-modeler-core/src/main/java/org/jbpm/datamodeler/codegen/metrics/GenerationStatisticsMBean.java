@@ -0,0 +1,66 @@
+/**
+ * Copyright 2012 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jbpm.datamodeler.codegen.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the code generation statistics.
+ */
+public interface GenerationStatisticsMBean {
+
+    long getGeneratedModels();
+
+    long getTotalGenerationMillis();
+
+    long getGeneratedAssets();
+
+    long getGeneratedChars();
+
+    long getMaxAssetSize();
+
+    /**
+     * @return the time spent by the generation listeners, it doesn't include the writes done after the generation.
+     */
+    long getListenerMillis();
+
+    long getWrittenAssets();
+
+    /**
+     * @return the time spent writing the assets collected by the listeners, e.g. applying a batch of file changes.
+     */
+    long getWriteMillis();
+
+    /**
+     * @return the accumulated merge time in milliseconds by template.
+     */
+    Map<String, Long> getTemplateMillis();
+
+    /**
+     * @return the number of merges by template.
+     */
+    Map<String, Long> getTemplateMerges();
+
+    /**
+     * @return the number of invocations by sub template operation.
+     */
+    Map<String, Long> getSubTemplateInvocations();
+
+    void reset();
+
+}
@@ -0,0 +1,50 @@
+/**
+ * Copyright 2012 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jbpm.datamodeler.codegen.metrics;
+
+/**
+ * Meter that discards all the measures. Used by default when no meter is configured.
+ */
+public class NoopGenerationMeter implements GenerationMeter {
+
+    public static final NoopGenerationMeter INSTANCE = new NoopGenerationMeter();
+
+    @Override
+    public void templateMerged(String template, long nanos) {
+    }
+
+    @Override
+    public void subTemplateInvoked(String operation) {
+    }
+
+    @Override
+    public void assetGenerated(String filePath, long size) {
+    }
+
+    @Override
+    public void listenerNotified(String filePath, long nanos) {
+    }
+
+    @Override
+    public void assetsWritten(int assets, long nanos) {
+    }
+
+    @Override
+    public void modelGenerated(long nanos) {
+    }
+}
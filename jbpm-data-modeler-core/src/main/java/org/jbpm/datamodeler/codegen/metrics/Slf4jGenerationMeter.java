@@ -0,0 +1,85 @@
+/**
+ * Copyright 2012 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.datamodeler.codegen.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meter that reports the generation measures through slf4j at debug level. The accumulated statistics are logged
+ * every time a model generation finishes.
+ */
+public class Slf4jGenerationMeter implements GenerationMeter {
+
+    private static final Logger logger = LoggerFactory.getLogger(Slf4jGenerationMeter.class);
+
+    private final GenerationStatistics statistics;
+
+    public Slf4jGenerationMeter() {
+        this(new GenerationStatistics());
+    }
+
+    /**
+     * @param statistics The statistics to accumulate the measures, e.g. statistics that are also published by JMX.
+     */
+    public Slf4jGenerationMeter(GenerationStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void templateMerged(String template, long nanos) {
+        statistics.templateMerged(template, nanos);
+        if (logger.isDebugEnabled()) logger.debug("Template merged: " + template + ", micros: " + TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    @Override
+    public void subTemplateInvoked(String operation) {
+        statistics.subTemplateInvoked(operation);
+    }
+
+    @Override
+    public void assetGenerated(String filePath, long size) {
+        statistics.assetGenerated(filePath, size);
+        if (logger.isDebugEnabled()) logger.debug("Asset generated: " + filePath + ", size: " + size);
+    }
+
+    @Override
+    public void listenerNotified(String filePath, long nanos) {
+        statistics.listenerNotified(filePath, nanos);
+        if (logger.isDebugEnabled()) logger.debug("Listener processed asset: " + filePath + ", micros: " + TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    @Override
+    public void assetsWritten(int assets, long nanos) {
+        statistics.assetsWritten(assets, nanos);
+        if (logger.isDebugEnabled()) logger.debug("Assets written: " + assets + ", millis: " + TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+
+    @Override
+    public void modelGenerated(long nanos) {
+        statistics.modelGenerated(nanos);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Model generated in " + TimeUnit.NANOSECONDS.toMillis(nanos) + " ms. Accumulated statistics: " + statistics);
+        }
+    }
+
+    public GenerationStatistics getStatistics() {
+        return statistics;
+    }
+}
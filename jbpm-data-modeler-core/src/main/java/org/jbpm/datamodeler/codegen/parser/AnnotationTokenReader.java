@@ -0,0 +1,240 @@
+package org.jbpm.datamodeler.codegen.parser;
+
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.jbpm.datamodeler.codegen.parser.grammars.modelerv1.DataModelerParser;
+import org.jbpm.datamodeler.codegen.parser.tokens.AnnotationToken;
+import org.jbpm.datamodeler.codegen.parser.tokens.AnnotationValuePairToken;
+import org.jbpm.datamodeler.codegen.parser.tokens.AnnotationValuePairToken.ValueType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the annotation tokens from the annotation contexts of the parse tree, member values are read from the
+ * value contexts and converted to java values.
+ */
+class AnnotationTokenReader {
+
+    private final Parser parser;
+
+    AnnotationTokenReader(Parser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * @return true if the annotation is the value of another annotation member.
+     */
+    static boolean isNested(DataModelerParser.AnnotationContext ctx) {
+        for (ParserRuleContext parent = ctx.getParent(); parent != null; parent = parent.getParent()) {
+            if (parent instanceof DataModelerParser.ElementValueContext) return true;
+        }
+        return false;
+    }
+
+    AnnotationToken readAnnotation(DataModelerParser.AnnotationContext ctx) {
+        AnnotationToken annotationToken = new AnnotationToken(ctx.annotationName().getText());
+
+        if (ctx.elementValuePairs() != null) {
+            for (DataModelerParser.ElementValuePairContext valuePair : ctx.elementValuePairs().elementValuePair()) {
+                if (valuePair.Identifier() != null && valuePair.elementValue() != null) {
+                    annotationToken.getValuePairs().add(readValuePair(valuePair.Identifier().getText(), valuePair.elementValue()));
+                }
+            }
+        } else if (ctx.elementValue() != null) {
+            //annotation in the form @TheAnnotation("someValue") that must be interpreted the same as
+            //@TheAnnotation(value = "someValue").
+            annotationToken.getValuePairs().add(readValuePair("value", ctx.elementValue()));
+        }
+        return annotationToken;
+    }
+
+    private AnnotationValuePairToken readValuePair(String name, DataModelerParser.ElementValueContext valueCtx) {
+        AnnotationValuePairToken valuePair = new AnnotationValuePairToken(name, parser.getTokenStream().getText(valueCtx));
+        readValue(valuePair, valueCtx);
+        return valuePair;
+    }
+
+    private void readValue(AnnotationValuePairToken valuePair, DataModelerParser.ElementValueContext valueCtx) {
+        if (valueCtx.annotation() != null) {
+            valuePair.setValueType(ValueType.ANNOTATION);
+            valuePair.setTypedValue(readAnnotation(valueCtx.annotation()));
+        } else if (valueCtx.elementValueArrayInitializer() != null) {
+            List<Object> elements = new ArrayList<Object>();
+            for (DataModelerParser.ElementValueContext elementCtx : valueCtx.elementValueArrayInitializer().elementValue()) {
+                AnnotationValuePairToken element = new AnnotationValuePairToken();
+                readValue(element, elementCtx);
+                elements.add(element.getTypedValue());
+            }
+            valuePair.setValueType(ValueType.ARRAY);
+            valuePair.setTypedValue(elements);
+        } else if (valueCtx.expression() == null || !readExpression(valuePair, valueCtx.expression(), false)) {
+            valuePair.setValueType(ValueType.EXPRESSION);
+            valuePair.setTypedValue(parser.getTokenStream().getText(valueCtx));
+        }
+    }
+
+    /**
+     * Reads the literals, class literals, constant names and negative numbers.
+     *
+     * @return false if the expression is not any of them.
+     */
+    private boolean readExpression(AnnotationValuePairToken valuePair, DataModelerParser.ExpressionContext ctx, boolean negate) {
+        if (ctx.getChildCount() == 1 && ctx.primary() != null) {
+            return readPrimary(valuePair, ctx.primary(), negate);
+        }
+        if (ctx.getChildCount() == 2 && "-".equals(ctx.getChild(0).getText()) && !negate
+                && ctx.getChild(1) instanceof DataModelerParser.ExpressionContext) {
+            return readExpression(valuePair, (DataModelerParser.ExpressionContext) ctx.getChild(1), true)
+                    && isNumber(valuePair.getValueType());
+        }
+        if (!negate && ctx.getChildCount() == 3 && ".".equals(ctx.getChild(1).getText()) && isName(ctx)) {
+            valuePair.setValueType(ValueType.ENUM);
+            valuePair.setTypedValue(ctx.getText());
+            return true;
+        }
+        return false;
+    }
+
+    private boolean readPrimary(AnnotationValuePairToken valuePair, DataModelerParser.PrimaryContext ctx, boolean negate) {
+        if (ctx.literal() != null) {
+            return readLiteral(valuePair, ctx.literal(), negate);
+        }
+        if (ctx.expression() != null) {
+            return readExpression(valuePair, ctx.expression(), negate);
+        }
+        if (negate) return false;
+        if (ctx.Identifier() != null && ctx.getChildCount() == 1) {
+            valuePair.setValueType(ValueType.ENUM);
+            valuePair.setTypedValue(ctx.getText());
+            return true;
+        }
+        int count = ctx.getChildCount();
+        if (count == 3 && "class".equals(ctx.getChild(2).getText())) {
+            valuePair.setValueType(ValueType.CLASS);
+            valuePair.setTypedValue(ctx.getChild(0).getText());
+            return true;
+        }
+        return false;
+    }
+
+    private boolean readLiteral(AnnotationValuePairToken valuePair, DataModelerParser.LiteralContext ctx, boolean negate) {
+        String text = ctx.getText();
+        String sign = negate ? "-" : "";
+        try {
+            if (ctx.integerLiteral() != null) {
+                boolean isLong = text.endsWith("l") || text.endsWith("L");
+                String number = isLong ? text.substring(0, text.length() - 1) : text;
+                long value = Long.decode(number);
+                if (negate) value = -value;
+                if (isLong) {
+                    valuePair.setValueType(ValueType.LONG);
+                    valuePair.setTypedValue(value);
+                } else {
+                    //hexadecimal and octal int literals can use the 32 bits, e.g. 0xFFFFFFFF is -1
+                    valuePair.setValueType(ValueType.INTEGER);
+                    valuePair.setTypedValue((int) value);
+                }
+                return true;
+            }
+            if (ctx.FloatingPointLiteral() != null) {
+                char suffix = text.charAt(text.length() - 1);
+                if (suffix == 'f' || suffix == 'F') {
+                    valuePair.setValueType(ValueType.FLOAT);
+                    valuePair.setTypedValue(Float.valueOf(sign + text.substring(0, text.length() - 1)));
+                } else {
+                    valuePair.setValueType(ValueType.DOUBLE);
+                    valuePair.setTypedValue(Double.valueOf(sign + text));
+                }
+                return true;
+            }
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (negate) return false;
+
+        if (ctx.StringLiteral() != null) {
+            valuePair.setValueType(ValueType.STRING);
+            valuePair.setTypedValue(unescape(text, 1, text.length() - 1));
+        } else if (ctx.CharacterLiteral() != null) {
+            String value = unescape(text, 1, text.length() - 1);
+            valuePair.setValueType(ValueType.CHARACTER);
+            valuePair.setTypedValue(value.length() > 0 ? value.charAt(0) : null);
+        } else if (ctx.booleanLiteral() != null) {
+            valuePair.setValueType(ValueType.BOOLEAN);
+            valuePair.setTypedValue(Boolean.valueOf(text));
+        } else {
+            valuePair.setValueType(ValueType.NULL);
+            valuePair.setTypedValue(null);
+        }
+        return true;
+    }
+
+    private static boolean isNumber(ValueType valueType) {
+        return valueType == ValueType.INTEGER || valueType == ValueType.LONG || valueType == ValueType.FLOAT || valueType == ValueType.DOUBLE;
+    }
+
+    /**
+     * @return true if the expression is a dotted name, e.g. java.lang.annotation.ElementType.FIELD
+     */
+    private static boolean isName(DataModelerParser.ExpressionContext ctx) {
+        while (ctx.getChildCount() == 3 && ".".equals(ctx.getChild(1).getText())) {
+            ParseTree last = ctx.getChild(2);
+            if (!(last instanceof TerminalNode) || ((TerminalNode) last).getSymbol().getType() != DataModelerParser.Identifier) {
+                return false;
+            }
+            if (!(ctx.getChild(0) instanceof DataModelerParser.ExpressionContext)) return false;
+            ctx = (DataModelerParser.ExpressionContext) ctx.getChild(0);
+        }
+        DataModelerParser.PrimaryContext primary = ctx.getChildCount() == 1 ? ctx.primary() : null;
+        return primary != null && primary.getChildCount() == 1 && primary.Identifier() != null;
+    }
+
+    /**
+     * Resolves the escape sequences of a string or character literal, from start (inclusive) to end (exclusive).
+     */
+    static String unescape(String text, int start, int end) {
+        if (text.indexOf('\\', start) < 0) return text.substring(start, end);
+
+        StringBuilder result = new StringBuilder(end - start);
+        int i = start;
+        while (i < end) {
+            char c = text.charAt(i++);
+            if (c != '\\' || i >= end) {
+                result.append(c);
+                continue;
+            }
+            c = text.charAt(i++);
+            switch (c) {
+                case 'b': result.append('\b'); break;
+                case 't': result.append('\t'); break;
+                case 'n': result.append('\n'); break;
+                case 'f': result.append('\f'); break;
+                case 'r': result.append('\r'); break;
+                case 'u':
+                    while (i < end && text.charAt(i) == 'u') i++;
+                    if (i + 4 <= end) {
+                        result.append((char) Integer.parseInt(text.substring(i, i + 4), 16));
+                        i += 4;
+                    }
+                    break;
+                default:
+                    if (c >= '0' && c <= '7') {
+                        //octal escape, up to three digits with a maximum value of 377
+                        int value = c - '0';
+                        int maxDigits = c <= '3' ? 2 : 1;
+                        for (int digits = 0; digits < maxDigits && i < end && text.charAt(i) >= '0' && text.charAt(i) <= '7'; digits++) {
+                            value = value * 8 + (text.charAt(i++) - '0');
+                        }
+                        result.append((char) value);
+                    } else {
+                        //\", \' and \\
+                        result.append(c);
+                    }
+            }
+        }
+        return result.toString();
+    }
+}
@@ -2,23 +2,39 @@ package org.jbpm.datamodeler.codegen.parser;
 
 import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.ParserRuleContext;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
-import org.jbpm.datamodeler.codegen.parser.grammars.modelerv1.DataModelerLexer;
-import org.jbpm.datamodeler.codegen.parser.grammars.modelerv1.DataModelerParser;
 import org.jbpm.datamodeler.codegen.parser.tokens.DataObjectToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class DataModelParser {
 
+    private static final Logger logger = LoggerFactory.getLogger(DataModelParser.class);
+
+    /**
+     * Number of errors after which the parse of a file is aborted.
+     */
+    public static final int DEFAULT_ERROR_BUDGET = 20;
+
     private CharStream charStream;
 
     private boolean error = false;
 
+    private boolean aborted = false;
+
+    private int errorBudget = DEFAULT_ERROR_BUDGET;
+
+    private String sourceName;
+
+    private TypeIndex typeIndex;
+
+    private List<ParserError> errors = new ArrayList<ParserError>();
+
     public DataModelParser(CharStream charStream) {
         this.charStream = charStream;
     }
@@ -27,41 +43,100 @@ public class DataModelParser {
         this(new ANTLRInputStream(new StringReader(contents)));
     }
 
+    /**
+     * Parses the data object. Syntax errors don't produce exceptions, they must be checked with hasErros() and
+     * getErrors() after the parse.
+     *
+     * @return the first data object of the source, null if no data object was found or the parse was aborted
+     * because the error budget was exceeded.
+     */
     public DataObjectToken parse() throws Exception {
-        return parseDataObject(charStream);
+        List<DataObjectToken> dataObjectTokens = parseDataObjects(charStream);
+        return dataObjectTokens == null || dataObjectTokens.isEmpty() ? null : dataObjectTokens.get(0);
+    }
+
+    /**
+     * Same as parse(), but all the data objects of the source are returned, including the nested classes.
+     *
+     * @return the parsed data objects in declaration order, null if the parse was aborted because the error budget
+     * was exceeded.
+     */
+    public List<DataObjectToken> parseAll() throws Exception {
+        return parseDataObjects(charStream);
     }
 
     public boolean hasErros() {
-        //TODO implement error handling
         return error;
     }
 
-    public List getErrors() {
-        //TODO implement error handling
-        return null;
+    public List<ParserError> getErrors() {
+        return errors;
     }
 
-    private DataObjectToken parseDataObject(CharStream charStream) {
+    /**
+     * @return true if the last parse was aborted because the error budget was exceeded.
+     */
+    public boolean isAborted() {
+        return aborted;
+    }
 
-        //TODO implement parse error handling
+    public int getErrorBudget() {
+        return errorBudget;
+    }
 
-        //read the tokens
-        DataModelerLexer lexer = new DataModelerLexer(charStream);
-        CommonTokenStream tokens = new CommonTokenStream(lexer);
+    /**
+     * Sets the number of errors after which the parse is aborted, 0 or less to never abort.
+     */
+    public void setErrorBudget(int errorBudget) {
+        this.errorBudget = errorBudget;
+    }
 
-        //parse the tokens to get the AST
-        DataModelerParser parser = new DataModelerParser(tokens);
-        ParserRuleContext tree = parser.compilationUnit();
+    public String getSourceName() {
+        return sourceName;
+    }
 
-        //create the tree walker to walk the AST
-        ParseTreeWalker walker = new ParseTreeWalker(); // create standard walker
+    /**
+     * Sets the name of the parsed source, e.g. the file path. It's used to identify the source in the parse trace.
+     */
+    public void setSourceName(String sourceName) {
+        this.sourceName = sourceName;
+    }
 
-        //create the listener that are going to read the data object info.
-        DataObjectListener extractor = new DataObjectListener(parser);
+    public TypeIndex getTypeIndex() {
+        return typeIndex;
+    }
 
-        //finally walk the structure
-        walker.walk(extractor, tree);
+    /**
+     * Sets the known types used to resolve the property types, null to use the DataModelerParserFactory index.
+     */
+    public void setTypeIndex(TypeIndex typeIndex) {
+        this.typeIndex = typeIndex;
+    }
 
-        return extractor.getDataObjectToken();
+    private List<DataObjectToken> parseDataObjects(CharStream charStream) {
+
+        ParserErrorCollector errorCollector = new ParserErrorCollector(errorBudget);
+        List<DataObjectToken> dataObjectTokens = null;
+
+        try {
+            //lexer and parser instances are reused by thread.
+            DataModelerParserFactory factory = DataModelerParserFactory.getInstance();
+            dataObjectTokens = factory.parseDataObjects(charStream, errorCollector, ParseTracer.forSource(sourceName),
+                    typeIndex != null ? typeIndex : factory.getTypeIndex());
+        } catch (ParserErrorCollector.BudgetExceededException e) {
+            if (logger.isDebugEnabled()) logger.debug(e.getMessage());
+        } catch (RuntimeException e) {
+            //error recovery may leave incomplete declarations in the parse tree, the data object can't be read
+            //from them. Without syntax errors it's not a parse error.
+            if (!errorCollector.hasErrors()) throw e;
+            if (logger.isDebugEnabled()) logger.debug("Data object couldn't be read after syntax errors", e);
+            dataObjectTokens = Collections.emptyList();
+        }
+
+        errors = new ArrayList<ParserError>(errorCollector.getErrors());
+        error = !errors.isEmpty();
+        aborted = errorCollector.isBudgetExceeded();
+
+        return aborted ? null : dataObjectTokens;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,355 @@
+package org.jbpm.datamodeler.codegen.parser;
+
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.jbpm.datamodeler.codegen.parser.grammars.modelerv1.DataModelerLexer;
+import org.jbpm.datamodeler.codegen.parser.grammars.modelerv1.DataModelerParser;
+import org.jbpm.datamodeler.codegen.parser.tokens.DataObjectToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Provides the lexer and parser instances for the data modeler grammar. Instances are reused by thread, and all of
+ * them share the same DFA cache, so the adaptive prediction warm up is paid only once per JVM.
+ *
+ * The parsed input is detached from the instances when every parse finishes. Callers running on threads they don't
+ * own, e.g. container or shared pool threads, should call release() when their work is done, so the instances
+ * don't pin the application classes to the thread.
+ */
+public class DataModelerParserFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataModelerParserFactory.class);
+
+    private static final DataModelerParserFactory singleton = new DataModelerParserFactory();
+
+    /**
+     * Source used to pre-warm the DFA cache, it covers the usual constructions of a data object.
+     */
+    private static final String WARM_UP_SOURCE =
+            "package org.jbpm.datamodeler.warmup;\n" +
+            "\n" +
+            "import java.util.List;\n" +
+            "import java.io.*;\n" +
+            "\n" +
+            "@org.jbpm.datamodeler.annotations.Label(value = \"Warm up\")\n" +
+            "public class WarmUp extends java.lang.Object implements Serializable {\n" +
+            "\n" +
+            "    private static final long serialVersionUID = 1L;\n" +
+            "\n" +
+            "    @org.jbpm.datamodeler.annotations.Description(\"description\")\n" +
+            "    @Position(1)\n" +
+            "    private java.util.List<java.lang.String> names = null;\n" +
+            "\n" +
+            "    private int count;\n" +
+            "\n" +
+            "    public WarmUp() {\n" +
+            "    }\n" +
+            "\n" +
+            "    public java.util.List<java.lang.String> getNames() {\n" +
+            "        return this.names;\n" +
+            "    }\n" +
+            "\n" +
+            "    public void setNames(java.util.List<java.lang.String> names) {\n" +
+            "        this.names = names;\n" +
+            "    }\n" +
+            "\n" +
+            "    @Override\n" +
+            "    public boolean equals(Object o) {\n" +
+            "        if (this == o) return true;\n" +
+            "        if (o == null || getClass() != o.getClass()) return false;\n" +
+            "        WarmUp that = (WarmUp)o;\n" +
+            "        return count == that.count && (names != null ? names.equals(that.names) : that.names == null);\n" +
+            "    }\n" +
+            "\n" +
+            "    @Override\n" +
+            "    public int hashCode() {\n" +
+            "        int result = 17;\n" +
+            "        result = 13 * result + (names != null ? names.hashCode() : 0);\n" +
+            "        result = 13 * result + count;\n" +
+            "        return result;\n" +
+            "    }\n" +
+            "}\n";
+
+    private final ThreadLocal<ParserInstances> parserInstances = new ThreadLocal<ParserInstances>() {
+        @Override
+        protected ParserInstances initialValue() {
+            return new ParserInstances();
+        }
+    };
+
+    /**
+     * Parses hold the read lock, so the DFA cache is never cleared in the middle of a parse.
+     */
+    private final ReadWriteLock cacheLock = new ReentrantReadWriteLock();
+
+    private final ParserStatistics statistics = new ParserStatistics();
+
+    /**
+     * When enabled inputs are parsed first with the faster SLL prediction, and only if it fails they are parsed
+     * again with the full LL prediction.
+     */
+    private volatile boolean twoStageParsing = true;
+
+    /**
+     * Data objects are built from the declarations only, by default the statements of method and constructor
+     * bodies are skipped instead of parsed.
+     */
+    private volatile boolean skipMethodBodies = true;
+
+    /**
+     * When enabled the data object info is extracted while parsing, and the class body declarations are discarded
+     * from the parse tree as soon as they are read.
+     */
+    private volatile boolean streamingParsing = false;
+
+    /**
+     * Known types used to resolve the property types imported on demand, when the parse doesn't provide its own.
+     */
+    private volatile TypeIndex typeIndex = TypeIndex.getInstance();
+
+    public static DataModelerParserFactory getInstance() {
+        return singleton;
+    }
+
+    public boolean isTwoStageParsing() {
+        return twoStageParsing;
+    }
+
+    public void setTwoStageParsing(boolean twoStageParsing) {
+        this.twoStageParsing = twoStageParsing;
+    }
+
+    public boolean isSkipMethodBodies() {
+        return skipMethodBodies;
+    }
+
+    public void setSkipMethodBodies(boolean skipMethodBodies) {
+        this.skipMethodBodies = skipMethodBodies;
+    }
+
+    public boolean isStreamingParsing() {
+        return streamingParsing;
+    }
+
+    public void setStreamingParsing(boolean streamingParsing) {
+        this.streamingParsing = streamingParsing;
+    }
+
+    public TypeIndex getTypeIndex() {
+        return typeIndex;
+    }
+
+    public void setTypeIndex(TypeIndex typeIndex) {
+        this.typeIndex = typeIndex;
+    }
+
+    public ParserStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Returns the parser for the current thread, reset to read the given input with full LL prediction and the
+     * default error handling. The returned parser is reset again by the next call from the same thread.
+     */
+    public DataModelerParser getParser(CharStream input) {
+        return getParser(input, null);
+    }
+
+    /**
+     * Same as getParser(CharStream), but lexer and parser errors are reported to the given listener instead of the
+     * console.
+     */
+    public DataModelerParser getParser(CharStream input, ANTLRErrorListener errorListener) {
+        ParserInstances instances = parserInstances.get();
+        instances.lexer.setInputStream(input);
+        instances.lexer.removeErrorListeners();
+        instances.lexer.addErrorListener(errorListener != null ? errorListener : ConsoleErrorListener.INSTANCE);
+        //token streams can't be reset once the end of the input was reached, a new one is used for every input.
+        instances.parser.setInputStream(new CommonTokenStream(instances.lexer));
+        instances.parser.setSkipMethodBodies(skipMethodBodies);
+        setLLMode(instances.parser, errorListener);
+        return instances.parser;
+    }
+
+    /**
+     * Parses the given input and extracts the data object information.
+     */
+    public DataObjectToken parseDataObject(CharStream input) {
+        return parseDataObject(input, null);
+    }
+
+    /**
+     * Parses the given input and extracts the data object information, the syntax errors are reported to the given
+     * listener. Exceptions thrown by the listener abort the parse and are propagated to the caller.
+     */
+    public DataObjectToken parseDataObject(CharStream input, ANTLRErrorListener errorListener) {
+        return parseDataObject(input, errorListener, ParseTracer.DISABLED);
+    }
+
+    /**
+     * Same as parseDataObject(CharStream, ANTLRErrorListener), the parse events are traced with the given tracer.
+     */
+    public DataObjectToken parseDataObject(CharStream input, ANTLRErrorListener errorListener, ParseTracer tracer) {
+        return parse(input, errorListener, tracer, typeIndex).getDataObjectToken();
+    }
+
+    /**
+     * Parses the given input and extracts the information of all the classes declared in it, including the nested
+     * ones, in declaration order.
+     */
+    public List<DataObjectToken> parseDataObjects(CharStream input, ANTLRErrorListener errorListener, ParseTracer tracer) {
+        return parseDataObjects(input, errorListener, tracer, typeIndex);
+    }
+
+    /**
+     * Same as parseDataObjects(CharStream, ANTLRErrorListener, ParseTracer), the property types are resolved with
+     * the given index instead of the factory one, e.g. an index with the types of the project being loaded.
+     */
+    public List<DataObjectToken> parseDataObjects(CharStream input, ANTLRErrorListener errorListener, ParseTracer tracer, TypeIndex typeIndex) {
+        return parse(input, errorListener, tracer, typeIndex).getDataObjectTokens();
+    }
+
+    private DataObjectListener parse(CharStream input, ANTLRErrorListener errorListener, ParseTracer tracer, TypeIndex typeIndex) {
+        cacheLock.readLock().lock();
+        try {
+            DataModelerParser parser = getParser(input, errorListener);
+            return twoStageParsing ? parseTwoStage(parser, errorListener, tracer, typeIndex) : parseLL(parser, tracer, typeIndex, System.nanoTime(), false);
+        } finally {
+            detach(parserInstances.get());
+            cacheLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Drops the references to the last parsed input and error listener, so they are not kept by the thread.
+     */
+    private void detach(ParserInstances instances) {
+        instances.lexer.setInputStream(new ANTLRInputStream(""));
+        instances.lexer.removeErrorListeners();
+        instances.parser.setInputStream(new CommonTokenStream(instances.lexer));
+        instances.parser.removeErrorListeners();
+    }
+
+    /**
+     * Discards the lexer and parser instances of the current thread. The next parse in this thread creates new ones.
+     */
+    public void release() {
+        parserInstances.remove();
+    }
+
+    private DataObjectListener parseTwoStage(DataModelerParser parser, ANTLRErrorListener errorListener, ParseTracer tracer, TypeIndex typeIndex) {
+        long start = System.nanoTime();
+        CommonTokenStream tokens = (CommonTokenStream)parser.getTokenStream();
+
+        //first stage, SLL prediction works for almost all the inputs, and errors stop the parse immediately.
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+            DataObjectListener extractor = extract(parser, tracer, typeIndex);
+            statistics.sllParsed(System.nanoTime() - start);
+            return extractor;
+        } catch (ParseCancellationException e) {
+            //second stage, the input is either ambiguous for SLL or invalid, parse it again with full LL.
+            if (logger.isDebugEnabled()) logger.debug("SLL parse failed, falling back to LL parse", e);
+            tracer.trace("SLL parse failed, falling back to LL parse: {}", e);
+        }
+
+        tokens.reset();
+        parser.setInputStream(tokens);
+        setLLMode(parser, errorListener);
+        return parseLL(parser, tracer, typeIndex, start, true);
+    }
+
+    private DataObjectListener parseLL(DataModelerParser parser, ParseTracer tracer, TypeIndex typeIndex, long start, boolean fallback) {
+        DataObjectListener extractor = extract(parser, tracer, typeIndex);
+        statistics.llParsed(System.nanoTime() - start, fallback);
+        return extractor;
+    }
+
+    private DataObjectListener extract(DataModelerParser parser, ParseTracer tracer, TypeIndex typeIndex) {
+        //create the listener that are going to read the data object info, a failed parse attempt leaves it
+        //half filled so a new one is used for every attempt.
+        DataObjectListener extractor = new DataObjectListener(parser, tracer, typeIndex);
+
+        if (streamingParsing) {
+            //the data object info is read during the parse.
+            StreamingTreeWalker walker = new StreamingTreeWalker(extractor,
+                    parser.getErrorHandler() instanceof BailErrorStrategy);
+            parser.addParseListener(walker);
+            try {
+                parser.compilationUnit();
+            } finally {
+                parser.removeParseListener(walker);
+            }
+        } else {
+            //parse the tokens to get the AST and then walk the structure
+            ParserRuleContext tree = parser.compilationUnit();
+            ParseTreeWalker.DEFAULT.walk(extractor, tree);
+        }
+        return extractor;
+    }
+
+    private void setLLMode(DataModelerParser parser, ANTLRErrorListener errorListener) {
+        parser.removeErrorListeners();
+        parser.addErrorListener(errorListener != null ? errorListener : ConsoleErrorListener.INSTANCE);
+        parser.setErrorHandler(new DefaultErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+    }
+
+    /**
+     * Pre-warms the DFA cache with a typical data object source.
+     */
+    public void prewarm() {
+        prewarm(Collections.singletonList(WARM_UP_SOURCE));
+    }
+
+    /**
+     * Pre-warms the DFA cache by parsing the given sources, e.g. a sample of the sources to be parsed later.
+     */
+    public void prewarm(Collection<String> sources) {
+        for (String source : sources) {
+            try {
+                parseDataObject(new ANTLRInputStream(source));
+            } catch (Exception e) {
+                logger.warn("An error was produced during parser warm up", e);
+            }
+        }
+    }
+
+    /**
+     * Discards the DFA states cached by the lexer and the parser, e.g. when memory is tight. Waits for the parses
+     * in progress to finish.
+     */
+    public void clearCaches() {
+        cacheLock.writeLock().lock();
+        try {
+            DataModelerLexer.clearDFA();
+            DataModelerParser.clearDFA();
+        } finally {
+            cacheLock.writeLock().unlock();
+        }
+    }
+
+    private static class ParserInstances {
+
+        final DataModelerLexer lexer = new DataModelerLexer(null);
+
+        final DataModelerParser parser = new DataModelerParser(new CommonTokenStream(lexer));
+    }
+}
@@ -1,24 +1,32 @@
 package org.jbpm.datamodeler.codegen.parser;
 
-import org.antlr.v4.runtime.ParserRuleContext;
-import org.antlr.v4.runtime.TokenStream;
 import org.jbpm.datamodeler.codegen.parser.grammars.modelerv1.DataModelerBaseListener;
 import org.jbpm.datamodeler.codegen.parser.grammars.modelerv1.DataModelerParser;
 import org.jbpm.datamodeler.codegen.parser.tokens.*;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.LinkedList;
 import java.util.List;
-import java.util.StringTokenizer;
+import java.util.Set;
 
 public class DataObjectListener extends DataModelerBaseListener {
 
-    private static final Logger logger = LoggerFactory.getLogger(DataObjectListener.class);
-
     DataModelerParser parser;
 
+    //the class currently being processed, nested classes replace it until they are finished.
     private DataObjectToken dataObjectToken = new DataObjectToken();
 
+    //every class found in the compilation unit, in declaration order.
+    private List<DataObjectToken> dataObjectTokens = new ArrayList<DataObjectToken>();
+
+    //the enclosing classes of the class currently being processed.
+    private LinkedList<DataObjectToken> enclosingClasses = new LinkedList<DataObjectToken>();
+
+    //package and imports are shared by all the classes of the compilation unit.
+    private String packageName;
+
+    private TokenList<ImportToken> imports = new TokenList<ImportToken>();
+
     //internal use. At the moment this flag indicates that the parser is reading a property declaration, and not
     //an internal block variable.
     private boolean declaringProperty = false;
@@ -26,6 +34,10 @@ public class DataObjectListener extends DataModelerBaseListener {
     //flag indicating that class definition is being processed, by default the parser starts recognising a class.
     private boolean declaringClassModifiers = true;
 
+    //method bodies and anonymous class bodies being read, the declarations inside them, e.g. local classes or the
+    //fields of an anonymous class, don't belong to the data objects.
+    private int ignoredBodies = 0;
+
     //flag indicating that a normal class declaration started. (It means the class itself)
     private boolean declaringClass = false;
 
@@ -40,20 +52,52 @@ public class DataObjectListener extends DataModelerBaseListener {
     //same as currentClassMemberModifiers remember annotations for the next memberDecl to be processed.
     private TokenList<AnnotationToken> currentClassMemberAnnotations = new TokenList<AnnotationToken>();
 
-    //flag to control if an annotation is in the default value form @TheAnnotation("something") or
-    //in the form @TheAnnotation(value="something")
-    private boolean currentAnnotationValuePairsIsPending = false;
-
     //same as currentClassMemberModifiers, currentClassMemberAnnotations, remember the type for the next memberDecl
     //to be precessed.
     private String currentClassMemberType;
 
+    private DataModelerParser.TypeContext currentClassMemberTypeContext;
+
+    //resolves the property types, created once the package and the imports were read.
+    private TypeResolver typeResolver;
+
+    //property types are resolved when the field is read, the names that may refer to classes declared later in the
+    //compilation unit are resolved again at the end of it.
+    private List<UnresolvedType> unresolvedTypes = new ArrayList<UnresolvedType>();
+
+    private final TypeIndex typeIndex;
+
+    private final AnnotationTokenReader annotationReader;
+
+    private final ParseTracer tracer;
+
     public DataObjectListener(DataModelerParser parser) {
+        this(parser, ParseTracer.DISABLED);
+    }
+
+    public DataObjectListener(DataModelerParser parser, ParseTracer tracer) {
+        this(parser, tracer, TypeIndex.getInstance());
+    }
+
+    public DataObjectListener(DataModelerParser parser, ParseTracer tracer, TypeIndex typeIndex) {
         this.parser = parser;
+        this.annotationReader = new AnnotationTokenReader(parser);
+        this.tracer = tracer;
+        this.typeIndex = typeIndex;
     }
 
+    /**
+     * @return the first class of the compilation unit.
+     */
     public DataObjectToken getDataObjectToken() {
-        return dataObjectToken;
+        return dataObjectTokens.isEmpty() ? dataObjectToken : dataObjectTokens.get(0);
+    }
+
+    /**
+     * @return all the classes of the compilation unit, top level and nested ones, in declaration order.
+     */
+    public List<DataObjectToken> getDataObjectTokens() {
+        return dataObjectTokens;
     }
 
     /**
@@ -62,9 +106,9 @@ public class DataObjectListener extends DataModelerBaseListener {
      */
     @Override
     public void enterPackageDeclaration(DataModelerParser.PackageDeclarationContext ctx) {
-        printCurrentToken("enterPackageDeclaration", ctx);
+        tracer.trace("enterPackageDeclaration", ctx);
 
-        String packageName = ctx.qualifiedName().getText();
+        packageName = ctx.qualifiedName().getText();
         dataObjectToken.setPackageName(packageName);
     }
 
@@ -74,16 +118,31 @@ public class DataObjectListener extends DataModelerBaseListener {
      */
     @Override
     public void enterImportDeclaration(DataModelerParser.ImportDeclarationContext ctx) {
-        printCurrentToken("enterImportDeclaration", ctx);
+        tracer.trace("enterImportDeclaration", ctx);
 
         String fullToken = parser.getTokenStream().getText(ctx);
         String currentImport = ctx.qualifiedName().getText();
         if (fullToken.endsWith(".*;")) {
             currentImport = currentImport + ".*";
         }
+        imports.add(new ImportToken(currentImport));
         dataObjectToken.getImports().add(new ImportToken(currentImport));
     }
 
+    /**
+     * A top level class starts, every class after the first one gets a new data object.
+     */
+    @Override
+    public void enterClassOrInterfaceDeclaration(DataModelerParser.ClassOrInterfaceDeclarationContext ctx) {
+        if (ignoredBodies > 0) return;
+        tracer.trace("enterClassOrInterfaceDeclaration", ctx);
+
+        if (dataObjectToken.getClassName() != null) {
+            dataObjectToken = newDataObjectToken();
+        }
+        declaringClassModifiers = true;
+    }
+
     /**
      * Process class modifiers and annotations.
      * e.g.  @DataObject public final
@@ -92,6 +151,7 @@ public class DataObjectListener extends DataModelerBaseListener {
      */
     @Override
     public void enterClassOrInterfaceModifiers(DataModelerParser.ClassOrInterfaceModifiersContext ctx) {
+        if (ignoredBodies > 0) return;
         List<DataModelerParser.ClassOrInterfaceModifierContext> modifiers = ctx.classOrInterfaceModifier();
         DataModelerParser.AnnotationContext annotation;
 
@@ -100,10 +160,10 @@ public class DataObjectListener extends DataModelerBaseListener {
                 //Class level annotations will processed later in specific Annotiation method
             } else {
                 //the modifier is the text itself
-                getDataObjectToken().getClassModifiers().add(new ModifierToken(modifier.getText()));
+                dataObjectToken.getClassModifiers().add(new ModifierToken(modifier.getText()));
             }
         }
-        printCurrentToken("enterClassOrInterfaceModifiers", ctx);
+        tracer.trace("enterClassOrInterfaceModifiers", ctx);
     }
 
     /**
@@ -112,22 +172,39 @@ public class DataObjectListener extends DataModelerBaseListener {
      */
     @Override
     public void exitClassOrInterfaceModifiers(DataModelerParser.ClassOrInterfaceModifiersContext ctx) {
-        printCurrentToken("exitClassOrInterfaceModifiers", ctx);
+        if (ignoredBodies > 0) return;
+        tracer.trace("exitClassOrInterfaceModifiers", ctx);
         //remember that class modifiers section has finished.
         declaringClassModifiers = false;
     }
 
     @Override
     public void enterClassDeclaration(DataModelerParser.ClassDeclarationContext ctx) {
-        printCurrentToken("enterClassDeclaration", ctx);
+        if (ignoredBodies > 0) return;
+        tracer.trace("enterClassDeclaration", ctx);
         declaringClass = true;
     }
 
     @Override
     public void enterNormalClassDeclaration(DataModelerParser.NormalClassDeclarationContext ctx) {
-        printCurrentToken("enterNormalClassDeclaration", ctx);
+        if (ignoredBodies > 0) return;
+        tracer.trace("enterNormalClassDeclaration", ctx);
+        getTypeResolver().enterClassDeclaration(ctx.typeParameters());
 
         if (declaringClass) {
+            if (declaringClassBody) {
+                //a nested class, the modifiers and annotations collected for the current class member are the
+                //nested class ones.
+                DataObjectToken enclosingClass = dataObjectToken;
+                enclosingClasses.push(enclosingClass);
+
+                dataObjectToken = newDataObjectToken();
+                dataObjectToken.setEnclosingClassName(enclosingClass.isNested() ?
+                        enclosingClass.getEnclosingClassName() + "." + enclosingClass.getClassName() : enclosingClass.getClassName());
+                dataObjectToken.getClassModifiers().addAll(currentClassMemberModifiers);
+                dataObjectToken.getAnnotations().addAll(currentClassMemberAnnotations);
+            }
+
             String className = ctx.Identifier().getText();
             String superClassName = ctx.type() != null ? ctx.type().getText() : null;
 
@@ -140,6 +217,24 @@ public class DataObjectListener extends DataModelerBaseListener {
 
             dataObjectToken.setClassName(className);
             dataObjectToken.setSuperClassName(superClassName);
+            dataObjectTokens.add(dataObjectToken);
+
+            String enclosingPrefix = dataObjectToken.isNested() ? dataObjectToken.getEnclosingClassName() + "." : "";
+            getTypeResolver().addDeclaredType(className, (packageName != null ? packageName + "." : "") + enclosingPrefix + className);
+        }
+    }
+
+    @Override
+    public void exitNormalClassDeclaration(DataModelerParser.NormalClassDeclarationContext ctx) {
+        if (ignoredBodies > 0) return;
+        tracer.trace("exitNormalClassDeclaration", ctx);
+        getTypeResolver().exitClassDeclaration();
+
+        if (!enclosingClasses.isEmpty() && dataObjectToken.isNested()) {
+            //the nested class has finished, continue with the enclosing one. The class body declaration that
+            //contains the nested class is still in process.
+            dataObjectToken = enclosingClasses.pop();
+            declaringClassBody = true;
         }
     }
 
@@ -158,23 +253,27 @@ public class DataObjectListener extends DataModelerBaseListener {
      */
     @Override
     public void enterClassBodyDeclaration(DataModelerParser.ClassBodyDeclarationContext ctx) {
-        printCurrentToken("enterClassBodyDeclaration", ctx);
+        if (ignoredBodies > 0) return;
+        tracer.trace("enterClassBodyDeclaration", ctx);
 
         declaringClassBody = true;
 
         //clean the buffer to collect modifiers and annotations for the next class member to be parsed and avoid
         //conflicts with the previously parsed member.
         currentClassMemberType = null;
+        currentClassMemberTypeContext = null;
         currentClassMemberModifiers.clear();
         currentClassMemberAnnotations.clear();
     }
 
     @Override
     public void exitClassBodyDeclaration(DataModelerParser.ClassBodyDeclarationContext ctx) {
-        printCurrentToken("exitClassBodyDeclaration", ctx);
+        if (ignoredBodies > 0) return;
+        tracer.trace("exitClassBodyDeclaration", ctx);
 
         //maybe this cleaning is redundant
         currentClassMemberType = null;
+        currentClassMemberTypeContext = null;
         currentClassMemberModifiers.clear();
         currentClassMemberAnnotations.clear();
         declaringClassBody = false;
@@ -189,6 +288,7 @@ public class DataObjectListener extends DataModelerBaseListener {
 
     @Override
     public void enterModifier(DataModelerParser.ModifierContext ctx) {
+        if (ignoredBodies > 0) return;
         if (declaringClassBody) {
             //if a classBodyDeclaration is in process, we must record the modifiers. This modifiers will be
             //the modifiers for the next method or variable declaration.
@@ -244,16 +344,18 @@ public class DataObjectListener extends DataModelerBaseListener {
      */
     @Override
     public void enterMemberDeclaration(DataModelerParser.MemberDeclarationContext ctx) {
-        printCurrentToken("enterMemberDeclaration", ctx);
+        if (ignoredBodies > 0) return;
+        tracer.trace("enterMemberDeclaration", ctx);
         if (ctx.methodDeclaration() != null) {
-            if (logger.isDebugEnabled()) logger.debug("Starting method declaration, at the moment we ignore methods");
+            tracer.trace("Starting method declaration, at the moment we ignore methods");
         } else {
 
             //a fieldDeclaration is starting.
             String type = ctx.type().getText();
             currentClassMemberType = type;
+            currentClassMemberTypeContext = ctx.type();
 
-            if (logger.isDebugEnabled()) logger.debug("Starting field declaration, type: " + type);
+            tracer.trace("Starting field declaration, type: {}", type);
 
             //important.
             //by definition we can have something like this.
@@ -269,17 +371,19 @@ public class DataObjectListener extends DataModelerBaseListener {
 
     @Override
     public void exitMemberDeclaration(DataModelerParser.MemberDeclarationContext ctx) {
+        if (ignoredBodies > 0) return;
         if (ctx.methodDeclaration() != null) {
-            if (logger.isDebugEnabled()) logger.debug("Closing starting method declaration");
+            tracer.trace("Closing starting method declaration");
         } else {
-            if (logger.isDebugEnabled()) logger.debug("Closing field declaration");
+            tracer.trace("Closing field declaration");
             declaringProperty = false;
         }
     }
 
     @Override
     public void enterVariableDeclarator(DataModelerParser.VariableDeclaratorContext ctx) {
-        printCurrentToken("enterVariableDeclarator", ctx);
+        if (ignoredBodies > 0) return;
+        tracer.trace("enterVariableDeclarator", ctx);
         if (declaringClassBody && declaringProperty) {
             //for every variableDeclarator add a new property with the same type and modifiers.
             // because class fields can come in the form public int a, b, c, d;
@@ -298,139 +402,109 @@ public class DataObjectListener extends DataModelerBaseListener {
                 newProperty.getModifiers().addAll(currentClassMemberModifiers);
                 newProperty.getAnnotations().addAll(currentClassMemberAnnotations);
                 newProperty.setType(currentClassMemberType);
+                //array dimensions after the name, e.g. int values[];
+                int extraDimensions = (ctx.variableDeclaratorId().getChildCount() - 1) / 2;
+                Set<String> unresolvedNames = getTypeResolver().resolve(currentClassMemberTypeContext, extraDimensions, newProperty);
+                if (unresolvedNames != null) {
+                    unresolvedTypes.add(new UnresolvedType(newProperty, unresolvedNames));
+                }
 
                 dataObjectToken.getProperties().add(newProperty);
             }
         }
     }
 
+    /**
+     * Method and constructor bodies, their statements don't contribute to the data object.
+     */
     @Override
-    public void enterAnnotation(DataModelerParser.AnnotationContext ctx) {
-        printCurrentToken("enterAnnotation", ctx);
-        if (declaringClassModifiers) {
-            //current annotation belongs to the current class
-            getDataObjectToken().getAnnotations().add(new AnnotationToken(null));
-            currentAnnotationValuePairsIsPending = true;
-        } else if (declaringClassBody) {
-            //current annotation belongs to the class member.
-            currentClassMemberAnnotations.add(new AnnotationToken(null));
-            currentAnnotationValuePairsIsPending = true;
-        }
+    public void enterMethodBody(DataModelerParser.MethodBodyContext ctx) {
+        ignoredBodies++;
     }
 
     @Override
-    public void enterAnnotationName(DataModelerParser.AnnotationNameContext ctx) {
-        printCurrentToken("enterAnnotationName", ctx);
-        if (declaringClassModifiers) {
-            AnnotationToken currentAnnotation = getDataObjectToken().getAnnotations().getLast();
-            if (currentAnnotation != null) {
-                currentAnnotation.setName(ctx.getText());
-            }
-        } else if (declaringClassBody) {
-            AnnotationToken currentAnnotation = currentClassMemberAnnotations.getLast();
-            if (currentAnnotation != null) {
-                currentAnnotation.setName(ctx.getText());
-            }
-        }
+    public void exitMethodBody(DataModelerParser.MethodBodyContext ctx) {
+        ignoredBodies--;
     }
 
     @Override
-    public void enterElementValuePairs(DataModelerParser.ElementValuePairsContext ctx) {
-        printCurrentToken("enterElementValuePairs", ctx);
+    public void enterConstructorBody(DataModelerParser.ConstructorBodyContext ctx) {
+        ignoredBodies++;
     }
 
     @Override
-    public void exitElementValuePairs(DataModelerParser.ElementValuePairsContext ctx) {
-        printCurrentToken("exitElementValuePairs", ctx);
+    public void exitConstructorBody(DataModelerParser.ConstructorBodyContext ctx) {
+        ignoredBodies--;
     }
 
+    /**
+     * Arguments and body of an instance creation, e.g. new Runnable() { ... }, the anonymous class members are
+     * ignored.
+     */
     @Override
-    public void enterElementValuePair(DataModelerParser.ElementValuePairContext ctx) {
+    public void enterClassCreatorRest(DataModelerParser.ClassCreatorRestContext ctx) {
+        ignoredBodies++;
+    }
 
-        printCurrentToken("enterElementValuePair", ctx);
+    @Override
+    public void exitClassCreatorRest(DataModelerParser.ClassCreatorRestContext ctx) {
+        ignoredBodies--;
+    }
 
-        //with current definition we only support value pairs in the form name="value"
-        //TODO add more fine grained processing for annotation value pairs
-        AnnotationValuePairToken valuePair = parseValuePair(getTokenText(ctx));
+    /**
+     * Annotations are read completely when they start, including the member values. Nested annotations are read as
+     * member values of the enclosing one.
+     */
+    @Override
+    public void enterAnnotation(DataModelerParser.AnnotationContext ctx) {
+        if (ignoredBodies > 0) return;
+        tracer.trace("enterAnnotation", ctx);
+        if (AnnotationTokenReader.isNested(ctx)) return;
 
-        if (declaringClassModifiers && valuePair != null) {
-            currentAnnotationValuePairsIsPending = false;
-            AnnotationToken currentAnnotation = getDataObjectToken().getAnnotations().getLast();
-            if (currentAnnotation != null) {
-                currentAnnotation.getValuePairs().add(valuePair);
-            }
-        } else if (declaringClassBody && valuePair != null) {
-            currentAnnotationValuePairsIsPending = false;
-            AnnotationToken currentAnnotation = currentClassMemberAnnotations.getLast();
-            if (currentAnnotation != null) {
-                currentAnnotation.getValuePairs().add(valuePair);
-            }
+        if (declaringClassModifiers) {
+            //current annotation belongs to the current class
+            dataObjectToken.getAnnotations().add(annotationReader.readAnnotation(ctx));
+        } else if (declaringClassBody) {
+            //current annotation belongs to the class member.
+            currentClassMemberAnnotations.add(annotationReader.readAnnotation(ctx));
         }
     }
 
     @Override
-    public void enterElementValue(DataModelerParser.ElementValueContext ctx) {
-
-        if (declaringClassModifiers && currentAnnotationValuePairsIsPending) {
-            //whe are processing an annotation and a value comes before a value pair, so the situation
-            //is than we have an annotation using the defalut value set style. Something in the form
-            // @TheAnnotation("someValue") that must be interpreted the same as
-            // @TheAnnotation(value = "someValue").
-
-            currentAnnotationValuePairsIsPending = false;
-            AnnotationToken currentAnnotation = getDataObjectToken().getAnnotations().getLast();
-            String value = ctx.getText();
-            if (currentAnnotation != null && value != null) {
-                currentAnnotation.getValuePairs().add(new AnnotationValuePairToken("value", value));
-            }
-        } else if (declaringClassBody && currentAnnotationValuePairsIsPending) {
-            
-            currentAnnotationValuePairsIsPending = false;
-            AnnotationToken currentAnnotation = currentClassMemberAnnotations.getLast();
-            String value = ctx.getText();
-            if (currentAnnotation != null && value != null) {
-                currentAnnotation.getValuePairs().add(new AnnotationValuePairToken("value", value));
-            }
+    public void exitCompilationUnit(DataModelerParser.CompilationUnitContext ctx) {
+        tracer.trace("exitCompilationUnit", ctx);
+
+        for (UnresolvedType unresolvedType : unresolvedTypes) {
+            getTypeResolver().resolveDeclaredTypes(unresolvedType.property, unresolvedType.names);
         }
+        unresolvedTypes.clear();
     }
 
-    private AnnotationValuePairToken parseValuePair(String valuePair) {
-        logger.debug("Starting AnnotationValuePair parsing for valuePair: " + valuePair);
-
-        AnnotationValuePairToken annotationValuePairToken = new AnnotationValuePairToken();
-        StringTokenizer tokenizer = new StringTokenizer(valuePair, "=");
-        if (tokenizer.hasMoreTokens()) {
-            //Take care to not introduce blank spaces because of this parsing simplification.
-            String nameToken = tokenizer.nextToken();
-            nameToken = nameToken != null ? nameToken.trim() : null;
-            annotationValuePairToken.setName(nameToken);
-            if (tokenizer.hasMoreTokens()) {
-                String valueToken = tokenizer.nextToken();
-                valueToken = valueToken != null ? valueToken.trim() : null;
-                annotationValuePairToken.setValue(valueToken);
-            } else {
-                annotationValuePairToken = null;
-                logger.warn("valuePair value seems to be mal formed, value is not present");
-            }
-        } else {
-            annotationValuePairToken = null;
-            logger.warn("valuePair seems to be mal formed and couldn't be parsed");
+    private TypeResolver getTypeResolver() {
+        if (typeResolver == null) {
+            typeResolver = new TypeResolver(packageName, imports, typeIndex);
         }
-                
-        return annotationValuePairToken;        
+        return typeResolver;
     }
 
-    private String getTokenText(ParserRuleContext ctx) {
-        TokenStream tokens = parser.getTokenStream(); // need parser to get tokens
-        return tokens.getText(ctx);
+    private DataObjectToken newDataObjectToken() {
+        DataObjectToken newDataObjectToken = new DataObjectToken();
+        newDataObjectToken.setPackageName(packageName);
+        for (ImportToken importToken : imports) {
+            newDataObjectToken.getImports().add(new ImportToken(importToken.getImportSentence()));
+        }
+        return newDataObjectToken;
     }
 
-    private void printCurrentToken(String flag,  ParserRuleContext ctx) {
+    private static class UnresolvedType {
+
+        final DataObjectPropertyToken property;
+
+        final Set<String> names;
 
-        if (logger.isDebugEnabled()) {
-            TokenStream tokens = parser.getTokenStream(); // need parser to get tokens
-            String text = tokens.getText(ctx);
-            logger.debug(flag + ":" + getTokenText(ctx));
+        UnresolvedType(DataObjectPropertyToken property, Set<String> names) {
+            this.property = property;
+            this.names = names;
         }
     }
-}
\ No newline at end of file
+}
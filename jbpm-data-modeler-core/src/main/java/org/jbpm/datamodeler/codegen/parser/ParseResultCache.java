@@ -0,0 +1,267 @@
+package org.jbpm.datamodeler.codegen.parser;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.jbpm.datamodeler.codegen.parser.tokens.DataObjectToken;
+import org.jbpm.datamodeler.codegen.parser.tokens.ImportToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers the data objects parsed from every source file, keyed by the file path and the hash of its content. When
+ * a project is loaded again only the files whose content changed are parsed, the others are taken from the cache.
+ * Least recently used files are evicted once the configured size is reached.
+ *
+ * The property types of the cached tokens were resolved with the TypeIndex of the parse, so a cached result is only
+ * used if the index has the same types in the packages the file can refer to without a single type import: its own
+ * package and the packages imported on demand.
+ *
+ * The cached tokens are shared by all the callers, so they must not be modified. The files are parsed by the
+ * callers, e.g. the PojoDriver, with their own parser settings.
+ */
+public class ParseResultCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParseResultCache.class);
+
+    private static final ParseResultCache singleton = new ParseResultCache();
+
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+    //version of the persisted form, files written by another version are ignored.
+    private static final int PERSISTENCE_VERSION = 4;
+
+    private final LruMap entries;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    public ParseResultCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public ParseResultCache(int maxEntries) {
+        entries = new LruMap(maxEntries);
+    }
+
+    public static ParseResultCache getInstance() {
+        return singleton;
+    }
+
+    public static String contentHash(String content) {
+        return DigestUtils.sha1Hex(content);
+    }
+
+    /**
+     * @param typeIndex the types the file would be parsed with.
+     * @return the cached data objects for the file, or null if it's not in the cache, was parsed from a different
+     * content or the types it can refer to changed.
+     */
+    public List<DataObjectToken> get(String filePath, String contentHash, TypeIndex typeIndex) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(filePath);
+        }
+        if (entry != null && entry.contentHash.equals(contentHash) && entry.typesHash.equals(typeIndex.packagesHash(entry.packageNames))) {
+            hits.incrementAndGet();
+            return entry.dataObjectTokens;
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * @param typeIndex the types the file was parsed with.
+     */
+    public void put(String filePath, String contentHash, TypeIndex typeIndex, List<DataObjectToken> dataObjectTokens) {
+        ArrayList<String> packageNames = referencedPackages(dataObjectTokens);
+        Entry entry = new Entry(filePath, contentHash, packageNames, typeIndex.packagesHash(packageNames),
+                new ArrayList<DataObjectToken>(dataObjectTokens));
+        synchronized (entries) {
+            entries.put(filePath, entry);
+        }
+    }
+
+    /**
+     * @return the package of the file and the packages imported on demand, all the classes of a file share them.
+     */
+    private static ArrayList<String> referencedPackages(List<DataObjectToken> dataObjectTokens) {
+        ArrayList<String> packageNames = new ArrayList<String>();
+        if (!dataObjectTokens.isEmpty()) {
+            DataObjectToken dataObjectToken = dataObjectTokens.get(0);
+            packageNames.add(dataObjectToken.getPackageName());
+            for (ImportToken importToken : dataObjectToken.getImports()) {
+                String importSentence = importToken.getImportSentence();
+                if (importSentence.endsWith(".*")) {
+                    packageNames.add(importSentence.substring(0, importSentence.length() - 2));
+                }
+            }
+        }
+        return packageNames;
+    }
+
+    public void remove(String filePath) {
+        synchronized (entries) {
+            entries.remove(filePath);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        hits.set(0);
+        misses.set(0);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Writes the cache content to the given stream, from the least to the most recently used entry.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        List<Entry> snapshot;
+        synchronized (entries) {
+            snapshot = new ArrayList<Entry>(entries.values());
+        }
+        ObjectOutputStream objectOut = new ObjectOutputStream(out);
+        objectOut.writeInt(PERSISTENCE_VERSION);
+        objectOut.writeInt(snapshot.size());
+        for (Entry entry : snapshot) {
+            objectOut.writeObject(entry);
+        }
+        objectOut.flush();
+    }
+
+    /**
+     * Adds the entries previously written with writeTo to the cache.
+     */
+    public void readFrom(InputStream in) throws IOException {
+        ObjectInputStream objectIn = new ObjectInputStream(in);
+        int version = objectIn.readInt();
+        if (version != PERSISTENCE_VERSION) {
+            logger.warn("Parse cache was written with version " + version + ", current version is " + PERSISTENCE_VERSION + ", cache content was ignored.");
+            return;
+        }
+        int count = objectIn.readInt();
+        try {
+            for (int i = 0; i < count; i++) {
+                Entry entry = (Entry) objectIn.readObject();
+                synchronized (entries) {
+                    entries.put(entry.filePath, entry);
+                }
+            }
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Parse cache content couldn't be read", e);
+        }
+    }
+
+    public void save(File file) throws IOException {
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(file));
+        try {
+            writeTo(out);
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Loads the cache content from the given file, if the file doesn't exist or can't be read the cache is left
+     * as it was.
+     *
+     * @return true if the file was loaded.
+     */
+    public boolean load(File file) {
+        if (!file.exists()) return false;
+        try {
+            InputStream in = new BufferedInputStream(new FileInputStream(file));
+            try {
+                readFrom(in);
+                return true;
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            logger.warn("Parse cache couldn't be loaded from file: " + file, e);
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ParseResultCache{" +
+                "size=" + size() +
+                ", hits=" + getHits() +
+                ", misses=" + getMisses() +
+                '}';
+    }
+
+    private static class Entry implements Serializable {
+
+        private static final long serialVersionUID = 3L;
+
+        private final String filePath;
+
+        private final String contentHash;
+
+        private final ArrayList<String> packageNames;
+
+        //hash of the types known in packageNames when the file was parsed.
+        private final String typesHash;
+
+        private final ArrayList<DataObjectToken> dataObjectTokens;
+
+        private Entry(String filePath, String contentHash, ArrayList<String> packageNames, String typesHash, ArrayList<DataObjectToken> dataObjectTokens) {
+            this.filePath = filePath;
+            this.contentHash = contentHash;
+            this.packageNames = packageNames;
+            this.typesHash = typesHash;
+            this.dataObjectTokens = dataObjectTokens;
+        }
+    }
+
+    private static class LruMap extends LinkedHashMap<String, Entry> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maxEntries;
+
+        private LruMap(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxEntries;
+        }
+    }
+}
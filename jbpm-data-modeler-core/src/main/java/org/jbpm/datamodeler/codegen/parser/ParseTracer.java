@@ -0,0 +1,124 @@
+package org.jbpm.datamodeler.codegen.parser;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Traces the parse events of a single source. Whether a source is traced is decided once, when the parse starts, so
+ * the parse callbacks of the sources that are not traced only check a final flag. Token texts and messages are
+ * built only for the traced sources.
+ *
+ * Tracing is enabled with the org.jbpm.datamodeler.parser.trace system property, or with setEnabled, and the trace
+ * is written at debug level to the org.jbpm.datamodeler.codegen.parser.trace logger. It can be restricted to the
+ * sources whose name contains a given text, e.g. a file or a project path, and sampled to one of every n parses.
+ */
+public class ParseTracer {
+
+    private static final Logger logger = LoggerFactory.getLogger("org.jbpm.datamodeler.codegen.parser.trace");
+
+    public static final ParseTracer DISABLED = new ParseTracer(null, false);
+
+    private static volatile boolean tracingEnabled = Boolean.getBoolean("org.jbpm.datamodeler.parser.trace");
+
+    private static volatile String sourceFilter = System.getProperty("org.jbpm.datamodeler.parser.trace.source");
+
+    private static volatile int sampleRate = Integer.getInteger("org.jbpm.datamodeler.parser.trace.sampleRate", 1);
+
+    private static final AtomicLong candidates = new AtomicLong();
+
+    private final String sourceName;
+
+    private final boolean enabled;
+
+    private ParseTracer(String sourceName, boolean enabled) {
+        this.sourceName = sourceName;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the tracer for a parse of the given source, DISABLED if the source is not traced.
+     *
+     * @param sourceName name of the parsed source, e.g. the file path, can be null.
+     */
+    public static ParseTracer forSource(String sourceName) {
+        if (!tracingEnabled || !logger.isDebugEnabled()) return DISABLED;
+
+        String filter = sourceFilter;
+        if (filter != null && (sourceName == null || !sourceName.contains(filter))) return DISABLED;
+
+        int rate = sampleRate;
+        if (rate > 1 && candidates.getAndIncrement() % rate != 0) return DISABLED;
+
+        return new ParseTracer(sourceName != null ? sourceName : "<unnamed source>", true);
+    }
+
+    public static boolean isTracingEnabled() {
+        return tracingEnabled;
+    }
+
+    public static void setTracingEnabled(boolean tracingEnabled) {
+        ParseTracer.tracingEnabled = tracingEnabled;
+    }
+
+    public static String getSourceFilter() {
+        return sourceFilter;
+    }
+
+    /**
+     * Restricts the tracing to the sources whose name contains the given text, null to trace all the sources.
+     */
+    public static void setSourceFilter(String sourceFilter) {
+        ParseTracer.sourceFilter = sourceFilter;
+    }
+
+    public static int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Traces one of every sampleRate parses, 1 or less to trace all of them.
+     */
+    public static void setSampleRate(int sampleRate) {
+        ParseTracer.sampleRate = sampleRate;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Traces a parse event together with the source text of the context.
+     */
+    public void trace(String event, ParserRuleContext ctx) {
+        if (enabled) {
+            logger.debug("{} {}: {}", new Object[]{sourceName, event, getText(ctx)});
+        }
+    }
+
+    public void trace(String message) {
+        if (enabled) {
+            logger.debug(sourceName + " " + message);
+        }
+    }
+
+    /**
+     * Traces a message, the argument is formatted into the message only for the traced sources.
+     */
+    public void trace(String message, Object arg) {
+        if (enabled) {
+            logger.debug(sourceName + " " + message, arg);
+        }
+    }
+
+    private static String getText(ParserRuleContext ctx) {
+        Token start = ctx.getStart();
+        Token stop = ctx.getStop();
+        if (start == null || stop == null || stop.getStopIndex() < start.getStartIndex()) return "";
+        return start.getInputStream().getText(Interval.of(start.getStartIndex(), stop.getStopIndex()));
+    }
+}
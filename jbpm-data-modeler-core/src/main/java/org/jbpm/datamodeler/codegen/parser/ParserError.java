@@ -0,0 +1,46 @@
+package org.jbpm.datamodeler.codegen.parser;
+
+import java.io.Serializable;
+
+/**
+ * A syntax error found while parsing a source file.
+ */
+public class ParserError implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private int line;
+
+    private int column;
+
+    private String message;
+
+    public ParserError(int line, int column, String message) {
+        this.line = line;
+        this.column = column;
+        this.message = message;
+    }
+
+    /**
+     * @return the line where the error was found, starting at 1. 0 when the position is not known.
+     */
+    public int getLine() {
+        return line;
+    }
+
+    /**
+     * @return the column where the error was found, starting at 0.
+     */
+    public int getColumn() {
+        return column;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return "line " + line + ":" + column + " " + message;
+    }
+}
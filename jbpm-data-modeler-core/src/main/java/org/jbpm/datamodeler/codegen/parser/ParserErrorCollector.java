@@ -0,0 +1,66 @@
+package org.jbpm.datamodeler.codegen.parser;
+
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Error listener that collects the lexer and parser errors of a source file. Once the number of errors reaches the
+ * error budget the parse is aborted, so a badly broken file doesn't keep the parser busy with error recovery.
+ */
+public class ParserErrorCollector extends BaseErrorListener {
+
+    private final int errorBudget;
+
+    private final List<ParserError> errors = new ArrayList<ParserError>();
+
+    private boolean budgetExceeded = false;
+
+    /**
+     * @param errorBudget maximum number of errors to collect before aborting the parse, 0 or less for no limit.
+     */
+    public ParserErrorCollector(int errorBudget) {
+        this.errorBudget = errorBudget;
+    }
+
+    @Override
+    public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine, String msg, RecognitionException e) {
+        errors.add(new ParserError(line, charPositionInLine, msg));
+        if (errorBudget > 0 && errors.size() >= errorBudget) {
+            budgetExceeded = true;
+            throw new BudgetExceededException(errors.size());
+        }
+    }
+
+    public List<ParserError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    public boolean isBudgetExceeded() {
+        return budgetExceeded;
+    }
+
+    public int getErrorBudget() {
+        return errorBudget;
+    }
+
+    /**
+     * Thrown to abort the parse when the error budget was reached.
+     */
+    public static class BudgetExceededException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        public BudgetExceededException(int errors) {
+            super("Parse was aborted after " + errors + " errors");
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.jbpm.datamodeler.codegen.parser;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters for the parses done by the DataModelerParserFactory, e.g. to check how often the fast SLL parse has to
+ * fall back to the full LL parse.
+ */
+public class ParserStatistics {
+
+    private final AtomicLong sllParses = new AtomicLong();
+
+    private final AtomicLong sllNanos = new AtomicLong();
+
+    private final AtomicLong llFallbacks = new AtomicLong();
+
+    private final AtomicLong llParses = new AtomicLong();
+
+    private final AtomicLong llNanos = new AtomicLong();
+
+    void sllParsed(long nanos) {
+        sllParses.incrementAndGet();
+        sllNanos.addAndGet(nanos);
+    }
+
+    void llParsed(long nanos, boolean fallback) {
+        if (fallback) llFallbacks.incrementAndGet();
+        llParses.incrementAndGet();
+        llNanos.addAndGet(nanos);
+    }
+
+    /**
+     * @return number of inputs successfully parsed with SLL prediction.
+     */
+    public long getSllParses() {
+        return sllParses.get();
+    }
+
+    public long getSllMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(sllNanos.get());
+    }
+
+    /**
+     * @return number of inputs that failed with SLL prediction and were parsed again with LL prediction.
+     */
+    public long getLlFallbacks() {
+        return llFallbacks.get();
+    }
+
+    /**
+     * @return number of inputs parsed with LL prediction, including the fallbacks.
+     */
+    public long getLlParses() {
+        return llParses.get();
+    }
+
+    /**
+     * @return time spent in LL parses, for the fallbacks the failed SLL attempt is included.
+     */
+    public long getLlMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(llNanos.get());
+    }
+
+    public void reset() {
+        sllParses.set(0);
+        sllNanos.set(0);
+        llFallbacks.set(0);
+        llParses.set(0);
+        llNanos.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "ParserStatistics{" +
+                "sllParses=" + getSllParses() +
+                ", sllMillis=" + getSllMillis() +
+                ", llFallbacks=" + getLlFallbacks() +
+                ", llParses=" + getLlParses() +
+                ", llMillis=" + getLlMillis() +
+                '}';
+    }
+}
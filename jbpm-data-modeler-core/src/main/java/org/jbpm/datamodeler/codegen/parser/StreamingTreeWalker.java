@@ -0,0 +1,112 @@
+package org.jbpm.datamodeler.codegen.parser;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.jbpm.datamodeler.codegen.parser.grammars.modelerv1.DataModelerParser;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Parse listener that forwards the parse events to a tree listener while the input is being parsed, in the same
+ * order a ParseTreeWalker would produce them once the parse has finished.
+ *
+ * The tree listeners read the children of a context when it's entered, so every class body declaration is walked
+ * when it's complete and then pruned from the tree. The tree only holds the class header and the declaration in
+ * progress, no matter how many declarations the class has. Every top level class of the compilation unit is
+ * streamed this way, while a nested class is a single declaration of its enclosing class, so it's held until the
+ * whole nested class is parsed.
+ */
+class StreamingTreeWalker implements ParseTreeListener {
+
+    private final ParseTreeListener listener;
+
+    //true when the parse is cancelled on the first error, the result is discarded in that case.
+    private final boolean bailOnError;
+
+    //contexts that were entered but not exited yet when the header of a class was flushed.
+    private final Set<ParserRuleContext> openContexts = new HashSet<ParserRuleContext>();
+
+    //true once the header of the first top level class was flushed, the compilation unit is open from then on.
+    private boolean flushed = false;
+
+    StreamingTreeWalker(ParseTreeListener listener, boolean bailOnError) {
+        this.listener = listener;
+        this.bailOnError = bailOnError;
+    }
+
+    @Override
+    public void enterEveryRule(ParserRuleContext ctx) {
+        //a top level class body starts when nothing but the compilation unit is open.
+        if (ctx instanceof DataModelerParser.ClassBodyContext && (!flushed || openContexts.size() == 1)) {
+            //the class header is complete, walk it and stream the body from now on.
+            List<ParserRuleContext> path = new ArrayList<ParserRuleContext>();
+            for (ParserRuleContext current = ctx; current != null; current = current.getParent()) {
+                path.add(0, current);
+            }
+            openContexts.addAll(path);
+            //the compilation unit was already entered when the first class was flushed.
+            walkOpen(path, flushed ? 1 : 0);
+            flushed = true;
+        }
+    }
+
+    @Override
+    public void exitEveryRule(ParserRuleContext ctx) {
+        if (bailOnError && ctx.exception != null) {
+            //the parse is being cancelled, walking the incomplete contexts could only hide the cancellation.
+            return;
+        }
+        if (!flushed) {
+            if (ctx.getParent() == null) {
+                //no class body was found, e.g. an interface or an enum.
+                ParseTreeWalker.DEFAULT.walk(listener, ctx);
+            }
+        } else if (openContexts.remove(ctx)) {
+            ctx.exitRule(listener);
+            listener.exitEveryRule(ctx);
+            if (ctx.getParent() != null && ctx.getParent().getParent() == null) {
+                //a streamed top level class was completed.
+                ctx.getParent().removeLastChild();
+            }
+        } else if (openContexts.contains(ctx.getParent())) {
+            //a declaration of the class body was completed.
+            ParseTreeWalker.DEFAULT.walk(listener, ctx);
+            ctx.getParent().removeLastChild();
+        }
+    }
+
+    @Override
+    public void visitTerminal(TerminalNode node) {
+        if (flushed && openContexts.contains(node.getParent())) {
+            listener.visitTerminal(node);
+        }
+    }
+
+    @Override
+    public void visitErrorNode(ErrorNode node) {
+        if (flushed && openContexts.contains(node.getParent())) {
+            listener.visitErrorNode(node);
+        }
+    }
+
+    private void walkOpen(List<ParserRuleContext> path, int index) {
+        ParserRuleContext ctx = path.get(index);
+        listener.enterEveryRule(ctx);
+        ctx.enterRule(listener);
+        for (int i = 0; i < ctx.getChildCount(); i++) {
+            ParseTree child = ctx.getChild(i);
+            if (index + 1 < path.size() && child == path.get(index + 1)) {
+                walkOpen(path, index + 1);
+            } else {
+                ParseTreeWalker.DEFAULT.walk(listener, child);
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.jbpm.datamodeler.codegen.parser;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Index of the known fully qualified type names, used by the parser to resolve the simple type names of the same
+ * package or imported on demand, e.g. "import org.jbpm.model.*;". It also knows which types are collections, so that
+ * properties like List&lt;Invoice&gt; are read as multiple properties.
+ *
+ * The shared instance only knows the standard types. The PojoDriver creates an index with the classes of the scanned
+ * files for every model load, other callers of the DataModelParser must set their own index to resolve the project
+ * types. The ParseResultCache uses packagesHash to detect cached results resolved with different project types.
+ */
+public class TypeIndex {
+
+    private static final String JAVA_LANG_PACKAGE = "java.lang.";
+
+    private static final String[] JAVA_LANG_TYPES = {
+            "Boolean", "Byte", "Character", "Class", "Double", "Enum", "Float", "Integer", "Long", "Number", "Object",
+            "Short", "String", "StringBuffer", "StringBuilder", "Void"
+    };
+
+    private static final String[] COLLECTION_TYPES = {
+            "java.util.Collection", "java.util.List", "java.util.ArrayList", "java.util.LinkedList", "java.util.Vector",
+            "java.util.Set", "java.util.HashSet", "java.util.LinkedHashSet", "java.util.SortedSet", "java.util.TreeSet",
+            "java.util.Queue", "java.util.Deque", "java.util.ArrayDeque", "java.util.PriorityQueue"
+    };
+
+    private static final String[] OTHER_TYPES = {
+            "java.util.Date", "java.util.Calendar", "java.util.Map", "java.util.HashMap", "java.util.LinkedHashMap",
+            "java.util.SortedMap", "java.util.TreeMap", "java.util.Locale", "java.util.UUID",
+            "java.math.BigDecimal", "java.math.BigInteger", "java.io.Serializable", "java.sql.Date",
+            "java.sql.Timestamp"
+    };
+
+    private static final TypeIndex singleton = new TypeIndex();
+
+    private final Set<String> types = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    //package name -> simple names, "" for the default package.
+    private final ConcurrentMap<String, Set<String>> typesByPackage = new ConcurrentHashMap<String, Set<String>>();
+
+    private final Set<String> collectionTypes = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    public TypeIndex() {
+        for (String type : JAVA_LANG_TYPES) {
+            addType(JAVA_LANG_PACKAGE + type);
+        }
+        addTypes(Arrays.asList(OTHER_TYPES));
+        for (String type : COLLECTION_TYPES) {
+            addCollectionType(type);
+        }
+    }
+
+    /**
+     * Creates an index with the types of the given one, e.g. to add the types of a project without modifying the
+     * shared index.
+     */
+    public TypeIndex(TypeIndex typeIndex) {
+        addTypes(typeIndex.types);
+        for (String type : typeIndex.collectionTypes) {
+            addCollectionType(type);
+        }
+    }
+
+    public static TypeIndex getInstance() {
+        return singleton;
+    }
+
+    public void addType(String className) {
+        if (types.add(className)) {
+            int dot = className.lastIndexOf('.');
+            String packageName = dot > 0 ? className.substring(0, dot) : "";
+            Set<String> packageTypes = typesByPackage.get(packageName);
+            if (packageTypes == null) {
+                Set<String> newPackageTypes = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+                packageTypes = typesByPackage.putIfAbsent(packageName, newPackageTypes);
+                if (packageTypes == null) packageTypes = newPackageTypes;
+            }
+            packageTypes.add(className.substring(dot + 1));
+        }
+    }
+
+    public void addTypes(Collection<String> classNames) {
+        for (String className : classNames) {
+            addType(className);
+        }
+    }
+
+    /**
+     * Adds a collection type, properties declared with this type and a single type argument are read as multiple
+     * properties.
+     */
+    public void addCollectionType(String className) {
+        addType(className);
+        collectionTypes.add(className);
+    }
+
+    public boolean contains(String className) {
+        return types.contains(className);
+    }
+
+    public boolean isCollectionType(String className) {
+        return collectionTypes.contains(className);
+    }
+
+    /**
+     * @param packageNames package names, "" or null for the default package.
+     * @return a hash of the known types of the given packages, it changes when a type of these packages is added or
+     * removed.
+     */
+    public String packagesHash(Collection<String> packageNames) {
+        StringBuilder packagesTypes = new StringBuilder();
+        for (String packageName : new TreeSet<String>(normalize(packageNames))) {
+            packagesTypes.append(packageName).append(':');
+            Set<String> packageTypes = typesByPackage.get(packageName);
+            if (packageTypes != null) {
+                for (String simpleName : new TreeSet<String>(packageTypes)) {
+                    packagesTypes.append(simpleName).append(',');
+                }
+            }
+            packagesTypes.append(';');
+        }
+        return DigestUtils.sha1Hex(packagesTypes.toString());
+    }
+
+    private static List<String> normalize(Collection<String> packageNames) {
+        List<String> normalized = new ArrayList<String>(packageNames.size());
+        for (String packageName : packageNames) {
+            normalized.add(packageName != null ? packageName : "");
+        }
+        return normalized;
+    }
+
+    /**
+     * @return true if the given simple name is a known type of the java.lang package.
+     */
+    public boolean isJavaLangType(String simpleName) {
+        return types.contains(JAVA_LANG_PACKAGE + simpleName);
+    }
+}
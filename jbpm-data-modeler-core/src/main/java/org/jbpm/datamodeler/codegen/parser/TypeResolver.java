@@ -0,0 +1,268 @@
+package org.jbpm.datamodeler.codegen.parser;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.jbpm.datamodeler.codegen.parser.grammars.modelerv1.DataModelerParser;
+import org.jbpm.datamodeler.codegen.parser.tokens.DataObjectPropertyToken;
+import org.jbpm.datamodeler.codegen.parser.tokens.ImportToken;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves the type names used in a compilation unit to fully qualified names, following the java rules: single
+ * type imports first, then the types of the same package and finally the types imported on demand, including the
+ * java.lang ones. Types of the same package or imported on demand can only be resolved if they are known by the
+ * TypeIndex, the PojoDriver adds the types of the scanned project before parsing. Names that can't be resolved, and
+ * the type parameters of the enclosing classes, are kept as written.
+ *
+ * Every name is resolved once per compilation unit.
+ */
+class TypeResolver {
+
+    private final String packageName;
+
+    private final TypeIndex typeIndex;
+
+    //simple name -> class name, for the single type imports.
+    private final Map<String, String> singleTypeImports = new HashMap<String, String>();
+
+    //package names of the imports on demand, e.g. "java.util" for "import java.util.*;"
+    private final List<String> onDemandImports = new ArrayList<String>();
+
+    //simple name -> class name, for the classes declared in the compilation unit.
+    private final Map<String, String> declaredTypes = new HashMap<String, String>();
+
+    private final Map<String, String> resolvedNames = new HashMap<String, String>();
+
+    //type parameters of the classes being declared, e.g. "T" for "class Box<T>", innermost class first.
+    private final LinkedList<Set<String>> typeParameters = new LinkedList<Set<String>>();
+
+    //names not resolved by the last resolve call.
+    private final Set<String> unresolvedNames = new LinkedHashSet<String>();
+
+    TypeResolver(String packageName, List<ImportToken> imports, TypeIndex typeIndex) {
+        this.packageName = packageName;
+        this.typeIndex = typeIndex;
+
+        for (ImportToken importToken : imports) {
+            String importSentence = importToken.getImportSentence();
+            if (importSentence.endsWith(".*")) {
+                onDemandImports.add(importSentence.substring(0, importSentence.length() - 2));
+            } else {
+                singleTypeImports.put(simpleName(importSentence), importSentence);
+            }
+        }
+    }
+
+    /**
+     * Registers a class declared in the compilation unit, e.g. a nested class, so the references to it are resolved
+     * to the declared class.
+     */
+    void addDeclaredType(String simpleName, String className) {
+        if (!declaredTypes.containsKey(simpleName)) {
+            declaredTypes.put(simpleName, className);
+            resolvedNames.remove(simpleName);
+        }
+    }
+
+    /**
+     * Puts the type parameters of a class declaration in scope, until the matching exitClassDeclaration call.
+     */
+    void enterClassDeclaration(DataModelerParser.TypeParametersContext classTypeParameters) {
+        Set<String> names = new HashSet<String>();
+        if (classTypeParameters != null) {
+            for (DataModelerParser.TypeParameterContext typeParameter : classTypeParameters.typeParameter()) {
+                names.add(typeParameter.Identifier().getText());
+            }
+        }
+        typeParameters.push(names);
+    }
+
+    void exitClassDeclaration() {
+        typeParameters.pop();
+    }
+
+    /**
+     * Resolves the type of the given property. Collections with a single type argument, e.g. List&lt;Invoice&gt;,
+     * are resolved to a multiple property of the element type, with the collection type as bag.
+     *
+     * @param extraDimensions array dimensions declared after the property name, e.g. "int values[];"
+     * @return the class names used by the type that couldn't be resolved, they may be classes declared later in the
+     * compilation unit, see resolveDeclaredTypes.
+     */
+    Set<String> resolve(DataModelerParser.TypeContext type, int extraDimensions, DataObjectPropertyToken property) {
+        unresolvedNames.clear();
+        doResolve(type, extraDimensions, property);
+        return unresolvedNames.isEmpty() ? null : new HashSet<String>(unresolvedNames);
+    }
+
+    /**
+     * Resolves again the given names in the property class name, once the classes declared in the compilation unit
+     * are known.
+     */
+    void resolveDeclaredTypes(DataObjectPropertyToken property, Set<String> names) {
+        for (String name : names) {
+            String className = resolveClassName(name);
+            if (!className.equals(name)) {
+                //the name is replaced where it isn't part of a longer name.
+                Matcher matcher = Pattern.compile("(?<![\\w$.])" + Pattern.quote(name) + "(?![\\w$.])").matcher(property.getClassName());
+                property.setClassName(matcher.replaceAll(Matcher.quoteReplacement(className)));
+            }
+        }
+    }
+
+    private void doResolve(DataModelerParser.TypeContext type, int extraDimensions, DataObjectPropertyToken property) {
+        DataModelerParser.ClassOrInterfaceTypeContext classType = type.classOrInterfaceType();
+        if (classType != null && arrayDimensions(type) + extraDimensions == 0) {
+            List<DataModelerParser.TypeArgumentsContext> typeArguments = classType.typeArguments();
+            if (typeArguments.size() == 1 && isLastChild(classType, typeArguments.get(0))) {
+                List<DataModelerParser.TypeArgumentContext> arguments = typeArguments.get(0).typeArgument();
+                String bag = resolveClassName(rawName(classType));
+                if (arguments.size() == 1 && arguments.get(0).getChild(0) instanceof DataModelerParser.TypeContext && typeIndex.isCollectionType(bag)) {
+                    property.setClassName(resolveType(arguments.get(0).type()));
+                    property.setMultiple(true);
+                    property.setBag(bag);
+                    return;
+                }
+            }
+        }
+        StringBuilder className = new StringBuilder(resolveType(type));
+        for (int i = 0; i < extraDimensions; i++) {
+            className.append("[]");
+        }
+        property.setClassName(className.toString());
+        property.setMultiple(false);
+        property.setBag(null);
+    }
+
+    /**
+     * @return the fully qualified type, including the resolved type arguments and the array dimensions.
+     */
+    String resolveType(DataModelerParser.TypeContext type) {
+        StringBuilder result = new StringBuilder();
+        DataModelerParser.ClassOrInterfaceTypeContext classType = type.classOrInterfaceType();
+        if (classType == null) {
+            result.append(type.primitiveType().getText());
+        } else {
+            List<DataModelerParser.TypeArgumentsContext> typeArguments = classType.typeArguments();
+            if (typeArguments.isEmpty()) {
+                result.append(resolveClassName(rawName(classType)));
+            } else if (typeArguments.size() == 1 && isLastChild(classType, typeArguments.get(0))) {
+                result.append(resolveClassName(rawName(classType)));
+                appendTypeArguments(result, typeArguments.get(0));
+            } else {
+                //type arguments in the middle, e.g. Outer<String>.Inner, are not resolved.
+                result.append(classType.getText());
+            }
+        }
+        for (int i = arrayDimensions(type); i > 0; i--) {
+            result.append("[]");
+        }
+        return result.toString();
+    }
+
+    /**
+     * @return the fully qualified name for the given class name, or the same name if it can't be resolved.
+     */
+    String resolveClassName(String name) {
+        if (isTypeParameter(name)) return name;
+
+        String className = resolvedNames.get(name);
+        if (className == null) {
+            className = doResolveClassName(name);
+            if (className == null) {
+                //not kept, the name may be declared later in the compilation unit.
+                unresolvedNames.add(name);
+                return name;
+            }
+            resolvedNames.put(name, className);
+        }
+        return className;
+    }
+
+    private boolean isTypeParameter(String name) {
+        for (Set<String> names : typeParameters) {
+            if (names.contains(name)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return the fully qualified name, or null if it can't be resolved.
+     */
+    private String doResolveClassName(String name) {
+        int dot = name.indexOf('.');
+        if (dot > 0) {
+            //a qualified name, the first part may be an imported or declared class, e.g. Map.Entry
+            String first = name.substring(0, dot);
+            String enclosingClass = singleTypeImports.containsKey(first) ? singleTypeImports.get(first) : declaredTypes.get(first);
+            if (enclosingClass != null) return enclosingClass + name.substring(dot);
+            //a fully qualified name, or a class we don't know.
+            return typeIndex.contains(name) || Character.isLowerCase(first.charAt(0)) ? name : null;
+        }
+
+        String className;
+        if ((className = singleTypeImports.get(name)) != null) return className;
+        if ((className = declaredTypes.get(name)) != null) return className;
+
+        String samePackageClass = packageName != null ? packageName + "." + name : name;
+        if (typeIndex.contains(samePackageClass)) return samePackageClass;
+        if (typeIndex.isJavaLangType(name)) return "java.lang." + name;
+
+        for (String onDemandImport : onDemandImports) {
+            className = onDemandImport + "." + name;
+            if (typeIndex.contains(className)) return className;
+        }
+
+        return null;
+    }
+
+    private void appendTypeArguments(StringBuilder result, DataModelerParser.TypeArgumentsContext typeArguments) {
+        result.append('<');
+        List<DataModelerParser.TypeArgumentContext> arguments = typeArguments.typeArgument();
+        for (int i = 0; i < arguments.size(); i++) {
+            if (i > 0) result.append(',');
+            DataModelerParser.TypeArgumentContext argument = arguments.get(i);
+            if (argument.getChild(0) instanceof DataModelerParser.TypeContext) {
+                result.append(resolveType(argument.type()));
+            } else {
+                //wildcard, e.g. ? extends Invoice
+                result.append('?');
+                if (argument.type() != null) {
+                    result.append(' ').append(argument.getChild(1).getText()).append(' ').append(resolveType(argument.type()));
+                }
+            }
+        }
+        result.append('>');
+    }
+
+    private String rawName(DataModelerParser.ClassOrInterfaceTypeContext classType) {
+        StringBuilder rawName = new StringBuilder();
+        for (int i = 0; i < classType.Identifier().size(); i++) {
+            if (i > 0) rawName.append('.');
+            rawName.append(classType.Identifier(i).getText());
+        }
+        return rawName.toString();
+    }
+
+    private boolean isLastChild(ParseTree parent, ParseTree child) {
+        return parent.getChild(parent.getChildCount() - 1) == child;
+    }
+
+    //type : (classOrInterfaceType | primitiveType) ('[' ']')*
+    private int arrayDimensions(DataModelerParser.TypeContext type) {
+        return (type.getChildCount() - 1) / 2;
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
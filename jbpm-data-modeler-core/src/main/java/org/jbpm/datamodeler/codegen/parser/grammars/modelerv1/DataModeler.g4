@@ -41,6 +41,15 @@ package org.jbpm.datamodeler.codegen.parser.grammars.modelerv1;
 @lexer::members {
 protected boolean enumIsKeyword = true;
 protected boolean assertIsKeyword = true;
+
+/**
+ * Discards the DFA states shared by all the lexer instances.
+ */
+public static void clearDFA() {
+    for (int i = 0; i < _ATN.modeToStartState.size(); i++) {
+        _decisionToDFA[i] = new DFA(_ATN.modeToStartState.get(i));
+    }
+}
 }
 
 @parser::header {
@@ -51,6 +60,50 @@ package org.jbpm.datamodeler.codegen.parser.grammars.modelerv1;
 
 @parser::members {
 
+private static final int LBRACE = java.util.Arrays.asList(tokenNames).indexOf("'{'");
+
+private static final int RBRACE = java.util.Arrays.asList(tokenNames).indexOf("'}'");
+
+/**
+ * When true the statements of method and constructor bodies are skipped at the token level, only the braces of
+ * the body are added to the parse tree.
+ */
+protected boolean skipMethodBodies = false;
+
+public boolean isSkipMethodBodies() {
+    return skipMethodBodies;
+}
+
+public void setSkipMethodBodies(boolean skipMethodBodies) {
+    this.skipMethodBodies = skipMethodBodies;
+}
+
+/**
+ * Consumes the tokens of a body up to, but not including, its closing brace. The consumed tokens don't reach
+ * the parse tree nor the parse listeners.
+ */
+protected void skipBody() {
+    int depth = 0;
+    for (int type = _input.LA(1); type != Token.EOF; type = _input.LA(1)) {
+        if (type == LBRACE) {
+            depth++;
+        } else if (type == RBRACE) {
+            if (depth == 0) return;
+            depth--;
+        }
+        _input.consume();
+    }
+}
+
+/**
+ * Discards the DFA states shared by all the parser instances.
+ */
+public static void clearDFA() {
+    for (int i = 0; i < _decisionToDFA.length; i++) {
+        _decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+    }
+}
+
 }
 
 // starting point for parsing a java file
@@ -71,10 +124,10 @@ compilationUnit
 
 compilationUnit
     :   annotations
-        (   packageDeclaration importDeclaration* classOrInterfaceDeclaration
+        (   packageDeclaration importDeclaration* classOrInterfaceDeclaration+
         )
         EOF
-    |   packageDeclaration? importDeclaration* classOrInterfaceDeclaration
+    |   packageDeclaration? importDeclaration* classOrInterfaceDeclaration+
     	EOF
     ;
 
@@ -217,14 +270,14 @@ memberDecl
     ;
 */
 
-//no nested clases, nested interfaces
+//no nested interfaces
 memberDecl
     :   genericMethodOrConstructorDecl
     |   memberDeclaration
     |   'void' Identifier voidMethodDeclaratorRest
     |   Identifier constructorDeclaratorRest
 //    |   interfaceDeclaration
-//    |   classDeclaration
+    |   classDeclaration
     ;
 
 memberDeclaration
@@ -412,6 +465,7 @@ formalParameterDeclsRest
     |   '...' variableDeclaratorId
     ;
 
+/* WM
 methodBody
     :   block
     ;
@@ -419,6 +473,15 @@ methodBody
 constructorBody
     :   '{' explicitConstructorInvocation? blockStatement* '}'
     ;
+*/
+
+methodBody
+    :   '{' {if (skipMethodBodies) skipBody();} blockStatement* '}'
+    ;
+
+constructorBody
+    :   '{' {if (skipMethodBodies) skipBody();} explicitConstructorInvocation? blockStatement* '}'
+    ;
 
 explicitConstructorInvocation
     :   nonWildcardTypeArguments? ('this' | 'super') arguments ';'
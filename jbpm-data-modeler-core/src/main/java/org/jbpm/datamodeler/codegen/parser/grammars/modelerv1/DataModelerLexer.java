@@ -40,20 +40,21 @@ public class DataModelerLexer extends Lexer {
 
 	public static final String[] tokenNames = {
 		"<INVALID>",
-		"'interface'", "'&'", "'*'", "'['", "'<'", "'--'", "'false'", "'continue'", 
-		"'!='", "'double'", "'abstract'", "'boolean'", "'}'", "'float'", "'char'", 
-		"'strictfp'", "'case'", "'super'", "'do'", "'%'", "'*='", "')'", "'throw'", 
-		"'@'", "'='", "'null'", "'throws'", "'|='", "'new'", "'class'", "'finally'", 
-		"'|'", "'transient'", "'!'", "'long'", "'short'", "']'", "'-='", "'public'", 
-		"'default'", "'synchronized'", "','", "'while'", "'-'", "'('", "':'", 
-		"'if'", "'&='", "'int'", "'private'", "'?'", "'try'", "'void'", "'package'", 
-		"'...'", "'{'", "'break'", "'native'", "'+='", "'extends'", "'^='", "'final'", 
-		"'else'", "'catch'", "'true'", "'static'", "'++'", "'import'", "'byte'", 
-		"'^'", "'.'", "'+'", "'protected'", "'for'", "'return'", "'volatile'", 
-		"';'", "'&&'", "'this'", "'||'", "'>'", "'implements'", "'%='", "'switch'", 
-		"'/='", "'/'", "'=='", "'~'", "'instanceof'", "HexLiteral", "DecimalLiteral", 
-		"OctalLiteral", "FloatingPointLiteral", "CharacterLiteral", "StringLiteral", 
-		"'enum'", "'assert'", "Identifier", "WS", "COMMENT", "LINE_COMMENT"
+		"'default'", "'+='", "'private'", "'%='", "'finally'", "'char'", "'interface'", 
+		"'new'", "'!='", "'float'", "'while'", "'void'", "'{'", "'^='", "'&&'", 
+		"'byte'", "'='", "'^'", "'for'", "'|='", "'int'", "'null'", "'do'", "'('", 
+		"'package'", "'-='", "','", "'/='", "'false'", "'throws'", "'volatile'", 
+		"'implements'", "'abstract'", "'boolean'", "'long'", "'++'", "'<'", "']'", 
+		"'~'", "'transient'", "'@'", "'static'", "'protected'", "'final'", "'+'", 
+		"'*='", "'/'", "'strictfp'", "'continue'", "'catch'", "'native'", "'&='", 
+		"'return'", "'true'", "'class'", "'||'", "';'", "'instanceof'", "'}'", 
+		"'extends'", "'if'", "'try'", "'?'", "'break'", "'short'", "'double'", 
+		"'synchronized'", "'&'", "'switch'", "'*'", "'this'", "'.'", "'case'", 
+		"'throw'", "'...'", "':'", "'['", "'|'", "'=='", "'--'", "'public'", "'>'", 
+		"'!'", "'%'", "'else'", "'super'", "')'", "'-'", "'import'", "HexLiteral", 
+		"DecimalLiteral", "OctalLiteral", "FloatingPointLiteral", "CharacterLiteral", 
+		"StringLiteral", "'enum'", "'assert'", "Identifier", "WS", "COMMENT", 
+		"LINE_COMMENT"
 	};
 	public static final String[] ruleNames = {
 		"T__88", "T__87", "T__86", "T__85", "T__84", "T__83", "T__82", "T__81", 
@@ -77,6 +78,15 @@ public class DataModelerLexer extends Lexer {
 	protected boolean enumIsKeyword = true;
 	protected boolean assertIsKeyword = true;
 
+	/**
+	 * Discards the DFA states shared by all the lexer instances.
+	 */
+	public static void clearDFA() {
+	    for (int i = 0; i < _ATN.modeToStartState.size(); i++) {
+	        _decisionToDFA[i] = new DFA(_ATN.modeToStartState.get(i));
+	    }
+	}
+
 
 	public DataModelerLexer(CharStream input) {
 		super(input);
@@ -112,11 +122,6 @@ public class DataModelerLexer extends Lexer {
 		case 109: LINE_COMMENT_action((RuleContext)_localctx, actionIndex); break;
 		}
 	}
-	private void WS_action(RuleContext _localctx, int actionIndex) {
-		switch (actionIndex) {
-		case 2: _channel = HIDDEN;  break;
-		}
-	}
 	private void ENUM_action(RuleContext _localctx, int actionIndex) {
 		switch (actionIndex) {
 		case 0: if (!enumIsKeyword) setType(Identifier); break;
@@ -127,14 +132,19 @@ public class DataModelerLexer extends Lexer {
 		case 4: _channel = HIDDEN;  break;
 		}
 	}
-	private void COMMENT_action(RuleContext _localctx, int actionIndex) {
+	private void ASSERT_action(RuleContext _localctx, int actionIndex) {
 		switch (actionIndex) {
-		case 3: _channel = HIDDEN;  break;
+		case 1: if (!assertIsKeyword) setType(Identifier); break;
 		}
 	}
-	private void ASSERT_action(RuleContext _localctx, int actionIndex) {
+	private void WS_action(RuleContext _localctx, int actionIndex) {
 		switch (actionIndex) {
-		case 1: if (!assertIsKeyword) setType(Identifier); break;
+		case 2: _channel = HIDDEN;  break;
+		}
+	}
+	private void COMMENT_action(RuleContext _localctx, int actionIndex) {
+		switch (actionIndex) {
+		case 3: _channel = HIDDEN;  break;
 		}
 	}
 
@@ -151,303 +161,303 @@ public class DataModelerLexer extends Lexer {
 		"Q\tQ\4R\tR\4S\tS\4T\tT\4U\tU\4V\tV\4W\tW\4X\tX\4Y\tY\4Z\tZ\4[\t[\4\\\t"+
 		"\\\4]\t]\4^\t^\4_\t_\4`\t`\4a\ta\4b\tb\4c\tc\4d\td\4e\te\4f\tf\4g\tg\4"+
 		"h\th\4i\ti\4j\tj\4k\tk\4l\tl\4m\tm\4n\tn\4o\to\3\2\3\2\3\2\3\2\3\2\3\2"+
-		"\3\2\3\2\3\2\3\2\3\3\3\3\3\4\3\4\3\5\3\5\3\6\3\6\3\7\3\7\3\7\3\b\3\b\3"+
-		"\b\3\b\3\b\3\b\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\n\3\n\3\n\3\13\3"+
-		"\13\3\13\3\13\3\13\3\13\3\13\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\r\3"+
-		"\r\3\r\3\r\3\r\3\r\3\r\3\r\3\16\3\16\3\17\3\17\3\17\3\17\3\17\3\17\3\20"+
-		"\3\20\3\20\3\20\3\20\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\22"+
-		"\3\22\3\22\3\22\3\22\3\23\3\23\3\23\3\23\3\23\3\23\3\24\3\24\3\24\3\25"+
-		"\3\25\3\26\3\26\3\26\3\27\3\27\3\30\3\30\3\30\3\30\3\30\3\30\3\31\3\31"+
-		"\3\32\3\32\3\33\3\33\3\33\3\33\3\33\3\34\3\34\3\34\3\34\3\34\3\34\3\34"+
-		"\3\35\3\35\3\35\3\36\3\36\3\36\3\36\3\37\3\37\3\37\3\37\3\37\3\37\3 \3"+
-		" \3 \3 \3 \3 \3 \3 \3!\3!\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3#\3"+
-		"#\3$\3$\3$\3$\3$\3%\3%\3%\3%\3%\3%\3&\3&\3\'\3\'\3\'\3(\3(\3(\3(\3(\3"+
-		"(\3(\3)\3)\3)\3)\3)\3)\3)\3)\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3"+
-		"+\3+\3,\3,\3,\3,\3,\3,\3-\3-\3.\3.\3/\3/\3\60\3\60\3\60\3\61\3\61\3\61"+
-		"\3\62\3\62\3\62\3\62\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\64\3\64"+
-		"\3\65\3\65\3\65\3\65\3\66\3\66\3\66\3\66\3\66\3\67\3\67\3\67\3\67\3\67"+
-		"\3\67\3\67\3\67\38\38\38\38\39\39\3:\3:\3:\3:\3:\3:\3;\3;\3;\3;\3;\3;"+
-		"\3;\3<\3<\3<\3=\3=\3=\3=\3=\3=\3=\3=\3>\3>\3>\3?\3?\3?\3?\3?\3?\3@\3@"+
-		"\3@\3@\3@\3A\3A\3A\3A\3A\3A\3B\3B\3B\3B\3B\3C\3C\3C\3C\3C\3C\3C\3D\3D"+
-		"\3D\3E\3E\3E\3E\3E\3E\3E\3F\3F\3F\3F\3F\3G\3G\3H\3H\3I\3I\3J\3J\3J\3J"+
-		"\3J\3J\3J\3J\3J\3J\3K\3K\3K\3K\3L\3L\3L\3L\3L\3L\3L\3M\3M\3M\3M\3M\3M"+
-		"\3M\3M\3M\3N\3N\3O\3O\3O\3P\3P\3P\3P\3P\3Q\3Q\3Q\3R\3R\3S\3S\3S\3S\3S"+
-		"\3S\3S\3S\3S\3S\3S\3T\3T\3T\3U\3U\3U\3U\3U\3U\3U\3V\3V\3V\3W\3W\3X\3X"+
-		"\3X\3Y\3Y\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3[\3[\3[\6[\u028f\n[\r[\16"+
-		"[\u0290\3[\5[\u0294\n[\3\\\3\\\3\\\7\\\u0299\n\\\f\\\16\\\u029c\13\\\5"+
-		"\\\u029e\n\\\3\\\5\\\u02a1\n\\\3]\3]\6]\u02a5\n]\r]\16]\u02a6\3]\5]\u02aa"+
-		"\n]\3^\3^\3_\3_\3`\6`\u02b1\n`\r`\16`\u02b2\3`\3`\7`\u02b7\n`\f`\16`\u02ba"+
-		"\13`\3`\5`\u02bd\n`\3`\5`\u02c0\n`\3`\3`\6`\u02c4\n`\r`\16`\u02c5\3`\5"+
-		"`\u02c9\n`\3`\5`\u02cc\n`\3`\6`\u02cf\n`\r`\16`\u02d0\3`\3`\5`\u02d5\n"+
-		"`\3`\6`\u02d8\n`\r`\16`\u02d9\3`\3`\3`\3`\3`\5`\u02e1\n`\3`\7`\u02e4\n"+
-		"`\f`\16`\u02e7\13`\3`\3`\7`\u02eb\n`\f`\16`\u02ee\13`\5`\u02f0\n`\3`\3"+
-		"`\5`\u02f4\n`\3`\6`\u02f7\n`\r`\16`\u02f8\3`\5`\u02fc\n`\5`\u02fe\n`\3"+
-		"a\3a\5a\u0302\na\3a\6a\u0305\na\ra\16a\u0306\3b\3b\3c\3c\3c\5c\u030e\n"+
-		"c\3c\3c\3d\3d\3d\7d\u0315\nd\fd\16d\u0318\13d\3d\3d\3e\3e\3e\3e\5e\u0320"+
-		"\ne\3f\3f\3f\3f\3f\3f\3f\3f\3f\5f\u032b\nf\3g\3g\3g\3g\3g\3g\3g\3h\3h"+
-		"\3h\3h\3h\3h\3h\3i\3i\3i\3i\3i\3i\3i\3i\3i\3j\3j\3j\7j\u0347\nj\fj\16"+
-		"j\u034a\13j\3k\3k\3l\3l\3m\6m\u0351\nm\rm\16m\u0352\3m\3m\3n\3n\3n\3n"+
-		"\7n\u035b\nn\fn\16n\u035e\13n\3n\3n\3n\3n\3n\3o\3o\3o\3o\7o\u0369\no\f"+
-		"o\16o\u036c\13o\3o\5o\u036f\no\3o\3o\5o\u0373\no\3o\3o\3\u035cp\3\3\1"+
-		"\5\4\1\7\5\1\t\6\1\13\7\1\r\b\1\17\t\1\21\n\1\23\13\1\25\f\1\27\r\1\31"+
-		"\16\1\33\17\1\35\20\1\37\21\1!\22\1#\23\1%\24\1\'\25\1)\26\1+\27\1-\30"+
-		"\1/\31\1\61\32\1\63\33\1\65\34\1\67\35\19\36\1;\37\1= \1?!\1A\"\1C#\1"+
-		"E$\1G%\1I&\1K\'\1M(\1O)\1Q*\1S+\1U,\1W-\1Y.\1[/\1]\60\1_\61\1a\62\1c\63"+
-		"\1e\64\1g\65\1i\66\1k\67\1m8\1o9\1q:\1s;\1u<\1w=\1y>\1{?\1}@\1\177A\1"+
-		"\u0081B\1\u0083C\1\u0085D\1\u0087E\1\u0089F\1\u008bG\1\u008dH\1\u008f"+
-		"I\1\u0091J\1\u0093K\1\u0095L\1\u0097M\1\u0099N\1\u009bO\1\u009dP\1\u009f"+
-		"Q\1\u00a1R\1\u00a3S\1\u00a5T\1\u00a7U\1\u00a9V\1\u00abW\1\u00adX\1\u00af"+
-		"Y\1\u00b1Z\1\u00b3[\1\u00b5\\\1\u00b7]\1\u00b9^\1\u00bb\2\1\u00bd\2\1"+
-		"\u00bf_\1\u00c1\2\1\u00c3\2\1\u00c5`\1\u00c7a\1\u00c9\2\1\u00cb\2\1\u00cd"+
-		"\2\1\u00cfb\2\u00d1c\3\u00d3d\1\u00d5\2\1\u00d7\2\1\u00d9e\4\u00dbf\5"+
-		"\u00ddg\6\3\2\21\4ZZzz\5\62;CHch\4NNnn\4RRrr\4--//\4GGgg\4--//\6FFHHf"+
-		"fhh\4))^^\4$$^^\n$$))^^ddhhppttvv\16&&C\\aac|\u00c2\u00d8\u00da\u00f8"+
-		"\u00fa\u2001\u3042\u3191\u3302\u3381\u3402\u3d2f\u4e02\ua001\uf902\ufb01"+
-		"\21\62;\u0662\u066b\u06f2\u06fb\u0968\u0971\u09e8\u09f1\u0a68\u0a71\u0ae8"+
-		"\u0af1\u0b68\u0b71\u0be9\u0bf1\u0c68\u0c71\u0ce8\u0cf1\u0d68\u0d71\u0e52"+
-		"\u0e5b\u0ed2\u0edb\u1042\u104b\5\13\f\16\17\"\"\4\f\f\17\17\u0398\2\3"+
-		"\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2"+
-		"\2\17\3\2\2\2\2\21\3\2\2\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31"+
-		"\3\2\2\2\2\33\3\2\2\2\2\35\3\2\2\2\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2"+
-		"\2%\3\2\2\2\2\'\3\2\2\2\2)\3\2\2\2\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2"+
-		"\61\3\2\2\2\2\63\3\2\2\2\2\65\3\2\2\2\2\67\3\2\2\2\29\3\2\2\2\2;\3\2\2"+
-		"\2\2=\3\2\2\2\2?\3\2\2\2\2A\3\2\2\2\2C\3\2\2\2\2E\3\2\2\2\2G\3\2\2\2\2"+
-		"I\3\2\2\2\2K\3\2\2\2\2M\3\2\2\2\2O\3\2\2\2\2Q\3\2\2\2\2S\3\2\2\2\2U\3"+
-		"\2\2\2\2W\3\2\2\2\2Y\3\2\2\2\2[\3\2\2\2\2]\3\2\2\2\2_\3\2\2\2\2a\3\2\2"+
-		"\2\2c\3\2\2\2\2e\3\2\2\2\2g\3\2\2\2\2i\3\2\2\2\2k\3\2\2\2\2m\3\2\2\2\2"+
-		"o\3\2\2\2\2q\3\2\2\2\2s\3\2\2\2\2u\3\2\2\2\2w\3\2\2\2\2y\3\2\2\2\2{\3"+
-		"\2\2\2\2}\3\2\2\2\2\177\3\2\2\2\2\u0081\3\2\2\2\2\u0083\3\2\2\2\2\u0085"+
-		"\3\2\2\2\2\u0087\3\2\2\2\2\u0089\3\2\2\2\2\u008b\3\2\2\2\2\u008d\3\2\2"+
-		"\2\2\u008f\3\2\2\2\2\u0091\3\2\2\2\2\u0093\3\2\2\2\2\u0095\3\2\2\2\2\u0097"+
-		"\3\2\2\2\2\u0099\3\2\2\2\2\u009b\3\2\2\2\2\u009d\3\2\2\2\2\u009f\3\2\2"+
-		"\2\2\u00a1\3\2\2\2\2\u00a3\3\2\2\2\2\u00a5\3\2\2\2\2\u00a7\3\2\2\2\2\u00a9"+
-		"\3\2\2\2\2\u00ab\3\2\2\2\2\u00ad\3\2\2\2\2\u00af\3\2\2\2\2\u00b1\3\2\2"+
-		"\2\2\u00b3\3\2\2\2\2\u00b5\3\2\2\2\2\u00b7\3\2\2\2\2\u00b9\3\2\2\2\2\u00bf"+
-		"\3\2\2\2\2\u00c5\3\2\2\2\2\u00c7\3\2\2\2\2\u00cf\3\2\2\2\2\u00d1\3\2\2"+
-		"\2\2\u00d3\3\2\2\2\2\u00d9\3\2\2\2\2\u00db\3\2\2\2\2\u00dd\3\2\2\2\3\u00df"+
-		"\3\2\2\2\5\u00e9\3\2\2\2\7\u00eb\3\2\2\2\t\u00ed\3\2\2\2\13\u00ef\3\2"+
-		"\2\2\r\u00f1\3\2\2\2\17\u00f4\3\2\2\2\21\u00fa\3\2\2\2\23\u0103\3\2\2"+
-		"\2\25\u0106\3\2\2\2\27\u010d\3\2\2\2\31\u0116\3\2\2\2\33\u011e\3\2\2\2"+
-		"\35\u0120\3\2\2\2\37\u0126\3\2\2\2!\u012b\3\2\2\2#\u0134\3\2\2\2%\u0139"+
-		"\3\2\2\2\'\u013f\3\2\2\2)\u0142\3\2\2\2+\u0144\3\2\2\2-\u0147\3\2\2\2"+
-		"/\u0149\3\2\2\2\61\u014f\3\2\2\2\63\u0151\3\2\2\2\65\u0153\3\2\2\2\67"+
-		"\u0158\3\2\2\29\u015f\3\2\2\2;\u0162\3\2\2\2=\u0166\3\2\2\2?\u016c\3\2"+
-		"\2\2A\u0174\3\2\2\2C\u0176\3\2\2\2E\u0180\3\2\2\2G\u0182\3\2\2\2I\u0187"+
-		"\3\2\2\2K\u018d\3\2\2\2M\u018f\3\2\2\2O\u0192\3\2\2\2Q\u0199\3\2\2\2S"+
-		"\u01a1\3\2\2\2U\u01ae\3\2\2\2W\u01b0\3\2\2\2Y\u01b6\3\2\2\2[\u01b8\3\2"+
-		"\2\2]\u01ba\3\2\2\2_\u01bc\3\2\2\2a\u01bf\3\2\2\2c\u01c2\3\2\2\2e\u01c6"+
-		"\3\2\2\2g\u01ce\3\2\2\2i\u01d0\3\2\2\2k\u01d4\3\2\2\2m\u01d9\3\2\2\2o"+
-		"\u01e1\3\2\2\2q\u01e5\3\2\2\2s\u01e7\3\2\2\2u\u01ed\3\2\2\2w\u01f4\3\2"+
-		"\2\2y\u01f7\3\2\2\2{\u01ff\3\2\2\2}\u0202\3\2\2\2\177\u0208\3\2\2\2\u0081"+
-		"\u020d\3\2\2\2\u0083\u0213\3\2\2\2\u0085\u0218\3\2\2\2\u0087\u021f\3\2"+
-		"\2\2\u0089\u0222\3\2\2\2\u008b\u0229\3\2\2\2\u008d\u022e\3\2\2\2\u008f"+
-		"\u0230\3\2\2\2\u0091\u0232\3\2\2\2\u0093\u0234\3\2\2\2\u0095\u023e\3\2"+
-		"\2\2\u0097\u0242\3\2\2\2\u0099\u0249\3\2\2\2\u009b\u0252\3\2\2\2\u009d"+
-		"\u0254\3\2\2\2\u009f\u0257\3\2\2\2\u00a1\u025c\3\2\2\2\u00a3\u025f\3\2"+
-		"\2\2\u00a5\u0261\3\2\2\2\u00a7\u026c\3\2\2\2\u00a9\u026f\3\2\2\2\u00ab"+
-		"\u0276\3\2\2\2\u00ad\u0279\3\2\2\2\u00af\u027b\3\2\2\2\u00b1\u027e\3\2"+
-		"\2\2\u00b3\u0280\3\2\2\2\u00b5\u028b\3\2\2\2\u00b7\u029d\3\2\2\2\u00b9"+
-		"\u02a2\3\2\2\2\u00bb\u02ab\3\2\2\2\u00bd\u02ad\3\2\2\2\u00bf\u02fd\3\2"+
-		"\2\2\u00c1\u02ff\3\2\2\2\u00c3\u0308\3\2\2\2\u00c5\u030a\3\2\2\2\u00c7"+
-		"\u0311\3\2\2\2\u00c9\u031f\3\2\2\2\u00cb\u032a\3\2\2\2\u00cd\u032c\3\2"+
-		"\2\2\u00cf\u0333\3\2\2\2\u00d1\u033a\3\2\2\2\u00d3\u0343\3\2\2\2\u00d5"+
-		"\u034b\3\2\2\2\u00d7\u034d\3\2\2\2\u00d9\u0350\3\2\2\2\u00db\u0356\3\2"+
-		"\2\2\u00dd\u0364\3\2\2\2\u00df\u00e0\7k\2\2\u00e0\u00e1\7p\2\2\u00e1\u00e2"+
-		"\7v\2\2\u00e2\u00e3\7g\2\2\u00e3\u00e4\7t\2\2\u00e4\u00e5\7h\2\2\u00e5"+
-		"\u00e6\7c\2\2\u00e6\u00e7\7e\2\2\u00e7\u00e8\7g\2\2\u00e8\4\3\2\2\2\u00e9"+
-		"\u00ea\7(\2\2\u00ea\6\3\2\2\2\u00eb\u00ec\7,\2\2\u00ec\b\3\2\2\2\u00ed"+
-		"\u00ee\7]\2\2\u00ee\n\3\2\2\2\u00ef\u00f0\7>\2\2\u00f0\f\3\2\2\2\u00f1"+
-		"\u00f2\7/\2\2\u00f2\u00f3\7/\2\2\u00f3\16\3\2\2\2\u00f4\u00f5\7h\2\2\u00f5"+
-		"\u00f6\7c\2\2\u00f6\u00f7\7n\2\2\u00f7\u00f8\7u\2\2\u00f8\u00f9\7g\2\2"+
-		"\u00f9\20\3\2\2\2\u00fa\u00fb\7e\2\2\u00fb\u00fc\7q\2\2\u00fc\u00fd\7"+
-		"p\2\2\u00fd\u00fe\7v\2\2\u00fe\u00ff\7k\2\2\u00ff\u0100\7p\2\2\u0100\u0101"+
-		"\7w\2\2\u0101\u0102\7g\2\2\u0102\22\3\2\2\2\u0103\u0104\7#\2\2\u0104\u0105"+
-		"\7?\2\2\u0105\24\3\2\2\2\u0106\u0107\7f\2\2\u0107\u0108\7q\2\2\u0108\u0109"+
-		"\7w\2\2\u0109\u010a\7d\2\2\u010a\u010b\7n\2\2\u010b\u010c\7g\2\2\u010c"+
-		"\26\3\2\2\2\u010d\u010e\7c\2\2\u010e\u010f\7d\2\2\u010f\u0110\7u\2\2\u0110"+
-		"\u0111\7v\2\2\u0111\u0112\7t\2\2\u0112\u0113\7c\2\2\u0113\u0114\7e\2\2"+
-		"\u0114\u0115\7v\2\2\u0115\30\3\2\2\2\u0116\u0117\7d\2\2\u0117\u0118\7"+
-		"q\2\2\u0118\u0119\7q\2\2\u0119\u011a\7n\2\2\u011a\u011b\7g\2\2\u011b\u011c"+
-		"\7c\2\2\u011c\u011d\7p\2\2\u011d\32\3\2\2\2\u011e\u011f\7\177\2\2\u011f"+
-		"\34\3\2\2\2\u0120\u0121\7h\2\2\u0121\u0122\7n\2\2\u0122\u0123\7q\2\2\u0123"+
-		"\u0124\7c\2\2\u0124\u0125\7v\2\2\u0125\36\3\2\2\2\u0126\u0127\7e\2\2\u0127"+
-		"\u0128\7j\2\2\u0128\u0129\7c\2\2\u0129\u012a\7t\2\2\u012a \3\2\2\2\u012b"+
-		"\u012c\7u\2\2\u012c\u012d\7v\2\2\u012d\u012e\7t\2\2\u012e\u012f\7k\2\2"+
-		"\u012f\u0130\7e\2\2\u0130\u0131\7v\2\2\u0131\u0132\7h\2\2\u0132\u0133"+
-		"\7r\2\2\u0133\"\3\2\2\2\u0134\u0135\7e\2\2\u0135\u0136\7c\2\2\u0136\u0137"+
-		"\7u\2\2\u0137\u0138\7g\2\2\u0138$\3\2\2\2\u0139\u013a\7u\2\2\u013a\u013b"+
-		"\7w\2\2\u013b\u013c\7r\2\2\u013c\u013d\7g\2\2\u013d\u013e\7t\2\2\u013e"+
-		"&\3\2\2\2\u013f\u0140\7f\2\2\u0140\u0141\7q\2\2\u0141(\3\2\2\2\u0142\u0143"+
-		"\7\'\2\2\u0143*\3\2\2\2\u0144\u0145\7,\2\2\u0145\u0146\7?\2\2\u0146,\3"+
-		"\2\2\2\u0147\u0148\7+\2\2\u0148.\3\2\2\2\u0149\u014a\7v\2\2\u014a\u014b"+
-		"\7j\2\2\u014b\u014c\7t\2\2\u014c\u014d\7q\2\2\u014d\u014e\7y\2\2\u014e"+
-		"\60\3\2\2\2\u014f\u0150\7B\2\2\u0150\62\3\2\2\2\u0151\u0152\7?\2\2\u0152"+
-		"\64\3\2\2\2\u0153\u0154\7p\2\2\u0154\u0155\7w\2\2\u0155\u0156\7n\2\2\u0156"+
-		"\u0157\7n\2\2\u0157\66\3\2\2\2\u0158\u0159\7v\2\2\u0159\u015a\7j\2\2\u015a"+
-		"\u015b\7t\2\2\u015b\u015c\7q\2\2\u015c\u015d\7y\2\2\u015d\u015e\7u\2\2"+
-		"\u015e8\3\2\2\2\u015f\u0160\7~\2\2\u0160\u0161\7?\2\2\u0161:\3\2\2\2\u0162"+
-		"\u0163\7p\2\2\u0163\u0164\7g\2\2\u0164\u0165\7y\2\2\u0165<\3\2\2\2\u0166"+
-		"\u0167\7e\2\2\u0167\u0168\7n\2\2\u0168\u0169\7c\2\2\u0169\u016a\7u\2\2"+
-		"\u016a\u016b\7u\2\2\u016b>\3\2\2\2\u016c\u016d\7h\2\2\u016d\u016e\7k\2"+
-		"\2\u016e\u016f\7p\2\2\u016f\u0170\7c\2\2\u0170\u0171\7n\2\2\u0171\u0172"+
-		"\7n\2\2\u0172\u0173\7{\2\2\u0173@\3\2\2\2\u0174\u0175\7~\2\2\u0175B\3"+
-		"\2\2\2\u0176\u0177\7v\2\2\u0177\u0178\7t\2\2\u0178\u0179\7c\2\2\u0179"+
-		"\u017a\7p\2\2\u017a\u017b\7u\2\2\u017b\u017c\7k\2\2\u017c\u017d\7g\2\2"+
-		"\u017d\u017e\7p\2\2\u017e\u017f\7v\2\2\u017fD\3\2\2\2\u0180\u0181\7#\2"+
-		"\2\u0181F\3\2\2\2\u0182\u0183\7n\2\2\u0183\u0184\7q\2\2\u0184\u0185\7"+
-		"p\2\2\u0185\u0186\7i\2\2\u0186H\3\2\2\2\u0187\u0188\7u\2\2\u0188\u0189"+
-		"\7j\2\2\u0189\u018a\7q\2\2\u018a\u018b\7t\2\2\u018b\u018c\7v\2\2\u018c"+
-		"J\3\2\2\2\u018d\u018e\7_\2\2\u018eL\3\2\2\2\u018f\u0190\7/\2\2\u0190\u0191"+
-		"\7?\2\2\u0191N\3\2\2\2\u0192\u0193\7r\2\2\u0193\u0194\7w\2\2\u0194\u0195"+
-		"\7d\2\2\u0195\u0196\7n\2\2\u0196\u0197\7k\2\2\u0197\u0198\7e\2\2\u0198"+
-		"P\3\2\2\2\u0199\u019a\7f\2\2\u019a\u019b\7g\2\2\u019b\u019c\7h\2\2\u019c"+
-		"\u019d\7c\2\2\u019d\u019e\7w\2\2\u019e\u019f\7n\2\2\u019f\u01a0\7v\2\2"+
-		"\u01a0R\3\2\2\2\u01a1\u01a2\7u\2\2\u01a2\u01a3\7{\2\2\u01a3\u01a4\7p\2"+
-		"\2\u01a4\u01a5\7e\2\2\u01a5\u01a6\7j\2\2\u01a6\u01a7\7t\2\2\u01a7\u01a8"+
-		"\7q\2\2\u01a8\u01a9\7p\2\2\u01a9\u01aa\7k\2\2\u01aa\u01ab\7|\2\2\u01ab"+
-		"\u01ac\7g\2\2\u01ac\u01ad\7f\2\2\u01adT\3\2\2\2\u01ae\u01af\7.\2\2\u01af"+
-		"V\3\2\2\2\u01b0\u01b1\7y\2\2\u01b1\u01b2\7j\2\2\u01b2\u01b3\7k\2\2\u01b3"+
-		"\u01b4\7n\2\2\u01b4\u01b5\7g\2\2\u01b5X\3\2\2\2\u01b6\u01b7\7/\2\2\u01b7"+
-		"Z\3\2\2\2\u01b8\u01b9\7*\2\2\u01b9\\\3\2\2\2\u01ba\u01bb\7<\2\2\u01bb"+
-		"^\3\2\2\2\u01bc\u01bd\7k\2\2\u01bd\u01be\7h\2\2\u01be`\3\2\2\2\u01bf\u01c0"+
-		"\7(\2\2\u01c0\u01c1\7?\2\2\u01c1b\3\2\2\2\u01c2\u01c3\7k\2\2\u01c3\u01c4"+
-		"\7p\2\2\u01c4\u01c5\7v\2\2\u01c5d\3\2\2\2\u01c6\u01c7\7r\2\2\u01c7\u01c8"+
-		"\7t\2\2\u01c8\u01c9\7k\2\2\u01c9\u01ca\7x\2\2\u01ca\u01cb\7c\2\2\u01cb"+
-		"\u01cc\7v\2\2\u01cc\u01cd\7g\2\2\u01cdf\3\2\2\2\u01ce\u01cf\7A\2\2\u01cf"+
-		"h\3\2\2\2\u01d0\u01d1\7v\2\2\u01d1\u01d2\7t\2\2\u01d2\u01d3\7{\2\2\u01d3"+
-		"j\3\2\2\2\u01d4\u01d5\7x\2\2\u01d5\u01d6\7q\2\2\u01d6\u01d7\7k\2\2\u01d7"+
-		"\u01d8\7f\2\2\u01d8l\3\2\2\2\u01d9\u01da\7r\2\2\u01da\u01db\7c\2\2\u01db"+
-		"\u01dc\7e\2\2\u01dc\u01dd\7m\2\2\u01dd\u01de\7c\2\2\u01de\u01df\7i\2\2"+
-		"\u01df\u01e0\7g\2\2\u01e0n\3\2\2\2\u01e1\u01e2\7\60\2\2\u01e2\u01e3\7"+
-		"\60\2\2\u01e3\u01e4\7\60\2\2\u01e4p\3\2\2\2\u01e5\u01e6\7}\2\2\u01e6r"+
-		"\3\2\2\2\u01e7\u01e8\7d\2\2\u01e8\u01e9\7t\2\2\u01e9\u01ea\7g\2\2\u01ea"+
-		"\u01eb\7c\2\2\u01eb\u01ec\7m\2\2\u01ect\3\2\2\2\u01ed\u01ee\7p\2\2\u01ee"+
-		"\u01ef\7c\2\2\u01ef\u01f0\7v\2\2\u01f0\u01f1\7k\2\2\u01f1\u01f2\7x\2\2"+
-		"\u01f2\u01f3\7g\2\2\u01f3v\3\2\2\2\u01f4\u01f5\7-\2\2\u01f5\u01f6\7?\2"+
-		"\2\u01f6x\3\2\2\2\u01f7\u01f8\7g\2\2\u01f8\u01f9\7z\2\2\u01f9\u01fa\7"+
-		"v\2\2\u01fa\u01fb\7g\2\2\u01fb\u01fc\7p\2\2\u01fc\u01fd\7f\2\2\u01fd\u01fe"+
-		"\7u\2\2\u01fez\3\2\2\2\u01ff\u0200\7`\2\2\u0200\u0201\7?\2\2\u0201|\3"+
-		"\2\2\2\u0202\u0203\7h\2\2\u0203\u0204\7k\2\2\u0204\u0205\7p\2\2\u0205"+
-		"\u0206\7c\2\2\u0206\u0207\7n\2\2\u0207~\3\2\2\2\u0208\u0209\7g\2\2\u0209"+
-		"\u020a\7n\2\2\u020a\u020b\7u\2\2\u020b\u020c\7g\2\2\u020c\u0080\3\2\2"+
-		"\2\u020d\u020e\7e\2\2\u020e\u020f\7c\2\2\u020f\u0210\7v\2\2\u0210\u0211"+
-		"\7e\2\2\u0211\u0212\7j\2\2\u0212\u0082\3\2\2\2\u0213\u0214\7v\2\2\u0214"+
-		"\u0215\7t\2\2\u0215\u0216\7w\2\2\u0216\u0217\7g\2\2\u0217\u0084\3\2\2"+
-		"\2\u0218\u0219\7u\2\2\u0219\u021a\7v\2\2\u021a\u021b\7c\2\2\u021b\u021c"+
-		"\7v\2\2\u021c\u021d\7k\2\2\u021d\u021e\7e\2\2\u021e\u0086\3\2\2\2\u021f"+
-		"\u0220\7-\2\2\u0220\u0221\7-\2\2\u0221\u0088\3\2\2\2\u0222\u0223\7k\2"+
-		"\2\u0223\u0224\7o\2\2\u0224\u0225\7r\2\2\u0225\u0226\7q\2\2\u0226\u0227"+
-		"\7t\2\2\u0227\u0228\7v\2\2\u0228\u008a\3\2\2\2\u0229\u022a\7d\2\2\u022a"+
-		"\u022b\7{\2\2\u022b\u022c\7v\2\2\u022c\u022d\7g\2\2\u022d\u008c\3\2\2"+
-		"\2\u022e\u022f\7`\2\2\u022f\u008e\3\2\2\2\u0230\u0231\7\60\2\2\u0231\u0090"+
-		"\3\2\2\2\u0232\u0233\7-\2\2\u0233\u0092\3\2\2\2\u0234\u0235\7r\2\2\u0235"+
-		"\u0236\7t\2\2\u0236\u0237\7q\2\2\u0237\u0238\7v\2\2\u0238\u0239\7g\2\2"+
-		"\u0239\u023a\7e\2\2\u023a\u023b\7v\2\2\u023b\u023c\7g\2\2\u023c\u023d"+
-		"\7f\2\2\u023d\u0094\3\2\2\2\u023e\u023f\7h\2\2\u023f\u0240\7q\2\2\u0240"+
-		"\u0241\7t\2\2\u0241\u0096\3\2\2\2\u0242\u0243\7t\2\2\u0243\u0244\7g\2"+
-		"\2\u0244\u0245\7v\2\2\u0245\u0246\7w\2\2\u0246\u0247\7t\2\2\u0247\u0248"+
-		"\7p\2\2\u0248\u0098\3\2\2\2\u0249\u024a\7x\2\2\u024a\u024b\7q\2\2\u024b"+
-		"\u024c\7n\2\2\u024c\u024d\7c\2\2\u024d\u024e\7v\2\2\u024e\u024f\7k\2\2"+
-		"\u024f\u0250\7n\2\2\u0250\u0251\7g\2\2\u0251\u009a\3\2\2\2\u0252\u0253"+
-		"\7=\2\2\u0253\u009c\3\2\2\2\u0254\u0255\7(\2\2\u0255\u0256\7(\2\2\u0256"+
-		"\u009e\3\2\2\2\u0257\u0258\7v\2\2\u0258\u0259\7j\2\2\u0259\u025a\7k\2"+
-		"\2\u025a\u025b\7u\2\2\u025b\u00a0\3\2\2\2\u025c\u025d\7~\2\2\u025d\u025e"+
-		"\7~\2\2\u025e\u00a2\3\2\2\2\u025f\u0260\7@\2\2\u0260\u00a4\3\2\2\2\u0261"+
-		"\u0262\7k\2\2\u0262\u0263\7o\2\2\u0263\u0264\7r\2\2\u0264\u0265\7n\2\2"+
-		"\u0265\u0266\7g\2\2\u0266\u0267\7o\2\2\u0267\u0268\7g\2\2\u0268\u0269"+
-		"\7p\2\2\u0269\u026a\7v\2\2\u026a\u026b\7u\2\2\u026b\u00a6\3\2\2\2\u026c"+
-		"\u026d\7\'\2\2\u026d\u026e\7?\2\2\u026e\u00a8\3\2\2\2\u026f\u0270\7u\2"+
-		"\2\u0270\u0271\7y\2\2\u0271\u0272\7k\2\2\u0272\u0273\7v\2\2\u0273\u0274"+
-		"\7e\2\2\u0274\u0275\7j\2\2\u0275\u00aa\3\2\2\2\u0276\u0277\7\61\2\2\u0277"+
-		"\u0278\7?\2\2\u0278\u00ac\3\2\2\2\u0279\u027a\7\61\2\2\u027a\u00ae\3\2"+
-		"\2\2\u027b\u027c\7?\2\2\u027c\u027d\7?\2\2\u027d\u00b0\3\2\2\2\u027e\u027f"+
-		"\7\u0080\2\2\u027f\u00b2\3\2\2\2\u0280\u0281\7k\2\2\u0281\u0282\7p\2\2"+
-		"\u0282\u0283\7u\2\2\u0283\u0284\7v\2\2\u0284\u0285\7c\2\2\u0285\u0286"+
-		"\7p\2\2\u0286\u0287\7e\2\2\u0287\u0288\7g\2\2\u0288\u0289\7q\2\2\u0289"+
-		"\u028a\7h\2\2\u028a\u00b4\3\2\2\2\u028b\u028c\7\62\2\2\u028c\u028e\t\2"+
-		"\2\2\u028d\u028f\5\u00bb^\2\u028e\u028d\3\2\2\2\u028f\u0290\3\2\2\2\u0290"+
-		"\u028e\3\2\2\2\u0290\u0291\3\2\2\2\u0291\u0293\3\2\2\2\u0292\u0294\5\u00bd"+
-		"_\2\u0293\u0292\3\2\2\2\u0293\u0294\3\2\2\2\u0294\u00b6\3\2\2\2\u0295"+
-		"\u029e\7\62\2\2\u0296\u029a\4\63;\2\u0297\u0299\4\62;\2\u0298\u0297\3"+
-		"\2\2\2\u0299\u029c\3\2\2\2\u029a\u0298\3\2\2\2\u029a\u029b\3\2\2\2\u029b"+
-		"\u029e\3\2\2\2\u029c\u029a\3\2\2\2\u029d\u0295\3\2\2\2\u029d\u0296\3\2"+
-		"\2\2\u029e\u02a0\3\2\2\2\u029f\u02a1\5\u00bd_\2\u02a0\u029f\3\2\2\2\u02a0"+
-		"\u02a1\3\2\2\2\u02a1\u00b8\3\2\2\2\u02a2\u02a4\7\62\2\2\u02a3\u02a5\4"+
-		"\629\2\u02a4\u02a3\3\2\2\2\u02a5\u02a6\3\2\2\2\u02a6\u02a4\3\2\2\2\u02a6"+
-		"\u02a7\3\2\2\2\u02a7\u02a9\3\2\2\2\u02a8\u02aa\5\u00bd_\2\u02a9\u02a8"+
-		"\3\2\2\2\u02a9\u02aa\3\2\2\2\u02aa\u00ba\3\2\2\2\u02ab\u02ac\t\3\2\2\u02ac"+
-		"\u00bc\3\2\2\2\u02ad\u02ae\t\4\2\2\u02ae\u00be\3\2\2\2\u02af\u02b1\4\62"+
-		";\2\u02b0\u02af\3\2\2\2\u02b1\u02b2\3\2\2\2\u02b2\u02b0\3\2\2\2\u02b2"+
-		"\u02b3\3\2\2\2\u02b3\u02b4\3\2\2\2\u02b4\u02b8\7\60\2\2\u02b5\u02b7\4"+
-		"\62;\2\u02b6\u02b5\3\2\2\2\u02b7\u02ba\3\2\2\2\u02b8\u02b6\3\2\2\2\u02b8"+
-		"\u02b9\3\2\2\2\u02b9\u02bc\3\2\2\2\u02ba\u02b8\3\2\2\2\u02bb\u02bd\5\u00c1"+
-		"a\2\u02bc\u02bb\3\2\2\2\u02bc\u02bd\3\2\2\2\u02bd\u02bf\3\2\2\2\u02be"+
-		"\u02c0\5\u00c3b\2\u02bf\u02be\3\2\2\2\u02bf\u02c0\3\2\2\2\u02c0\u02fe"+
-		"\3\2\2\2\u02c1\u02c3\7\60\2\2\u02c2\u02c4\4\62;\2\u02c3\u02c2\3\2\2\2"+
-		"\u02c4\u02c5\3\2\2\2\u02c5\u02c3\3\2\2\2\u02c5\u02c6\3\2\2\2\u02c6\u02c8"+
-		"\3\2\2\2\u02c7\u02c9\5\u00c1a\2\u02c8\u02c7\3\2\2\2\u02c8\u02c9\3\2\2"+
-		"\2\u02c9\u02cb\3\2\2\2\u02ca\u02cc\5\u00c3b\2\u02cb\u02ca\3\2\2\2\u02cb"+
-		"\u02cc\3\2\2\2\u02cc\u02fe\3\2\2\2\u02cd\u02cf\4\62;\2\u02ce\u02cd\3\2"+
-		"\2\2\u02cf\u02d0\3\2\2\2\u02d0\u02ce\3\2\2\2\u02d0\u02d1\3\2\2\2\u02d1"+
-		"\u02d2\3\2\2\2\u02d2\u02d4\5\u00c1a\2\u02d3\u02d5\5\u00c3b\2\u02d4\u02d3"+
-		"\3\2\2\2\u02d4\u02d5\3\2\2\2\u02d5\u02fe\3\2\2\2\u02d6\u02d8\4\62;\2\u02d7"+
-		"\u02d6\3\2\2\2\u02d8\u02d9\3\2\2\2\u02d9\u02d7\3\2\2\2\u02d9\u02da\3\2"+
-		"\2\2\u02da\u02db\3\2\2\2\u02db\u02fe\5\u00c3b\2\u02dc\u02dd\7\62\2\2\u02dd"+
-		"\u02e1\7z\2\2\u02de\u02df\7\62\2\2\u02df\u02e1\7Z\2\2\u02e0\u02dc\3\2"+
-		"\2\2\u02e0\u02de\3\2\2\2\u02e1\u02e5\3\2\2\2\u02e2\u02e4\5\u00bb^\2\u02e3"+
-		"\u02e2\3\2\2\2\u02e4\u02e7\3\2\2\2\u02e5\u02e3\3\2\2\2\u02e5\u02e6\3\2"+
-		"\2\2\u02e6\u02ef\3\2\2\2\u02e7\u02e5\3\2\2\2\u02e8\u02ec\7\60\2\2\u02e9"+
-		"\u02eb\5\u00bb^\2\u02ea\u02e9\3\2\2\2\u02eb\u02ee\3\2\2\2\u02ec\u02ea"+
-		"\3\2\2\2\u02ec\u02ed\3\2\2\2\u02ed\u02f0\3\2\2\2\u02ee\u02ec\3\2\2\2\u02ef"+
-		"\u02e8\3\2\2\2\u02ef\u02f0\3\2\2\2\u02f0\u02f1\3\2\2\2\u02f1\u02f3\t\5"+
-		"\2\2\u02f2\u02f4\t\6\2\2\u02f3\u02f2\3\2\2\2\u02f3\u02f4\3\2\2\2\u02f4"+
-		"\u02f6\3\2\2\2\u02f5\u02f7\4\62;\2\u02f6\u02f5\3\2\2\2\u02f7\u02f8\3\2"+
-		"\2\2\u02f8\u02f6\3\2\2\2\u02f8\u02f9\3\2\2\2\u02f9\u02fb\3\2\2\2\u02fa"+
-		"\u02fc\5\u00c3b\2\u02fb\u02fa\3\2\2\2\u02fb\u02fc\3\2\2\2\u02fc\u02fe"+
-		"\3\2\2\2\u02fd\u02b0\3\2\2\2\u02fd\u02c1\3\2\2\2\u02fd\u02ce\3\2\2\2\u02fd"+
-		"\u02d7\3\2\2\2\u02fd\u02e0\3\2\2\2\u02fe\u00c0\3\2\2\2\u02ff\u0301\t\7"+
-		"\2\2\u0300\u0302\t\b\2\2\u0301\u0300\3\2\2\2\u0301\u0302\3\2\2\2\u0302"+
-		"\u0304\3\2\2\2\u0303\u0305\4\62;\2\u0304\u0303\3\2\2\2\u0305\u0306\3\2"+
-		"\2\2\u0306\u0304\3\2\2\2\u0306\u0307\3\2\2\2\u0307\u00c2\3\2\2\2\u0308"+
-		"\u0309\t\t\2\2\u0309\u00c4\3\2\2\2\u030a\u030d\7)\2\2\u030b\u030e\5\u00c9"+
-		"e\2\u030c\u030e\n\n\2\2\u030d\u030b\3\2\2\2\u030d\u030c\3\2\2\2\u030e"+
-		"\u030f\3\2\2\2\u030f\u0310\7)\2\2\u0310\u00c6\3\2\2\2\u0311\u0316\7$\2"+
-		"\2\u0312\u0315\5\u00c9e\2\u0313\u0315\n\13\2\2\u0314\u0312\3\2\2\2\u0314"+
-		"\u0313\3\2\2\2\u0315\u0318\3\2\2\2\u0316\u0314\3\2\2\2\u0316\u0317\3\2"+
-		"\2\2\u0317\u0319\3\2\2\2\u0318\u0316\3\2\2\2\u0319\u031a\7$\2\2\u031a"+
-		"\u00c8\3\2\2\2\u031b\u031c\7^\2\2\u031c\u0320\t\f\2\2\u031d\u0320\5\u00cd"+
-		"g\2\u031e\u0320\5\u00cbf\2\u031f\u031b\3\2\2\2\u031f\u031d\3\2\2\2\u031f"+
-		"\u031e\3\2\2\2\u0320\u00ca\3\2\2\2\u0321\u0322\7^\2\2\u0322\u0323\4\62"+
-		"\65\2\u0323\u0324\4\629\2\u0324\u032b\4\629\2\u0325\u0326\7^\2\2\u0326"+
-		"\u0327\4\629\2\u0327\u032b\4\629\2\u0328\u0329\7^\2\2\u0329\u032b\4\62"+
-		"9\2\u032a\u0321\3\2\2\2\u032a\u0325\3\2\2\2\u032a\u0328\3\2\2\2\u032b"+
-		"\u00cc\3\2\2\2\u032c\u032d\7^\2\2\u032d\u032e\7w\2\2\u032e\u032f\5\u00bb"+
-		"^\2\u032f\u0330\5\u00bb^\2\u0330\u0331\5\u00bb^\2\u0331\u0332\5\u00bb"+
-		"^\2\u0332\u00ce\3\2\2\2\u0333\u0334\7g\2\2\u0334\u0335\7p\2\2\u0335\u0336"+
-		"\7w\2\2\u0336\u0337\7o\2\2\u0337\u0338\3\2\2\2\u0338\u0339\bh\2\2\u0339"+
-		"\u00d0\3\2\2\2\u033a\u033b\7c\2\2\u033b\u033c\7u\2\2\u033c\u033d\7u\2"+
-		"\2\u033d\u033e\7g\2\2\u033e\u033f\7t\2\2\u033f\u0340\7v\2\2\u0340\u0341"+
-		"\3\2\2\2\u0341\u0342\bi\3\2\u0342\u00d2\3\2\2\2\u0343\u0348\5\u00d5k\2"+
-		"\u0344\u0347\5\u00d5k\2\u0345\u0347\5\u00d7l\2\u0346\u0344\3\2\2\2\u0346"+
-		"\u0345\3\2\2\2\u0347\u034a\3\2\2\2\u0348\u0346\3\2\2\2\u0348\u0349\3\2"+
-		"\2\2\u0349\u00d4\3\2\2\2\u034a\u0348\3\2\2\2\u034b\u034c\t\r\2\2\u034c"+
-		"\u00d6\3\2\2\2\u034d\u034e\t\16\2\2\u034e\u00d8\3\2\2\2\u034f\u0351\t"+
-		"\17\2\2\u0350\u034f\3\2\2\2\u0351\u0352\3\2\2\2\u0352\u0350\3\2\2\2\u0352"+
-		"\u0353\3\2\2\2\u0353\u0354\3\2\2\2\u0354\u0355\bm\4\2\u0355\u00da\3\2"+
-		"\2\2\u0356\u0357\7\61\2\2\u0357\u0358\7,\2\2\u0358\u035c\3\2\2\2\u0359"+
-		"\u035b\13\2\2\2\u035a\u0359\3\2\2\2\u035b\u035e\3\2\2\2\u035c\u035d\3"+
-		"\2\2\2\u035c\u035a\3\2\2\2\u035d\u035f\3\2\2\2\u035e\u035c\3\2\2\2\u035f"+
-		"\u0360\7,\2\2\u0360\u0361\7\61\2\2\u0361\u0362\3\2\2\2\u0362\u0363\bn"+
-		"\5\2\u0363\u00dc\3\2\2\2\u0364\u0365\7\61\2\2\u0365\u0366\7\61\2\2\u0366"+
-		"\u036a\3\2\2\2\u0367\u0369\n\20\2\2\u0368\u0367\3\2\2\2\u0369\u036c\3"+
-		"\2\2\2\u036a\u0368\3\2\2\2\u036a\u036b\3\2\2\2\u036b\u0372\3\2\2\2\u036c"+
-		"\u036a\3\2\2\2\u036d\u036f\7\17\2\2\u036e\u036d\3\2\2\2\u036e\u036f\3"+
-		"\2\2\2\u036f\u0370\3\2\2\2\u0370\u0373\7\f\2\2\u0371\u0373\7\1\2\2\u0372"+
-		"\u036e\3\2\2\2\u0372\u0371\3\2\2\2\u0373\u0374\3\2\2\2\u0374\u0375\bo"+
-		"\6\2\u0375\u00de\3\2\2\2*\2\u0290\u0293\u029a\u029d\u02a0\u02a6\u02a9"+
-		"\u02b2\u02b8\u02bc\u02bf\u02c5\u02c8\u02cb\u02d0\u02d4\u02d9\u02e0\u02e5"+
-		"\u02ec\u02ef\u02f3\u02f8\u02fb\u02fd\u0301\u0306\u030d\u0314\u0316\u031f"+
-		"\u032a\u0346\u0348\u0352\u035c\u036a\u036e\u0372";
+		"\3\2\3\2\3\3\3\3\3\3\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\5\3\5\3\5\3\6\3"+
+		"\6\3\6\3\6\3\6\3\6\3\6\3\6\3\7\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b\3\b\3\b"+
+		"\3\b\3\b\3\b\3\b\3\t\3\t\3\t\3\t\3\n\3\n\3\n\3\13\3\13\3\13\3\13\3\13"+
+		"\3\13\3\f\3\f\3\f\3\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3\16\3\16\3\17\3\17"+
+		"\3\17\3\20\3\20\3\20\3\21\3\21\3\21\3\21\3\21\3\22\3\22\3\23\3\23\3\24"+
+		"\3\24\3\24\3\24\3\25\3\25\3\25\3\26\3\26\3\26\3\26\3\27\3\27\3\27\3\27"+
+		"\3\27\3\30\3\30\3\30\3\31\3\31\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32"+
+		"\3\33\3\33\3\33\3\34\3\34\3\35\3\35\3\35\3\36\3\36\3\36\3\36\3\36\3\36"+
+		"\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3 \3 \3 \3 \3 \3 \3 \3 \3 \3!\3!\3"+
+		"!\3!\3!\3!\3!\3!\3!\3!\3!\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3\"\3#\3#\3"+
+		"#\3#\3#\3#\3#\3#\3$\3$\3$\3$\3$\3%\3%\3%\3&\3&\3\'\3\'\3(\3(\3)\3)\3)"+
+		"\3)\3)\3)\3)\3)\3)\3)\3*\3*\3+\3+\3+\3+\3+\3+\3+\3,\3,\3,\3,\3,\3,\3,"+
+		"\3,\3,\3,\3-\3-\3-\3-\3-\3-\3.\3.\3/\3/\3/\3\60\3\60\3\61\3\61\3\61\3"+
+		"\61\3\61\3\61\3\61\3\61\3\61\3\62\3\62\3\62\3\62\3\62\3\62\3\62\3\62\3"+
+		"\62\3\63\3\63\3\63\3\63\3\63\3\63\3\64\3\64\3\64\3\64\3\64\3\64\3\64\3"+
+		"\65\3\65\3\65\3\66\3\66\3\66\3\66\3\66\3\66\3\66\3\67\3\67\3\67\3\67\3"+
+		"\67\38\38\38\38\38\38\39\39\39\3:\3:\3;\3;\3;\3;\3;\3;\3;\3;\3;\3;\3;"+
+		"\3<\3<\3=\3=\3=\3=\3=\3=\3=\3=\3>\3>\3>\3?\3?\3?\3?\3@\3@\3A\3A\3A\3A"+
+		"\3A\3A\3B\3B\3B\3B\3B\3B\3C\3C\3C\3C\3C\3C\3C\3D\3D\3D\3D\3D\3D\3D\3D"+
+		"\3D\3D\3D\3D\3D\3E\3E\3F\3F\3F\3F\3F\3F\3F\3G\3G\3H\3H\3H\3H\3H\3I\3I"+
+		"\3J\3J\3J\3J\3J\3K\3K\3K\3K\3K\3K\3L\3L\3L\3L\3M\3M\3N\3N\3O\3O\3P\3P"+
+		"\3P\3Q\3Q\3Q\3R\3R\3R\3R\3R\3R\3R\3S\3S\3T\3T\3U\3U\3V\3V\3V\3V\3V\3W"+
+		"\3W\3W\3W\3W\3W\3X\3X\3Y\3Y\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3[\3[\3[\6[\u028f\n["+
+		"\r[\16[\u0290\3[\5[\u0294\n[\3\\\3\\\3\\\7\\\u0299\n\\\f\\\16\\\u029c"+
+		"\13\\\5\\\u029e\n\\\3\\\5\\\u02a1\n\\\3]\3]\6]\u02a5\n]\r]\16]\u02a6\3"+
+		"]\5]\u02aa\n]\3^\3^\3_\3_\3`\6`\u02b1\n`\r`\16`\u02b2\3`\3`\7`\u02b7\n"+
+		"`\f`\16`\u02ba\13`\3`\5`\u02bd\n`\3`\5`\u02c0\n`\3`\3`\6`\u02c4\n`\r`"+
+		"\16`\u02c5\3`\5`\u02c9\n`\3`\5`\u02cc\n`\3`\6`\u02cf\n`\r`\16`\u02d0\3"+
+		"`\3`\5`\u02d5\n`\3`\6`\u02d8\n`\r`\16`\u02d9\3`\3`\3`\3`\3`\5`\u02e1\n"+
+		"`\3`\7`\u02e4\n`\f`\16`\u02e7\13`\3`\3`\7`\u02eb\n`\f`\16`\u02ee\13`\5"+
+		"`\u02f0\n`\3`\3`\5`\u02f4\n`\3`\6`\u02f7\n`\r`\16`\u02f8\3`\5`\u02fc\n"+
+		"`\5`\u02fe\n`\3a\3a\5a\u0302\na\3a\6a\u0305\na\ra\16a\u0306\3b\3b\3c\3"+
+		"c\3c\5c\u030e\nc\3c\3c\3d\3d\3d\7d\u0315\nd\fd\16d\u0318\13d\3d\3d\3e"+
+		"\3e\3e\3e\5e\u0320\ne\3f\3f\3f\3f\3f\3f\3f\3f\3f\5f\u032b\nf\3g\3g\3g"+
+		"\3g\3g\3g\3g\3h\3h\3h\3h\3h\3h\3h\3i\3i\3i\3i\3i\3i\3i\3i\3i\3j\3j\3j"+
+		"\7j\u0347\nj\fj\16j\u034a\13j\3k\3k\3l\3l\3m\6m\u0351\nm\rm\16m\u0352"+
+		"\3m\3m\3n\3n\3n\3n\7n\u035b\nn\fn\16n\u035e\13n\3n\3n\3n\3n\3n\3o\3o\3"+
+		"o\3o\7o\u0369\no\fo\16o\u036c\13o\3o\5o\u036f\no\3o\3o\5o\u0373\no\3o"+
+		"\3o\3\u035cp\3\3\1\5\4\1\7\5\1\t\6\1\13\7\1\r\b\1\17\t\1\21\n\1\23\13"+
+		"\1\25\f\1\27\r\1\31\16\1\33\17\1\35\20\1\37\21\1!\22\1#\23\1%\24\1\'\25"+
+		"\1)\26\1+\27\1-\30\1/\31\1\61\32\1\63\33\1\65\34\1\67\35\19\36\1;\37\1"+
+		"= \1?!\1A\"\1C#\1E$\1G%\1I&\1K\'\1M(\1O)\1Q*\1S+\1U,\1W-\1Y.\1[/\1]\60"+
+		"\1_\61\1a\62\1c\63\1e\64\1g\65\1i\66\1k\67\1m8\1o9\1q:\1s;\1u<\1w=\1y"+
+		">\1{?\1}@\1\177A\1\u0081B\1\u0083C\1\u0085D\1\u0087E\1\u0089F\1\u008b"+
+		"G\1\u008dH\1\u008fI\1\u0091J\1\u0093K\1\u0095L\1\u0097M\1\u0099N\1\u009b"+
+		"O\1\u009dP\1\u009fQ\1\u00a1R\1\u00a3S\1\u00a5T\1\u00a7U\1\u00a9V\1\u00ab"+
+		"W\1\u00adX\1\u00afY\1\u00b1Z\1\u00b3[\1\u00b5\\\1\u00b7]\1\u00b9^\1\u00bb"+
+		"\2\1\u00bd\2\1\u00bf_\1\u00c1\2\1\u00c3\2\1\u00c5`\1\u00c7a\1\u00c9\2"+
+		"\1\u00cb\2\1\u00cd\2\1\u00cfb\2\u00d1c\3\u00d3d\1\u00d5\2\1\u00d7\2\1"+
+		"\u00d9e\4\u00dbf\5\u00ddg\6\3\2\21\4ZZzz\5\62;CHch\4NNnn\4RRrr\4--//\4"+
+		"GGgg\4--//\6FFHHffhh\4))^^\4$$^^\n$$))^^ddhhppttvv\16&&C\\aac|\u00c2\u00d8"+
+		"\u00da\u00f8\u00fa\u2001\u3042\u3191\u3302\u3381\u3402\u3d2f\u4e02\ua001"+
+		"\uf902\ufb01\21\62;\u0662\u066b\u06f2\u06fb\u0968\u0971\u09e8\u09f1\u0a68"+
+		"\u0a71\u0ae8\u0af1\u0b68\u0b71\u0be9\u0bf1\u0c68\u0c71\u0ce8\u0cf1\u0d68"+
+		"\u0d71\u0e52\u0e5b\u0ed2\u0edb\u1042\u104b\5\13\f\16\17\"\"\4\f\f\17\17"+
+		"\u0398\2\3\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2"+
+		"\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27\3"+
+		"\2\2\2\2\31\3\2\2\2\2\33\3\2\2\2\2\35\3\2\2\2\2\37\3\2\2\2\2!\3\2\2\2"+
+		"\2#\3\2\2\2\2%\3\2\2\2\2\'\3\2\2\2\2)\3\2\2\2\2+\3\2\2\2\2-\3\2\2\2\2"+
+		"/\3\2\2\2\2\61\3\2\2\2\2\63\3\2\2\2\2\65\3\2\2\2\2\67\3\2\2\2\29\3\2\2"+
+		"\2\2;\3\2\2\2\2=\3\2\2\2\2?\3\2\2\2\2A\3\2\2\2\2C\3\2\2\2\2E\3\2\2\2\2"+
+		"G\3\2\2\2\2I\3\2\2\2\2K\3\2\2\2\2M\3\2\2\2\2O\3\2\2\2\2Q\3\2\2\2\2S\3"+
+		"\2\2\2\2U\3\2\2\2\2W\3\2\2\2\2Y\3\2\2\2\2[\3\2\2\2\2]\3\2\2\2\2_\3\2\2"+
+		"\2\2a\3\2\2\2\2c\3\2\2\2\2e\3\2\2\2\2g\3\2\2\2\2i\3\2\2\2\2k\3\2\2\2\2"+
+		"m\3\2\2\2\2o\3\2\2\2\2q\3\2\2\2\2s\3\2\2\2\2u\3\2\2\2\2w\3\2\2\2\2y\3"+
+		"\2\2\2\2{\3\2\2\2\2}\3\2\2\2\2\177\3\2\2\2\2\u0081\3\2\2\2\2\u0083\3\2"+
+		"\2\2\2\u0085\3\2\2\2\2\u0087\3\2\2\2\2\u0089\3\2\2\2\2\u008b\3\2\2\2\2"+
+		"\u008d\3\2\2\2\2\u008f\3\2\2\2\2\u0091\3\2\2\2\2\u0093\3\2\2\2\2\u0095"+
+		"\3\2\2\2\2\u0097\3\2\2\2\2\u0099\3\2\2\2\2\u009b\3\2\2\2\2\u009d\3\2\2"+
+		"\2\2\u009f\3\2\2\2\2\u00a1\3\2\2\2\2\u00a3\3\2\2\2\2\u00a5\3\2\2\2\2\u00a7"+
+		"\3\2\2\2\2\u00a9\3\2\2\2\2\u00ab\3\2\2\2\2\u00ad\3\2\2\2\2\u00af\3\2\2"+
+		"\2\2\u00b1\3\2\2\2\2\u00b3\3\2\2\2\2\u00b5\3\2\2\2\2\u00b7\3\2\2\2\2\u00b9"+
+		"\3\2\2\2\2\u00bf\3\2\2\2\2\u00c5\3\2\2\2\2\u00c7\3\2\2\2\2\u00cf\3\2\2"+
+		"\2\2\u00d1\3\2\2\2\2\u00d3\3\2\2\2\2\u00d9\3\2\2\2\2\u00db\3\2\2\2\2\u00dd"+
+		"\3\2\2\2\3\u00df\3\2\2\2\5\u00e7\3\2\2\2\7\u00ea\3\2\2\2\t\u00f2\3\2\2"+
+		"\2\13\u00f5\3\2\2\2\r\u00fd\3\2\2\2\17\u0102\3\2\2\2\21\u010c\3\2\2\2"+
+		"\23\u0110\3\2\2\2\25\u0113\3\2\2\2\27\u0119\3\2\2\2\31\u011f\3\2\2\2\33"+
+		"\u0124\3\2\2\2\35\u0126\3\2\2\2\37\u0129\3\2\2\2!\u012c\3\2\2\2#\u0131"+
+		"\3\2\2\2%\u0133\3\2\2\2\'\u0135\3\2\2\2)\u0139\3\2\2\2+\u013c\3\2\2\2"+
+		"-\u0140\3\2\2\2/\u0145\3\2\2\2\61\u0148\3\2\2\2\63\u014a\3\2\2\2\65\u0152"+
+		"\3\2\2\2\67\u0155\3\2\2\29\u0157\3\2\2\2;\u015a\3\2\2\2=\u0160\3\2\2\2"+
+		"?\u0167\3\2\2\2A\u0170\3\2\2\2C\u017b\3\2\2\2E\u0184\3\2\2\2G\u018c\3"+
+		"\2\2\2I\u0191\3\2\2\2K\u0194\3\2\2\2M\u0196\3\2\2\2O\u0198\3\2\2\2Q\u019a"+
+		"\3\2\2\2S\u01a4\3\2\2\2U\u01a6\3\2\2\2W\u01ad\3\2\2\2Y\u01b7\3\2\2\2["+
+		"\u01bd\3\2\2\2]\u01bf\3\2\2\2_\u01c2\3\2\2\2a\u01c4\3\2\2\2c\u01cd\3\2"+
+		"\2\2e\u01d6\3\2\2\2g\u01dc\3\2\2\2i\u01e3\3\2\2\2k\u01e6\3\2\2\2m\u01ed"+
+		"\3\2\2\2o\u01f2\3\2\2\2q\u01f8\3\2\2\2s\u01fb\3\2\2\2u\u01fd\3\2\2\2w"+
+		"\u0208\3\2\2\2y\u020a\3\2\2\2{\u0212\3\2\2\2}\u0215\3\2\2\2\177\u0219"+
+		"\3\2\2\2\u0081\u021b\3\2\2\2\u0083\u0221\3\2\2\2\u0085\u0227\3\2\2\2\u0087"+
+		"\u022e\3\2\2\2\u0089\u023b\3\2\2\2\u008b\u023d\3\2\2\2\u008d\u0244\3\2"+
+		"\2\2\u008f\u0246\3\2\2\2\u0091\u024b\3\2\2\2\u0093\u024d\3\2\2\2\u0095"+
+		"\u0252\3\2\2\2\u0097\u0258\3\2\2\2\u0099\u025c\3\2\2\2\u009b\u025e\3\2"+
+		"\2\2\u009d\u0260\3\2\2\2\u009f\u0262\3\2\2\2\u00a1\u0265\3\2\2\2\u00a3"+
+		"\u0268\3\2\2\2\u00a5\u026f\3\2\2\2\u00a7\u0271\3\2\2\2\u00a9\u0273\3\2"+
+		"\2\2\u00ab\u0275\3\2\2\2\u00ad\u027a\3\2\2\2\u00af\u0280\3\2\2\2\u00b1"+
+		"\u0282\3\2\2\2\u00b3\u0284\3\2\2\2\u00b5\u028b\3\2\2\2\u00b7\u029d\3\2"+
+		"\2\2\u00b9\u02a2\3\2\2\2\u00bb\u02ab\3\2\2\2\u00bd\u02ad\3\2\2\2\u00bf"+
+		"\u02fd\3\2\2\2\u00c1\u02ff\3\2\2\2\u00c3\u0308\3\2\2\2\u00c5\u030a\3\2"+
+		"\2\2\u00c7\u0311\3\2\2\2\u00c9\u031f\3\2\2\2\u00cb\u032a\3\2\2\2\u00cd"+
+		"\u032c\3\2\2\2\u00cf\u0333\3\2\2\2\u00d1\u033a\3\2\2\2\u00d3\u0343\3\2"+
+		"\2\2\u00d5\u034b\3\2\2\2\u00d7\u034d\3\2\2\2\u00d9\u0350\3\2\2\2\u00db"+
+		"\u0356\3\2\2\2\u00dd\u0364\3\2\2\2\u00df\u00e0\7f\2\2\u00e0\u00e1\7g\2"+
+		"\2\u00e1\u00e2\7h\2\2\u00e2\u00e3\7c\2\2\u00e3\u00e4\7w\2\2\u00e4\u00e5"+
+		"\7n\2\2\u00e5\u00e6\7v\2\2\u00e6\4\3\2\2\2\u00e7\u00e8\7-\2\2\u00e8\u00e9"+
+		"\7?\2\2\u00e9\6\3\2\2\2\u00ea\u00eb\7r\2\2\u00eb\u00ec\7t\2\2\u00ec\u00ed"+
+		"\7k\2\2\u00ed\u00ee\7x\2\2\u00ee\u00ef\7c\2\2\u00ef\u00f0\7v\2\2\u00f0"+
+		"\u00f1\7g\2\2\u00f1\b\3\2\2\2\u00f2\u00f3\7\'\2\2\u00f3\u00f4\7?\2\2\u00f4"+
+		"\n\3\2\2\2\u00f5\u00f6\7h\2\2\u00f6\u00f7\7k\2\2\u00f7\u00f8\7p\2\2\u00f8"+
+		"\u00f9\7c\2\2\u00f9\u00fa\7n\2\2\u00fa\u00fb\7n\2\2\u00fb\u00fc\7{\2\2"+
+		"\u00fc\f\3\2\2\2\u00fd\u00fe\7e\2\2\u00fe\u00ff\7j\2\2\u00ff\u0100\7c"+
+		"\2\2\u0100\u0101\7t\2\2\u0101\16\3\2\2\2\u0102\u0103\7k\2\2\u0103\u0104"+
+		"\7p\2\2\u0104\u0105\7v\2\2\u0105\u0106\7g\2\2\u0106\u0107\7t\2\2\u0107"+
+		"\u0108\7h\2\2\u0108\u0109\7c\2\2\u0109\u010a\7e\2\2\u010a\u010b\7g\2\2"+
+		"\u010b\20\3\2\2\2\u010c\u010d\7p\2\2\u010d\u010e\7g\2\2\u010e\u010f\7"+
+		"y\2\2\u010f\22\3\2\2\2\u0110\u0111\7#\2\2\u0111\u0112\7?\2\2\u0112\24"+
+		"\3\2\2\2\u0113\u0114\7h\2\2\u0114\u0115\7n\2\2\u0115\u0116\7q\2\2\u0116"+
+		"\u0117\7c\2\2\u0117\u0118\7v\2\2\u0118\26\3\2\2\2\u0119\u011a\7y\2\2\u011a"+
+		"\u011b\7j\2\2\u011b\u011c\7k\2\2\u011c\u011d\7n\2\2\u011d\u011e\7g\2\2"+
+		"\u011e\30\3\2\2\2\u011f\u0120\7x\2\2\u0120\u0121\7q\2\2\u0121\u0122\7"+
+		"k\2\2\u0122\u0123\7f\2\2\u0123\32\3\2\2\2\u0124\u0125\7}\2\2\u0125\34"+
+		"\3\2\2\2\u0126\u0127\7`\2\2\u0127\u0128\7?\2\2\u0128\36\3\2\2\2\u0129"+
+		"\u012a\7(\2\2\u012a\u012b\7(\2\2\u012b \3\2\2\2\u012c\u012d\7d\2\2\u012d"+
+		"\u012e\7{\2\2\u012e\u012f\7v\2\2\u012f\u0130\7g\2\2\u0130\"\3\2\2\2\u0131"+
+		"\u0132\7?\2\2\u0132$\3\2\2\2\u0133\u0134\7`\2\2\u0134&\3\2\2\2\u0135\u0136"+
+		"\7h\2\2\u0136\u0137\7q\2\2\u0137\u0138\7t\2\2\u0138(\3\2\2\2\u0139\u013a"+
+		"\7~\2\2\u013a\u013b\7?\2\2\u013b*\3\2\2\2\u013c\u013d\7k\2\2\u013d\u013e"+
+		"\7p\2\2\u013e\u013f\7v\2\2\u013f,\3\2\2\2\u0140\u0141\7p\2\2\u0141\u0142"+
+		"\7w\2\2\u0142\u0143\7n\2\2\u0143\u0144\7n\2\2\u0144.\3\2\2\2\u0145\u0146"+
+		"\7f\2\2\u0146\u0147\7q\2\2\u0147\60\3\2\2\2\u0148\u0149\7*\2\2\u0149\62"+
+		"\3\2\2\2\u014a\u014b\7r\2\2\u014b\u014c\7c\2\2\u014c\u014d\7e\2\2\u014d"+
+		"\u014e\7m\2\2\u014e\u014f\7c\2\2\u014f\u0150\7i\2\2\u0150\u0151\7g\2\2"+
+		"\u0151\64\3\2\2\2\u0152\u0153\7/\2\2\u0153\u0154\7?\2\2\u0154\66\3\2\2"+
+		"\2\u0155\u0156\7.\2\2\u01568\3\2\2\2\u0157\u0158\7\61\2\2\u0158\u0159"+
+		"\7?\2\2\u0159:\3\2\2\2\u015a\u015b\7h\2\2\u015b\u015c\7c\2\2\u015c\u015d"+
+		"\7n\2\2\u015d\u015e\7u\2\2\u015e\u015f\7g\2\2\u015f<\3\2\2\2\u0160\u0161"+
+		"\7v\2\2\u0161\u0162\7j\2\2\u0162\u0163\7t\2\2\u0163\u0164\7q\2\2\u0164"+
+		"\u0165\7y\2\2\u0165\u0166\7u\2\2\u0166>\3\2\2\2\u0167\u0168\7x\2\2\u0168"+
+		"\u0169\7q\2\2\u0169\u016a\7n\2\2\u016a\u016b\7c\2\2\u016b\u016c\7v\2\2"+
+		"\u016c\u016d\7k\2\2\u016d\u016e\7n\2\2\u016e\u016f\7g\2\2\u016f@\3\2\2"+
+		"\2\u0170\u0171\7k\2\2\u0171\u0172\7o\2\2\u0172\u0173\7r\2\2\u0173\u0174"+
+		"\7n\2\2\u0174\u0175\7g\2\2\u0175\u0176\7o\2\2\u0176\u0177\7g\2\2\u0177"+
+		"\u0178\7p\2\2\u0178\u0179\7v\2\2\u0179\u017a\7u\2\2\u017aB\3\2\2\2\u017b"+
+		"\u017c\7c\2\2\u017c\u017d\7d\2\2\u017d\u017e\7u\2\2\u017e\u017f\7v\2\2"+
+		"\u017f\u0180\7t\2\2\u0180\u0181\7c\2\2\u0181\u0182\7e\2\2\u0182\u0183"+
+		"\7v\2\2\u0183D\3\2\2\2\u0184\u0185\7d\2\2\u0185\u0186\7q\2\2\u0186\u0187"+
+		"\7q\2\2\u0187\u0188\7n\2\2\u0188\u0189\7g\2\2\u0189\u018a\7c\2\2\u018a"+
+		"\u018b\7p\2\2\u018bF\3\2\2\2\u018c\u018d\7n\2\2\u018d\u018e\7q\2\2\u018e"+
+		"\u018f\7p\2\2\u018f\u0190\7i\2\2\u0190H\3\2\2\2\u0191\u0192\7-\2\2\u0192"+
+		"\u0193\7-\2\2\u0193J\3\2\2\2\u0194\u0195\7>\2\2\u0195L\3\2\2\2\u0196\u0197"+
+		"\7_\2\2\u0197N\3\2\2\2\u0198\u0199\7\u0080\2\2\u0199P\3\2\2\2\u019a\u019b"+
+		"\7v\2\2\u019b\u019c\7t\2\2\u019c\u019d\7c\2\2\u019d\u019e\7p\2\2\u019e"+
+		"\u019f\7u\2\2\u019f\u01a0\7k\2\2\u01a0\u01a1\7g\2\2\u01a1\u01a2\7p\2\2"+
+		"\u01a2\u01a3\7v\2\2\u01a3R\3\2\2\2\u01a4\u01a5\7B\2\2\u01a5T\3\2\2\2\u01a6"+
+		"\u01a7\7u\2\2\u01a7\u01a8\7v\2\2\u01a8\u01a9\7c\2\2\u01a9\u01aa\7v\2\2"+
+		"\u01aa\u01ab\7k\2\2\u01ab\u01ac\7e\2\2\u01acV\3\2\2\2\u01ad\u01ae\7r\2"+
+		"\2\u01ae\u01af\7t\2\2\u01af\u01b0\7q\2\2\u01b0\u01b1\7v\2\2\u01b1\u01b2"+
+		"\7g\2\2\u01b2\u01b3\7e\2\2\u01b3\u01b4\7v\2\2\u01b4\u01b5\7g\2\2\u01b5"+
+		"\u01b6\7f\2\2\u01b6X\3\2\2\2\u01b7\u01b8\7h\2\2\u01b8\u01b9\7k\2\2\u01b9"+
+		"\u01ba\7p\2\2\u01ba\u01bb\7c\2\2\u01bb\u01bc\7n\2\2\u01bcZ\3\2\2\2\u01bd"+
+		"\u01be\7-\2\2\u01be\\\3\2\2\2\u01bf\u01c0\7,\2\2\u01c0\u01c1\7?\2\2\u01c1"+
+		"^\3\2\2\2\u01c2\u01c3\7\61\2\2\u01c3`\3\2\2\2\u01c4\u01c5\7u\2\2\u01c5"+
+		"\u01c6\7v\2\2\u01c6\u01c7\7t\2\2\u01c7\u01c8\7k\2\2\u01c8\u01c9\7e\2\2"+
+		"\u01c9\u01ca\7v\2\2\u01ca\u01cb\7h\2\2\u01cb\u01cc\7r\2\2\u01ccb\3\2\2"+
+		"\2\u01cd\u01ce\7e\2\2\u01ce\u01cf\7q\2\2\u01cf\u01d0\7p\2\2\u01d0\u01d1"+
+		"\7v\2\2\u01d1\u01d2\7k\2\2\u01d2\u01d3\7p\2\2\u01d3\u01d4\7w\2\2\u01d4"+
+		"\u01d5\7g\2\2\u01d5d\3\2\2\2\u01d6\u01d7\7e\2\2\u01d7\u01d8\7c\2\2\u01d8"+
+		"\u01d9\7v\2\2\u01d9\u01da\7e\2\2\u01da\u01db\7j\2\2\u01dbf\3\2\2\2\u01dc"+
+		"\u01dd\7p\2\2\u01dd\u01de\7c\2\2\u01de\u01df\7v\2\2\u01df\u01e0\7k\2\2"+
+		"\u01e0\u01e1\7x\2\2\u01e1\u01e2\7g\2\2\u01e2h\3\2\2\2\u01e3\u01e4\7(\2"+
+		"\2\u01e4\u01e5\7?\2\2\u01e5j\3\2\2\2\u01e6\u01e7\7t\2\2\u01e7\u01e8\7"+
+		"g\2\2\u01e8\u01e9\7v\2\2\u01e9\u01ea\7w\2\2\u01ea\u01eb\7t\2\2\u01eb\u01ec"+
+		"\7p\2\2\u01ecl\3\2\2\2\u01ed\u01ee\7v\2\2\u01ee\u01ef\7t\2\2\u01ef\u01f0"+
+		"\7w\2\2\u01f0\u01f1\7g\2\2\u01f1n\3\2\2\2\u01f2\u01f3\7e\2\2\u01f3\u01f4"+
+		"\7n\2\2\u01f4\u01f5\7c\2\2\u01f5\u01f6\7u\2\2\u01f6\u01f7\7u\2\2\u01f7"+
+		"p\3\2\2\2\u01f8\u01f9\7~\2\2\u01f9\u01fa\7~\2\2\u01far\3\2\2\2\u01fb\u01fc"+
+		"\7=\2\2\u01fct\3\2\2\2\u01fd\u01fe\7k\2\2\u01fe\u01ff\7p\2\2\u01ff\u0200"+
+		"\7u\2\2\u0200\u0201\7v\2\2\u0201\u0202\7c\2\2\u0202\u0203\7p\2\2\u0203"+
+		"\u0204\7e\2\2\u0204\u0205\7g\2\2\u0205\u0206\7q\2\2\u0206\u0207\7h\2\2"+
+		"\u0207v\3\2\2\2\u0208\u0209\7\177\2\2\u0209x\3\2\2\2\u020a\u020b\7g\2"+
+		"\2\u020b\u020c\7z\2\2\u020c\u020d\7v\2\2\u020d\u020e\7g\2\2\u020e\u020f"+
+		"\7p\2\2\u020f\u0210\7f\2\2\u0210\u0211\7u\2\2\u0211z\3\2\2\2\u0212\u0213"+
+		"\7k\2\2\u0213\u0214\7h\2\2\u0214|\3\2\2\2\u0215\u0216\7v\2\2\u0216\u0217"+
+		"\7t\2\2\u0217\u0218\7{\2\2\u0218~\3\2\2\2\u0219\u021a\7A\2\2\u021a\u0080"+
+		"\3\2\2\2\u021b\u021c\7d\2\2\u021c\u021d\7t\2\2\u021d\u021e\7g\2\2\u021e"+
+		"\u021f\7c\2\2\u021f\u0220\7m\2\2\u0220\u0082\3\2\2\2\u0221\u0222\7u\2"+
+		"\2\u0222\u0223\7j\2\2\u0223\u0224\7q\2\2\u0224\u0225\7t\2\2\u0225\u0226"+
+		"\7v\2\2\u0226\u0084\3\2\2\2\u0227\u0228\7f\2\2\u0228\u0229\7q\2\2\u0229"+
+		"\u022a\7w\2\2\u022a\u022b\7d\2\2\u022b\u022c\7n\2\2\u022c\u022d\7g\2\2"+
+		"\u022d\u0086\3\2\2\2\u022e\u022f\7u\2\2\u022f\u0230\7{\2\2\u0230\u0231"+
+		"\7p\2\2\u0231\u0232\7e\2\2\u0232\u0233\7j\2\2\u0233\u0234\7t\2\2\u0234"+
+		"\u0235\7q\2\2\u0235\u0236\7p\2\2\u0236\u0237\7k\2\2\u0237\u0238\7|\2\2"+
+		"\u0238\u0239\7g\2\2\u0239\u023a\7f\2\2\u023a\u0088\3\2\2\2\u023b\u023c"+
+		"\7(\2\2\u023c\u008a\3\2\2\2\u023d\u023e\7u\2\2\u023e\u023f\7y\2\2\u023f"+
+		"\u0240\7k\2\2\u0240\u0241\7v\2\2\u0241\u0242\7e\2\2\u0242\u0243\7j\2\2"+
+		"\u0243\u008c\3\2\2\2\u0244\u0245\7,\2\2\u0245\u008e\3\2\2\2\u0246\u0247"+
+		"\7v\2\2\u0247\u0248\7j\2\2\u0248\u0249\7k\2\2\u0249\u024a\7u\2\2\u024a"+
+		"\u0090\3\2\2\2\u024b\u024c\7\60\2\2\u024c\u0092\3\2\2\2\u024d\u024e\7"+
+		"e\2\2\u024e\u024f\7c\2\2\u024f\u0250\7u\2\2\u0250\u0251\7g\2\2\u0251\u0094"+
+		"\3\2\2\2\u0252\u0253\7v\2\2\u0253\u0254\7j\2\2\u0254\u0255\7t\2\2\u0255"+
+		"\u0256\7q\2\2\u0256\u0257\7y\2\2\u0257\u0096\3\2\2\2\u0258\u0259\7\60"+
+		"\2\2\u0259\u025a\7\60\2\2\u025a\u025b\7\60\2\2\u025b\u0098\3\2\2\2\u025c"+
+		"\u025d\7<\2\2\u025d\u009a\3\2\2\2\u025e\u025f\7]\2\2\u025f\u009c\3\2\2"+
+		"\2\u0260\u0261\7~\2\2\u0261\u009e\3\2\2\2\u0262\u0263\7?\2\2\u0263\u0264"+
+		"\7?\2\2\u0264\u00a0\3\2\2\2\u0265\u0266\7/\2\2\u0266\u0267\7/\2\2\u0267"+
+		"\u00a2\3\2\2\2\u0268\u0269\7r\2\2\u0269\u026a\7w\2\2\u026a\u026b\7d\2"+
+		"\2\u026b\u026c\7n\2\2\u026c\u026d\7k\2\2\u026d\u026e\7e\2\2\u026e\u00a4"+
+		"\3\2\2\2\u026f\u0270\7@\2\2\u0270\u00a6\3\2\2\2\u0271\u0272\7#\2\2\u0272"+
+		"\u00a8\3\2\2\2\u0273\u0274\7\'\2\2\u0274\u00aa\3\2\2\2\u0275\u0276\7g"+
+		"\2\2\u0276\u0277\7n\2\2\u0277\u0278\7u\2\2\u0278\u0279\7g\2\2\u0279\u00ac"+
+		"\3\2\2\2\u027a\u027b\7u\2\2\u027b\u027c\7w\2\2\u027c\u027d\7r\2\2\u027d"+
+		"\u027e\7g\2\2\u027e\u027f\7t\2\2\u027f\u00ae\3\2\2\2\u0280\u0281\7+\2"+
+		"\2\u0281\u00b0\3\2\2\2\u0282\u0283\7/\2\2\u0283\u00b2\3\2\2\2\u0284\u0285"+
+		"\7k\2\2\u0285\u0286\7o\2\2\u0286\u0287\7r\2\2\u0287\u0288\7q\2\2\u0288"+
+		"\u0289\7t\2\2\u0289\u028a\7v\2\2\u028a\u00b4\3\2\2\2\u028b\u028c\7\62"+
+		"\2\2\u028c\u028e\t\2\2\2\u028d\u028f\5\u00bb^\2\u028e\u028d\3\2\2\2\u028f"+
+		"\u0290\3\2\2\2\u0290\u028e\3\2\2\2\u0290\u0291\3\2\2\2\u0291\u0293\3\2"+
+		"\2\2\u0292\u0294\5\u00bd_\2\u0293\u0292\3\2\2\2\u0293\u0294\3\2\2\2\u0294"+
+		"\u00b6\3\2\2\2\u0295\u029e\7\62\2\2\u0296\u029a\4\63;\2\u0297\u0299\4"+
+		"\62;\2\u0298\u0297\3\2\2\2\u0299\u029c\3\2\2\2\u029a\u0298\3\2\2\2\u029a"+
+		"\u029b\3\2\2\2\u029b\u029e\3\2\2\2\u029c\u029a\3\2\2\2\u029d\u0295\3\2"+
+		"\2\2\u029d\u0296\3\2\2\2\u029e\u02a0\3\2\2\2\u029f\u02a1\5\u00bd_\2\u02a0"+
+		"\u029f\3\2\2\2\u02a0\u02a1\3\2\2\2\u02a1\u00b8\3\2\2\2\u02a2\u02a4\7\62"+
+		"\2\2\u02a3\u02a5\4\629\2\u02a4\u02a3\3\2\2\2\u02a5\u02a6\3\2\2\2\u02a6"+
+		"\u02a4\3\2\2\2\u02a6\u02a7\3\2\2\2\u02a7\u02a9\3\2\2\2\u02a8\u02aa\5\u00bd"+
+		"_\2\u02a9\u02a8\3\2\2\2\u02a9\u02aa\3\2\2\2\u02aa\u00ba\3\2\2\2\u02ab"+
+		"\u02ac\t\3\2\2\u02ac\u00bc\3\2\2\2\u02ad\u02ae\t\4\2\2\u02ae\u00be\3\2"+
+		"\2\2\u02af\u02b1\4\62;\2\u02b0\u02af\3\2\2\2\u02b1\u02b2\3\2\2\2\u02b2"+
+		"\u02b0\3\2\2\2\u02b2\u02b3\3\2\2\2\u02b3\u02b4\3\2\2\2\u02b4\u02b8\7\60"+
+		"\2\2\u02b5\u02b7\4\62;\2\u02b6\u02b5\3\2\2\2\u02b7\u02ba\3\2\2\2\u02b8"+
+		"\u02b6\3\2\2\2\u02b8\u02b9\3\2\2\2\u02b9\u02bc\3\2\2\2\u02ba\u02b8\3\2"+
+		"\2\2\u02bb\u02bd\5\u00c1a\2\u02bc\u02bb\3\2\2\2\u02bc\u02bd\3\2\2\2\u02bd"+
+		"\u02bf\3\2\2\2\u02be\u02c0\5\u00c3b\2\u02bf\u02be\3\2\2\2\u02bf\u02c0"+
+		"\3\2\2\2\u02c0\u02fe\3\2\2\2\u02c1\u02c3\7\60\2\2\u02c2\u02c4\4\62;\2"+
+		"\u02c3\u02c2\3\2\2\2\u02c4\u02c5\3\2\2\2\u02c5\u02c3\3\2\2\2\u02c5\u02c6"+
+		"\3\2\2\2\u02c6\u02c8\3\2\2\2\u02c7\u02c9\5\u00c1a\2\u02c8\u02c7\3\2\2"+
+		"\2\u02c8\u02c9\3\2\2\2\u02c9\u02cb\3\2\2\2\u02ca\u02cc\5\u00c3b\2\u02cb"+
+		"\u02ca\3\2\2\2\u02cb\u02cc\3\2\2\2\u02cc\u02fe\3\2\2\2\u02cd\u02cf\4\62"+
+		";\2\u02ce\u02cd\3\2\2\2\u02cf\u02d0\3\2\2\2\u02d0\u02ce\3\2\2\2\u02d0"+
+		"\u02d1\3\2\2\2\u02d1\u02d2\3\2\2\2\u02d2\u02d4\5\u00c1a\2\u02d3\u02d5"+
+		"\5\u00c3b\2\u02d4\u02d3\3\2\2\2\u02d4\u02d5\3\2\2\2\u02d5\u02fe\3\2\2"+
+		"\2\u02d6\u02d8\4\62;\2\u02d7\u02d6\3\2\2\2\u02d8\u02d9\3\2\2\2\u02d9\u02d7"+
+		"\3\2\2\2\u02d9\u02da\3\2\2\2\u02da\u02db\3\2\2\2\u02db\u02fe\5\u00c3b"+
+		"\2\u02dc\u02dd\7\62\2\2\u02dd\u02e1\7z\2\2\u02de\u02df\7\62\2\2\u02df"+
+		"\u02e1\7Z\2\2\u02e0\u02dc\3\2\2\2\u02e0\u02de\3\2\2\2\u02e1\u02e5\3\2"+
+		"\2\2\u02e2\u02e4\5\u00bb^\2\u02e3\u02e2\3\2\2\2\u02e4\u02e7\3\2\2\2\u02e5"+
+		"\u02e3\3\2\2\2\u02e5\u02e6\3\2\2\2\u02e6\u02ef\3\2\2\2\u02e7\u02e5\3\2"+
+		"\2\2\u02e8\u02ec\7\60\2\2\u02e9\u02eb\5\u00bb^\2\u02ea\u02e9\3\2\2\2\u02eb"+
+		"\u02ee\3\2\2\2\u02ec\u02ea\3\2\2\2\u02ec\u02ed\3\2\2\2\u02ed\u02f0\3\2"+
+		"\2\2\u02ee\u02ec\3\2\2\2\u02ef\u02e8\3\2\2\2\u02ef\u02f0\3\2\2\2\u02f0"+
+		"\u02f1\3\2\2\2\u02f1\u02f3\t\5\2\2\u02f2\u02f4\t\6\2\2\u02f3\u02f2\3\2"+
+		"\2\2\u02f3\u02f4\3\2\2\2\u02f4\u02f6\3\2\2\2\u02f5\u02f7\4\62;\2\u02f6"+
+		"\u02f5\3\2\2\2\u02f7\u02f8\3\2\2\2\u02f8\u02f6\3\2\2\2\u02f8\u02f9\3\2"+
+		"\2\2\u02f9\u02fb\3\2\2\2\u02fa\u02fc\5\u00c3b\2\u02fb\u02fa\3\2\2\2\u02fb"+
+		"\u02fc\3\2\2\2\u02fc\u02fe\3\2\2\2\u02fd\u02b0\3\2\2\2\u02fd\u02c1\3\2"+
+		"\2\2\u02fd\u02ce\3\2\2\2\u02fd\u02d7\3\2\2\2\u02fd\u02e0\3\2\2\2\u02fe"+
+		"\u00c0\3\2\2\2\u02ff\u0301\t\7\2\2\u0300\u0302\t\b\2\2\u0301\u0300\3\2"+
+		"\2\2\u0301\u0302\3\2\2\2\u0302\u0304\3\2\2\2\u0303\u0305\4\62;\2\u0304"+
+		"\u0303\3\2\2\2\u0305\u0306\3\2\2\2\u0306\u0304\3\2\2\2\u0306\u0307\3\2"+
+		"\2\2\u0307\u00c2\3\2\2\2\u0308\u0309\t\t\2\2\u0309\u00c4\3\2\2\2\u030a"+
+		"\u030d\7)\2\2\u030b\u030e\5\u00c9e\2\u030c\u030e\n\n\2\2\u030d\u030b\3"+
+		"\2\2\2\u030d\u030c\3\2\2\2\u030e\u030f\3\2\2\2\u030f\u0310\7)\2\2\u0310"+
+		"\u00c6\3\2\2\2\u0311\u0316\7$\2\2\u0312\u0315\5\u00c9e\2\u0313\u0315\n"+
+		"\13\2\2\u0314\u0312\3\2\2\2\u0314\u0313\3\2\2\2\u0315\u0318\3\2\2\2\u0316"+
+		"\u0314\3\2\2\2\u0316\u0317\3\2\2\2\u0317\u0319\3\2\2\2\u0318\u0316\3\2"+
+		"\2\2\u0319\u031a\7$\2\2\u031a\u00c8\3\2\2\2\u031b\u031c\7^\2\2\u031c\u0320"+
+		"\t\f\2\2\u031d\u0320\5\u00cdg\2\u031e\u0320\5\u00cbf\2\u031f\u031b\3\2"+
+		"\2\2\u031f\u031d\3\2\2\2\u031f\u031e\3\2\2\2\u0320\u00ca\3\2\2\2\u0321"+
+		"\u0322\7^\2\2\u0322\u0323\4\62\65\2\u0323\u0324\4\629\2\u0324\u032b\4"+
+		"\629\2\u0325\u0326\7^\2\2\u0326\u0327\4\629\2\u0327\u032b\4\629\2\u0328"+
+		"\u0329\7^\2\2\u0329\u032b\4\629\2\u032a\u0321\3\2\2\2\u032a\u0325\3\2"+
+		"\2\2\u032a\u0328\3\2\2\2\u032b\u00cc\3\2\2\2\u032c\u032d\7^\2\2\u032d"+
+		"\u032e\7w\2\2\u032e\u032f\5\u00bb^\2\u032f\u0330\5\u00bb^\2\u0330\u0331"+
+		"\5\u00bb^\2\u0331\u0332\5\u00bb^\2\u0332\u00ce\3\2\2\2\u0333\u0334\7g"+
+		"\2\2\u0334\u0335\7p\2\2\u0335\u0336\7w\2\2\u0336\u0337\7o\2\2\u0337\u0338"+
+		"\3\2\2\2\u0338\u0339\bh\2\2\u0339\u00d0\3\2\2\2\u033a\u033b\7c\2\2\u033b"+
+		"\u033c\7u\2\2\u033c\u033d\7u\2\2\u033d\u033e\7g\2\2\u033e\u033f\7t\2\2"+
+		"\u033f\u0340\7v\2\2\u0340\u0341\3\2\2\2\u0341\u0342\bi\3\2\u0342\u00d2"+
+		"\3\2\2\2\u0343\u0348\5\u00d5k\2\u0344\u0347\5\u00d5k\2\u0345\u0347\5\u00d7"+
+		"l\2\u0346\u0344\3\2\2\2\u0346\u0345\3\2\2\2\u0347\u034a\3\2\2\2\u0348"+
+		"\u0346\3\2\2\2\u0348\u0349\3\2\2\2\u0349\u00d4\3\2\2\2\u034a\u0348\3\2"+
+		"\2\2\u034b\u034c\t\r\2\2\u034c\u00d6\3\2\2\2\u034d\u034e\t\16\2\2\u034e"+
+		"\u00d8\3\2\2\2\u034f\u0351\t\17\2\2\u0350\u034f\3\2\2\2\u0351\u0352\3"+
+		"\2\2\2\u0352\u0350\3\2\2\2\u0352\u0353\3\2\2\2\u0353\u0354\3\2\2\2\u0354"+
+		"\u0355\bm\4\2\u0355\u00da\3\2\2\2\u0356\u0357\7\61\2\2\u0357\u0358\7,"+
+		"\2\2\u0358\u035c\3\2\2\2\u0359\u035b\13\2\2\2\u035a\u0359\3\2\2\2\u035b"+
+		"\u035e\3\2\2\2\u035c\u035d\3\2\2\2\u035c\u035a\3\2\2\2\u035d\u035f\3\2"+
+		"\2\2\u035e\u035c\3\2\2\2\u035f\u0360\7,\2\2\u0360\u0361\7\61\2\2\u0361"+
+		"\u0362\3\2\2\2\u0362\u0363\bn\5\2\u0363\u00dc\3\2\2\2\u0364\u0365\7\61"+
+		"\2\2\u0365\u0366\7\61\2\2\u0366\u036a\3\2\2\2\u0367\u0369\n\20\2\2\u0368"+
+		"\u0367\3\2\2\2\u0369\u036c\3\2\2\2\u036a\u0368\3\2\2\2\u036a\u036b\3\2"+
+		"\2\2\u036b\u0372\3\2\2\2\u036c\u036a\3\2\2\2\u036d\u036f\7\17\2\2\u036e"+
+		"\u036d\3\2\2\2\u036e\u036f\3\2\2\2\u036f\u0370\3\2\2\2\u0370\u0373\7\f"+
+		"\2\2\u0371\u0373\7\1\2\2\u0372\u036e\3\2\2\2\u0372\u0371\3\2\2\2\u0373"+
+		"\u0374\3\2\2\2\u0374\u0375\bo\6\2\u0375\u00de\3\2\2\2*\2\u0290\u0293\u029a"+
+		"\u029d\u02a0\u02a6\u02a9\u02b2\u02b8\u02bc\u02bf\u02c5\u02c8\u02cb\u02d0"+
+		"\u02d4\u02d9\u02e0\u02e5\u02ec\u02ef\u02f3\u02f8\u02fb\u02fd\u0301\u0306"+
+		"\u030d\u0314\u0316\u031f\u032a\u0346\u0348\u0352\u035c\u036a\u036e\u0372";
 	public static final ATN _ATN =
 		ATNSimulator.deserialize(_serializedATN.toCharArray());
 	static {
@@ -35,18 +35,18 @@ public class DataModelerParser extends Parser {
 		CharacterLiteral=94, StringLiteral=95, ENUM=96, ASSERT=97, Identifier=98, 
 		WS=99, COMMENT=100, LINE_COMMENT=101;
 	public static final String[] tokenNames = {
-		"<INVALID>", "'interface'", "'&'", "'*'", "'['", "'<'", "'--'", "'false'", 
-		"'continue'", "'!='", "'double'", "'abstract'", "'boolean'", "'}'", "'float'", 
-		"'char'", "'strictfp'", "'case'", "'super'", "'do'", "'%'", "'*='", "')'", 
-		"'throw'", "'@'", "'='", "'null'", "'throws'", "'|='", "'new'", "'class'", 
-		"'finally'", "'|'", "'transient'", "'!'", "'long'", "'short'", "']'", 
-		"'-='", "'public'", "'default'", "'synchronized'", "','", "'while'", "'-'", 
-		"'('", "':'", "'if'", "'&='", "'int'", "'private'", "'?'", "'try'", "'void'", 
-		"'package'", "'...'", "'{'", "'break'", "'native'", "'+='", "'extends'", 
-		"'^='", "'final'", "'else'", "'catch'", "'true'", "'static'", "'++'", 
-		"'import'", "'byte'", "'^'", "'.'", "'+'", "'protected'", "'for'", "'return'", 
-		"'volatile'", "';'", "'&&'", "'this'", "'||'", "'>'", "'implements'", 
-		"'%='", "'switch'", "'/='", "'/'", "'=='", "'~'", "'instanceof'", "HexLiteral", 
+		"<INVALID>", "'default'", "'+='", "'private'", "'%='", "'finally'", "'char'", 
+		"'interface'", "'new'", "'!='", "'float'", "'while'", "'void'", "'{'", 
+		"'^='", "'&&'", "'byte'", "'='", "'^'", "'for'", "'|='", "'int'", "'null'", 
+		"'do'", "'('", "'package'", "'-='", "','", "'/='", "'false'", "'throws'", 
+		"'volatile'", "'implements'", "'abstract'", "'boolean'", "'long'", "'++'", 
+		"'<'", "']'", "'~'", "'transient'", "'@'", "'static'", "'protected'", 
+		"'final'", "'+'", "'*='", "'/'", "'strictfp'", "'continue'", "'catch'", 
+		"'native'", "'&='", "'return'", "'true'", "'class'", "'||'", "';'", "'instanceof'", 
+		"'}'", "'extends'", "'if'", "'try'", "'?'", "'break'", "'short'", "'double'", 
+		"'synchronized'", "'&'", "'switch'", "'*'", "'this'", "'.'", "'case'", 
+		"'throw'", "'...'", "':'", "'['", "'|'", "'=='", "'--'", "'public'", "'>'", 
+		"'!'", "'%'", "'else'", "'super'", "')'", "'-'", "'import'", "HexLiteral", 
 		"DecimalLiteral", "OctalLiteral", "FloatingPointLiteral", "CharacterLiteral", 
 		"StringLiteral", "'enum'", "'assert'", "Identifier", "WS", "COMMENT", 
 		"LINE_COMMENT"
@@ -137,6 +137,50 @@ public class DataModelerParser extends Parser {
 
 
 
+	private static final int LBRACE = java.util.Arrays.asList(tokenNames).indexOf("'{'");
+
+	private static final int RBRACE = java.util.Arrays.asList(tokenNames).indexOf("'}'");
+
+	/**
+	 * When true the statements of method and constructor bodies are skipped at the token level, only the braces of
+	 * the body are added to the parse tree.
+	 */
+	protected boolean skipMethodBodies = false;
+
+	public boolean isSkipMethodBodies() {
+	    return skipMethodBodies;
+	}
+
+	public void setSkipMethodBodies(boolean skipMethodBodies) {
+	    this.skipMethodBodies = skipMethodBodies;
+	}
+
+	/**
+	 * Consumes the tokens of a body up to, but not including, its closing brace. The consumed tokens don't reach
+	 * the parse tree nor the parse listeners.
+	 */
+	protected void skipBody() {
+	    int depth = 0;
+	    for (int type = _input.LA(1); type != Token.EOF; type = _input.LA(1)) {
+	        if (type == LBRACE) {
+	            depth++;
+	        } else if (type == RBRACE) {
+	            if (depth == 0) return;
+	            depth--;
+	        }
+	        _input.consume();
+	    }
+	}
+
+	/**
+	 * Discards the DFA states shared by all the parser instances.
+	 */
+	public static void clearDFA() {
+	    for (int i = 0; i < _decisionToDFA.length; i++) {
+	        _decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+	    }
+	}
+
 
 	public DataModelerParser(TokenStream input) {
 		super(input);
@@ -146,12 +190,11 @@ public class DataModelerParser extends Parser {
 		public PackageDeclarationContext packageDeclaration() {
 			return getRuleContext(PackageDeclarationContext.class,0);
 		}
-		public ImportDeclarationContext importDeclaration(int i) {
-			return getRuleContext(ImportDeclarationContext.class,i);
+		public List<ClassOrInterfaceDeclarationContext> classOrInterfaceDeclaration() {
+			return getRuleContexts(ClassOrInterfaceDeclarationContext.class);
 		}
-		public TerminalNode EOF() { return getToken(DataModelerParser.EOF, 0); }
-		public ClassOrInterfaceDeclarationContext classOrInterfaceDeclaration() {
-			return getRuleContext(ClassOrInterfaceDeclarationContext.class,0);
+		public ClassOrInterfaceDeclarationContext classOrInterfaceDeclaration(int i) {
+			return getRuleContext(ClassOrInterfaceDeclarationContext.class,i);
 		}
 		public AnnotationsContext annotations() {
 			return getRuleContext(AnnotationsContext.class,0);
@@ -159,6 +202,10 @@ public class DataModelerParser extends Parser {
 		public List<ImportDeclarationContext> importDeclaration() {
 			return getRuleContexts(ImportDeclarationContext.class);
 		}
+		public TerminalNode EOF() { return getToken(DataModelerParser.EOF, 0); }
+		public ImportDeclarationContext importDeclaration(int i) {
+			return getRuleContext(ImportDeclarationContext.class,i);
+		}
 		public CompilationUnitContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -178,8 +225,8 @@ public class DataModelerParser extends Parser {
 		enterRule(_localctx, 0, RULE_compilationUnit);
 		int _la;
 		try {
-			setState(249);
-			switch ( getInterpreter().adaptivePredict(_input,3,_ctx) ) {
+			setState(257);
+			switch ( getInterpreter().adaptivePredict(_input,5,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
@@ -189,7 +236,7 @@ public class DataModelerParser extends Parser {
 				setState(231);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (_la==68) {
+				while (_la==89) {
 					{
 					{
 					setState(228); importDeclaration();
@@ -199,38 +246,62 @@ public class DataModelerParser extends Parser {
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(234); classOrInterfaceDeclaration();
+				setState(235); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				do {
+					{
+					{
+					setState(234); classOrInterfaceDeclaration();
+					}
+					}
+					setState(237); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 3) | (1L << 33) | (1L << 41) | (1L << 42) | (1L << 43) | (1L << 44) | (1L << 48) | (1L << 55))) != 0) || _la==81 );
 				}
-				setState(235); match(EOF);
+				setState(239); match(EOF);
 				}
 				break;
 
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(238);
+				setState(242);
 				_la = _input.LA(1);
-				if (_la==54) {
+				if (_la==25) {
 					{
-					setState(237); packageDeclaration();
+					setState(241); packageDeclaration();
 					}
 				}
 
-				setState(243);
+				setState(247);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (_la==68) {
+				while (_la==89) {
 					{
 					{
-					setState(240); importDeclaration();
+					setState(244); importDeclaration();
 					}
 					}
-					setState(245);
+					setState(249);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(246); classOrInterfaceDeclaration();
-				setState(247); match(EOF);
+				setState(251); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				do {
+					{
+					{
+					setState(250); classOrInterfaceDeclaration();
+					}
+					}
+					setState(253); 
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 3) | (1L << 33) | (1L << 41) | (1L << 42) | (1L << 43) | (1L << 44) | (1L << 48) | (1L << 55))) != 0) || _la==81 );
+				setState(255); match(EOF);
 				}
 				break;
 			}
@@ -270,9 +341,9 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(251); match(54);
-			setState(252); qualifiedName();
-			setState(253); match(77);
+			setState(259); match(25);
+			setState(260); qualifiedName();
+			setState(261); match(57);
 			}
 		}
 		catch (RecognitionException re) {
@@ -311,26 +382,26 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(255); match(68);
-			setState(257);
+			setState(263); match(89);
+			setState(265);
 			_la = _input.LA(1);
-			if (_la==66) {
+			if (_la==42) {
 				{
-				setState(256); match(66);
+				setState(264); match(42);
 				}
 			}
 
-			setState(259); qualifiedName();
-			setState(262);
+			setState(267); qualifiedName();
+			setState(270);
 			_la = _input.LA(1);
-			if (_la==71) {
+			if (_la==72) {
 				{
-				setState(260); match(71);
-				setState(261); match(3);
+				setState(268); match(72);
+				setState(269); match(70);
 				}
 			}
 
-			setState(264); match(77);
+			setState(272); match(57);
 			}
 		}
 		catch (RecognitionException re) {
@@ -345,12 +416,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class ClassOrInterfaceDeclarationContext extends ParserRuleContext {
-		public ClassDeclarationContext classDeclaration() {
-			return getRuleContext(ClassDeclarationContext.class,0);
-		}
 		public ClassOrInterfaceModifiersContext classOrInterfaceModifiers() {
 			return getRuleContext(ClassOrInterfaceModifiersContext.class,0);
 		}
+		public ClassDeclarationContext classDeclaration() {
+			return getRuleContext(ClassDeclarationContext.class,0);
+		}
 		public ClassOrInterfaceDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -371,8 +442,8 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(266); classOrInterfaceModifiers();
-			setState(267); classDeclaration();
+			setState(274); classOrInterfaceModifiers();
+			setState(275); classDeclaration();
 			}
 		}
 		catch (RecognitionException re) {
@@ -414,16 +485,16 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(272);
+			setState(280);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (((((_la - 11)) & ~0x3f) == 0 && ((1L << (_la - 11)) & ((1L << (11 - 11)) | (1L << (16 - 11)) | (1L << (24 - 11)) | (1L << (39 - 11)) | (1L << (50 - 11)) | (1L << (62 - 11)) | (1L << (66 - 11)) | (1L << (73 - 11)))) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 3) | (1L << 33) | (1L << 41) | (1L << 42) | (1L << 43) | (1L << 44) | (1L << 48))) != 0) || _la==81) {
 				{
 				{
-				setState(269); classOrInterfaceModifier();
+				setState(277); classOrInterfaceModifier();
 				}
 				}
-				setState(274);
+				setState(282);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -462,54 +533,54 @@ public class DataModelerParser extends Parser {
 		ClassOrInterfaceModifierContext _localctx = new ClassOrInterfaceModifierContext(_ctx, getState());
 		enterRule(_localctx, 10, RULE_classOrInterfaceModifier);
 		try {
-			setState(283);
+			setState(291);
 			switch (_input.LA(1)) {
-			case 24:
+			case 41:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(275); annotation();
+				setState(283); annotation();
 				}
 				break;
-			case 39:
+			case 81:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(276); match(39);
+				setState(284); match(81);
 				}
 				break;
-			case 73:
+			case 43:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(277); match(73);
+				setState(285); match(43);
 				}
 				break;
-			case 50:
+			case 3:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(278); match(50);
+				setState(286); match(3);
 				}
 				break;
-			case 11:
+			case 33:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(279); match(11);
+				setState(287); match(33);
 				}
 				break;
-			case 66:
+			case 42:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(280); match(66);
+				setState(288); match(42);
 				}
 				break;
-			case 62:
+			case 44:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(281); match(62);
+				setState(289); match(44);
 				}
 				break;
-			case 16:
+			case 48:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(282); match(16);
+				setState(290); match(48);
 				}
 				break;
 			default:
@@ -555,20 +626,20 @@ public class DataModelerParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(288);
+			setState(296);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,8,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,10,_ctx);
 			while ( _alt!=2 && _alt!=-1 ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(285); modifier();
+					setState(293); modifier();
 					}
 					} 
 				}
-				setState(290);
+				setState(298);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,8,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,10,_ctx);
 			}
 			}
 		}
@@ -607,7 +678,7 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(291); normalClassDeclaration();
+			setState(299); normalClassDeclaration();
 			}
 		}
 		catch (RecognitionException re) {
@@ -622,19 +693,19 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class NormalClassDeclarationContext extends ParserRuleContext {
-		public TypeParametersContext typeParameters() {
-			return getRuleContext(TypeParametersContext.class,0);
+		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
+		public TypeListContext typeList() {
+			return getRuleContext(TypeListContext.class,0);
 		}
 		public ClassBodyContext classBody() {
 			return getRuleContext(ClassBodyContext.class,0);
 		}
-		public TypeListContext typeList() {
-			return getRuleContext(TypeListContext.class,0);
-		}
 		public TypeContext type() {
 			return getRuleContext(TypeContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
+		public TypeParametersContext typeParameters() {
+			return getRuleContext(TypeParametersContext.class,0);
+		}
 		public NormalClassDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -656,35 +727,35 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(293); match(30);
-			setState(294); match(Identifier);
-			setState(296);
+			setState(301); match(55);
+			setState(302); match(Identifier);
+			setState(304);
 			_la = _input.LA(1);
-			if (_la==5) {
+			if (_la==37) {
 				{
-				setState(295); typeParameters();
+				setState(303); typeParameters();
 				}
 			}
 
-			setState(300);
+			setState(308);
 			_la = _input.LA(1);
 			if (_la==60) {
 				{
-				setState(298); match(60);
-				setState(299); type();
+				setState(306); match(60);
+				setState(307); type();
 				}
 			}
 
-			setState(304);
+			setState(312);
 			_la = _input.LA(1);
-			if (_la==82) {
+			if (_la==32) {
 				{
-				setState(302); match(82);
-				setState(303); typeList();
+				setState(310); match(32);
+				setState(311); typeList();
 				}
 			}
 
-			setState(306); classBody();
+			setState(314); classBody();
 			}
 		}
 		catch (RecognitionException re) {
@@ -726,23 +797,23 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(308); match(5);
-			setState(309); typeParameter();
-			setState(314);
+			setState(316); match(37);
+			setState(317); typeParameter();
+			setState(322);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==42) {
+			while (_la==27) {
 				{
 				{
-				setState(310); match(42);
-				setState(311); typeParameter();
+				setState(318); match(27);
+				setState(319); typeParameter();
 				}
 				}
-				setState(316);
+				setState(324);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(317); match(81);
+			setState(325); match(82);
 			}
 		}
 		catch (RecognitionException re) {
@@ -757,10 +828,10 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class TypeParameterContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public TypeBoundContext typeBound() {
 			return getRuleContext(TypeBoundContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public TypeParameterContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -782,13 +853,13 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(319); match(Identifier);
-			setState(322);
+			setState(327); match(Identifier);
+			setState(330);
 			_la = _input.LA(1);
 			if (_la==60) {
 				{
-				setState(320); match(60);
-				setState(321); typeBound();
+				setState(328); match(60);
+				setState(329); typeBound();
 				}
 			}
 
@@ -833,18 +904,18 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(324); type();
-			setState(329);
+			setState(332); type();
+			setState(337);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==2) {
+			while (_la==68) {
 				{
 				{
-				setState(325); match(2);
-				setState(326); type();
+				setState(333); match(68);
+				setState(334); type();
 				}
 				}
-				setState(331);
+				setState(339);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -863,13 +934,13 @@ public class DataModelerParser extends Parser {
 
 	public static class EnumDeclarationContext extends ParserRuleContext {
 		public TerminalNode ENUM() { return getToken(DataModelerParser.ENUM, 0); }
-		public EnumBodyContext enumBody() {
-			return getRuleContext(EnumBodyContext.class,0);
-		}
+		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public TypeListContext typeList() {
 			return getRuleContext(TypeListContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
+		public EnumBodyContext enumBody() {
+			return getRuleContext(EnumBodyContext.class,0);
+		}
 		public EnumDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -891,18 +962,18 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(332); match(ENUM);
-			setState(333); match(Identifier);
-			setState(336);
+			setState(340); match(ENUM);
+			setState(341); match(Identifier);
+			setState(344);
 			_la = _input.LA(1);
-			if (_la==82) {
+			if (_la==32) {
 				{
-				setState(334); match(82);
-				setState(335); typeList();
+				setState(342); match(32);
+				setState(343); typeList();
 				}
 			}
 
-			setState(338); enumBody();
+			setState(346); enumBody();
 			}
 		}
 		catch (RecognitionException re) {
@@ -917,12 +988,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class EnumBodyContext extends ParserRuleContext {
-		public EnumBodyDeclarationsContext enumBodyDeclarations() {
-			return getRuleContext(EnumBodyDeclarationsContext.class,0);
-		}
 		public EnumConstantsContext enumConstants() {
 			return getRuleContext(EnumConstantsContext.class,0);
 		}
+		public EnumBodyDeclarationsContext enumBodyDeclarations() {
+			return getRuleContext(EnumBodyDeclarationsContext.class,0);
+		}
 		public EnumBodyContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -944,32 +1015,32 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(340); match(56);
-			setState(342);
+			setState(348); match(13);
+			setState(350);
 			_la = _input.LA(1);
-			if (_la==24 || _la==Identifier) {
+			if (_la==41 || _la==Identifier) {
 				{
-				setState(341); enumConstants();
+				setState(349); enumConstants();
 				}
 			}
 
-			setState(345);
+			setState(353);
 			_la = _input.LA(1);
-			if (_la==42) {
+			if (_la==27) {
 				{
-				setState(344); match(42);
+				setState(352); match(27);
 				}
 			}
 
-			setState(348);
+			setState(356);
 			_la = _input.LA(1);
-			if (_la==77) {
+			if (_la==57) {
 				{
-				setState(347); enumBodyDeclarations();
+				setState(355); enumBodyDeclarations();
 				}
 			}
 
-			setState(350); match(13);
+			setState(358); match(59);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1011,22 +1082,22 @@ public class DataModelerParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(352); enumConstant();
-			setState(357);
+			setState(360); enumConstant();
+			setState(365);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,19,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,21,_ctx);
 			while ( _alt!=2 && _alt!=-1 ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(353); match(42);
-					setState(354); enumConstant();
+					setState(361); match(27);
+					setState(362); enumConstant();
 					}
 					} 
 				}
-				setState(359);
+				setState(367);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,19,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,21,_ctx);
 			}
 			}
 		}
@@ -1042,16 +1113,16 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class EnumConstantContext extends ParserRuleContext {
-		public ArgumentsContext arguments() {
-			return getRuleContext(ArgumentsContext.class,0);
+		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
+		public AnnotationsContext annotations() {
+			return getRuleContext(AnnotationsContext.class,0);
 		}
 		public ClassBodyContext classBody() {
 			return getRuleContext(ClassBodyContext.class,0);
 		}
-		public AnnotationsContext annotations() {
-			return getRuleContext(AnnotationsContext.class,0);
+		public ArgumentsContext arguments() {
+			return getRuleContext(ArgumentsContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public EnumConstantContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1073,28 +1144,28 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(361);
+			setState(369);
 			_la = _input.LA(1);
-			if (_la==24) {
+			if (_la==41) {
 				{
-				setState(360); annotations();
+				setState(368); annotations();
 				}
 			}
 
-			setState(363); match(Identifier);
-			setState(365);
+			setState(371); match(Identifier);
+			setState(373);
 			_la = _input.LA(1);
-			if (_la==45) {
+			if (_la==24) {
 				{
-				setState(364); arguments();
+				setState(372); arguments();
 				}
 			}
 
-			setState(368);
+			setState(376);
 			_la = _input.LA(1);
-			if (_la==56) {
+			if (_la==13) {
 				{
-				setState(367); classBody();
+				setState(375); classBody();
 				}
 			}
 
@@ -1112,12 +1183,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class EnumBodyDeclarationsContext extends ParserRuleContext {
-		public ClassBodyDeclarationContext classBodyDeclaration(int i) {
-			return getRuleContext(ClassBodyDeclarationContext.class,i);
-		}
 		public List<ClassBodyDeclarationContext> classBodyDeclaration() {
 			return getRuleContexts(ClassBodyDeclarationContext.class);
 		}
+		public ClassBodyDeclarationContext classBodyDeclaration(int i) {
+			return getRuleContext(ClassBodyDeclarationContext.class,i);
+		}
 		public EnumBodyDeclarationsContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1139,17 +1210,17 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(370); match(77);
-			setState(374);
+			setState(378); match(57);
+			setState(382);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 5) | (1L << 10) | (1L << 11) | (1L << 12) | (1L << 14) | (1L << 15) | (1L << 16) | (1L << 24) | (1L << 33) | (1L << 35) | (1L << 36) | (1L << 39) | (1L << 41) | (1L << 49) | (1L << 50) | (1L << 53) | (1L << 58) | (1L << 62))) != 0) || ((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & ((1L << (66 - 66)) | (1L << (69 - 66)) | (1L << (73 - 66)) | (1L << (76 - 66)) | (1L << (77 - 66)) | (1L << (Identifier - 66)))) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 3) | (1L << 6) | (1L << 10) | (1L << 12) | (1L << 16) | (1L << 21) | (1L << 31) | (1L << 33) | (1L << 34) | (1L << 35) | (1L << 37) | (1L << 40) | (1L << 41) | (1L << 42) | (1L << 43) | (1L << 44) | (1L << 48) | (1L << 51) | (1L << 55) | (1L << 57))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (66 - 65)) | (1L << (67 - 65)) | (1L << (81 - 65)) | (1L << (Identifier - 65)))) != 0)) {
 				{
 				{
-				setState(371); classBodyDeclaration();
+				setState(379); classBodyDeclaration();
 				}
 				}
-				setState(376);
+				setState(384);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1191,18 +1262,18 @@ public class DataModelerParser extends Parser {
 		InterfaceDeclarationContext _localctx = new InterfaceDeclarationContext(_ctx, getState());
 		enterRule(_localctx, 34, RULE_interfaceDeclaration);
 		try {
-			setState(379);
+			setState(387);
 			switch (_input.LA(1)) {
-			case 1:
+			case 7:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(377); normalInterfaceDeclaration();
+				setState(385); normalInterfaceDeclaration();
 				}
 				break;
-			case 24:
+			case 41:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(378); annotationTypeDeclaration();
+				setState(386); annotationTypeDeclaration();
 				}
 				break;
 			default:
@@ -1221,16 +1292,16 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class NormalInterfaceDeclarationContext extends ParserRuleContext {
-		public TypeParametersContext typeParameters() {
-			return getRuleContext(TypeParametersContext.class,0);
-		}
 		public InterfaceBodyContext interfaceBody() {
 			return getRuleContext(InterfaceBodyContext.class,0);
 		}
+		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public TypeListContext typeList() {
 			return getRuleContext(TypeListContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
+		public TypeParametersContext typeParameters() {
+			return getRuleContext(TypeParametersContext.class,0);
+		}
 		public NormalInterfaceDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1252,26 +1323,26 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(381); match(1);
-			setState(382); match(Identifier);
-			setState(384);
+			setState(389); match(7);
+			setState(390); match(Identifier);
+			setState(392);
 			_la = _input.LA(1);
-			if (_la==5) {
+			if (_la==37) {
 				{
-				setState(383); typeParameters();
+				setState(391); typeParameters();
 				}
 			}
 
-			setState(388);
+			setState(396);
 			_la = _input.LA(1);
 			if (_la==60) {
 				{
-				setState(386); match(60);
-				setState(387); typeList();
+				setState(394); match(60);
+				setState(395); typeList();
 				}
 			}
 
-			setState(390); interfaceBody();
+			setState(398); interfaceBody();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1313,18 +1384,18 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(392); type();
-			setState(397);
+			setState(400); type();
+			setState(405);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==42) {
+			while (_la==27) {
 				{
 				{
-				setState(393); match(42);
-				setState(394); type();
+				setState(401); match(27);
+				setState(402); type();
 				}
 				}
-				setState(399);
+				setState(407);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1342,12 +1413,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class ClassBodyContext extends ParserRuleContext {
-		public ClassBodyDeclarationContext classBodyDeclaration(int i) {
-			return getRuleContext(ClassBodyDeclarationContext.class,i);
-		}
 		public List<ClassBodyDeclarationContext> classBodyDeclaration() {
 			return getRuleContexts(ClassBodyDeclarationContext.class);
 		}
+		public ClassBodyDeclarationContext classBodyDeclaration(int i) {
+			return getRuleContext(ClassBodyDeclarationContext.class,i);
+		}
 		public ClassBodyContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1369,21 +1440,21 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(400); match(56);
-			setState(404);
+			setState(408); match(13);
+			setState(412);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 5) | (1L << 10) | (1L << 11) | (1L << 12) | (1L << 14) | (1L << 15) | (1L << 16) | (1L << 24) | (1L << 33) | (1L << 35) | (1L << 36) | (1L << 39) | (1L << 41) | (1L << 49) | (1L << 50) | (1L << 53) | (1L << 58) | (1L << 62))) != 0) || ((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & ((1L << (66 - 66)) | (1L << (69 - 66)) | (1L << (73 - 66)) | (1L << (76 - 66)) | (1L << (77 - 66)) | (1L << (Identifier - 66)))) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 3) | (1L << 6) | (1L << 10) | (1L << 12) | (1L << 16) | (1L << 21) | (1L << 31) | (1L << 33) | (1L << 34) | (1L << 35) | (1L << 37) | (1L << 40) | (1L << 41) | (1L << 42) | (1L << 43) | (1L << 44) | (1L << 48) | (1L << 51) | (1L << 55) | (1L << 57))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (66 - 65)) | (1L << (67 - 65)) | (1L << (81 - 65)) | (1L << (Identifier - 65)))) != 0)) {
 				{
 				{
-				setState(401); classBodyDeclaration();
+				setState(409); classBodyDeclaration();
 				}
 				}
-				setState(406);
+				setState(414);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(407); match(13);
+			setState(415); match(59);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1398,12 +1469,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class InterfaceBodyContext extends ParserRuleContext {
-		public InterfaceBodyDeclarationContext interfaceBodyDeclaration(int i) {
-			return getRuleContext(InterfaceBodyDeclarationContext.class,i);
-		}
 		public List<InterfaceBodyDeclarationContext> interfaceBodyDeclaration() {
 			return getRuleContexts(InterfaceBodyDeclarationContext.class);
 		}
+		public InterfaceBodyDeclarationContext interfaceBodyDeclaration(int i) {
+			return getRuleContext(InterfaceBodyDeclarationContext.class,i);
+		}
 		public InterfaceBodyContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1425,21 +1496,21 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(409); match(56);
-			setState(413);
+			setState(417); match(13);
+			setState(421);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 1) | (1L << 5) | (1L << 10) | (1L << 11) | (1L << 12) | (1L << 14) | (1L << 15) | (1L << 16) | (1L << 24) | (1L << 30) | (1L << 33) | (1L << 35) | (1L << 36) | (1L << 39) | (1L << 41) | (1L << 49) | (1L << 50) | (1L << 53) | (1L << 58) | (1L << 62))) != 0) || ((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & ((1L << (66 - 66)) | (1L << (69 - 66)) | (1L << (73 - 66)) | (1L << (76 - 66)) | (1L << (77 - 66)) | (1L << (Identifier - 66)))) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 3) | (1L << 6) | (1L << 7) | (1L << 10) | (1L << 12) | (1L << 16) | (1L << 21) | (1L << 31) | (1L << 33) | (1L << 34) | (1L << 35) | (1L << 37) | (1L << 40) | (1L << 41) | (1L << 42) | (1L << 43) | (1L << 44) | (1L << 48) | (1L << 51) | (1L << 55) | (1L << 57))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (66 - 65)) | (1L << (67 - 65)) | (1L << (81 - 65)) | (1L << (Identifier - 65)))) != 0)) {
 				{
 				{
-				setState(410); interfaceBodyDeclaration();
+				setState(418); interfaceBodyDeclaration();
 				}
 				}
-				setState(415);
+				setState(423);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(416); match(13);
+			setState(424); match(59);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1454,12 +1525,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class ClassBodyDeclarationContext extends ParserRuleContext {
-		public MemberDeclContext memberDecl() {
-			return getRuleContext(MemberDeclContext.class,0);
-		}
 		public ModifiersContext modifiers() {
 			return getRuleContext(ModifiersContext.class,0);
 		}
+		public MemberDeclContext memberDecl() {
+			return getRuleContext(MemberDeclContext.class,0);
+		}
 		public ClassBodyDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1478,41 +1549,42 @@ public class DataModelerParser extends Parser {
 		ClassBodyDeclarationContext _localctx = new ClassBodyDeclarationContext(_ctx, getState());
 		enterRule(_localctx, 44, RULE_classBodyDeclaration);
 		try {
-			setState(422);
+			setState(430);
 			switch (_input.LA(1)) {
-			case 77:
+			case 57:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(418); match(77);
+				setState(426); match(57);
 				}
 				break;
-			case 5:
+			case 3:
+			case 6:
 			case 10:
-			case 11:
 			case 12:
-			case 14:
-			case 15:
 			case 16:
-			case 24:
+			case 21:
+			case 31:
 			case 33:
+			case 34:
 			case 35:
-			case 36:
-			case 39:
+			case 37:
+			case 40:
 			case 41:
-			case 49:
-			case 50:
-			case 53:
-			case 58:
-			case 62:
+			case 42:
+			case 43:
+			case 44:
+			case 48:
+			case 51:
+			case 55:
+			case 65:
 			case 66:
-			case 69:
-			case 73:
-			case 76:
+			case 67:
+			case 81:
 			case Identifier:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(419); modifiers();
-				setState(420); memberDecl();
+				setState(427); modifiers();
+				setState(428); memberDecl();
 				}
 				break;
 			default:
@@ -1537,13 +1609,16 @@ public class DataModelerParser extends Parser {
 		public GenericMethodOrConstructorDeclContext genericMethodOrConstructorDecl() {
 			return getRuleContext(GenericMethodOrConstructorDeclContext.class,0);
 		}
+		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
+		public VoidMethodDeclaratorRestContext voidMethodDeclaratorRest() {
+			return getRuleContext(VoidMethodDeclaratorRestContext.class,0);
+		}
 		public ConstructorDeclaratorRestContext constructorDeclaratorRest() {
 			return getRuleContext(ConstructorDeclaratorRestContext.class,0);
 		}
-		public VoidMethodDeclaratorRestContext voidMethodDeclaratorRest() {
-			return getRuleContext(VoidMethodDeclaratorRestContext.class,0);
+		public ClassDeclarationContext classDeclaration() {
+			return getRuleContext(ClassDeclarationContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public MemberDeclContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1562,36 +1637,43 @@ public class DataModelerParser extends Parser {
 		MemberDeclContext _localctx = new MemberDeclContext(_ctx, getState());
 		enterRule(_localctx, 46, RULE_memberDecl);
 		try {
-			setState(431);
-			switch ( getInterpreter().adaptivePredict(_input,31,_ctx) ) {
+			setState(440);
+			switch ( getInterpreter().adaptivePredict(_input,33,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(424); genericMethodOrConstructorDecl();
+				setState(432); genericMethodOrConstructorDecl();
 				}
 				break;
 
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(425); memberDeclaration();
+				setState(433); memberDeclaration();
 				}
 				break;
 
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(426); match(53);
-				setState(427); match(Identifier);
-				setState(428); voidMethodDeclaratorRest();
+				setState(434); match(12);
+				setState(435); match(Identifier);
+				setState(436); voidMethodDeclaratorRest();
 				}
 				break;
 
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(429); match(Identifier);
-				setState(430); constructorDeclaratorRest();
+				setState(437); match(Identifier);
+				setState(438); constructorDeclaratorRest();
+				}
+				break;
+
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(439); classDeclaration();
 				}
 				break;
 			}
@@ -1608,15 +1690,15 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class MemberDeclarationContext extends ParserRuleContext {
+		public MethodDeclarationContext methodDeclaration() {
+			return getRuleContext(MethodDeclarationContext.class,0);
+		}
 		public FieldDeclarationContext fieldDeclaration() {
 			return getRuleContext(FieldDeclarationContext.class,0);
 		}
 		public TypeContext type() {
 			return getRuleContext(TypeContext.class,0);
 		}
-		public MethodDeclarationContext methodDeclaration() {
-			return getRuleContext(MethodDeclarationContext.class,0);
-		}
 		public MemberDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1637,18 +1719,18 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(433); type();
-			setState(436);
-			switch ( getInterpreter().adaptivePredict(_input,32,_ctx) ) {
+			setState(442); type();
+			setState(445);
+			switch ( getInterpreter().adaptivePredict(_input,34,_ctx) ) {
 			case 1:
 				{
-				setState(434); methodDeclaration();
+				setState(443); methodDeclaration();
 				}
 				break;
 
 			case 2:
 				{
-				setState(435); fieldDeclaration();
+				setState(444); fieldDeclaration();
 				}
 				break;
 			}
@@ -1666,12 +1748,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class GenericMethodOrConstructorDeclContext extends ParserRuleContext {
-		public TypeParametersContext typeParameters() {
-			return getRuleContext(TypeParametersContext.class,0);
-		}
 		public GenericMethodOrConstructorRestContext genericMethodOrConstructorRest() {
 			return getRuleContext(GenericMethodOrConstructorRestContext.class,0);
 		}
+		public TypeParametersContext typeParameters() {
+			return getRuleContext(TypeParametersContext.class,0);
+		}
 		public GenericMethodOrConstructorDeclContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1692,8 +1774,8 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(438); typeParameters();
-			setState(439); genericMethodOrConstructorRest();
+			setState(447); typeParameters();
+			setState(448); genericMethodOrConstructorRest();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1708,16 +1790,16 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class GenericMethodOrConstructorRestContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
+		public MethodDeclaratorRestContext methodDeclaratorRest() {
+			return getRuleContext(MethodDeclaratorRestContext.class,0);
+		}
 		public ConstructorDeclaratorRestContext constructorDeclaratorRest() {
 			return getRuleContext(ConstructorDeclaratorRestContext.class,0);
 		}
 		public TypeContext type() {
 			return getRuleContext(TypeContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
-		public MethodDeclaratorRestContext methodDeclaratorRest() {
-			return getRuleContext(MethodDeclaratorRestContext.class,0);
-		}
 		public GenericMethodOrConstructorRestContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1736,44 +1818,44 @@ public class DataModelerParser extends Parser {
 		GenericMethodOrConstructorRestContext _localctx = new GenericMethodOrConstructorRestContext(_ctx, getState());
 		enterRule(_localctx, 52, RULE_genericMethodOrConstructorRest);
 		try {
-			setState(449);
-			switch ( getInterpreter().adaptivePredict(_input,34,_ctx) ) {
+			setState(458);
+			switch ( getInterpreter().adaptivePredict(_input,36,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(443);
+				setState(452);
 				switch (_input.LA(1)) {
+				case 6:
 				case 10:
-				case 12:
-				case 14:
-				case 15:
+				case 16:
+				case 21:
+				case 34:
 				case 35:
-				case 36:
-				case 49:
-				case 69:
+				case 65:
+				case 66:
 				case Identifier:
 					{
-					setState(441); type();
+					setState(450); type();
 					}
 					break;
-				case 53:
+				case 12:
 					{
-					setState(442); match(53);
+					setState(451); match(12);
 					}
 					break;
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(445); match(Identifier);
-				setState(446); methodDeclaratorRest();
+				setState(454); match(Identifier);
+				setState(455); methodDeclaratorRest();
 				}
 				break;
 
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(447); match(Identifier);
-				setState(448); constructorDeclaratorRest();
+				setState(456); match(Identifier);
+				setState(457); constructorDeclaratorRest();
 				}
 				break;
 			}
@@ -1814,8 +1896,8 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(451); match(Identifier);
-			setState(452); methodDeclaratorRest();
+			setState(460); match(Identifier);
+			setState(461); methodDeclaratorRest();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1853,8 +1935,8 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(454); variableDeclarators();
-			setState(455); match(77);
+			setState(463); variableDeclarators();
+			setState(464); match(57);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1869,12 +1951,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class InterfaceBodyDeclarationContext extends ParserRuleContext {
-		public ModifiersContext modifiers() {
-			return getRuleContext(ModifiersContext.class,0);
-		}
 		public InterfaceMemberDeclContext interfaceMemberDecl() {
 			return getRuleContext(InterfaceMemberDeclContext.class,0);
 		}
+		public ModifiersContext modifiers() {
+			return getRuleContext(ModifiersContext.class,0);
+		}
 		public InterfaceBodyDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1893,43 +1975,43 @@ public class DataModelerParser extends Parser {
 		InterfaceBodyDeclarationContext _localctx = new InterfaceBodyDeclarationContext(_ctx, getState());
 		enterRule(_localctx, 58, RULE_interfaceBodyDeclaration);
 		try {
-			setState(461);
+			setState(470);
 			switch (_input.LA(1)) {
-			case 1:
-			case 5:
+			case 3:
+			case 6:
+			case 7:
 			case 10:
-			case 11:
 			case 12:
-			case 14:
-			case 15:
 			case 16:
-			case 24:
-			case 30:
+			case 21:
+			case 31:
 			case 33:
+			case 34:
 			case 35:
-			case 36:
-			case 39:
+			case 37:
+			case 40:
 			case 41:
-			case 49:
-			case 50:
-			case 53:
-			case 58:
-			case 62:
+			case 42:
+			case 43:
+			case 44:
+			case 48:
+			case 51:
+			case 55:
+			case 65:
 			case 66:
-			case 69:
-			case 73:
-			case 76:
+			case 67:
+			case 81:
 			case Identifier:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(457); modifiers();
-				setState(458); interfaceMemberDecl();
+				setState(466); modifiers();
+				setState(467); interfaceMemberDecl();
 				}
 				break;
-			case 77:
+			case 57:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(460); match(77);
+				setState(469); match(57);
 				}
 				break;
 			default:
@@ -1948,11 +2030,15 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class InterfaceMemberDeclContext extends ParserRuleContext {
+		public InterfaceGenericMethodDeclContext interfaceGenericMethodDecl() {
+			return getRuleContext(InterfaceGenericMethodDeclContext.class,0);
+		}
 		public InterfaceDeclarationContext interfaceDeclaration() {
 			return getRuleContext(InterfaceDeclarationContext.class,0);
 		}
-		public InterfaceGenericMethodDeclContext interfaceGenericMethodDecl() {
-			return getRuleContext(InterfaceGenericMethodDeclContext.class,0);
+		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
+		public VoidInterfaceMethodDeclaratorRestContext voidInterfaceMethodDeclaratorRest() {
+			return getRuleContext(VoidInterfaceMethodDeclaratorRestContext.class,0);
 		}
 		public InterfaceMethodOrFieldDeclContext interfaceMethodOrFieldDecl() {
 			return getRuleContext(InterfaceMethodOrFieldDeclContext.class,0);
@@ -1960,10 +2046,6 @@ public class DataModelerParser extends Parser {
 		public ClassDeclarationContext classDeclaration() {
 			return getRuleContext(ClassDeclarationContext.class,0);
 		}
-		public VoidInterfaceMethodDeclaratorRestContext voidInterfaceMethodDeclaratorRest() {
-			return getRuleContext(VoidInterfaceMethodDeclaratorRestContext.class,0);
-		}
-		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public InterfaceMemberDeclContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1982,47 +2064,47 @@ public class DataModelerParser extends Parser {
 		InterfaceMemberDeclContext _localctx = new InterfaceMemberDeclContext(_ctx, getState());
 		enterRule(_localctx, 60, RULE_interfaceMemberDecl);
 		try {
-			setState(470);
+			setState(479);
 			switch (_input.LA(1)) {
+			case 6:
 			case 10:
-			case 12:
-			case 14:
-			case 15:
+			case 16:
+			case 21:
+			case 34:
 			case 35:
-			case 36:
-			case 49:
-			case 69:
+			case 65:
+			case 66:
 			case Identifier:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(463); interfaceMethodOrFieldDecl();
+				setState(472); interfaceMethodOrFieldDecl();
 				}
 				break;
-			case 5:
+			case 37:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(464); interfaceGenericMethodDecl();
+				setState(473); interfaceGenericMethodDecl();
 				}
 				break;
-			case 53:
+			case 12:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(465); match(53);
-				setState(466); match(Identifier);
-				setState(467); voidInterfaceMethodDeclaratorRest();
+				setState(474); match(12);
+				setState(475); match(Identifier);
+				setState(476); voidInterfaceMethodDeclaratorRest();
 				}
 				break;
-			case 1:
-			case 24:
+			case 7:
+			case 41:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(468); interfaceDeclaration();
+				setState(477); interfaceDeclaration();
 				}
 				break;
-			case 30:
+			case 55:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(469); classDeclaration();
+				setState(478); classDeclaration();
 				}
 				break;
 			default:
@@ -2041,13 +2123,13 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class InterfaceMethodOrFieldDeclContext extends ParserRuleContext {
-		public InterfaceMethodOrFieldRestContext interfaceMethodOrFieldRest() {
-			return getRuleContext(InterfaceMethodOrFieldRestContext.class,0);
-		}
 		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public TypeContext type() {
 			return getRuleContext(TypeContext.class,0);
 		}
+		public InterfaceMethodOrFieldRestContext interfaceMethodOrFieldRest() {
+			return getRuleContext(InterfaceMethodOrFieldRestContext.class,0);
+		}
 		public InterfaceMethodOrFieldDeclContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2068,9 +2150,9 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(472); type();
-			setState(473); match(Identifier);
-			setState(474); interfaceMethodOrFieldRest();
+			setState(481); type();
+			setState(482); match(Identifier);
+			setState(483); interfaceMethodOrFieldRest();
 			}
 		}
 		catch (RecognitionException re) {
@@ -2085,12 +2167,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class InterfaceMethodOrFieldRestContext extends ParserRuleContext {
-		public InterfaceMethodDeclaratorRestContext interfaceMethodDeclaratorRest() {
-			return getRuleContext(InterfaceMethodDeclaratorRestContext.class,0);
-		}
 		public ConstantDeclaratorsRestContext constantDeclaratorsRest() {
 			return getRuleContext(ConstantDeclaratorsRestContext.class,0);
 		}
+		public InterfaceMethodDeclaratorRestContext interfaceMethodDeclaratorRest() {
+			return getRuleContext(InterfaceMethodDeclaratorRestContext.class,0);
+		}
 		public InterfaceMethodOrFieldRestContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2109,20 +2191,20 @@ public class DataModelerParser extends Parser {
 		InterfaceMethodOrFieldRestContext _localctx = new InterfaceMethodOrFieldRestContext(_ctx, getState());
 		enterRule(_localctx, 64, RULE_interfaceMethodOrFieldRest);
 		try {
-			setState(480);
+			setState(489);
 			switch (_input.LA(1)) {
-			case 4:
-			case 25:
+			case 17:
+			case 77:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(476); constantDeclaratorsRest();
-				setState(477); match(77);
+				setState(485); constantDeclaratorsRest();
+				setState(486); match(57);
 				}
 				break;
-			case 45:
+			case 24:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(479); interfaceMethodDeclaratorRest();
+				setState(488); interfaceMethodDeclaratorRest();
 				}
 				break;
 			default:
@@ -2144,12 +2226,12 @@ public class DataModelerParser extends Parser {
 		public MethodBodyContext methodBody() {
 			return getRuleContext(MethodBodyContext.class,0);
 		}
-		public FormalParametersContext formalParameters() {
-			return getRuleContext(FormalParametersContext.class,0);
-		}
 		public QualifiedNameListContext qualifiedNameList() {
 			return getRuleContext(QualifiedNameListContext.class,0);
 		}
+		public FormalParametersContext formalParameters() {
+			return getRuleContext(FormalParametersContext.class,0);
+		}
 		public MethodDeclaratorRestContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2171,40 +2253,40 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(482); formalParameters();
-			setState(487);
+			setState(491); formalParameters();
+			setState(496);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==4) {
+			while (_la==77) {
 				{
 				{
-				setState(483); match(4);
-				setState(484); match(37);
+				setState(492); match(77);
+				setState(493); match(38);
 				}
 				}
-				setState(489);
+				setState(498);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(492);
+			setState(501);
 			_la = _input.LA(1);
-			if (_la==27) {
+			if (_la==30) {
 				{
-				setState(490); match(27);
-				setState(491); qualifiedNameList();
+				setState(499); match(30);
+				setState(500); qualifiedNameList();
 				}
 			}
 
-			setState(496);
+			setState(505);
 			switch (_input.LA(1)) {
-			case 56:
+			case 13:
 				{
-				setState(494); methodBody();
+				setState(503); methodBody();
 				}
 				break;
-			case 77:
+			case 57:
 				{
-				setState(495); match(77);
+				setState(504); match(57);
 				}
 				break;
 			default:
@@ -2227,12 +2309,12 @@ public class DataModelerParser extends Parser {
 		public MethodBodyContext methodBody() {
 			return getRuleContext(MethodBodyContext.class,0);
 		}
-		public FormalParametersContext formalParameters() {
-			return getRuleContext(FormalParametersContext.class,0);
-		}
 		public QualifiedNameListContext qualifiedNameList() {
 			return getRuleContext(QualifiedNameListContext.class,0);
 		}
+		public FormalParametersContext formalParameters() {
+			return getRuleContext(FormalParametersContext.class,0);
+		}
 		public VoidMethodDeclaratorRestContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2254,26 +2336,26 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(498); formalParameters();
-			setState(501);
+			setState(507); formalParameters();
+			setState(510);
 			_la = _input.LA(1);
-			if (_la==27) {
+			if (_la==30) {
 				{
-				setState(499); match(27);
-				setState(500); qualifiedNameList();
+				setState(508); match(30);
+				setState(509); qualifiedNameList();
 				}
 			}
 
-			setState(505);
+			setState(514);
 			switch (_input.LA(1)) {
-			case 56:
+			case 13:
 				{
-				setState(503); methodBody();
+				setState(512); methodBody();
 				}
 				break;
-			case 77:
+			case 57:
 				{
-				setState(504); match(77);
+				setState(513); match(57);
 				}
 				break;
 			default:
@@ -2293,12 +2375,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class InterfaceMethodDeclaratorRestContext extends ParserRuleContext {
-		public FormalParametersContext formalParameters() {
-			return getRuleContext(FormalParametersContext.class,0);
-		}
 		public QualifiedNameListContext qualifiedNameList() {
 			return getRuleContext(QualifiedNameListContext.class,0);
 		}
+		public FormalParametersContext formalParameters() {
+			return getRuleContext(FormalParametersContext.class,0);
+		}
 		public InterfaceMethodDeclaratorRestContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2320,31 +2402,31 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(507); formalParameters();
-			setState(512);
+			setState(516); formalParameters();
+			setState(521);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==4) {
+			while (_la==77) {
 				{
 				{
-				setState(508); match(4);
-				setState(509); match(37);
+				setState(517); match(77);
+				setState(518); match(38);
 				}
 				}
-				setState(514);
+				setState(523);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(517);
+			setState(526);
 			_la = _input.LA(1);
-			if (_la==27) {
+			if (_la==30) {
 				{
-				setState(515); match(27);
-				setState(516); qualifiedNameList();
+				setState(524); match(30);
+				setState(525); qualifiedNameList();
 				}
 			}
 
-			setState(519); match(77);
+			setState(528); match(57);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2359,16 +2441,16 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class InterfaceGenericMethodDeclContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public InterfaceMethodDeclaratorRestContext interfaceMethodDeclaratorRest() {
 			return getRuleContext(InterfaceMethodDeclaratorRestContext.class,0);
 		}
-		public TypeParametersContext typeParameters() {
-			return getRuleContext(TypeParametersContext.class,0);
-		}
 		public TypeContext type() {
 			return getRuleContext(TypeContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
+		public TypeParametersContext typeParameters() {
+			return getRuleContext(TypeParametersContext.class,0);
+		}
 		public InterfaceGenericMethodDeclContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2389,32 +2471,32 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(521); typeParameters();
-			setState(524);
+			setState(530); typeParameters();
+			setState(533);
 			switch (_input.LA(1)) {
+			case 6:
 			case 10:
-			case 12:
-			case 14:
-			case 15:
+			case 16:
+			case 21:
+			case 34:
 			case 35:
-			case 36:
-			case 49:
-			case 69:
+			case 65:
+			case 66:
 			case Identifier:
 				{
-				setState(522); type();
+				setState(531); type();
 				}
 				break;
-			case 53:
+			case 12:
 				{
-				setState(523); match(53);
+				setState(532); match(12);
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(526); match(Identifier);
-			setState(527); interfaceMethodDeclaratorRest();
+			setState(535); match(Identifier);
+			setState(536); interfaceMethodDeclaratorRest();
 			}
 		}
 		catch (RecognitionException re) {
@@ -2429,12 +2511,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class VoidInterfaceMethodDeclaratorRestContext extends ParserRuleContext {
-		public FormalParametersContext formalParameters() {
-			return getRuleContext(FormalParametersContext.class,0);
-		}
 		public QualifiedNameListContext qualifiedNameList() {
 			return getRuleContext(QualifiedNameListContext.class,0);
 		}
+		public FormalParametersContext formalParameters() {
+			return getRuleContext(FormalParametersContext.class,0);
+		}
 		public VoidInterfaceMethodDeclaratorRestContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2456,17 +2538,17 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(529); formalParameters();
-			setState(532);
+			setState(538); formalParameters();
+			setState(541);
 			_la = _input.LA(1);
-			if (_la==27) {
+			if (_la==30) {
 				{
-				setState(530); match(27);
-				setState(531); qualifiedNameList();
+				setState(539); match(30);
+				setState(540); qualifiedNameList();
 				}
 			}
 
-			setState(534); match(77);
+			setState(543); match(57);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2481,14 +2563,14 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class ConstructorDeclaratorRestContext extends ParserRuleContext {
-		public ConstructorBodyContext constructorBody() {
-			return getRuleContext(ConstructorBodyContext.class,0);
+		public QualifiedNameListContext qualifiedNameList() {
+			return getRuleContext(QualifiedNameListContext.class,0);
 		}
 		public FormalParametersContext formalParameters() {
 			return getRuleContext(FormalParametersContext.class,0);
 		}
-		public QualifiedNameListContext qualifiedNameList() {
-			return getRuleContext(QualifiedNameListContext.class,0);
+		public ConstructorBodyContext constructorBody() {
+			return getRuleContext(ConstructorBodyContext.class,0);
 		}
 		public ConstructorDeclaratorRestContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -2511,17 +2593,17 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(536); formalParameters();
-			setState(539);
+			setState(545); formalParameters();
+			setState(548);
 			_la = _input.LA(1);
-			if (_la==27) {
+			if (_la==30) {
 				{
-				setState(537); match(27);
-				setState(538); qualifiedNameList();
+				setState(546); match(30);
+				setState(547); qualifiedNameList();
 				}
 			}
 
-			setState(541); constructorBody();
+			setState(550); constructorBody();
 			}
 		}
 		catch (RecognitionException re) {
@@ -2536,10 +2618,10 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class ConstantDeclaratorContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public ConstantDeclaratorRestContext constantDeclaratorRest() {
 			return getRuleContext(ConstantDeclaratorRestContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public ConstantDeclaratorContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2560,8 +2642,8 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(543); match(Identifier);
-			setState(544); constantDeclaratorRest();
+			setState(552); match(Identifier);
+			setState(553); constantDeclaratorRest();
 			}
 		}
 		catch (RecognitionException re) {
@@ -2603,18 +2685,18 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(546); variableDeclarator();
-			setState(551);
+			setState(555); variableDeclarator();
+			setState(560);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==42) {
+			while (_la==27) {
 				{
 				{
-				setState(547); match(42);
-				setState(548); variableDeclarator();
+				setState(556); match(27);
+				setState(557); variableDeclarator();
 				}
 				}
-				setState(553);
+				setState(562);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2632,12 +2714,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class VariableDeclaratorContext extends ParserRuleContext {
-		public VariableDeclaratorIdContext variableDeclaratorId() {
-			return getRuleContext(VariableDeclaratorIdContext.class,0);
-		}
 		public VariableInitializerContext variableInitializer() {
 			return getRuleContext(VariableInitializerContext.class,0);
 		}
+		public VariableDeclaratorIdContext variableDeclaratorId() {
+			return getRuleContext(VariableDeclaratorIdContext.class,0);
+		}
 		public VariableDeclaratorContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2659,13 +2741,13 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(554); variableDeclaratorId();
-			setState(557);
+			setState(563); variableDeclaratorId();
+			setState(566);
 			_la = _input.LA(1);
-			if (_la==25) {
+			if (_la==17) {
 				{
-				setState(555); match(25);
-				setState(556); variableInitializer();
+				setState(564); match(17);
+				setState(565); variableInitializer();
 				}
 			}
 
@@ -2683,12 +2765,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class ConstantDeclaratorsRestContext extends ParserRuleContext {
-		public List<ConstantDeclaratorContext> constantDeclarator() {
-			return getRuleContexts(ConstantDeclaratorContext.class);
-		}
 		public ConstantDeclaratorRestContext constantDeclaratorRest() {
 			return getRuleContext(ConstantDeclaratorRestContext.class,0);
 		}
+		public List<ConstantDeclaratorContext> constantDeclarator() {
+			return getRuleContexts(ConstantDeclaratorContext.class);
+		}
 		public ConstantDeclaratorContext constantDeclarator(int i) {
 			return getRuleContext(ConstantDeclaratorContext.class,i);
 		}
@@ -2713,18 +2795,18 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(559); constantDeclaratorRest();
-			setState(564);
+			setState(568); constantDeclaratorRest();
+			setState(573);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==42) {
+			while (_la==27) {
 				{
 				{
-				setState(560); match(42);
-				setState(561); constantDeclarator();
+				setState(569); match(27);
+				setState(570); constantDeclarator();
 				}
 				}
-				setState(566);
+				setState(575);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2766,22 +2848,22 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(571);
+			setState(580);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==4) {
+			while (_la==77) {
 				{
 				{
-				setState(567); match(4);
-				setState(568); match(37);
+				setState(576); match(77);
+				setState(577); match(38);
 				}
 				}
-				setState(573);
+				setState(582);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(574); match(25);
-			setState(575); variableInitializer();
+			setState(583); match(17);
+			setState(584); variableInitializer();
 			}
 		}
 		catch (RecognitionException re) {
@@ -2818,18 +2900,18 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(577); match(Identifier);
-			setState(582);
+			setState(586); match(Identifier);
+			setState(591);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==4) {
+			while (_la==77) {
 				{
 				{
-				setState(578); match(4);
-				setState(579); match(37);
+				setState(587); match(77);
+				setState(588); match(38);
 				}
 				}
-				setState(584);
+				setState(593);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2871,35 +2953,35 @@ public class DataModelerParser extends Parser {
 		VariableInitializerContext _localctx = new VariableInitializerContext(_ctx, getState());
 		enterRule(_localctx, 90, RULE_variableInitializer);
 		try {
-			setState(587);
+			setState(596);
 			switch (_input.LA(1)) {
-			case 56:
+			case 13:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(585); arrayInitializer();
+				setState(594); arrayInitializer();
 				}
 				break;
 			case 6:
-			case 7:
+			case 8:
 			case 10:
 			case 12:
-			case 14:
-			case 15:
-			case 18:
-			case 26:
+			case 16:
+			case 21:
+			case 22:
+			case 24:
 			case 29:
 			case 34:
 			case 35:
 			case 36:
-			case 44:
+			case 39:
 			case 45:
-			case 49:
-			case 53:
+			case 54:
 			case 65:
-			case 67:
-			case 69:
-			case 72:
-			case 79:
+			case 66:
+			case 71:
+			case 80:
+			case 83:
+			case 86:
 			case 88:
 			case HexLiteral:
 			case DecimalLiteral:
@@ -2910,7 +2992,7 @@ public class DataModelerParser extends Parser {
 			case Identifier:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(586); expression(0);
+				setState(595); expression(0);
 				}
 				break;
 			default:
@@ -2929,12 +3011,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class ArrayInitializerContext extends ParserRuleContext {
-		public VariableInitializerContext variableInitializer(int i) {
-			return getRuleContext(VariableInitializerContext.class,i);
-		}
 		public List<VariableInitializerContext> variableInitializer() {
 			return getRuleContexts(VariableInitializerContext.class);
 		}
+		public VariableInitializerContext variableInitializer(int i) {
+			return getRuleContext(VariableInitializerContext.class,i);
+		}
 		public ArrayInitializerContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2957,40 +3039,40 @@ public class DataModelerParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(589); match(56);
-			setState(601);
+			setState(598); match(13);
+			setState(610);
 			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 7) | (1L << 10) | (1L << 12) | (1L << 14) | (1L << 15) | (1L << 18) | (1L << 26) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 44) | (1L << 45) | (1L << 49) | (1L << 53) | (1L << 56))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (67 - 65)) | (1L << (69 - 65)) | (1L << (72 - 65)) | (1L << (79 - 65)) | (1L << (88 - 65)) | (1L << (HexLiteral - 65)) | (1L << (DecimalLiteral - 65)) | (1L << (OctalLiteral - 65)) | (1L << (FloatingPointLiteral - 65)) | (1L << (CharacterLiteral - 65)) | (1L << (StringLiteral - 65)) | (1L << (Identifier - 65)))) != 0)) {
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 8) | (1L << 10) | (1L << 12) | (1L << 13) | (1L << 16) | (1L << 21) | (1L << 22) | (1L << 24) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 39) | (1L << 45) | (1L << 54))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (66 - 65)) | (1L << (71 - 65)) | (1L << (80 - 65)) | (1L << (83 - 65)) | (1L << (86 - 65)) | (1L << (88 - 65)) | (1L << (HexLiteral - 65)) | (1L << (DecimalLiteral - 65)) | (1L << (OctalLiteral - 65)) | (1L << (FloatingPointLiteral - 65)) | (1L << (CharacterLiteral - 65)) | (1L << (StringLiteral - 65)) | (1L << (Identifier - 65)))) != 0)) {
 				{
-				setState(590); variableInitializer();
-				setState(595);
+				setState(599); variableInitializer();
+				setState(604);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,54,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,56,_ctx);
 				while ( _alt!=2 && _alt!=-1 ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(591); match(42);
-						setState(592); variableInitializer();
+						setState(600); match(27);
+						setState(601); variableInitializer();
 						}
 						} 
 					}
-					setState(597);
+					setState(606);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,54,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,56,_ctx);
 				}
-				setState(599);
+				setState(608);
 				_la = _input.LA(1);
-				if (_la==42) {
+				if (_la==27) {
 					{
-					setState(598); match(42);
+					setState(607); match(27);
 					}
 				}
 
 				}
 			}
 
-			setState(603); match(13);
+			setState(612); match(59);
 			}
 		}
 		catch (RecognitionException re) {
@@ -3026,78 +3108,78 @@ public class DataModelerParser extends Parser {
 		ModifierContext _localctx = new ModifierContext(_ctx, getState());
 		enterRule(_localctx, 94, RULE_modifier);
 		try {
-			setState(617);
+			setState(626);
 			switch (_input.LA(1)) {
-			case 24:
+			case 41:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(605); annotation();
+				setState(614); annotation();
 				}
 				break;
-			case 39:
+			case 81:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(606); match(39);
+				setState(615); match(81);
 				}
 				break;
-			case 73:
+			case 43:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(607); match(73);
+				setState(616); match(43);
 				}
 				break;
-			case 50:
+			case 3:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(608); match(50);
+				setState(617); match(3);
 				}
 				break;
-			case 66:
+			case 42:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(609); match(66);
+				setState(618); match(42);
 				}
 				break;
-			case 11:
+			case 33:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(610); match(11);
+				setState(619); match(33);
 				}
 				break;
-			case 62:
+			case 44:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(611); match(62);
+				setState(620); match(44);
 				}
 				break;
-			case 58:
+			case 51:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(612); match(58);
+				setState(621); match(51);
 				}
 				break;
-			case 41:
+			case 67:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(613); match(41);
+				setState(622); match(67);
 				}
 				break;
-			case 33:
+			case 40:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(614); match(33);
+				setState(623); match(40);
 				}
 				break;
-			case 76:
+			case 31:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(615); match(76);
+				setState(624); match(31);
 				}
 				break;
-			case 16:
+			case 48:
 				enterOuterAlt(_localctx, 12);
 				{
-				setState(616); match(16);
+				setState(625); match(48);
 				}
 				break;
 			default:
@@ -3139,7 +3221,7 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(619); qualifiedName();
+			setState(628); qualifiedName();
 			}
 		}
 		catch (RecognitionException re) {
@@ -3175,7 +3257,7 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(621); match(Identifier);
+			setState(630); match(Identifier);
 			}
 		}
 		catch (RecognitionException re) {
@@ -3213,7 +3295,7 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(623); qualifiedName();
+			setState(632); qualifiedName();
 			}
 		}
 		catch (RecognitionException re) {
@@ -3228,12 +3310,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class TypeContext extends ParserRuleContext {
-		public PrimitiveTypeContext primitiveType() {
-			return getRuleContext(PrimitiveTypeContext.class,0);
-		}
 		public ClassOrInterfaceTypeContext classOrInterfaceType() {
 			return getRuleContext(ClassOrInterfaceTypeContext.class,0);
 		}
+		public PrimitiveTypeContext primitiveType() {
+			return getRuleContext(PrimitiveTypeContext.class,0);
+		}
 		public TypeContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -3253,56 +3335,56 @@ public class DataModelerParser extends Parser {
 		enterRule(_localctx, 102, RULE_type);
 		try {
 			int _alt;
-			setState(641);
+			setState(650);
 			switch (_input.LA(1)) {
 			case Identifier:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(625); classOrInterfaceType();
-				setState(630);
+				setState(634); classOrInterfaceType();
+				setState(639);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,58,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,60,_ctx);
 				while ( _alt!=2 && _alt!=-1 ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(626); match(4);
-						setState(627); match(37);
+						setState(635); match(77);
+						setState(636); match(38);
 						}
 						} 
 					}
-					setState(632);
+					setState(641);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,58,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,60,_ctx);
 				}
 				}
 				break;
+			case 6:
 			case 10:
-			case 12:
-			case 14:
-			case 15:
+			case 16:
+			case 21:
+			case 34:
 			case 35:
-			case 36:
-			case 49:
-			case 69:
+			case 65:
+			case 66:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(633); primitiveType();
-				setState(638);
+				setState(642); primitiveType();
+				setState(647);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,59,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,61,_ctx);
 				while ( _alt!=2 && _alt!=-1 ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(634); match(4);
-						setState(635); match(37);
+						setState(643); match(77);
+						setState(644); match(38);
 						}
 						} 
 					}
-					setState(640);
+					setState(649);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,59,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,61,_ctx);
 				}
 				}
 				break;
@@ -3322,16 +3404,16 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class ClassOrInterfaceTypeContext extends ParserRuleContext {
-		public TypeArgumentsContext typeArguments(int i) {
-			return getRuleContext(TypeArgumentsContext.class,i);
+		public List<TypeArgumentsContext> typeArguments() {
+			return getRuleContexts(TypeArgumentsContext.class);
 		}
+		public List<TerminalNode> Identifier() { return getTokens(DataModelerParser.Identifier); }
 		public TerminalNode Identifier(int i) {
 			return getToken(DataModelerParser.Identifier, i);
 		}
-		public List<TypeArgumentsContext> typeArguments() {
-			return getRuleContexts(TypeArgumentsContext.class);
+		public TypeArgumentsContext typeArguments(int i) {
+			return getRuleContext(TypeArgumentsContext.class,i);
 		}
-		public List<TerminalNode> Identifier() { return getTokens(DataModelerParser.Identifier); }
 		public ClassOrInterfaceTypeContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -3353,38 +3435,38 @@ public class DataModelerParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(643); match(Identifier);
-			setState(645);
-			switch ( getInterpreter().adaptivePredict(_input,61,_ctx) ) {
+			setState(652); match(Identifier);
+			setState(654);
+			switch ( getInterpreter().adaptivePredict(_input,63,_ctx) ) {
 			case 1:
 				{
-				setState(644); typeArguments();
+				setState(653); typeArguments();
 				}
 				break;
 			}
-			setState(654);
+			setState(663);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,63,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,65,_ctx);
 			while ( _alt!=2 && _alt!=-1 ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(647); match(71);
-					setState(648); match(Identifier);
-					setState(650);
-					switch ( getInterpreter().adaptivePredict(_input,62,_ctx) ) {
+					setState(656); match(72);
+					setState(657); match(Identifier);
+					setState(659);
+					switch ( getInterpreter().adaptivePredict(_input,64,_ctx) ) {
 					case 1:
 						{
-						setState(649); typeArguments();
+						setState(658); typeArguments();
 						}
 						break;
 					}
 					}
 					} 
 				}
-				setState(656);
+				setState(665);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,63,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,65,_ctx);
 			}
 			}
 		}
@@ -3421,9 +3503,9 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(657);
+			setState(666);
 			_la = _input.LA(1);
-			if ( !(((((_la - 10)) & ~0x3f) == 0 && ((1L << (_la - 10)) & ((1L << (10 - 10)) | (1L << (12 - 10)) | (1L << (14 - 10)) | (1L << (15 - 10)) | (1L << (35 - 10)) | (1L << (36 - 10)) | (1L << (49 - 10)) | (1L << (69 - 10)))) != 0)) ) {
+			if ( !(((((_la - 6)) & ~0x3f) == 0 && ((1L << (_la - 6)) & ((1L << (6 - 6)) | (1L << (10 - 6)) | (1L << (16 - 6)) | (1L << (21 - 6)) | (1L << (34 - 6)) | (1L << (35 - 6)) | (1L << (65 - 6)) | (1L << (66 - 6)))) != 0)) ) {
 			_errHandler.recoverInline(this);
 			}
 			consume();
@@ -3462,18 +3544,18 @@ public class DataModelerParser extends Parser {
 		VariableModifierContext _localctx = new VariableModifierContext(_ctx, getState());
 		enterRule(_localctx, 108, RULE_variableModifier);
 		try {
-			setState(661);
+			setState(670);
 			switch (_input.LA(1)) {
-			case 62:
+			case 44:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(659); match(62);
+				setState(668); match(44);
 				}
 				break;
-			case 24:
+			case 41:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(660); annotation();
+				setState(669); annotation();
 				}
 				break;
 			default:
@@ -3519,23 +3601,23 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(663); match(5);
-			setState(664); typeArgument();
-			setState(669);
+			setState(672); match(37);
+			setState(673); typeArgument();
+			setState(678);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==42) {
+			while (_la==27) {
 				{
 				{
-				setState(665); match(42);
-				setState(666); typeArgument();
+				setState(674); match(27);
+				setState(675); typeArgument();
 				}
 				}
-				setState(671);
+				setState(680);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(672); match(81);
+			setState(681); match(82);
 			}
 		}
 		catch (RecognitionException re) {
@@ -3572,37 +3654,37 @@ public class DataModelerParser extends Parser {
 		enterRule(_localctx, 112, RULE_typeArgument);
 		int _la;
 		try {
-			setState(680);
+			setState(689);
 			switch (_input.LA(1)) {
+			case 6:
 			case 10:
-			case 12:
-			case 14:
-			case 15:
+			case 16:
+			case 21:
+			case 34:
 			case 35:
-			case 36:
-			case 49:
-			case 69:
+			case 65:
+			case 66:
 			case Identifier:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(674); type();
+				setState(683); type();
 				}
 				break;
-			case 51:
+			case 63:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(675); match(51);
-				setState(678);
+				setState(684); match(63);
+				setState(687);
 				_la = _input.LA(1);
-				if (_la==18 || _la==60) {
+				if (_la==60 || _la==86) {
 					{
-					setState(676);
+					setState(685);
 					_la = _input.LA(1);
-					if ( !(_la==18 || _la==60) ) {
+					if ( !(_la==60 || _la==86) ) {
 					_errHandler.recoverInline(this);
 					}
 					consume();
-					setState(677); type();
+					setState(686); type();
 					}
 				}
 
@@ -3624,12 +3706,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class QualifiedNameListContext extends ParserRuleContext {
-		public List<QualifiedNameContext> qualifiedName() {
-			return getRuleContexts(QualifiedNameContext.class);
-		}
 		public QualifiedNameContext qualifiedName(int i) {
 			return getRuleContext(QualifiedNameContext.class,i);
 		}
+		public List<QualifiedNameContext> qualifiedName() {
+			return getRuleContexts(QualifiedNameContext.class);
+		}
 		public QualifiedNameListContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -3651,18 +3733,18 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(682); qualifiedName();
-			setState(687);
+			setState(691); qualifiedName();
+			setState(696);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==42) {
+			while (_la==27) {
 				{
 				{
-				setState(683); match(42);
-				setState(684); qualifiedName();
+				setState(692); match(27);
+				setState(693); qualifiedName();
 				}
 				}
-				setState(689);
+				setState(698);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -3704,16 +3786,16 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(690); match(45);
-			setState(692);
+			setState(699); match(24);
+			setState(701);
 			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 10) | (1L << 12) | (1L << 14) | (1L << 15) | (1L << 24) | (1L << 35) | (1L << 36) | (1L << 49) | (1L << 62))) != 0) || _la==69 || _la==Identifier) {
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 10) | (1L << 16) | (1L << 21) | (1L << 34) | (1L << 35) | (1L << 41) | (1L << 44))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (66 - 65)) | (1L << (Identifier - 65)))) != 0)) {
 				{
-				setState(691); formalParameterDecls();
+				setState(700); formalParameterDecls();
 				}
 			}
 
-			setState(694); match(22);
+			setState(703); match(87);
 			}
 		}
 		catch (RecognitionException re) {
@@ -3728,15 +3810,15 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class FormalParameterDeclsContext extends ParserRuleContext {
-		public FormalParameterDeclsRestContext formalParameterDeclsRest() {
-			return getRuleContext(FormalParameterDeclsRestContext.class,0);
-		}
 		public VariableModifiersContext variableModifiers() {
 			return getRuleContext(VariableModifiersContext.class,0);
 		}
 		public TypeContext type() {
 			return getRuleContext(TypeContext.class,0);
 		}
+		public FormalParameterDeclsRestContext formalParameterDeclsRest() {
+			return getRuleContext(FormalParameterDeclsRestContext.class,0);
+		}
 		public FormalParameterDeclsContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -3757,9 +3839,9 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(696); variableModifiers();
-			setState(697); type();
-			setState(698); formalParameterDeclsRest();
+			setState(705); variableModifiers();
+			setState(706); type();
+			setState(707); formalParameterDeclsRest();
 			}
 		}
 		catch (RecognitionException re) {
@@ -3774,12 +3856,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class FormalParameterDeclsRestContext extends ParserRuleContext {
-		public VariableDeclaratorIdContext variableDeclaratorId() {
-			return getRuleContext(VariableDeclaratorIdContext.class,0);
-		}
 		public FormalParameterDeclsContext formalParameterDecls() {
 			return getRuleContext(FormalParameterDeclsContext.class,0);
 		}
+		public VariableDeclaratorIdContext variableDeclaratorId() {
+			return getRuleContext(VariableDeclaratorIdContext.class,0);
+		}
 		public FormalParameterDeclsRestContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -3799,28 +3881,28 @@ public class DataModelerParser extends Parser {
 		enterRule(_localctx, 120, RULE_formalParameterDeclsRest);
 		int _la;
 		try {
-			setState(707);
+			setState(716);
 			switch (_input.LA(1)) {
 			case Identifier:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(700); variableDeclaratorId();
-				setState(703);
+				setState(709); variableDeclaratorId();
+				setState(712);
 				_la = _input.LA(1);
-				if (_la==42) {
+				if (_la==27) {
 					{
-					setState(701); match(42);
-					setState(702); formalParameterDecls();
+					setState(710); match(27);
+					setState(711); formalParameterDecls();
 					}
 				}
 
 				}
 				break;
-			case 55:
+			case 75:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(705); match(55);
-				setState(706); variableDeclaratorId();
+				setState(714); match(75);
+				setState(715); variableDeclaratorId();
 				}
 				break;
 			default:
@@ -3839,8 +3921,11 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class MethodBodyContext extends ParserRuleContext {
-		public BlockContext block() {
-			return getRuleContext(BlockContext.class,0);
+		public List<BlockStatementContext> blockStatement() {
+			return getRuleContexts(BlockStatementContext.class);
+		}
+		public BlockStatementContext blockStatement(int i) {
+			return getRuleContext(BlockStatementContext.class,i);
 		}
 		public MethodBodyContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -3859,10 +3944,26 @@ public class DataModelerParser extends Parser {
 	public final MethodBodyContext methodBody() throws RecognitionException {
 		MethodBodyContext _localctx = new MethodBodyContext(_ctx, getState());
 		enterRule(_localctx, 122, RULE_methodBody);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(709); block();
+			setState(718); match(13);
+			if (skipMethodBodies) skipBody();
+			setState(723);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 8) | (1L << 10) | (1L << 11) | (1L << 12) | (1L << 13) | (1L << 16) | (1L << 19) | (1L << 21) | (1L << 22) | (1L << 23) | (1L << 24) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 39) | (1L << 41) | (1L << 44) | (1L << 45) | (1L << 49) | (1L << 53) | (1L << 54) | (1L << 57) | (1L << 61) | (1L << 62))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (64 - 64)) | (1L << (65 - 64)) | (1L << (66 - 64)) | (1L << (67 - 64)) | (1L << (69 - 64)) | (1L << (71 - 64)) | (1L << (74 - 64)) | (1L << (80 - 64)) | (1L << (83 - 64)) | (1L << (86 - 64)) | (1L << (88 - 64)) | (1L << (HexLiteral - 64)) | (1L << (DecimalLiteral - 64)) | (1L << (OctalLiteral - 64)) | (1L << (FloatingPointLiteral - 64)) | (1L << (CharacterLiteral - 64)) | (1L << (StringLiteral - 64)) | (1L << (ASSERT - 64)) | (1L << (Identifier - 64)))) != 0)) {
+				{
+				{
+				setState(720); blockStatement();
+				}
+				}
+				setState(725);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(726); match(59);
 			}
 		}
 		catch (RecognitionException re) {
@@ -3877,15 +3978,15 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class ConstructorBodyContext extends ParserRuleContext {
+		public List<BlockStatementContext> blockStatement() {
+			return getRuleContexts(BlockStatementContext.class);
+		}
 		public BlockStatementContext blockStatement(int i) {
 			return getRuleContext(BlockStatementContext.class,i);
 		}
 		public ExplicitConstructorInvocationContext explicitConstructorInvocation() {
 			return getRuleContext(ExplicitConstructorInvocationContext.class,0);
 		}
-		public List<BlockStatementContext> blockStatement() {
-			return getRuleContexts(BlockStatementContext.class);
-		}
 		public ConstructorBodyContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -3907,29 +4008,30 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(711); match(56);
-			setState(713);
-			switch ( getInterpreter().adaptivePredict(_input,72,_ctx) ) {
+			setState(728); match(13);
+			if (skipMethodBodies) skipBody();
+			setState(731);
+			switch ( getInterpreter().adaptivePredict(_input,75,_ctx) ) {
 			case 1:
 				{
-				setState(712); explicitConstructorInvocation();
+				setState(730); explicitConstructorInvocation();
 				}
 				break;
 			}
-			setState(718);
+			setState(736);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 7) | (1L << 8) | (1L << 10) | (1L << 12) | (1L << 14) | (1L << 15) | (1L << 18) | (1L << 19) | (1L << 23) | (1L << 24) | (1L << 26) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 41) | (1L << 43) | (1L << 44) | (1L << 45) | (1L << 47) | (1L << 49) | (1L << 52) | (1L << 53) | (1L << 56) | (1L << 57) | (1L << 62))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (67 - 65)) | (1L << (69 - 65)) | (1L << (72 - 65)) | (1L << (74 - 65)) | (1L << (75 - 65)) | (1L << (77 - 65)) | (1L << (79 - 65)) | (1L << (84 - 65)) | (1L << (88 - 65)) | (1L << (HexLiteral - 65)) | (1L << (DecimalLiteral - 65)) | (1L << (OctalLiteral - 65)) | (1L << (FloatingPointLiteral - 65)) | (1L << (CharacterLiteral - 65)) | (1L << (StringLiteral - 65)) | (1L << (ASSERT - 65)) | (1L << (Identifier - 65)))) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 8) | (1L << 10) | (1L << 11) | (1L << 12) | (1L << 13) | (1L << 16) | (1L << 19) | (1L << 21) | (1L << 22) | (1L << 23) | (1L << 24) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 39) | (1L << 41) | (1L << 44) | (1L << 45) | (1L << 49) | (1L << 53) | (1L << 54) | (1L << 57) | (1L << 61) | (1L << 62))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (64 - 64)) | (1L << (65 - 64)) | (1L << (66 - 64)) | (1L << (67 - 64)) | (1L << (69 - 64)) | (1L << (71 - 64)) | (1L << (74 - 64)) | (1L << (80 - 64)) | (1L << (83 - 64)) | (1L << (86 - 64)) | (1L << (88 - 64)) | (1L << (HexLiteral - 64)) | (1L << (DecimalLiteral - 64)) | (1L << (OctalLiteral - 64)) | (1L << (FloatingPointLiteral - 64)) | (1L << (CharacterLiteral - 64)) | (1L << (StringLiteral - 64)) | (1L << (ASSERT - 64)) | (1L << (Identifier - 64)))) != 0)) {
 				{
 				{
-				setState(715); blockStatement();
+				setState(733); blockStatement();
 				}
 				}
-				setState(720);
+				setState(738);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(721); match(13);
+			setState(739); match(59);
 			}
 		}
 		catch (RecognitionException re) {
@@ -3944,15 +4046,15 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class ExplicitConstructorInvocationContext extends ParserRuleContext {
+		public NonWildcardTypeArgumentsContext nonWildcardTypeArguments() {
+			return getRuleContext(NonWildcardTypeArgumentsContext.class,0);
+		}
 		public ArgumentsContext arguments() {
 			return getRuleContext(ArgumentsContext.class,0);
 		}
 		public PrimaryContext primary() {
 			return getRuleContext(PrimaryContext.class,0);
 		}
-		public NonWildcardTypeArgumentsContext nonWildcardTypeArguments() {
-			return getRuleContext(NonWildcardTypeArgumentsContext.class,0);
-		}
 		public ExplicitConstructorInvocationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -3972,46 +4074,46 @@ public class DataModelerParser extends Parser {
 		enterRule(_localctx, 126, RULE_explicitConstructorInvocation);
 		int _la;
 		try {
-			setState(739);
-			switch ( getInterpreter().adaptivePredict(_input,76,_ctx) ) {
+			setState(757);
+			switch ( getInterpreter().adaptivePredict(_input,79,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(724);
+				setState(742);
 				_la = _input.LA(1);
-				if (_la==5) {
+				if (_la==37) {
 					{
-					setState(723); nonWildcardTypeArguments();
+					setState(741); nonWildcardTypeArguments();
 					}
 				}
 
-				setState(726);
+				setState(744);
 				_la = _input.LA(1);
-				if ( !(_la==18 || _la==79) ) {
+				if ( !(_la==71 || _la==86) ) {
 				_errHandler.recoverInline(this);
 				}
 				consume();
-				setState(727); arguments();
-				setState(728); match(77);
+				setState(745); arguments();
+				setState(746); match(57);
 				}
 				break;
 
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(730); primary();
-				setState(731); match(71);
-				setState(733);
+				setState(748); primary();
+				setState(749); match(72);
+				setState(751);
 				_la = _input.LA(1);
-				if (_la==5) {
+				if (_la==37) {
 					{
-					setState(732); nonWildcardTypeArguments();
+					setState(750); nonWildcardTypeArguments();
 					}
 				}
 
-				setState(735); match(18);
-				setState(736); arguments();
-				setState(737); match(77);
+				setState(753); match(86);
+				setState(754); arguments();
+				setState(755); match(57);
 				}
 				break;
 			}
@@ -4028,10 +4130,10 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class QualifiedNameContext extends ParserRuleContext {
+		public List<TerminalNode> Identifier() { return getTokens(DataModelerParser.Identifier); }
 		public TerminalNode Identifier(int i) {
 			return getToken(DataModelerParser.Identifier, i);
 		}
-		public List<TerminalNode> Identifier() { return getTokens(DataModelerParser.Identifier); }
 		public QualifiedNameContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -4053,22 +4155,22 @@ public class DataModelerParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(741); match(Identifier);
-			setState(746);
+			setState(759); match(Identifier);
+			setState(764);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,77,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,80,_ctx);
 			while ( _alt!=2 && _alt!=-1 ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(742); match(71);
-					setState(743); match(Identifier);
+					setState(760); match(72);
+					setState(761); match(Identifier);
 					}
 					} 
 				}
-				setState(748);
+				setState(766);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,77,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,80,_ctx);
 			}
 			}
 		}
@@ -4085,14 +4187,14 @@ public class DataModelerParser extends Parser {
 
 	public static class LiteralContext extends ParserRuleContext {
 		public TerminalNode StringLiteral() { return getToken(DataModelerParser.StringLiteral, 0); }
-		public BooleanLiteralContext booleanLiteral() {
-			return getRuleContext(BooleanLiteralContext.class,0);
-		}
-		public TerminalNode CharacterLiteral() { return getToken(DataModelerParser.CharacterLiteral, 0); }
 		public TerminalNode FloatingPointLiteral() { return getToken(DataModelerParser.FloatingPointLiteral, 0); }
 		public IntegerLiteralContext integerLiteral() {
 			return getRuleContext(IntegerLiteralContext.class,0);
 		}
+		public BooleanLiteralContext booleanLiteral() {
+			return getRuleContext(BooleanLiteralContext.class,0);
+		}
+		public TerminalNode CharacterLiteral() { return getToken(DataModelerParser.CharacterLiteral, 0); }
 		public LiteralContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -4111,45 +4213,45 @@ public class DataModelerParser extends Parser {
 		LiteralContext _localctx = new LiteralContext(_ctx, getState());
 		enterRule(_localctx, 130, RULE_literal);
 		try {
-			setState(755);
+			setState(773);
 			switch (_input.LA(1)) {
 			case HexLiteral:
 			case DecimalLiteral:
 			case OctalLiteral:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(749); integerLiteral();
+				setState(767); integerLiteral();
 				}
 				break;
 			case FloatingPointLiteral:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(750); match(FloatingPointLiteral);
+				setState(768); match(FloatingPointLiteral);
 				}
 				break;
 			case CharacterLiteral:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(751); match(CharacterLiteral);
+				setState(769); match(CharacterLiteral);
 				}
 				break;
 			case StringLiteral:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(752); match(StringLiteral);
+				setState(770); match(StringLiteral);
 				}
 				break;
-			case 7:
-			case 65:
+			case 29:
+			case 54:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(753); booleanLiteral();
+				setState(771); booleanLiteral();
 				}
 				break;
-			case 26:
+			case 22:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(754); match(26);
+				setState(772); match(22);
 				}
 				break;
 			default:
@@ -4168,9 +4270,9 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class IntegerLiteralContext extends ParserRuleContext {
-		public TerminalNode HexLiteral() { return getToken(DataModelerParser.HexLiteral, 0); }
-		public TerminalNode DecimalLiteral() { return getToken(DataModelerParser.DecimalLiteral, 0); }
 		public TerminalNode OctalLiteral() { return getToken(DataModelerParser.OctalLiteral, 0); }
+		public TerminalNode DecimalLiteral() { return getToken(DataModelerParser.DecimalLiteral, 0); }
+		public TerminalNode HexLiteral() { return getToken(DataModelerParser.HexLiteral, 0); }
 		public IntegerLiteralContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -4192,7 +4294,7 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(757);
+			setState(775);
 			_la = _input.LA(1);
 			if ( !(((((_la - 90)) & ~0x3f) == 0 && ((1L << (_la - 90)) & ((1L << (HexLiteral - 90)) | (1L << (DecimalLiteral - 90)) | (1L << (OctalLiteral - 90)))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -4233,9 +4335,9 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(759);
+			setState(777);
 			_la = _input.LA(1);
-			if ( !(_la==7 || _la==65) ) {
+			if ( !(_la==29 || _la==54) ) {
 			_errHandler.recoverInline(this);
 			}
 			consume();
@@ -4280,19 +4382,19 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(762); 
+			setState(780); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(761); annotation();
+				setState(779); annotation();
 				}
 				}
-				setState(764); 
+				setState(782); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-			} while ( _la==24 );
+			} while ( _la==41 );
 			}
 		}
 		catch (RecognitionException re) {
@@ -4307,15 +4409,15 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class AnnotationContext extends ParserRuleContext {
+		public ElementValuePairsContext elementValuePairs() {
+			return getRuleContext(ElementValuePairsContext.class,0);
+		}
 		public AnnotationNameContext annotationName() {
 			return getRuleContext(AnnotationNameContext.class,0);
 		}
 		public ElementValueContext elementValue() {
 			return getRuleContext(ElementValueContext.class,0);
 		}
-		public ElementValuePairsContext elementValuePairs() {
-			return getRuleContext(ElementValuePairsContext.class,0);
-		}
 		public AnnotationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -4337,28 +4439,28 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(766); match(24);
-			setState(767); annotationName();
-			setState(774);
+			setState(784); match(41);
+			setState(785); annotationName();
+			setState(792);
 			_la = _input.LA(1);
-			if (_la==45) {
+			if (_la==24) {
 				{
-				setState(768); match(45);
-				setState(771);
-				switch ( getInterpreter().adaptivePredict(_input,80,_ctx) ) {
+				setState(786); match(24);
+				setState(789);
+				switch ( getInterpreter().adaptivePredict(_input,83,_ctx) ) {
 				case 1:
 					{
-					setState(769); elementValuePairs();
+					setState(787); elementValuePairs();
 					}
 					break;
 
 				case 2:
 					{
-					setState(770); elementValue();
+					setState(788); elementValue();
 					}
 					break;
 				}
-				setState(773); match(22);
+				setState(791); match(87);
 				}
 			}
 
@@ -4376,10 +4478,10 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class AnnotationNameContext extends ParserRuleContext {
+		public List<TerminalNode> Identifier() { return getTokens(DataModelerParser.Identifier); }
 		public TerminalNode Identifier(int i) {
 			return getToken(DataModelerParser.Identifier, i);
 		}
-		public List<TerminalNode> Identifier() { return getTokens(DataModelerParser.Identifier); }
 		public AnnotationNameContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -4401,18 +4503,18 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(776); match(Identifier);
-			setState(781);
+			setState(794); match(Identifier);
+			setState(799);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==71) {
+			while (_la==72) {
 				{
 				{
-				setState(777); match(71);
-				setState(778); match(Identifier);
+				setState(795); match(72);
+				setState(796); match(Identifier);
 				}
 				}
-				setState(783);
+				setState(801);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -4430,12 +4532,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class ElementValuePairsContext extends ParserRuleContext {
-		public ElementValuePairContext elementValuePair(int i) {
-			return getRuleContext(ElementValuePairContext.class,i);
-		}
 		public List<ElementValuePairContext> elementValuePair() {
 			return getRuleContexts(ElementValuePairContext.class);
 		}
+		public ElementValuePairContext elementValuePair(int i) {
+			return getRuleContext(ElementValuePairContext.class,i);
+		}
 		public ElementValuePairsContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -4457,18 +4559,18 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(784); elementValuePair();
-			setState(789);
+			setState(802); elementValuePair();
+			setState(807);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==42) {
+			while (_la==27) {
 				{
 				{
-				setState(785); match(42);
-				setState(786); elementValuePair();
+				setState(803); match(27);
+				setState(804); elementValuePair();
 				}
 				}
-				setState(791);
+				setState(809);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -4486,10 +4588,10 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class ElementValuePairContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public ElementValueContext elementValue() {
 			return getRuleContext(ElementValueContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public ElementValuePairContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -4510,9 +4612,9 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(792); match(Identifier);
-			setState(793); match(25);
-			setState(794); elementValue();
+			setState(810); match(Identifier);
+			setState(811); match(17);
+			setState(812); elementValue();
 			}
 		}
 		catch (RecognitionException re) {
@@ -4527,12 +4629,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class ElementValueContext extends ParserRuleContext {
-		public ElementValueArrayInitializerContext elementValueArrayInitializer() {
-			return getRuleContext(ElementValueArrayInitializerContext.class,0);
-		}
 		public AnnotationContext annotation() {
 			return getRuleContext(AnnotationContext.class,0);
 		}
+		public ElementValueArrayInitializerContext elementValueArrayInitializer() {
+			return getRuleContext(ElementValueArrayInitializerContext.class,0);
+		}
 		public ExpressionContext expression() {
 			return getRuleContext(ExpressionContext.class,0);
 		}
@@ -4554,29 +4656,29 @@ public class DataModelerParser extends Parser {
 		ElementValueContext _localctx = new ElementValueContext(_ctx, getState());
 		enterRule(_localctx, 146, RULE_elementValue);
 		try {
-			setState(799);
+			setState(817);
 			switch (_input.LA(1)) {
 			case 6:
-			case 7:
+			case 8:
 			case 10:
 			case 12:
-			case 14:
-			case 15:
-			case 18:
-			case 26:
+			case 16:
+			case 21:
+			case 22:
+			case 24:
 			case 29:
 			case 34:
 			case 35:
 			case 36:
-			case 44:
+			case 39:
 			case 45:
-			case 49:
-			case 53:
+			case 54:
 			case 65:
-			case 67:
-			case 69:
-			case 72:
-			case 79:
+			case 66:
+			case 71:
+			case 80:
+			case 83:
+			case 86:
 			case 88:
 			case HexLiteral:
 			case DecimalLiteral:
@@ -4587,19 +4689,19 @@ public class DataModelerParser extends Parser {
 			case Identifier:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(796); expression(0);
+				setState(814); expression(0);
 				}
 				break;
-			case 24:
+			case 41:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(797); annotation();
+				setState(815); annotation();
 				}
 				break;
-			case 56:
+			case 13:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(798); elementValueArrayInitializer();
+				setState(816); elementValueArrayInitializer();
 				}
 				break;
 			default:
@@ -4618,12 +4720,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class ElementValueArrayInitializerContext extends ParserRuleContext {
-		public List<ElementValueContext> elementValue() {
-			return getRuleContexts(ElementValueContext.class);
-		}
 		public ElementValueContext elementValue(int i) {
 			return getRuleContext(ElementValueContext.class,i);
 		}
+		public List<ElementValueContext> elementValue() {
+			return getRuleContexts(ElementValueContext.class);
+		}
 		public ElementValueArrayInitializerContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -4646,40 +4748,40 @@ public class DataModelerParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(801); match(56);
-			setState(810);
+			setState(819); match(13);
+			setState(828);
 			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 7) | (1L << 10) | (1L << 12) | (1L << 14) | (1L << 15) | (1L << 18) | (1L << 24) | (1L << 26) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 44) | (1L << 45) | (1L << 49) | (1L << 53) | (1L << 56))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (67 - 65)) | (1L << (69 - 65)) | (1L << (72 - 65)) | (1L << (79 - 65)) | (1L << (88 - 65)) | (1L << (HexLiteral - 65)) | (1L << (DecimalLiteral - 65)) | (1L << (OctalLiteral - 65)) | (1L << (FloatingPointLiteral - 65)) | (1L << (CharacterLiteral - 65)) | (1L << (StringLiteral - 65)) | (1L << (Identifier - 65)))) != 0)) {
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 8) | (1L << 10) | (1L << 12) | (1L << 13) | (1L << 16) | (1L << 21) | (1L << 22) | (1L << 24) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 39) | (1L << 41) | (1L << 45) | (1L << 54))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (66 - 65)) | (1L << (71 - 65)) | (1L << (80 - 65)) | (1L << (83 - 65)) | (1L << (86 - 65)) | (1L << (88 - 65)) | (1L << (HexLiteral - 65)) | (1L << (DecimalLiteral - 65)) | (1L << (OctalLiteral - 65)) | (1L << (FloatingPointLiteral - 65)) | (1L << (CharacterLiteral - 65)) | (1L << (StringLiteral - 65)) | (1L << (Identifier - 65)))) != 0)) {
 				{
-				setState(802); elementValue();
-				setState(807);
+				setState(820); elementValue();
+				setState(825);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,85,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,88,_ctx);
 				while ( _alt!=2 && _alt!=-1 ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(803); match(42);
-						setState(804); elementValue();
+						setState(821); match(27);
+						setState(822); elementValue();
 						}
 						} 
 					}
-					setState(809);
+					setState(827);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,85,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,88,_ctx);
 				}
 				}
 			}
 
-			setState(813);
+			setState(831);
 			_la = _input.LA(1);
-			if (_la==42) {
+			if (_la==27) {
 				{
-				setState(812); match(42);
+				setState(830); match(27);
 				}
 			}
 
-			setState(815); match(13);
+			setState(833); match(59);
 			}
 		}
 		catch (RecognitionException re) {
@@ -4694,10 +4796,10 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class AnnotationTypeDeclarationContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public AnnotationTypeBodyContext annotationTypeBody() {
 			return getRuleContext(AnnotationTypeBodyContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public AnnotationTypeDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -4718,10 +4820,10 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(817); match(24);
-			setState(818); match(1);
-			setState(819); match(Identifier);
-			setState(820); annotationTypeBody();
+			setState(835); match(41);
+			setState(836); match(7);
+			setState(837); match(Identifier);
+			setState(838); annotationTypeBody();
 			}
 		}
 		catch (RecognitionException re) {
@@ -4736,12 +4838,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class AnnotationTypeBodyContext extends ParserRuleContext {
-		public AnnotationTypeElementDeclarationContext annotationTypeElementDeclaration(int i) {
-			return getRuleContext(AnnotationTypeElementDeclarationContext.class,i);
-		}
 		public List<AnnotationTypeElementDeclarationContext> annotationTypeElementDeclaration() {
 			return getRuleContexts(AnnotationTypeElementDeclarationContext.class);
 		}
+		public AnnotationTypeElementDeclarationContext annotationTypeElementDeclaration(int i) {
+			return getRuleContext(AnnotationTypeElementDeclarationContext.class,i);
+		}
 		public AnnotationTypeBodyContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -4763,21 +4865,21 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(822); match(56);
-			setState(826);
+			setState(840); match(13);
+			setState(844);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 1) | (1L << 10) | (1L << 11) | (1L << 12) | (1L << 14) | (1L << 15) | (1L << 16) | (1L << 24) | (1L << 30) | (1L << 33) | (1L << 35) | (1L << 36) | (1L << 39) | (1L << 41) | (1L << 49) | (1L << 50) | (1L << 58) | (1L << 62))) != 0) || ((((_la - 66)) & ~0x3f) == 0 && ((1L << (_la - 66)) & ((1L << (66 - 66)) | (1L << (69 - 66)) | (1L << (73 - 66)) | (1L << (76 - 66)) | (1L << (ENUM - 66)) | (1L << (Identifier - 66)))) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 3) | (1L << 6) | (1L << 7) | (1L << 10) | (1L << 16) | (1L << 21) | (1L << 31) | (1L << 33) | (1L << 34) | (1L << 35) | (1L << 40) | (1L << 41) | (1L << 42) | (1L << 43) | (1L << 44) | (1L << 48) | (1L << 51) | (1L << 55))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (66 - 65)) | (1L << (67 - 65)) | (1L << (81 - 65)) | (1L << (ENUM - 65)) | (1L << (Identifier - 65)))) != 0)) {
 				{
 				{
-				setState(823); annotationTypeElementDeclaration();
+				setState(841); annotationTypeElementDeclaration();
 				}
 				}
-				setState(828);
+				setState(846);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(829); match(13);
+			setState(847); match(59);
 			}
 		}
 		catch (RecognitionException re) {
@@ -4792,12 +4894,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class AnnotationTypeElementDeclarationContext extends ParserRuleContext {
-		public ModifiersContext modifiers() {
-			return getRuleContext(ModifiersContext.class,0);
-		}
 		public AnnotationTypeElementRestContext annotationTypeElementRest() {
 			return getRuleContext(AnnotationTypeElementRestContext.class,0);
 		}
+		public ModifiersContext modifiers() {
+			return getRuleContext(ModifiersContext.class,0);
+		}
 		public AnnotationTypeElementDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -4818,8 +4920,8 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(831); modifiers();
-			setState(832); annotationTypeElementRest();
+			setState(849); modifiers();
+			setState(850); annotationTypeElementRest();
 			}
 		}
 		catch (RecognitionException re) {
@@ -4837,11 +4939,8 @@ public class DataModelerParser extends Parser {
 		public AnnotationTypeDeclarationContext annotationTypeDeclaration() {
 			return getRuleContext(AnnotationTypeDeclarationContext.class,0);
 		}
-		public NormalClassDeclarationContext normalClassDeclaration() {
-			return getRuleContext(NormalClassDeclarationContext.class,0);
-		}
-		public EnumDeclarationContext enumDeclaration() {
-			return getRuleContext(EnumDeclarationContext.class,0);
+		public AnnotationMethodOrConstantRestContext annotationMethodOrConstantRest() {
+			return getRuleContext(AnnotationMethodOrConstantRestContext.class,0);
 		}
 		public NormalInterfaceDeclarationContext normalInterfaceDeclaration() {
 			return getRuleContext(NormalInterfaceDeclarationContext.class,0);
@@ -4849,8 +4948,11 @@ public class DataModelerParser extends Parser {
 		public TypeContext type() {
 			return getRuleContext(TypeContext.class,0);
 		}
-		public AnnotationMethodOrConstantRestContext annotationMethodOrConstantRest() {
-			return getRuleContext(AnnotationMethodOrConstantRestContext.class,0);
+		public EnumDeclarationContext enumDeclaration() {
+			return getRuleContext(EnumDeclarationContext.class,0);
+		}
+		public NormalClassDeclarationContext normalClassDeclaration() {
+			return getRuleContext(NormalClassDeclarationContext.class,0);
 		}
 		public AnnotationTypeElementRestContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -4871,47 +4973,47 @@ public class DataModelerParser extends Parser {
 		enterRule(_localctx, 156, RULE_annotationTypeElementRest);
 		int _la;
 		try {
-			setState(854);
+			setState(872);
 			switch (_input.LA(1)) {
+			case 6:
 			case 10:
-			case 12:
-			case 14:
-			case 15:
+			case 16:
+			case 21:
+			case 34:
 			case 35:
-			case 36:
-			case 49:
-			case 69:
+			case 65:
+			case 66:
 			case Identifier:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(834); type();
-				setState(835); annotationMethodOrConstantRest();
-				setState(836); match(77);
+				setState(852); type();
+				setState(853); annotationMethodOrConstantRest();
+				setState(854); match(57);
 				}
 				break;
-			case 30:
+			case 55:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(838); normalClassDeclaration();
-				setState(840);
+				setState(856); normalClassDeclaration();
+				setState(858);
 				_la = _input.LA(1);
-				if (_la==77) {
+				if (_la==57) {
 					{
-					setState(839); match(77);
+					setState(857); match(57);
 					}
 				}
 
 				}
 				break;
-			case 1:
+			case 7:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(842); normalInterfaceDeclaration();
-				setState(844);
+				setState(860); normalInterfaceDeclaration();
+				setState(862);
 				_la = _input.LA(1);
-				if (_la==77) {
+				if (_la==57) {
 					{
-					setState(843); match(77);
+					setState(861); match(57);
 					}
 				}
 
@@ -4920,26 +5022,26 @@ public class DataModelerParser extends Parser {
 			case ENUM:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(846); enumDeclaration();
-				setState(848);
+				setState(864); enumDeclaration();
+				setState(866);
 				_la = _input.LA(1);
-				if (_la==77) {
+				if (_la==57) {
 					{
-					setState(847); match(77);
+					setState(865); match(57);
 					}
 				}
 
 				}
 				break;
-			case 24:
+			case 41:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(850); annotationTypeDeclaration();
-				setState(852);
+				setState(868); annotationTypeDeclaration();
+				setState(870);
 				_la = _input.LA(1);
-				if (_la==77) {
+				if (_la==57) {
 					{
-					setState(851); match(77);
+					setState(869); match(57);
 					}
 				}
 
@@ -4985,19 +5087,19 @@ public class DataModelerParser extends Parser {
 		AnnotationMethodOrConstantRestContext _localctx = new AnnotationMethodOrConstantRestContext(_ctx, getState());
 		enterRule(_localctx, 158, RULE_annotationMethodOrConstantRest);
 		try {
-			setState(858);
-			switch ( getInterpreter().adaptivePredict(_input,94,_ctx) ) {
+			setState(876);
+			switch ( getInterpreter().adaptivePredict(_input,97,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(856); annotationMethodRest();
+				setState(874); annotationMethodRest();
 				}
 				break;
 
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(857); annotationConstantRest();
+				setState(875); annotationConstantRest();
 				}
 				break;
 			}
@@ -5014,10 +5116,10 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class AnnotationMethodRestContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public DefaultValueContext defaultValue() {
 			return getRuleContext(DefaultValueContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public AnnotationMethodRestContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -5039,14 +5141,14 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(860); match(Identifier);
-			setState(861); match(45);
-			setState(862); match(22);
-			setState(864);
+			setState(878); match(Identifier);
+			setState(879); match(24);
+			setState(880); match(87);
+			setState(882);
 			_la = _input.LA(1);
-			if (_la==40) {
+			if (_la==1) {
 				{
-				setState(863); defaultValue();
+				setState(881); defaultValue();
 				}
 			}
 
@@ -5087,7 +5189,7 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(866); variableDeclarators();
+			setState(884); variableDeclarators();
 			}
 		}
 		catch (RecognitionException re) {
@@ -5125,8 +5227,8 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(868); match(40);
-			setState(869); elementValue();
+			setState(886); match(1);
+			setState(887); elementValue();
 			}
 		}
 		catch (RecognitionException re) {
@@ -5141,12 +5243,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class BlockContext extends ParserRuleContext {
-		public BlockStatementContext blockStatement(int i) {
-			return getRuleContext(BlockStatementContext.class,i);
-		}
 		public List<BlockStatementContext> blockStatement() {
 			return getRuleContexts(BlockStatementContext.class);
 		}
+		public BlockStatementContext blockStatement(int i) {
+			return getRuleContext(BlockStatementContext.class,i);
+		}
 		public BlockContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -5168,21 +5270,21 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(871); match(56);
-			setState(875);
+			setState(889); match(13);
+			setState(893);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 7) | (1L << 8) | (1L << 10) | (1L << 12) | (1L << 14) | (1L << 15) | (1L << 18) | (1L << 19) | (1L << 23) | (1L << 24) | (1L << 26) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 41) | (1L << 43) | (1L << 44) | (1L << 45) | (1L << 47) | (1L << 49) | (1L << 52) | (1L << 53) | (1L << 56) | (1L << 57) | (1L << 62))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (67 - 65)) | (1L << (69 - 65)) | (1L << (72 - 65)) | (1L << (74 - 65)) | (1L << (75 - 65)) | (1L << (77 - 65)) | (1L << (79 - 65)) | (1L << (84 - 65)) | (1L << (88 - 65)) | (1L << (HexLiteral - 65)) | (1L << (DecimalLiteral - 65)) | (1L << (OctalLiteral - 65)) | (1L << (FloatingPointLiteral - 65)) | (1L << (CharacterLiteral - 65)) | (1L << (StringLiteral - 65)) | (1L << (ASSERT - 65)) | (1L << (Identifier - 65)))) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 8) | (1L << 10) | (1L << 11) | (1L << 12) | (1L << 13) | (1L << 16) | (1L << 19) | (1L << 21) | (1L << 22) | (1L << 23) | (1L << 24) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 39) | (1L << 41) | (1L << 44) | (1L << 45) | (1L << 49) | (1L << 53) | (1L << 54) | (1L << 57) | (1L << 61) | (1L << 62))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (64 - 64)) | (1L << (65 - 64)) | (1L << (66 - 64)) | (1L << (67 - 64)) | (1L << (69 - 64)) | (1L << (71 - 64)) | (1L << (74 - 64)) | (1L << (80 - 64)) | (1L << (83 - 64)) | (1L << (86 - 64)) | (1L << (88 - 64)) | (1L << (HexLiteral - 64)) | (1L << (DecimalLiteral - 64)) | (1L << (OctalLiteral - 64)) | (1L << (FloatingPointLiteral - 64)) | (1L << (CharacterLiteral - 64)) | (1L << (StringLiteral - 64)) | (1L << (ASSERT - 64)) | (1L << (Identifier - 64)))) != 0)) {
 				{
 				{
-				setState(872); blockStatement();
+				setState(890); blockStatement();
 				}
 				}
-				setState(877);
+				setState(895);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(878); match(13);
+			setState(896); match(59);
 			}
 		}
 		catch (RecognitionException re) {
@@ -5197,12 +5299,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class BlockStatementContext extends ParserRuleContext {
-		public StatementContext statement() {
-			return getRuleContext(StatementContext.class,0);
-		}
 		public LocalVariableDeclarationStatementContext localVariableDeclarationStatement() {
 			return getRuleContext(LocalVariableDeclarationStatementContext.class,0);
 		}
+		public StatementContext statement() {
+			return getRuleContext(StatementContext.class,0);
+		}
 		public BlockStatementContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -5221,19 +5323,19 @@ public class DataModelerParser extends Parser {
 		BlockStatementContext _localctx = new BlockStatementContext(_ctx, getState());
 		enterRule(_localctx, 168, RULE_blockStatement);
 		try {
-			setState(882);
-			switch ( getInterpreter().adaptivePredict(_input,97,_ctx) ) {
+			setState(900);
+			switch ( getInterpreter().adaptivePredict(_input,100,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(880); localVariableDeclarationStatement();
+				setState(898); localVariableDeclarationStatement();
 				}
 				break;
 
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(881); statement();
+				setState(899); statement();
 				}
 				break;
 			}
@@ -5273,8 +5375,8 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(884); localVariableDeclaration();
-			setState(885); match(77);
+			setState(902); localVariableDeclaration();
+			setState(903); match(57);
 			}
 		}
 		catch (RecognitionException re) {
@@ -5289,12 +5391,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class LocalVariableDeclarationContext extends ParserRuleContext {
-		public VariableModifiersContext variableModifiers() {
-			return getRuleContext(VariableModifiersContext.class,0);
-		}
 		public VariableDeclaratorsContext variableDeclarators() {
 			return getRuleContext(VariableDeclaratorsContext.class,0);
 		}
+		public VariableModifiersContext variableModifiers() {
+			return getRuleContext(VariableModifiersContext.class,0);
+		}
 		public TypeContext type() {
 			return getRuleContext(TypeContext.class,0);
 		}
@@ -5318,9 +5420,9 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(887); variableModifiers();
-			setState(888); type();
-			setState(889); variableDeclarators();
+			setState(905); variableModifiers();
+			setState(906); type();
+			setState(907); variableDeclarators();
 			}
 		}
 		catch (RecognitionException re) {
@@ -5335,12 +5437,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class VariableModifiersContext extends ParserRuleContext {
-		public VariableModifierContext variableModifier(int i) {
-			return getRuleContext(VariableModifierContext.class,i);
-		}
 		public List<VariableModifierContext> variableModifier() {
 			return getRuleContexts(VariableModifierContext.class);
 		}
+		public VariableModifierContext variableModifier(int i) {
+			return getRuleContext(VariableModifierContext.class,i);
+		}
 		public VariableModifiersContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -5362,16 +5464,16 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(894);
+			setState(912);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==24 || _la==62) {
+			while (_la==41 || _la==44) {
 				{
 				{
-				setState(891); variableModifier();
+				setState(909); variableModifier();
 				}
 				}
-				setState(896);
+				setState(914);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -5389,41 +5491,41 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class StatementContext extends ParserRuleContext {
-		public BlockContext block(int i) {
-			return getRuleContext(BlockContext.class,i);
-		}
 		public List<ExpressionContext> expression() {
 			return getRuleContexts(ExpressionContext.class);
 		}
-		public ParExpressionContext parExpression() {
-			return getRuleContext(ParExpressionContext.class,0);
+		public BlockContext block(int i) {
+			return getRuleContext(BlockContext.class,i);
 		}
+		public TerminalNode ASSERT() { return getToken(DataModelerParser.ASSERT, 0); }
 		public StatementContext statement(int i) {
 			return getRuleContext(StatementContext.class,i);
 		}
+		public SwitchBlockStatementGroupsContext switchBlockStatementGroups() {
+			return getRuleContext(SwitchBlockStatementGroupsContext.class,0);
+		}
 		public CatchesContext catches() {
 			return getRuleContext(CatchesContext.class,0);
 		}
-		public ExpressionContext expression(int i) {
-			return getRuleContext(ExpressionContext.class,i);
-		}
 		public StatementExpressionContext statementExpression() {
 			return getRuleContext(StatementExpressionContext.class,0);
 		}
-		public List<BlockContext> block() {
-			return getRuleContexts(BlockContext.class);
+		public ForControlContext forControl() {
+			return getRuleContext(ForControlContext.class,0);
 		}
+		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public List<StatementContext> statement() {
 			return getRuleContexts(StatementContext.class);
 		}
-		public SwitchBlockStatementGroupsContext switchBlockStatementGroups() {
-			return getRuleContext(SwitchBlockStatementGroupsContext.class,0);
+		public List<BlockContext> block() {
+			return getRuleContexts(BlockContext.class);
 		}
-		public TerminalNode ASSERT() { return getToken(DataModelerParser.ASSERT, 0); }
-		public ForControlContext forControl() {
-			return getRuleContext(ForControlContext.class,0);
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public ParExpressionContext parExpression() {
+			return getRuleContext(ParExpressionContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public StatementContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -5443,45 +5545,45 @@ public class DataModelerParser extends Parser {
 		enterRule(_localctx, 176, RULE_statement);
 		int _la;
 		try {
-			setState(976);
-			switch ( getInterpreter().adaptivePredict(_input,106,_ctx) ) {
+			setState(994);
+			switch ( getInterpreter().adaptivePredict(_input,109,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(897); block();
+				setState(915); block();
 				}
 				break;
 
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(898); match(ASSERT);
-				setState(899); expression(0);
-				setState(902);
+				setState(916); match(ASSERT);
+				setState(917); expression(0);
+				setState(920);
 				_la = _input.LA(1);
-				if (_la==46) {
+				if (_la==76) {
 					{
-					setState(900); match(46);
-					setState(901); expression(0);
+					setState(918); match(76);
+					setState(919); expression(0);
 					}
 				}
 
-				setState(904); match(77);
+				setState(922); match(57);
 				}
 				break;
 
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(906); match(47);
-				setState(907); parExpression();
-				setState(908); statement();
-				setState(911);
-				switch ( getInterpreter().adaptivePredict(_input,100,_ctx) ) {
+				setState(924); match(61);
+				setState(925); parExpression();
+				setState(926); statement();
+				setState(929);
+				switch ( getInterpreter().adaptivePredict(_input,103,_ctx) ) {
 				case 1:
 					{
-					setState(909); match(63);
-					setState(910); statement();
+					setState(927); match(85);
+					setState(928); statement();
 					}
 					break;
 				}
@@ -5491,59 +5593,59 @@ public class DataModelerParser extends Parser {
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(913); match(74);
-				setState(914); match(45);
-				setState(915); forControl();
-				setState(916); match(22);
-				setState(917); statement();
+				setState(931); match(19);
+				setState(932); match(24);
+				setState(933); forControl();
+				setState(934); match(87);
+				setState(935); statement();
 				}
 				break;
 
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(919); match(43);
-				setState(920); parExpression();
-				setState(921); statement();
+				setState(937); match(11);
+				setState(938); parExpression();
+				setState(939); statement();
 				}
 				break;
 
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(923); match(19);
-				setState(924); statement();
-				setState(925); match(43);
-				setState(926); parExpression();
-				setState(927); match(77);
+				setState(941); match(23);
+				setState(942); statement();
+				setState(943); match(11);
+				setState(944); parExpression();
+				setState(945); match(57);
 				}
 				break;
 
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(929); match(52);
-				setState(930); block();
-				setState(938);
+				setState(947); match(62);
+				setState(948); block();
+				setState(956);
 				switch (_input.LA(1)) {
-				case 64:
+				case 50:
 					{
-					setState(931); catches();
-					setState(934);
+					setState(949); catches();
+					setState(952);
 					_la = _input.LA(1);
-					if (_la==31) {
+					if (_la==5) {
 						{
-						setState(932); match(31);
-						setState(933); block();
+						setState(950); match(5);
+						setState(951); block();
 						}
 					}
 
 					}
 					break;
-				case 31:
+				case 5:
 					{
-					setState(936); match(31);
-					setState(937); block();
+					setState(954); match(5);
+					setState(955); block();
 					}
 					break;
 				default:
@@ -5555,101 +5657,101 @@ public class DataModelerParser extends Parser {
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(940); match(84);
-				setState(941); parExpression();
-				setState(942); match(56);
-				setState(943); switchBlockStatementGroups();
-				setState(944); match(13);
+				setState(958); match(69);
+				setState(959); parExpression();
+				setState(960); match(13);
+				setState(961); switchBlockStatementGroups();
+				setState(962); match(59);
 				}
 				break;
 
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(946); match(41);
-				setState(947); parExpression();
-				setState(948); block();
+				setState(964); match(67);
+				setState(965); parExpression();
+				setState(966); block();
 				}
 				break;
 
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(950); match(75);
-				setState(952);
+				setState(968); match(53);
+				setState(970);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 7) | (1L << 10) | (1L << 12) | (1L << 14) | (1L << 15) | (1L << 18) | (1L << 26) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 44) | (1L << 45) | (1L << 49) | (1L << 53))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (67 - 65)) | (1L << (69 - 65)) | (1L << (72 - 65)) | (1L << (79 - 65)) | (1L << (88 - 65)) | (1L << (HexLiteral - 65)) | (1L << (DecimalLiteral - 65)) | (1L << (OctalLiteral - 65)) | (1L << (FloatingPointLiteral - 65)) | (1L << (CharacterLiteral - 65)) | (1L << (StringLiteral - 65)) | (1L << (Identifier - 65)))) != 0)) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 8) | (1L << 10) | (1L << 12) | (1L << 16) | (1L << 21) | (1L << 22) | (1L << 24) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 39) | (1L << 45) | (1L << 54))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (66 - 65)) | (1L << (71 - 65)) | (1L << (80 - 65)) | (1L << (83 - 65)) | (1L << (86 - 65)) | (1L << (88 - 65)) | (1L << (HexLiteral - 65)) | (1L << (DecimalLiteral - 65)) | (1L << (OctalLiteral - 65)) | (1L << (FloatingPointLiteral - 65)) | (1L << (CharacterLiteral - 65)) | (1L << (StringLiteral - 65)) | (1L << (Identifier - 65)))) != 0)) {
 					{
-					setState(951); expression(0);
+					setState(969); expression(0);
 					}
 				}
 
-				setState(954); match(77);
+				setState(972); match(57);
 				}
 				break;
 
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(955); match(23);
-				setState(956); expression(0);
-				setState(957); match(77);
+				setState(973); match(74);
+				setState(974); expression(0);
+				setState(975); match(57);
 				}
 				break;
 
 			case 12:
 				enterOuterAlt(_localctx, 12);
 				{
-				setState(959); match(57);
-				setState(961);
+				setState(977); match(64);
+				setState(979);
 				_la = _input.LA(1);
 				if (_la==Identifier) {
 					{
-					setState(960); match(Identifier);
+					setState(978); match(Identifier);
 					}
 				}
 
-				setState(963); match(77);
+				setState(981); match(57);
 				}
 				break;
 
 			case 13:
 				enterOuterAlt(_localctx, 13);
 				{
-				setState(964); match(8);
-				setState(966);
+				setState(982); match(49);
+				setState(984);
 				_la = _input.LA(1);
 				if (_la==Identifier) {
 					{
-					setState(965); match(Identifier);
+					setState(983); match(Identifier);
 					}
 				}
 
-				setState(968); match(77);
+				setState(986); match(57);
 				}
 				break;
 
 			case 14:
 				enterOuterAlt(_localctx, 14);
 				{
-				setState(969); match(77);
+				setState(987); match(57);
 				}
 				break;
 
 			case 15:
 				enterOuterAlt(_localctx, 15);
 				{
-				setState(970); statementExpression();
-				setState(971); match(77);
+				setState(988); statementExpression();
+				setState(989); match(57);
 				}
 				break;
 
 			case 16:
 				enterOuterAlt(_localctx, 16);
 				{
-				setState(973); match(Identifier);
-				setState(974); match(46);
-				setState(975); statement();
+				setState(991); match(Identifier);
+				setState(992); match(76);
+				setState(993); statement();
 				}
 				break;
 			}
@@ -5666,12 +5768,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class CatchesContext extends ParserRuleContext {
-		public List<CatchClauseContext> catchClause() {
-			return getRuleContexts(CatchClauseContext.class);
-		}
 		public CatchClauseContext catchClause(int i) {
 			return getRuleContext(CatchClauseContext.class,i);
 		}
+		public List<CatchClauseContext> catchClause() {
+			return getRuleContexts(CatchClauseContext.class);
+		}
 		public CatchesContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -5693,17 +5795,17 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(978); catchClause();
-			setState(982);
+			setState(996); catchClause();
+			setState(1000);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==64) {
+			while (_la==50) {
 				{
 				{
-				setState(979); catchClause();
+				setState(997); catchClause();
 				}
 				}
-				setState(984);
+				setState(1002);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -5721,12 +5823,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class CatchClauseContext extends ParserRuleContext {
-		public FormalParameterContext formalParameter() {
-			return getRuleContext(FormalParameterContext.class,0);
-		}
 		public BlockContext block() {
 			return getRuleContext(BlockContext.class,0);
 		}
+		public FormalParameterContext formalParameter() {
+			return getRuleContext(FormalParameterContext.class,0);
+		}
 		public CatchClauseContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -5747,11 +5849,11 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(985); match(64);
-			setState(986); match(45);
-			setState(987); formalParameter();
-			setState(988); match(22);
-			setState(989); block();
+			setState(1003); match(50);
+			setState(1004); match(24);
+			setState(1005); formalParameter();
+			setState(1006); match(87);
+			setState(1007); block();
 			}
 		}
 		catch (RecognitionException re) {
@@ -5766,15 +5868,15 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class FormalParameterContext extends ParserRuleContext {
-		public VariableDeclaratorIdContext variableDeclaratorId() {
-			return getRuleContext(VariableDeclaratorIdContext.class,0);
-		}
 		public VariableModifiersContext variableModifiers() {
 			return getRuleContext(VariableModifiersContext.class,0);
 		}
 		public TypeContext type() {
 			return getRuleContext(TypeContext.class,0);
 		}
+		public VariableDeclaratorIdContext variableDeclaratorId() {
+			return getRuleContext(VariableDeclaratorIdContext.class,0);
+		}
 		public FormalParameterContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -5795,9 +5897,9 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(991); variableModifiers();
-			setState(992); type();
-			setState(993); variableDeclaratorId();
+			setState(1009); variableModifiers();
+			setState(1010); type();
+			setState(1011); variableDeclaratorId();
 			}
 		}
 		catch (RecognitionException re) {
@@ -5812,6 +5914,9 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class SwitchBlockStatementGroupsContext extends ParserRuleContext {
+		public List<SwitchBlockStatementGroupContext> switchBlockStatementGroup() {
+			return getRuleContexts(SwitchBlockStatementGroupContext.class);
+		}
 		public SwitchBlockStatementGroupContext switchBlockStatementGroup(int i) {
 			return getRuleContext(SwitchBlockStatementGroupContext.class,i);
 		}
@@ -5821,9 +5926,6 @@ public class DataModelerParser extends Parser {
 		public SwitchLabelContext switchLabel(int i) {
 			return getRuleContext(SwitchLabelContext.class,i);
 		}
-		public List<SwitchBlockStatementGroupContext> switchBlockStatementGroup() {
-			return getRuleContexts(SwitchBlockStatementGroupContext.class);
-		}
 		public SwitchBlockStatementGroupsContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -5846,31 +5948,31 @@ public class DataModelerParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(998);
+			setState(1016);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,108,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,111,_ctx);
 			while ( _alt!=2 && _alt!=-1 ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(995); switchBlockStatementGroup();
+					setState(1013); switchBlockStatementGroup();
 					}
 					} 
 				}
-				setState(1000);
+				setState(1018);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,108,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,111,_ctx);
 			}
-			setState(1004);
+			setState(1022);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==17 || _la==40) {
+			while (_la==1 || _la==73) {
 				{
 				{
-				setState(1001); switchLabel();
+				setState(1019); switchLabel();
 				}
 				}
-				setState(1006);
+				setState(1024);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -5888,15 +5990,15 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class SwitchBlockStatementGroupContext extends ParserRuleContext {
+		public List<BlockStatementContext> blockStatement() {
+			return getRuleContexts(BlockStatementContext.class);
+		}
 		public BlockStatementContext blockStatement(int i) {
 			return getRuleContext(BlockStatementContext.class,i);
 		}
 		public List<SwitchLabelContext> switchLabel() {
 			return getRuleContexts(SwitchLabelContext.class);
 		}
-		public List<BlockStatementContext> blockStatement() {
-			return getRuleContexts(BlockStatementContext.class);
-		}
 		public SwitchLabelContext switchLabel(int i) {
 			return getRuleContext(SwitchLabelContext.class,i);
 		}
@@ -5921,32 +6023,32 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1008); 
+			setState(1026); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(1007); switchLabel();
+				setState(1025); switchLabel();
 				}
 				}
-				setState(1010); 
+				setState(1028); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-			} while ( _la==17 || _la==40 );
-			setState(1013); 
+			} while ( _la==1 || _la==73 );
+			setState(1031); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(1012); blockStatement();
+				setState(1030); blockStatement();
 				}
 				}
-				setState(1015); 
+				setState(1033); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 7) | (1L << 8) | (1L << 10) | (1L << 12) | (1L << 14) | (1L << 15) | (1L << 18) | (1L << 19) | (1L << 23) | (1L << 24) | (1L << 26) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 41) | (1L << 43) | (1L << 44) | (1L << 45) | (1L << 47) | (1L << 49) | (1L << 52) | (1L << 53) | (1L << 56) | (1L << 57) | (1L << 62))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (67 - 65)) | (1L << (69 - 65)) | (1L << (72 - 65)) | (1L << (74 - 65)) | (1L << (75 - 65)) | (1L << (77 - 65)) | (1L << (79 - 65)) | (1L << (84 - 65)) | (1L << (88 - 65)) | (1L << (HexLiteral - 65)) | (1L << (DecimalLiteral - 65)) | (1L << (OctalLiteral - 65)) | (1L << (FloatingPointLiteral - 65)) | (1L << (CharacterLiteral - 65)) | (1L << (StringLiteral - 65)) | (1L << (ASSERT - 65)) | (1L << (Identifier - 65)))) != 0) );
+			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 8) | (1L << 10) | (1L << 11) | (1L << 12) | (1L << 13) | (1L << 16) | (1L << 19) | (1L << 21) | (1L << 22) | (1L << 23) | (1L << 24) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 39) | (1L << 41) | (1L << 44) | (1L << 45) | (1L << 49) | (1L << 53) | (1L << 54) | (1L << 57) | (1L << 61) | (1L << 62))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (64 - 64)) | (1L << (65 - 64)) | (1L << (66 - 64)) | (1L << (67 - 64)) | (1L << (69 - 64)) | (1L << (71 - 64)) | (1L << (74 - 64)) | (1L << (80 - 64)) | (1L << (83 - 64)) | (1L << (86 - 64)) | (1L << (88 - 64)) | (1L << (HexLiteral - 64)) | (1L << (DecimalLiteral - 64)) | (1L << (OctalLiteral - 64)) | (1L << (FloatingPointLiteral - 64)) | (1L << (CharacterLiteral - 64)) | (1L << (StringLiteral - 64)) | (1L << (ASSERT - 64)) | (1L << (Identifier - 64)))) != 0) );
 			}
 		}
 		catch (RecognitionException re) {
@@ -5961,12 +6063,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class SwitchLabelContext extends ParserRuleContext {
-		public ConstantExpressionContext constantExpression() {
-			return getRuleContext(ConstantExpressionContext.class,0);
-		}
 		public EnumConstantNameContext enumConstantName() {
 			return getRuleContext(EnumConstantNameContext.class,0);
 		}
+		public ConstantExpressionContext constantExpression() {
+			return getRuleContext(ConstantExpressionContext.class,0);
+		}
 		public SwitchLabelContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -5985,31 +6087,31 @@ public class DataModelerParser extends Parser {
 		SwitchLabelContext _localctx = new SwitchLabelContext(_ctx, getState());
 		enterRule(_localctx, 188, RULE_switchLabel);
 		try {
-			setState(1027);
-			switch ( getInterpreter().adaptivePredict(_input,112,_ctx) ) {
+			setState(1045);
+			switch ( getInterpreter().adaptivePredict(_input,115,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1017); match(17);
-				setState(1018); constantExpression();
-				setState(1019); match(46);
+				setState(1035); match(73);
+				setState(1036); constantExpression();
+				setState(1037); match(76);
 				}
 				break;
 
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1021); match(17);
-				setState(1022); enumConstantName();
-				setState(1023); match(46);
+				setState(1039); match(73);
+				setState(1040); enumConstantName();
+				setState(1041); match(76);
 				}
 				break;
 
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1025); match(40);
-				setState(1026); match(46);
+				setState(1043); match(1);
+				setState(1044); match(76);
 				}
 				break;
 			}
@@ -6026,6 +6128,9 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class ForControlContext extends ParserRuleContext {
+		public ForUpdateContext forUpdate() {
+			return getRuleContext(ForUpdateContext.class,0);
+		}
 		public ExpressionContext expression() {
 			return getRuleContext(ExpressionContext.class,0);
 		}
@@ -6035,9 +6140,6 @@ public class DataModelerParser extends Parser {
 		public ForInitContext forInit() {
 			return getRuleContext(ForInitContext.class,0);
 		}
-		public ForUpdateContext forUpdate() {
-			return getRuleContext(ForUpdateContext.class,0);
-		}
 		public ForControlContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -6057,41 +6159,41 @@ public class DataModelerParser extends Parser {
 		enterRule(_localctx, 190, RULE_forControl);
 		int _la;
 		try {
-			setState(1041);
-			switch ( getInterpreter().adaptivePredict(_input,116,_ctx) ) {
+			setState(1059);
+			switch ( getInterpreter().adaptivePredict(_input,119,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1029); enhancedForControl();
+				setState(1047); enhancedForControl();
 				}
 				break;
 
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1031);
+				setState(1049);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 7) | (1L << 10) | (1L << 12) | (1L << 14) | (1L << 15) | (1L << 18) | (1L << 24) | (1L << 26) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 44) | (1L << 45) | (1L << 49) | (1L << 53) | (1L << 62))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (67 - 65)) | (1L << (69 - 65)) | (1L << (72 - 65)) | (1L << (79 - 65)) | (1L << (88 - 65)) | (1L << (HexLiteral - 65)) | (1L << (DecimalLiteral - 65)) | (1L << (OctalLiteral - 65)) | (1L << (FloatingPointLiteral - 65)) | (1L << (CharacterLiteral - 65)) | (1L << (StringLiteral - 65)) | (1L << (Identifier - 65)))) != 0)) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 8) | (1L << 10) | (1L << 12) | (1L << 16) | (1L << 21) | (1L << 22) | (1L << 24) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 39) | (1L << 41) | (1L << 44) | (1L << 45) | (1L << 54))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (66 - 65)) | (1L << (71 - 65)) | (1L << (80 - 65)) | (1L << (83 - 65)) | (1L << (86 - 65)) | (1L << (88 - 65)) | (1L << (HexLiteral - 65)) | (1L << (DecimalLiteral - 65)) | (1L << (OctalLiteral - 65)) | (1L << (FloatingPointLiteral - 65)) | (1L << (CharacterLiteral - 65)) | (1L << (StringLiteral - 65)) | (1L << (Identifier - 65)))) != 0)) {
 					{
-					setState(1030); forInit();
+					setState(1048); forInit();
 					}
 				}
 
-				setState(1033); match(77);
-				setState(1035);
+				setState(1051); match(57);
+				setState(1053);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 7) | (1L << 10) | (1L << 12) | (1L << 14) | (1L << 15) | (1L << 18) | (1L << 26) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 44) | (1L << 45) | (1L << 49) | (1L << 53))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (67 - 65)) | (1L << (69 - 65)) | (1L << (72 - 65)) | (1L << (79 - 65)) | (1L << (88 - 65)) | (1L << (HexLiteral - 65)) | (1L << (DecimalLiteral - 65)) | (1L << (OctalLiteral - 65)) | (1L << (FloatingPointLiteral - 65)) | (1L << (CharacterLiteral - 65)) | (1L << (StringLiteral - 65)) | (1L << (Identifier - 65)))) != 0)) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 8) | (1L << 10) | (1L << 12) | (1L << 16) | (1L << 21) | (1L << 22) | (1L << 24) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 39) | (1L << 45) | (1L << 54))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (66 - 65)) | (1L << (71 - 65)) | (1L << (80 - 65)) | (1L << (83 - 65)) | (1L << (86 - 65)) | (1L << (88 - 65)) | (1L << (HexLiteral - 65)) | (1L << (DecimalLiteral - 65)) | (1L << (OctalLiteral - 65)) | (1L << (FloatingPointLiteral - 65)) | (1L << (CharacterLiteral - 65)) | (1L << (StringLiteral - 65)) | (1L << (Identifier - 65)))) != 0)) {
 					{
-					setState(1034); expression(0);
+					setState(1052); expression(0);
 					}
 				}
 
-				setState(1037); match(77);
-				setState(1039);
+				setState(1055); match(57);
+				setState(1057);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 7) | (1L << 10) | (1L << 12) | (1L << 14) | (1L << 15) | (1L << 18) | (1L << 26) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 44) | (1L << 45) | (1L << 49) | (1L << 53))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (67 - 65)) | (1L << (69 - 65)) | (1L << (72 - 65)) | (1L << (79 - 65)) | (1L << (88 - 65)) | (1L << (HexLiteral - 65)) | (1L << (DecimalLiteral - 65)) | (1L << (OctalLiteral - 65)) | (1L << (FloatingPointLiteral - 65)) | (1L << (CharacterLiteral - 65)) | (1L << (StringLiteral - 65)) | (1L << (Identifier - 65)))) != 0)) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 8) | (1L << 10) | (1L << 12) | (1L << 16) | (1L << 21) | (1L << 22) | (1L << 24) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 39) | (1L << 45) | (1L << 54))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (66 - 65)) | (1L << (71 - 65)) | (1L << (80 - 65)) | (1L << (83 - 65)) | (1L << (86 - 65)) | (1L << (88 - 65)) | (1L << (HexLiteral - 65)) | (1L << (DecimalLiteral - 65)) | (1L << (OctalLiteral - 65)) | (1L << (FloatingPointLiteral - 65)) | (1L << (CharacterLiteral - 65)) | (1L << (StringLiteral - 65)) | (1L << (Identifier - 65)))) != 0)) {
 					{
-					setState(1038); forUpdate();
+					setState(1056); forUpdate();
 					}
 				}
 
@@ -6111,12 +6213,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class ForInitContext extends ParserRuleContext {
-		public ExpressionListContext expressionList() {
-			return getRuleContext(ExpressionListContext.class,0);
-		}
 		public LocalVariableDeclarationContext localVariableDeclaration() {
 			return getRuleContext(LocalVariableDeclarationContext.class,0);
 		}
+		public ExpressionListContext expressionList() {
+			return getRuleContext(ExpressionListContext.class,0);
+		}
 		public ForInitContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -6135,19 +6237,19 @@ public class DataModelerParser extends Parser {
 		ForInitContext _localctx = new ForInitContext(_ctx, getState());
 		enterRule(_localctx, 192, RULE_forInit);
 		try {
-			setState(1045);
-			switch ( getInterpreter().adaptivePredict(_input,117,_ctx) ) {
+			setState(1063);
+			switch ( getInterpreter().adaptivePredict(_input,120,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1043); localVariableDeclaration();
+				setState(1061); localVariableDeclaration();
 				}
 				break;
 
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1044); expressionList();
+				setState(1062); expressionList();
 				}
 				break;
 			}
@@ -6164,13 +6266,13 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class EnhancedForControlContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public ExpressionContext expression() {
 			return getRuleContext(ExpressionContext.class,0);
 		}
 		public VariableModifiersContext variableModifiers() {
 			return getRuleContext(VariableModifiersContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public TypeContext type() {
 			return getRuleContext(TypeContext.class,0);
 		}
@@ -6194,11 +6296,11 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1047); variableModifiers();
-			setState(1048); type();
-			setState(1049); match(Identifier);
-			setState(1050); match(46);
-			setState(1051); expression(0);
+			setState(1065); variableModifiers();
+			setState(1066); type();
+			setState(1067); match(Identifier);
+			setState(1068); match(76);
+			setState(1069); expression(0);
 			}
 		}
 		catch (RecognitionException re) {
@@ -6236,7 +6338,7 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1053); expressionList();
+			setState(1071); expressionList();
 			}
 		}
 		catch (RecognitionException re) {
@@ -6274,9 +6376,9 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1055); match(45);
-			setState(1056); expression(0);
-			setState(1057); match(22);
+			setState(1073); match(24);
+			setState(1074); expression(0);
+			setState(1075); match(87);
 			}
 		}
 		catch (RecognitionException re) {
@@ -6318,18 +6420,18 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1059); expression(0);
-			setState(1064);
+			setState(1077); expression(0);
+			setState(1082);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==42) {
+			while (_la==27) {
 				{
 				{
-				setState(1060); match(42);
-				setState(1061); expression(0);
+				setState(1078); match(27);
+				setState(1079); expression(0);
 				}
 				}
-				setState(1066);
+				setState(1084);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -6370,7 +6472,7 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1067); expression(0);
+			setState(1085); expression(0);
 			}
 		}
 		catch (RecognitionException re) {
@@ -6408,7 +6510,7 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1069); expression(0);
+			setState(1087); expression(0);
 			}
 		}
 		catch (RecognitionException re) {
@@ -6424,30 +6526,30 @@ public class DataModelerParser extends Parser {
 
 	public static class ExpressionContext extends ParserRuleContext {
 		public int _p;
-		public List<ExpressionContext> expression() {
-			return getRuleContexts(ExpressionContext.class);
-		}
-		public ArgumentsContext arguments() {
-			return getRuleContext(ArgumentsContext.class,0);
+		public ExplicitGenericInvocationContext explicitGenericInvocation() {
+			return getRuleContext(ExplicitGenericInvocationContext.class,0);
 		}
-		public ExpressionContext expression(int i) {
-			return getRuleContext(ExpressionContext.class,i);
+		public CreatorContext creator() {
+			return getRuleContext(CreatorContext.class,0);
 		}
 		public ExpressionListContext expressionList() {
 			return getRuleContext(ExpressionListContext.class,0);
 		}
-		public PrimaryContext primary() {
-			return getRuleContext(PrimaryContext.class,0);
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
 		}
 		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
+		}
+		public ArgumentsContext arguments() {
+			return getRuleContext(ArgumentsContext.class,0);
+		}
 		public TypeContext type() {
 			return getRuleContext(TypeContext.class,0);
 		}
-		public ExplicitGenericInvocationContext explicitGenericInvocation() {
-			return getRuleContext(ExplicitGenericInvocationContext.class,0);
-		}
-		public CreatorContext creator() {
-			return getRuleContext(CreatorContext.class,0);
+		public PrimaryContext primary() {
+			return getRuleContext(PrimaryContext.class,0);
 		}
 		public ExpressionContext(ParserRuleContext parent, int invokingState) { super(parent, invokingState); }
 		public ExpressionContext(ParserRuleContext parent, int invokingState, int _p) {
@@ -6477,78 +6579,78 @@ public class DataModelerParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1084);
-			switch ( getInterpreter().adaptivePredict(_input,119,_ctx) ) {
+			setState(1102);
+			switch ( getInterpreter().adaptivePredict(_input,122,_ctx) ) {
 			case 1:
 				{
-				setState(1072);
+				setState(1090);
 				_la = _input.LA(1);
-				if ( !(_la==6 || _la==44 || _la==67 || _la==72) ) {
+				if ( !(((((_la - 36)) & ~0x3f) == 0 && ((1L << (_la - 36)) & ((1L << (36 - 36)) | (1L << (45 - 36)) | (1L << (80 - 36)) | (1L << (88 - 36)))) != 0)) ) {
 				_errHandler.recoverInline(this);
 				}
 				consume();
-				setState(1073); expression(17);
+				setState(1091); expression(17);
 				}
 				break;
 
 			case 2:
 				{
-				setState(1074);
+				setState(1092);
 				_la = _input.LA(1);
-				if ( !(_la==34 || _la==88) ) {
+				if ( !(_la==39 || _la==83) ) {
 				_errHandler.recoverInline(this);
 				}
 				consume();
-				setState(1075); expression(16);
+				setState(1093); expression(16);
 				}
 				break;
 
 			case 3:
 				{
-				setState(1076); match(45);
-				setState(1077); type();
-				setState(1078); match(22);
-				setState(1079); expression(15);
+				setState(1094); match(24);
+				setState(1095); type();
+				setState(1096); match(87);
+				setState(1097); expression(15);
 				}
 				break;
 
 			case 4:
 				{
-				setState(1081); primary();
+				setState(1099); primary();
 				}
 				break;
 
 			case 5:
 				{
-				setState(1082); match(29);
-				setState(1083); creator();
+				setState(1100); match(8);
+				setState(1101); creator();
 				}
 				break;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(1212);
+			setState(1230);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,128,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,131,_ctx);
 			while ( _alt!=2 && _alt!=-1 ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(1210);
-					switch ( getInterpreter().adaptivePredict(_input,127,_ctx) ) {
+					setState(1228);
+					switch ( getInterpreter().adaptivePredict(_input,130,_ctx) ) {
 					case 1:
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1086);
+						setState(1104);
 						if (!(13 >= _localctx._p)) throw new FailedPredicateException(this, "13 >= $_p");
-						setState(1087);
+						setState(1105);
 						_la = _input.LA(1);
-						if ( !(_la==3 || _la==20 || _la==86) ) {
+						if ( !(((((_la - 47)) & ~0x3f) == 0 && ((1L << (_la - 47)) & ((1L << (47 - 47)) | (1L << (70 - 47)) | (1L << (84 - 47)))) != 0)) ) {
 						_errHandler.recoverInline(this);
 						}
 						consume();
-						setState(1088); expression(14);
+						setState(1106); expression(14);
 						}
 						break;
 
@@ -6556,15 +6658,15 @@ public class DataModelerParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1089);
+						setState(1107);
 						if (!(12 >= _localctx._p)) throw new FailedPredicateException(this, "12 >= $_p");
-						setState(1090);
+						setState(1108);
 						_la = _input.LA(1);
-						if ( !(_la==44 || _la==72) ) {
+						if ( !(_la==45 || _la==88) ) {
 						_errHandler.recoverInline(this);
 						}
 						consume();
-						setState(1091); expression(13);
+						setState(1109); expression(13);
 						}
 						break;
 
@@ -6572,33 +6674,33 @@ public class DataModelerParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1092);
+						setState(1110);
 						if (!(11 >= _localctx._p)) throw new FailedPredicateException(this, "11 >= $_p");
-						setState(1100);
-						switch ( getInterpreter().adaptivePredict(_input,120,_ctx) ) {
+						setState(1118);
+						switch ( getInterpreter().adaptivePredict(_input,123,_ctx) ) {
 						case 1:
 							{
-							setState(1093); match(5);
-							setState(1094); match(5);
+							setState(1111); match(37);
+							setState(1112); match(37);
 							}
 							break;
 
 						case 2:
 							{
-							setState(1095); match(81);
-							setState(1096); match(81);
-							setState(1097); match(81);
+							setState(1113); match(82);
+							setState(1114); match(82);
+							setState(1115); match(82);
 							}
 							break;
 
 						case 3:
 							{
-							setState(1098); match(81);
-							setState(1099); match(81);
+							setState(1116); match(82);
+							setState(1117); match(82);
 							}
 							break;
 						}
-						setState(1102); expression(12);
+						setState(1120); expression(12);
 						}
 						break;
 
@@ -6606,37 +6708,37 @@ public class DataModelerParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1103);
+						setState(1121);
 						if (!(10 >= _localctx._p)) throw new FailedPredicateException(this, "10 >= $_p");
-						setState(1110);
-						switch ( getInterpreter().adaptivePredict(_input,121,_ctx) ) {
+						setState(1128);
+						switch ( getInterpreter().adaptivePredict(_input,124,_ctx) ) {
 						case 1:
 							{
-							setState(1104); match(5);
-							setState(1105); match(25);
+							setState(1122); match(37);
+							setState(1123); match(17);
 							}
 							break;
 
 						case 2:
 							{
-							setState(1106); match(81);
-							setState(1107); match(25);
+							setState(1124); match(82);
+							setState(1125); match(17);
 							}
 							break;
 
 						case 3:
 							{
-							setState(1108); match(81);
+							setState(1126); match(82);
 							}
 							break;
 
 						case 4:
 							{
-							setState(1109); match(5);
+							setState(1127); match(37);
 							}
 							break;
 						}
-						setState(1112); expression(11);
+						setState(1130); expression(11);
 						}
 						break;
 
@@ -6644,15 +6746,15 @@ public class DataModelerParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1113);
+						setState(1131);
 						if (!(8 >= _localctx._p)) throw new FailedPredicateException(this, "8 >= $_p");
-						setState(1114);
+						setState(1132);
 						_la = _input.LA(1);
-						if ( !(_la==9 || _la==87) ) {
+						if ( !(_la==9 || _la==79) ) {
 						_errHandler.recoverInline(this);
 						}
 						consume();
-						setState(1115); expression(9);
+						setState(1133); expression(9);
 						}
 						break;
 
@@ -6660,10 +6762,10 @@ public class DataModelerParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1116);
+						setState(1134);
 						if (!(7 >= _localctx._p)) throw new FailedPredicateException(this, "7 >= $_p");
-						setState(1117); match(2);
-						setState(1118); expression(8);
+						setState(1135); match(68);
+						setState(1136); expression(8);
 						}
 						break;
 
@@ -6671,10 +6773,10 @@ public class DataModelerParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1119);
+						setState(1137);
 						if (!(6 >= _localctx._p)) throw new FailedPredicateException(this, "6 >= $_p");
-						setState(1120); match(70);
-						setState(1121); expression(7);
+						setState(1138); match(18);
+						setState(1139); expression(7);
 						}
 						break;
 
@@ -6682,10 +6784,10 @@ public class DataModelerParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1122);
+						setState(1140);
 						if (!(5 >= _localctx._p)) throw new FailedPredicateException(this, "5 >= $_p");
-						setState(1123); match(32);
-						setState(1124); expression(6);
+						setState(1141); match(78);
+						setState(1142); expression(6);
 						}
 						break;
 
@@ -6693,10 +6795,10 @@ public class DataModelerParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1125);
+						setState(1143);
 						if (!(4 >= _localctx._p)) throw new FailedPredicateException(this, "4 >= $_p");
-						setState(1126); match(78);
-						setState(1127); expression(5);
+						setState(1144); match(15);
+						setState(1145); expression(5);
 						}
 						break;
 
@@ -6704,10 +6806,10 @@ public class DataModelerParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1128);
+						setState(1146);
 						if (!(3 >= _localctx._p)) throw new FailedPredicateException(this, "3 >= $_p");
-						setState(1129); match(80);
-						setState(1130); expression(4);
+						setState(1147); match(56);
+						setState(1148); expression(4);
 						}
 						break;
 
@@ -6715,90 +6817,90 @@ public class DataModelerParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1131);
+						setState(1149);
 						if (!(1 >= _localctx._p)) throw new FailedPredicateException(this, "1 >= $_p");
-						setState(1151);
-						switch ( getInterpreter().adaptivePredict(_input,122,_ctx) ) {
+						setState(1169);
+						switch ( getInterpreter().adaptivePredict(_input,125,_ctx) ) {
 						case 1:
 							{
-							setState(1132); match(61);
+							setState(1150); match(14);
 							}
 							break;
 
 						case 2:
 							{
-							setState(1133); match(59);
+							setState(1151); match(2);
 							}
 							break;
 
 						case 3:
 							{
-							setState(1134); match(38);
+							setState(1152); match(26);
 							}
 							break;
 
 						case 4:
 							{
-							setState(1135); match(21);
+							setState(1153); match(46);
 							}
 							break;
 
 						case 5:
 							{
-							setState(1136); match(85);
+							setState(1154); match(28);
 							}
 							break;
 
 						case 6:
 							{
-							setState(1137); match(48);
+							setState(1155); match(52);
 							}
 							break;
 
 						case 7:
 							{
-							setState(1138); match(28);
+							setState(1156); match(20);
 							}
 							break;
 
 						case 8:
 							{
-							setState(1139); match(25);
+							setState(1157); match(17);
 							}
 							break;
 
 						case 9:
 							{
-							setState(1140); match(81);
-							setState(1141); match(81);
-							setState(1142); match(25);
+							setState(1158); match(82);
+							setState(1159); match(82);
+							setState(1160); match(17);
 							}
 							break;
 
 						case 10:
 							{
-							setState(1143); match(81);
-							setState(1144); match(81);
-							setState(1145); match(81);
-							setState(1146); match(25);
+							setState(1161); match(82);
+							setState(1162); match(82);
+							setState(1163); match(82);
+							setState(1164); match(17);
 							}
 							break;
 
 						case 11:
 							{
-							setState(1147); match(5);
-							setState(1148); match(5);
-							setState(1149); match(25);
+							setState(1165); match(37);
+							setState(1166); match(37);
+							setState(1167); match(17);
 							}
 							break;
 
 						case 12:
 							{
-							setState(1150); match(83);
+							setState(1168); match(4);
 							}
 							break;
 						}
-						setState(1153); expression(1);
+						setState(1171); expression(1);
 						}
 						break;
 
@@ -6806,12 +6908,12 @@ public class DataModelerParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1154);
+						setState(1172);
 						if (!(2 >= _localctx._p)) throw new FailedPredicateException(this, "2 >= $_p");
-						setState(1155); match(51);
-						setState(1156); expression(0);
-						setState(1157); match(46);
-						setState(1158); expression(3);
+						setState(1173); match(63);
+						setState(1174); expression(0);
+						setState(1175); match(76);
+						setState(1176); expression(3);
 						}
 						break;
 
@@ -6819,10 +6921,10 @@ public class DataModelerParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1160);
+						setState(1178);
 						if (!(26 >= _localctx._p)) throw new FailedPredicateException(this, "26 >= $_p");
-						setState(1161); match(71);
-						setState(1162); match(Identifier);
+						setState(1179); match(72);
+						setState(1180); match(Identifier);
 						}
 						break;
 
@@ -6830,10 +6932,10 @@ public class DataModelerParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1163);
+						setState(1181);
 						if (!(25 >= _localctx._p)) throw new FailedPredicateException(this, "25 >= $_p");
-						setState(1164); match(71);
-						setState(1165); match(79);
+						setState(1182); match(72);
+						setState(1183); match(71);
 						}
 						break;
 
@@ -6841,20 +6943,20 @@ public class DataModelerParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1166);
+						setState(1184);
 						if (!(24 >= _localctx._p)) throw new FailedPredicateException(this, "24 >= $_p");
-						setState(1167); match(71);
-						setState(1168); match(18);
-						setState(1169); match(45);
-						setState(1171);
+						setState(1185); match(72);
+						setState(1186); match(86);
+						setState(1187); match(24);
+						setState(1189);
 						_la = _input.LA(1);
-						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 7) | (1L << 10) | (1L << 12) | (1L << 14) | (1L << 15) | (1L << 18) | (1L << 26) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 44) | (1L << 45) | (1L << 49) | (1L << 53))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (67 - 65)) | (1L << (69 - 65)) | (1L << (72 - 65)) | (1L << (79 - 65)) | (1L << (88 - 65)) | (1L << (HexLiteral - 65)) | (1L << (DecimalLiteral - 65)) | (1L << (OctalLiteral - 65)) | (1L << (FloatingPointLiteral - 65)) | (1L << (CharacterLiteral - 65)) | (1L << (StringLiteral - 65)) | (1L << (Identifier - 65)))) != 0)) {
+						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 8) | (1L << 10) | (1L << 12) | (1L << 16) | (1L << 21) | (1L << 22) | (1L << 24) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 39) | (1L << 45) | (1L << 54))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (66 - 65)) | (1L << (71 - 65)) | (1L << (80 - 65)) | (1L << (83 - 65)) | (1L << (86 - 65)) | (1L << (88 - 65)) | (1L << (HexLiteral - 65)) | (1L << (DecimalLiteral - 65)) | (1L << (OctalLiteral - 65)) | (1L << (FloatingPointLiteral - 65)) | (1L << (CharacterLiteral - 65)) | (1L << (StringLiteral - 65)) | (1L << (Identifier - 65)))) != 0)) {
 							{
-							setState(1170); expressionList();
+							setState(1188); expressionList();
 							}
 						}
 
-						setState(1173); match(22);
+						setState(1191); match(87);
 						}
 						break;
 
@@ -6862,21 +6964,21 @@ public class DataModelerParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1174);
+						setState(1192);
 						if (!(23 >= _localctx._p)) throw new FailedPredicateException(this, "23 >= $_p");
-						setState(1175); match(71);
-						setState(1176); match(29);
-						setState(1177); match(Identifier);
-						setState(1178); match(45);
-						setState(1180);
+						setState(1193); match(72);
+						setState(1194); match(8);
+						setState(1195); match(Identifier);
+						setState(1196); match(24);
+						setState(1198);
 						_la = _input.LA(1);
-						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 7) | (1L << 10) | (1L << 12) | (1L << 14) | (1L << 15) | (1L << 18) | (1L << 26) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 44) | (1L << 45) | (1L << 49) | (1L << 53))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (67 - 65)) | (1L << (69 - 65)) | (1L << (72 - 65)) | (1L << (79 - 65)) | (1L << (88 - 65)) | (1L << (HexLiteral - 65)) | (1L << (DecimalLiteral - 65)) | (1L << (OctalLiteral - 65)) | (1L << (FloatingPointLiteral - 65)) | (1L << (CharacterLiteral - 65)) | (1L << (StringLiteral - 65)) | (1L << (Identifier - 65)))) != 0)) {
+						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 8) | (1L << 10) | (1L << 12) | (1L << 16) | (1L << 21) | (1L << 22) | (1L << 24) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 39) | (1L << 45) | (1L << 54))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (66 - 65)) | (1L << (71 - 65)) | (1L << (80 - 65)) | (1L << (83 - 65)) | (1L << (86 - 65)) | (1L << (88 - 65)) | (1L << (HexLiteral - 65)) | (1L << (DecimalLiteral - 65)) | (1L << (OctalLiteral - 65)) | (1L << (FloatingPointLiteral - 65)) | (1L << (CharacterLiteral - 65)) | (1L << (StringLiteral - 65)) | (1L << (Identifier - 65)))) != 0)) {
 							{
-							setState(1179); expressionList();
+							setState(1197); expressionList();
 							}
 						}
 
-						setState(1182); match(22);
+						setState(1200); match(87);
 						}
 						break;
 
@@ -6884,17 +6986,17 @@ public class DataModelerParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1183);
+						setState(1201);
 						if (!(22 >= _localctx._p)) throw new FailedPredicateException(this, "22 >= $_p");
-						setState(1184); match(71);
-						setState(1185); match(18);
-						setState(1186); match(71);
-						setState(1187); match(Identifier);
-						setState(1189);
-						switch ( getInterpreter().adaptivePredict(_input,125,_ctx) ) {
+						setState(1202); match(72);
+						setState(1203); match(86);
+						setState(1204); match(72);
+						setState(1205); match(Identifier);
+						setState(1207);
+						switch ( getInterpreter().adaptivePredict(_input,128,_ctx) ) {
 						case 1:
 							{
-							setState(1188); arguments();
+							setState(1206); arguments();
 							}
 							break;
 						}
@@ -6905,10 +7007,10 @@ public class DataModelerParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1191);
+						setState(1209);
 						if (!(21 >= _localctx._p)) throw new FailedPredicateException(this, "21 >= $_p");
-						setState(1192); match(71);
-						setState(1193); explicitGenericInvocation();
+						setState(1210); match(72);
+						setState(1211); explicitGenericInvocation();
 						}
 						break;
 
@@ -6916,11 +7018,11 @@ public class DataModelerParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1194);
+						setState(1212);
 						if (!(20 >= _localctx._p)) throw new FailedPredicateException(this, "20 >= $_p");
-						setState(1195); match(4);
-						setState(1196); expression(0);
-						setState(1197); match(37);
+						setState(1213); match(77);
+						setState(1214); expression(0);
+						setState(1215); match(38);
 						}
 						break;
 
@@ -6928,18 +7030,18 @@ public class DataModelerParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1199);
+						setState(1217);
 						if (!(19 >= _localctx._p)) throw new FailedPredicateException(this, "19 >= $_p");
-						setState(1200); match(45);
-						setState(1202);
+						setState(1218); match(24);
+						setState(1220);
 						_la = _input.LA(1);
-						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 7) | (1L << 10) | (1L << 12) | (1L << 14) | (1L << 15) | (1L << 18) | (1L << 26) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 44) | (1L << 45) | (1L << 49) | (1L << 53))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (67 - 65)) | (1L << (69 - 65)) | (1L << (72 - 65)) | (1L << (79 - 65)) | (1L << (88 - 65)) | (1L << (HexLiteral - 65)) | (1L << (DecimalLiteral - 65)) | (1L << (OctalLiteral - 65)) | (1L << (FloatingPointLiteral - 65)) | (1L << (CharacterLiteral - 65)) | (1L << (StringLiteral - 65)) | (1L << (Identifier - 65)))) != 0)) {
+						if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 8) | (1L << 10) | (1L << 12) | (1L << 16) | (1L << 21) | (1L << 22) | (1L << 24) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 39) | (1L << 45) | (1L << 54))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (66 - 65)) | (1L << (71 - 65)) | (1L << (80 - 65)) | (1L << (83 - 65)) | (1L << (86 - 65)) | (1L << (88 - 65)) | (1L << (HexLiteral - 65)) | (1L << (DecimalLiteral - 65)) | (1L << (OctalLiteral - 65)) | (1L << (FloatingPointLiteral - 65)) | (1L << (CharacterLiteral - 65)) | (1L << (StringLiteral - 65)) | (1L << (Identifier - 65)))) != 0)) {
 							{
-							setState(1201); expressionList();
+							setState(1219); expressionList();
 							}
 						}
 
-						setState(1204); match(22);
+						setState(1222); match(87);
 						}
 						break;
 
@@ -6947,11 +7049,11 @@ public class DataModelerParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1205);
+						setState(1223);
 						if (!(18 >= _localctx._p)) throw new FailedPredicateException(this, "18 >= $_p");
-						setState(1206);
+						setState(1224);
 						_la = _input.LA(1);
-						if ( !(_la==6 || _la==67) ) {
+						if ( !(_la==36 || _la==80) ) {
 						_errHandler.recoverInline(this);
 						}
 						consume();
@@ -6962,18 +7064,18 @@ public class DataModelerParser extends Parser {
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState, _p);
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(1207);
+						setState(1225);
 						if (!(9 >= _localctx._p)) throw new FailedPredicateException(this, "9 >= $_p");
-						setState(1208); match(89);
-						setState(1209); type();
+						setState(1226); match(58);
+						setState(1227); type();
 						}
 						break;
 					}
 					} 
 				}
-				setState(1214);
+				setState(1232);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,128,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,131,_ctx);
 			}
 			}
 		}
@@ -6992,10 +7094,10 @@ public class DataModelerParser extends Parser {
 		public ExpressionContext expression() {
 			return getRuleContext(ExpressionContext.class,0);
 		}
+		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public TypeContext type() {
 			return getRuleContext(TypeContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public LiteralContext literal() {
 			return getRuleContext(LiteralContext.class,0);
 		}
@@ -7017,60 +7119,60 @@ public class DataModelerParser extends Parser {
 		PrimaryContext _localctx = new PrimaryContext(_ctx, getState());
 		enterRule(_localctx, 208, RULE_primary);
 		try {
-			setState(1230);
-			switch ( getInterpreter().adaptivePredict(_input,129,_ctx) ) {
+			setState(1248);
+			switch ( getInterpreter().adaptivePredict(_input,132,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1215); match(45);
-				setState(1216); expression(0);
-				setState(1217); match(22);
+				setState(1233); match(24);
+				setState(1234); expression(0);
+				setState(1235); match(87);
 				}
 				break;
 
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1219); match(79);
+				setState(1237); match(71);
 				}
 				break;
 
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1220); match(18);
+				setState(1238); match(86);
 				}
 				break;
 
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(1221); literal();
+				setState(1239); literal();
 				}
 				break;
 
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(1222); match(Identifier);
+				setState(1240); match(Identifier);
 				}
 				break;
 
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(1223); type();
-				setState(1224); match(71);
-				setState(1225); match(30);
+				setState(1241); type();
+				setState(1242); match(72);
+				setState(1243); match(55);
 				}
 				break;
 
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(1227); match(53);
-				setState(1228); match(71);
-				setState(1229); match(30);
+				setState(1245); match(12);
+				setState(1246); match(72);
+				setState(1247); match(55);
 				}
 				break;
 			}
@@ -7087,18 +7189,18 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class CreatorContext extends ParserRuleContext {
-		public CreatedNameContext createdName() {
-			return getRuleContext(CreatedNameContext.class,0);
+		public ArrayCreatorRestContext arrayCreatorRest() {
+			return getRuleContext(ArrayCreatorRestContext.class,0);
 		}
 		public NonWildcardTypeArgumentsContext nonWildcardTypeArguments() {
 			return getRuleContext(NonWildcardTypeArgumentsContext.class,0);
 		}
+		public CreatedNameContext createdName() {
+			return getRuleContext(CreatedNameContext.class,0);
+		}
 		public ClassCreatorRestContext classCreatorRest() {
 			return getRuleContext(ClassCreatorRestContext.class,0);
 		}
-		public ArrayCreatorRestContext arrayCreatorRest() {
-			return getRuleContext(ArrayCreatorRestContext.class,0);
-		}
 		public CreatorContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -7117,38 +7219,38 @@ public class DataModelerParser extends Parser {
 		CreatorContext _localctx = new CreatorContext(_ctx, getState());
 		enterRule(_localctx, 210, RULE_creator);
 		try {
-			setState(1241);
+			setState(1259);
 			switch (_input.LA(1)) {
-			case 5:
+			case 37:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1232); nonWildcardTypeArguments();
-				setState(1233); createdName();
-				setState(1234); classCreatorRest();
+				setState(1250); nonWildcardTypeArguments();
+				setState(1251); createdName();
+				setState(1252); classCreatorRest();
 				}
 				break;
+			case 6:
 			case 10:
-			case 12:
-			case 14:
-			case 15:
+			case 16:
+			case 21:
+			case 34:
 			case 35:
-			case 36:
-			case 49:
-			case 69:
+			case 65:
+			case 66:
 			case Identifier:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1236); createdName();
-				setState(1239);
+				setState(1254); createdName();
+				setState(1257);
 				switch (_input.LA(1)) {
-				case 4:
+				case 77:
 					{
-					setState(1237); arrayCreatorRest();
+					setState(1255); arrayCreatorRest();
 					}
 					break;
-				case 45:
+				case 24:
 					{
-					setState(1238); classCreatorRest();
+					setState(1256); classCreatorRest();
 					}
 					break;
 				default:
@@ -7172,12 +7274,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class CreatedNameContext extends ParserRuleContext {
-		public PrimitiveTypeContext primitiveType() {
-			return getRuleContext(PrimitiveTypeContext.class,0);
-		}
 		public ClassOrInterfaceTypeContext classOrInterfaceType() {
 			return getRuleContext(ClassOrInterfaceTypeContext.class,0);
 		}
+		public PrimitiveTypeContext primitiveType() {
+			return getRuleContext(PrimitiveTypeContext.class,0);
+		}
 		public CreatedNameContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -7196,25 +7298,25 @@ public class DataModelerParser extends Parser {
 		CreatedNameContext _localctx = new CreatedNameContext(_ctx, getState());
 		enterRule(_localctx, 212, RULE_createdName);
 		try {
-			setState(1245);
+			setState(1263);
 			switch (_input.LA(1)) {
 			case Identifier:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1243); classOrInterfaceType();
+				setState(1261); classOrInterfaceType();
 				}
 				break;
+			case 6:
 			case 10:
-			case 12:
-			case 14:
-			case 15:
+			case 16:
+			case 21:
+			case 34:
 			case 35:
-			case 36:
-			case 49:
-			case 69:
+			case 65:
+			case 66:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1244); primitiveType();
+				setState(1262); primitiveType();
 				}
 				break;
 			default:
@@ -7233,10 +7335,10 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class InnerCreatorContext extends ParserRuleContext {
+		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public NonWildcardTypeArgumentsContext nonWildcardTypeArguments() {
 			return getRuleContext(NonWildcardTypeArgumentsContext.class,0);
 		}
-		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
 		public ClassCreatorRestContext classCreatorRest() {
 			return getRuleContext(ClassCreatorRestContext.class,0);
 		}
@@ -7261,16 +7363,16 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1248);
+			setState(1266);
 			_la = _input.LA(1);
-			if (_la==5) {
+			if (_la==37) {
 				{
-				setState(1247); nonWildcardTypeArguments();
+				setState(1265); nonWildcardTypeArguments();
 				}
 			}
 
-			setState(1250); match(Identifier);
-			setState(1251); classCreatorRest();
+			setState(1268); match(Identifier);
+			setState(1269); classCreatorRest();
 			}
 		}
 		catch (RecognitionException re) {
@@ -7285,13 +7387,13 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class ExplicitGenericInvocationContext extends ParserRuleContext {
-		public ArgumentsContext arguments() {
-			return getRuleContext(ArgumentsContext.class,0);
-		}
 		public NonWildcardTypeArgumentsContext nonWildcardTypeArguments() {
 			return getRuleContext(NonWildcardTypeArgumentsContext.class,0);
 		}
 		public TerminalNode Identifier() { return getToken(DataModelerParser.Identifier, 0); }
+		public ArgumentsContext arguments() {
+			return getRuleContext(ArgumentsContext.class,0);
+		}
 		public ExplicitGenericInvocationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -7312,9 +7414,9 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1253); nonWildcardTypeArguments();
-			setState(1254); match(Identifier);
-			setState(1255); arguments();
+			setState(1271); nonWildcardTypeArguments();
+			setState(1272); match(Identifier);
+			setState(1273); arguments();
 			}
 		}
 		catch (RecognitionException re) {
@@ -7360,50 +7462,50 @@ public class DataModelerParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1257); match(4);
-			setState(1285);
+			setState(1275); match(77);
+			setState(1303);
 			switch (_input.LA(1)) {
-			case 37:
+			case 38:
 				{
-				setState(1258); match(37);
-				setState(1263);
+				setState(1276); match(38);
+				setState(1281);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (_la==4) {
+				while (_la==77) {
 					{
 					{
-					setState(1259); match(4);
-					setState(1260); match(37);
+					setState(1277); match(77);
+					setState(1278); match(38);
 					}
 					}
-					setState(1265);
+					setState(1283);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(1266); arrayInitializer();
+				setState(1284); arrayInitializer();
 				}
 				break;
 			case 6:
-			case 7:
+			case 8:
 			case 10:
 			case 12:
-			case 14:
-			case 15:
-			case 18:
-			case 26:
+			case 16:
+			case 21:
+			case 22:
+			case 24:
 			case 29:
 			case 34:
 			case 35:
 			case 36:
-			case 44:
+			case 39:
 			case 45:
-			case 49:
-			case 53:
+			case 54:
 			case 65:
-			case 67:
-			case 69:
-			case 72:
-			case 79:
+			case 66:
+			case 71:
+			case 80:
+			case 83:
+			case 86:
 			case 88:
 			case HexLiteral:
 			case DecimalLiteral:
@@ -7413,40 +7515,40 @@ public class DataModelerParser extends Parser {
 			case StringLiteral:
 			case Identifier:
 				{
-				setState(1267); expression(0);
-				setState(1268); match(37);
-				setState(1275);
+				setState(1285); expression(0);
+				setState(1286); match(38);
+				setState(1293);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,135,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,138,_ctx);
 				while ( _alt!=2 && _alt!=-1 ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(1269); match(4);
-						setState(1270); expression(0);
-						setState(1271); match(37);
+						setState(1287); match(77);
+						setState(1288); expression(0);
+						setState(1289); match(38);
 						}
 						} 
 					}
-					setState(1277);
+					setState(1295);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,135,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,138,_ctx);
 				}
-				setState(1282);
+				setState(1300);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,136,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,139,_ctx);
 				while ( _alt!=2 && _alt!=-1 ) {
 					if ( _alt==1 ) {
 						{
 						{
-						setState(1278); match(4);
-						setState(1279); match(37);
+						setState(1296); match(77);
+						setState(1297); match(38);
 						}
 						} 
 					}
-					setState(1284);
+					setState(1302);
 					_errHandler.sync(this);
-					_alt = getInterpreter().adaptivePredict(_input,136,_ctx);
+					_alt = getInterpreter().adaptivePredict(_input,139,_ctx);
 				}
 				}
 				break;
@@ -7467,12 +7569,12 @@ public class DataModelerParser extends Parser {
 	}
 
 	public static class ClassCreatorRestContext extends ParserRuleContext {
-		public ArgumentsContext arguments() {
-			return getRuleContext(ArgumentsContext.class,0);
-		}
 		public ClassBodyContext classBody() {
 			return getRuleContext(ClassBodyContext.class,0);
 		}
+		public ArgumentsContext arguments() {
+			return getRuleContext(ArgumentsContext.class,0);
+		}
 		public ClassCreatorRestContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -7493,12 +7595,12 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1287); arguments();
-			setState(1289);
-			switch ( getInterpreter().adaptivePredict(_input,138,_ctx) ) {
+			setState(1305); arguments();
+			setState(1307);
+			switch ( getInterpreter().adaptivePredict(_input,141,_ctx) ) {
 			case 1:
 				{
-				setState(1288); classBody();
+				setState(1306); classBody();
 				}
 				break;
 			}
@@ -7539,9 +7641,9 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1291); match(5);
-			setState(1292); typeList();
-			setState(1293); match(81);
+			setState(1309); match(37);
+			setState(1310); typeList();
+			setState(1311); match(82);
 			}
 		}
 		catch (RecognitionException re) {
@@ -7580,16 +7682,16 @@ public class DataModelerParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1295); match(45);
-			setState(1297);
+			setState(1313); match(24);
+			setState(1315);
 			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 7) | (1L << 10) | (1L << 12) | (1L << 14) | (1L << 15) | (1L << 18) | (1L << 26) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 44) | (1L << 45) | (1L << 49) | (1L << 53))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (67 - 65)) | (1L << (69 - 65)) | (1L << (72 - 65)) | (1L << (79 - 65)) | (1L << (88 - 65)) | (1L << (HexLiteral - 65)) | (1L << (DecimalLiteral - 65)) | (1L << (OctalLiteral - 65)) | (1L << (FloatingPointLiteral - 65)) | (1L << (CharacterLiteral - 65)) | (1L << (StringLiteral - 65)) | (1L << (Identifier - 65)))) != 0)) {
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << 6) | (1L << 8) | (1L << 10) | (1L << 12) | (1L << 16) | (1L << 21) | (1L << 22) | (1L << 24) | (1L << 29) | (1L << 34) | (1L << 35) | (1L << 36) | (1L << 39) | (1L << 45) | (1L << 54))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (65 - 65)) | (1L << (66 - 65)) | (1L << (71 - 65)) | (1L << (80 - 65)) | (1L << (83 - 65)) | (1L << (86 - 65)) | (1L << (88 - 65)) | (1L << (HexLiteral - 65)) | (1L << (DecimalLiteral - 65)) | (1L << (OctalLiteral - 65)) | (1L << (FloatingPointLiteral - 65)) | (1L << (CharacterLiteral - 65)) | (1L << (StringLiteral - 65)) | (1L << (Identifier - 65)))) != 0)) {
 				{
-				setState(1296); expressionList();
+				setState(1314); expressionList();
 				}
 			}
 
-			setState(1299); match(22);
+			setState(1317); match(87);
 			}
 		}
 		catch (RecognitionException re) {
@@ -7643,23 +7745,23 @@ public class DataModelerParser extends Parser {
 
 		case 15: return 23 >= _localctx._p;
 
-		case 17: return 21 >= _localctx._p;
-
 		case 16: return 22 >= _localctx._p;
 
-		case 19: return 19 >= _localctx._p;
+		case 17: return 21 >= _localctx._p;
 
 		case 18: return 20 >= _localctx._p;
 
-		case 21: return 9 >= _localctx._p;
+		case 19: return 19 >= _localctx._p;
 
 		case 20: return 18 >= _localctx._p;
+
+		case 21: return 9 >= _localctx._p;
 		}
 		return true;
 	}
 
 	public static final String _serializedATN =
-		"\2\3g\u0518\4\2\t\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4"+
+		"\2\3g\u052a\4\2\t\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4"+
 		"\t\t\t\4\n\t\n\4\13\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20"+
 		"\4\21\t\21\4\22\t\22\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27"+
 		"\4\30\t\30\4\31\t\31\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36"+
@@ -7671,491 +7773,497 @@ public class DataModelerParser extends Parser {
 		"R\tR\4S\tS\4T\tT\4U\tU\4V\tV\4W\tW\4X\tX\4Y\tY\4Z\tZ\4[\t[\4\\\t\\\4]"+
 		"\t]\4^\t^\4_\t_\4`\t`\4a\ta\4b\tb\4c\tc\4d\td\4e\te\4f\tf\4g\tg\4h\th"+
 		"\4i\ti\4j\tj\4k\tk\4l\tl\4m\tm\4n\tn\4o\to\4p\tp\4q\tq\4r\tr\3\2\3\2\3"+
-		"\2\7\2\u00e8\n\2\f\2\16\2\u00eb\13\2\3\2\3\2\3\2\3\2\5\2\u00f1\n\2\3\2"+
-		"\7\2\u00f4\n\2\f\2\16\2\u00f7\13\2\3\2\3\2\3\2\5\2\u00fc\n\2\3\3\3\3\3"+
-		"\3\3\3\3\4\3\4\5\4\u0104\n\4\3\4\3\4\3\4\5\4\u0109\n\4\3\4\3\4\3\5\3\5"+
-		"\3\5\3\6\7\6\u0111\n\6\f\6\16\6\u0114\13\6\3\7\3\7\3\7\3\7\3\7\3\7\3\7"+
-		"\3\7\5\7\u011e\n\7\3\b\7\b\u0121\n\b\f\b\16\b\u0124\13\b\3\t\3\t\3\n\3"+
-		"\n\3\n\5\n\u012b\n\n\3\n\3\n\5\n\u012f\n\n\3\n\3\n\5\n\u0133\n\n\3\n\3"+
-		"\n\3\13\3\13\3\13\3\13\7\13\u013b\n\13\f\13\16\13\u013e\13\13\3\13\3\13"+
-		"\3\f\3\f\3\f\5\f\u0145\n\f\3\r\3\r\3\r\7\r\u014a\n\r\f\r\16\r\u014d\13"+
-		"\r\3\16\3\16\3\16\3\16\5\16\u0153\n\16\3\16\3\16\3\17\3\17\5\17\u0159"+
-		"\n\17\3\17\5\17\u015c\n\17\3\17\5\17\u015f\n\17\3\17\3\17\3\20\3\20\3"+
-		"\20\7\20\u0166\n\20\f\20\16\20\u0169\13\20\3\21\5\21\u016c\n\21\3\21\3"+
-		"\21\5\21\u0170\n\21\3\21\5\21\u0173\n\21\3\22\3\22\7\22\u0177\n\22\f\22"+
-		"\16\22\u017a\13\22\3\23\3\23\5\23\u017e\n\23\3\24\3\24\3\24\5\24\u0183"+
-		"\n\24\3\24\3\24\5\24\u0187\n\24\3\24\3\24\3\25\3\25\3\25\7\25\u018e\n"+
-		"\25\f\25\16\25\u0191\13\25\3\26\3\26\7\26\u0195\n\26\f\26\16\26\u0198"+
-		"\13\26\3\26\3\26\3\27\3\27\7\27\u019e\n\27\f\27\16\27\u01a1\13\27\3\27"+
-		"\3\27\3\30\3\30\3\30\3\30\5\30\u01a9\n\30\3\31\3\31\3\31\3\31\3\31\3\31"+
-		"\3\31\5\31\u01b2\n\31\3\32\3\32\3\32\5\32\u01b7\n\32\3\33\3\33\3\33\3"+
-		"\34\3\34\5\34\u01be\n\34\3\34\3\34\3\34\3\34\5\34\u01c4\n\34\3\35\3\35"+
-		"\3\35\3\36\3\36\3\36\3\37\3\37\3\37\3\37\5\37\u01d0\n\37\3 \3 \3 \3 \3"+
-		" \3 \3 \5 \u01d9\n \3!\3!\3!\3!\3\"\3\"\3\"\3\"\5\"\u01e3\n\"\3#\3#\3"+
-		"#\7#\u01e8\n#\f#\16#\u01eb\13#\3#\3#\5#\u01ef\n#\3#\3#\5#\u01f3\n#\3$"+
-		"\3$\3$\5$\u01f8\n$\3$\3$\5$\u01fc\n$\3%\3%\3%\7%\u0201\n%\f%\16%\u0204"+
-		"\13%\3%\3%\5%\u0208\n%\3%\3%\3&\3&\3&\5&\u020f\n&\3&\3&\3&\3\'\3\'\3\'"+
-		"\5\'\u0217\n\'\3\'\3\'\3(\3(\3(\5(\u021e\n(\3(\3(\3)\3)\3)\3*\3*\3*\7"+
-		"*\u0228\n*\f*\16*\u022b\13*\3+\3+\3+\5+\u0230\n+\3,\3,\3,\7,\u0235\n,"+
-		"\f,\16,\u0238\13,\3-\3-\7-\u023c\n-\f-\16-\u023f\13-\3-\3-\3-\3.\3.\3"+
-		".\7.\u0247\n.\f.\16.\u024a\13.\3/\3/\5/\u024e\n/\3\60\3\60\3\60\3\60\7"+
-		"\60\u0254\n\60\f\60\16\60\u0257\13\60\3\60\5\60\u025a\n\60\5\60\u025c"+
-		"\n\60\3\60\3\60\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61"+
-		"\3\61\5\61\u026c\n\61\3\62\3\62\3\63\3\63\3\64\3\64\3\65\3\65\3\65\7\65"+
-		"\u0277\n\65\f\65\16\65\u027a\13\65\3\65\3\65\3\65\7\65\u027f\n\65\f\65"+
-		"\16\65\u0282\13\65\5\65\u0284\n\65\3\66\3\66\5\66\u0288\n\66\3\66\3\66"+
-		"\3\66\5\66\u028d\n\66\7\66\u028f\n\66\f\66\16\66\u0292\13\66\3\67\3\67"+
-		"\38\38\58\u0298\n8\39\39\39\39\79\u029e\n9\f9\169\u02a1\139\39\39\3:\3"+
-		":\3:\3:\5:\u02a9\n:\5:\u02ab\n:\3;\3;\3;\7;\u02b0\n;\f;\16;\u02b3\13;"+
-		"\3<\3<\5<\u02b7\n<\3<\3<\3=\3=\3=\3=\3>\3>\3>\5>\u02c2\n>\3>\3>\5>\u02c6"+
-		"\n>\3?\3?\3@\3@\5@\u02cc\n@\3@\7@\u02cf\n@\f@\16@\u02d2\13@\3@\3@\3A\5"+
-		"A\u02d7\nA\3A\3A\3A\3A\3A\3A\3A\5A\u02e0\nA\3A\3A\3A\3A\5A\u02e6\nA\3"+
-		"B\3B\3B\7B\u02eb\nB\fB\16B\u02ee\13B\3C\3C\3C\3C\3C\3C\5C\u02f6\nC\3D"+
-		"\3D\3E\3E\3F\6F\u02fd\nF\rF\16F\u02fe\3G\3G\3G\3G\3G\5G\u0306\nG\3G\5"+
-		"G\u0309\nG\3H\3H\3H\7H\u030e\nH\fH\16H\u0311\13H\3I\3I\3I\7I\u0316\nI"+
-		"\fI\16I\u0319\13I\3J\3J\3J\3J\3K\3K\3K\5K\u0322\nK\3L\3L\3L\3L\7L\u0328"+
-		"\nL\fL\16L\u032b\13L\5L\u032d\nL\3L\5L\u0330\nL\3L\3L\3M\3M\3M\3M\3M\3"+
-		"N\3N\7N\u033b\nN\fN\16N\u033e\13N\3N\3N\3O\3O\3O\3P\3P\3P\3P\3P\3P\5P"+
-		"\u034b\nP\3P\3P\5P\u034f\nP\3P\3P\5P\u0353\nP\3P\3P\5P\u0357\nP\5P\u0359"+
-		"\nP\3Q\3Q\5Q\u035d\nQ\3R\3R\3R\3R\5R\u0363\nR\3S\3S\3T\3T\3T\3U\3U\7U"+
-		"\u036c\nU\fU\16U\u036f\13U\3U\3U\3V\3V\5V\u0375\nV\3W\3W\3W\3X\3X\3X\3"+
-		"X\3Y\7Y\u037f\nY\fY\16Y\u0382\13Y\3Z\3Z\3Z\3Z\3Z\5Z\u0389\nZ\3Z\3Z\3Z"+
-		"\3Z\3Z\3Z\3Z\5Z\u0392\nZ\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z"+
-		"\3Z\3Z\3Z\3Z\3Z\3Z\5Z\u03a9\nZ\3Z\3Z\5Z\u03ad\nZ\3Z\3Z\3Z\3Z\3Z\3Z\3Z"+
-		"\3Z\3Z\3Z\3Z\3Z\5Z\u03bb\nZ\3Z\3Z\3Z\3Z\3Z\3Z\3Z\5Z\u03c4\nZ\3Z\3Z\3Z"+
-		"\5Z\u03c9\nZ\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\5Z\u03d3\nZ\3[\3[\7[\u03d7\n[\f["+
-		"\16[\u03da\13[\3\\\3\\\3\\\3\\\3\\\3\\\3]\3]\3]\3]\3^\7^\u03e7\n^\f^\16"+
-		"^\u03ea\13^\3^\7^\u03ed\n^\f^\16^\u03f0\13^\3_\6_\u03f3\n_\r_\16_\u03f4"+
-		"\3_\6_\u03f8\n_\r_\16_\u03f9\3`\3`\3`\3`\3`\3`\3`\3`\3`\3`\5`\u0406\n"+
-		"`\3a\3a\5a\u040a\na\3a\3a\5a\u040e\na\3a\3a\5a\u0412\na\5a\u0414\na\3"+
-		"b\3b\5b\u0418\nb\3c\3c\3c\3c\3c\3c\3d\3d\3e\3e\3e\3e\3f\3f\3f\7f\u0429"+
-		"\nf\ff\16f\u042c\13f\3g\3g\3h\3h\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3"+
-		"i\5i\u043f\ni\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\5i\u044f\ni\3"+
-		"i\3i\3i\3i\3i\3i\3i\3i\5i\u0459\ni\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3"+
+		"\2\7\2\u00e8\n\2\f\2\16\2\u00eb\13\2\3\2\6\2\u00ee\n\2\r\2\16\2\u00ef"+
+		"\3\2\3\2\3\2\5\2\u00f5\n\2\3\2\7\2\u00f8\n\2\f\2\16\2\u00fb\13\2\3\2\6"+
+		"\2\u00fe\n\2\r\2\16\2\u00ff\3\2\3\2\5\2\u0104\n\2\3\3\3\3\3\3\3\3\3\4"+
+		"\3\4\5\4\u010c\n\4\3\4\3\4\3\4\5\4\u0111\n\4\3\4\3\4\3\5\3\5\3\5\3\6\7"+
+		"\6\u0119\n\6\f\6\16\6\u011c\13\6\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\5\7\u0126"+
+		"\n\7\3\b\7\b\u0129\n\b\f\b\16\b\u012c\13\b\3\t\3\t\3\n\3\n\3\n\5\n\u0133"+
+		"\n\n\3\n\3\n\5\n\u0137\n\n\3\n\3\n\5\n\u013b\n\n\3\n\3\n\3\13\3\13\3\13"+
+		"\3\13\7\13\u0143\n\13\f\13\16\13\u0146\13\13\3\13\3\13\3\f\3\f\3\f\5\f"+
+		"\u014d\n\f\3\r\3\r\3\r\7\r\u0152\n\r\f\r\16\r\u0155\13\r\3\16\3\16\3\16"+
+		"\3\16\5\16\u015b\n\16\3\16\3\16\3\17\3\17\5\17\u0161\n\17\3\17\5\17\u0164"+
+		"\n\17\3\17\5\17\u0167\n\17\3\17\3\17\3\20\3\20\3\20\7\20\u016e\n\20\f"+
+		"\20\16\20\u0171\13\20\3\21\5\21\u0174\n\21\3\21\3\21\5\21\u0178\n\21\3"+
+		"\21\5\21\u017b\n\21\3\22\3\22\7\22\u017f\n\22\f\22\16\22\u0182\13\22\3"+
+		"\23\3\23\5\23\u0186\n\23\3\24\3\24\3\24\5\24\u018b\n\24\3\24\3\24\5\24"+
+		"\u018f\n\24\3\24\3\24\3\25\3\25\3\25\7\25\u0196\n\25\f\25\16\25\u0199"+
+		"\13\25\3\26\3\26\7\26\u019d\n\26\f\26\16\26\u01a0\13\26\3\26\3\26\3\27"+
+		"\3\27\7\27\u01a6\n\27\f\27\16\27\u01a9\13\27\3\27\3\27\3\30\3\30\3\30"+
+		"\3\30\5\30\u01b1\n\30\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\5\31\u01bb"+
+		"\n\31\3\32\3\32\3\32\5\32\u01c0\n\32\3\33\3\33\3\33\3\34\3\34\5\34\u01c7"+
+		"\n\34\3\34\3\34\3\34\3\34\5\34\u01cd\n\34\3\35\3\35\3\35\3\36\3\36\3\36"+
+		"\3\37\3\37\3\37\3\37\5\37\u01d9\n\37\3 \3 \3 \3 \3 \3 \3 \5 \u01e2\n "+
+		"\3!\3!\3!\3!\3\"\3\"\3\"\3\"\5\"\u01ec\n\"\3#\3#\3#\7#\u01f1\n#\f#\16"+
+		"#\u01f4\13#\3#\3#\5#\u01f8\n#\3#\3#\5#\u01fc\n#\3$\3$\3$\5$\u0201\n$\3"+
+		"$\3$\5$\u0205\n$\3%\3%\3%\7%\u020a\n%\f%\16%\u020d\13%\3%\3%\5%\u0211"+
+		"\n%\3%\3%\3&\3&\3&\5&\u0218\n&\3&\3&\3&\3\'\3\'\3\'\5\'\u0220\n\'\3\'"+
+		"\3\'\3(\3(\3(\5(\u0227\n(\3(\3(\3)\3)\3)\3*\3*\3*\7*\u0231\n*\f*\16*\u0234"+
+		"\13*\3+\3+\3+\5+\u0239\n+\3,\3,\3,\7,\u023e\n,\f,\16,\u0241\13,\3-\3-"+
+		"\7-\u0245\n-\f-\16-\u0248\13-\3-\3-\3-\3.\3.\3.\7.\u0250\n.\f.\16.\u0253"+
+		"\13.\3/\3/\5/\u0257\n/\3\60\3\60\3\60\3\60\7\60\u025d\n\60\f\60\16\60"+
+		"\u0260\13\60\3\60\5\60\u0263\n\60\5\60\u0265\n\60\3\60\3\60\3\61\3\61"+
+		"\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\3\61\5\61\u0275\n\61\3\62"+
+		"\3\62\3\63\3\63\3\64\3\64\3\65\3\65\3\65\7\65\u0280\n\65\f\65\16\65\u0283"+
+		"\13\65\3\65\3\65\3\65\7\65\u0288\n\65\f\65\16\65\u028b\13\65\5\65\u028d"+
+		"\n\65\3\66\3\66\5\66\u0291\n\66\3\66\3\66\3\66\5\66\u0296\n\66\7\66\u0298"+
+		"\n\66\f\66\16\66\u029b\13\66\3\67\3\67\38\38\58\u02a1\n8\39\39\39\39\7"+
+		"9\u02a7\n9\f9\169\u02aa\139\39\39\3:\3:\3:\3:\5:\u02b2\n:\5:\u02b4\n:"+
+		"\3;\3;\3;\7;\u02b9\n;\f;\16;\u02bc\13;\3<\3<\5<\u02c0\n<\3<\3<\3=\3=\3"+
+		"=\3=\3>\3>\3>\5>\u02cb\n>\3>\3>\5>\u02cf\n>\3?\3?\3?\7?\u02d4\n?\f?\16"+
+		"?\u02d7\13?\3?\3?\3@\3@\3@\5@\u02de\n@\3@\7@\u02e1\n@\f@\16@\u02e4\13"+
+		"@\3@\3@\3A\5A\u02e9\nA\3A\3A\3A\3A\3A\3A\3A\5A\u02f2\nA\3A\3A\3A\3A\5"+
+		"A\u02f8\nA\3B\3B\3B\7B\u02fd\nB\fB\16B\u0300\13B\3C\3C\3C\3C\3C\3C\5C"+
+		"\u0308\nC\3D\3D\3E\3E\3F\6F\u030f\nF\rF\16F\u0310\3G\3G\3G\3G\3G\5G\u0318"+
+		"\nG\3G\5G\u031b\nG\3H\3H\3H\7H\u0320\nH\fH\16H\u0323\13H\3I\3I\3I\7I\u0328"+
+		"\nI\fI\16I\u032b\13I\3J\3J\3J\3J\3K\3K\3K\5K\u0334\nK\3L\3L\3L\3L\7L\u033a"+
+		"\nL\fL\16L\u033d\13L\5L\u033f\nL\3L\5L\u0342\nL\3L\3L\3M\3M\3M\3M\3M\3"+
+		"N\3N\7N\u034d\nN\fN\16N\u0350\13N\3N\3N\3O\3O\3O\3P\3P\3P\3P\3P\3P\5P"+
+		"\u035d\nP\3P\3P\5P\u0361\nP\3P\3P\5P\u0365\nP\3P\3P\5P\u0369\nP\5P\u036b"+
+		"\nP\3Q\3Q\5Q\u036f\nQ\3R\3R\3R\3R\5R\u0375\nR\3S\3S\3T\3T\3T\3U\3U\7U"+
+		"\u037e\nU\fU\16U\u0381\13U\3U\3U\3V\3V\5V\u0387\nV\3W\3W\3W\3X\3X\3X\3"+
+		"X\3Y\7Y\u0391\nY\fY\16Y\u0394\13Y\3Z\3Z\3Z\3Z\3Z\5Z\u039b\nZ\3Z\3Z\3Z"+
+		"\3Z\3Z\3Z\3Z\5Z\u03a4\nZ\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z"+
+		"\3Z\3Z\3Z\3Z\3Z\3Z\5Z\u03bb\nZ\3Z\3Z\5Z\u03bf\nZ\3Z\3Z\3Z\3Z\3Z\3Z\3Z"+
+		"\3Z\3Z\3Z\3Z\3Z\5Z\u03cd\nZ\3Z\3Z\3Z\3Z\3Z\3Z\3Z\5Z\u03d6\nZ\3Z\3Z\3Z"+
+		"\5Z\u03db\nZ\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\5Z\u03e5\nZ\3[\3[\7[\u03e9\n[\f["+
+		"\16[\u03ec\13[\3\\\3\\\3\\\3\\\3\\\3\\\3]\3]\3]\3]\3^\7^\u03f9\n^\f^\16"+
+		"^\u03fc\13^\3^\7^\u03ff\n^\f^\16^\u0402\13^\3_\6_\u0405\n_\r_\16_\u0406"+
+		"\3_\6_\u040a\n_\r_\16_\u040b\3`\3`\3`\3`\3`\3`\3`\3`\3`\3`\5`\u0418\n"+
+		"`\3a\3a\5a\u041c\na\3a\3a\5a\u0420\na\3a\3a\5a\u0424\na\5a\u0426\na\3"+
+		"b\3b\5b\u042a\nb\3c\3c\3c\3c\3c\3c\3d\3d\3e\3e\3e\3e\3f\3f\3f\7f\u043b"+
+		"\nf\ff\16f\u043e\13f\3g\3g\3h\3h\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3"+
+		"i\5i\u0451\ni\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\5i\u0461\ni\3"+
+		"i\3i\3i\3i\3i\3i\3i\3i\5i\u046b\ni\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3"+
 		"i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3"+
-		"i\3i\3i\3i\3i\5i\u0482\ni\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3"+
-		"i\3i\3i\3i\5i\u0496\ni\3i\3i\3i\3i\3i\3i\3i\5i\u049f\ni\3i\3i\3i\3i\3"+
-		"i\3i\3i\5i\u04a8\ni\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\5i\u04b5\ni\3i\3"+
-		"i\3i\3i\3i\3i\7i\u04bd\ni\fi\16i\u04c0\13i\3j\3j\3j\3j\3j\3j\3j\3j\3j"+
-		"\3j\3j\3j\3j\3j\3j\5j\u04d1\nj\3k\3k\3k\3k\3k\3k\3k\5k\u04da\nk\5k\u04dc"+
-		"\nk\3l\3l\5l\u04e0\nl\3m\5m\u04e3\nm\3m\3m\3m\3n\3n\3n\3n\3o\3o\3o\3o"+
-		"\7o\u04f0\no\fo\16o\u04f3\13o\3o\3o\3o\3o\3o\3o\3o\7o\u04fc\no\fo\16o"+
-		"\u04ff\13o\3o\3o\7o\u0503\no\fo\16o\u0506\13o\5o\u0508\no\3p\3p\5p\u050c"+
-		"\np\3q\3q\3q\3q\3r\3r\5r\u0514\nr\3r\3r\3r\2s\2\4\6\b\n\f\16\20\22\24"+
+		"i\3i\3i\3i\3i\5i\u0494\ni\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3"+
+		"i\3i\3i\3i\5i\u04a8\ni\3i\3i\3i\3i\3i\3i\3i\5i\u04b1\ni\3i\3i\3i\3i\3"+
+		"i\3i\3i\5i\u04ba\ni\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\5i\u04c7\ni\3i\3"+
+		"i\3i\3i\3i\3i\7i\u04cf\ni\fi\16i\u04d2\13i\3j\3j\3j\3j\3j\3j\3j\3j\3j"+
+		"\3j\3j\3j\3j\3j\3j\5j\u04e3\nj\3k\3k\3k\3k\3k\3k\3k\5k\u04ec\nk\5k\u04ee"+
+		"\nk\3l\3l\5l\u04f2\nl\3m\5m\u04f5\nm\3m\3m\3m\3n\3n\3n\3n\3o\3o\3o\3o"+
+		"\7o\u0502\no\fo\16o\u0505\13o\3o\3o\3o\3o\3o\3o\3o\7o\u050e\no\fo\16o"+
+		"\u0511\13o\3o\3o\7o\u0515\no\fo\16o\u0518\13o\5o\u051a\no\3p\3p\5p\u051e"+
+		"\np\3q\3q\3q\3q\3r\3r\5r\u0526\nr\3r\3r\3r\2s\2\4\6\b\n\f\16\20\22\24"+
 		"\26\30\32\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTVXZ\\^`bdfhjlnprtv"+
 		"xz|~\u0080\u0082\u0084\u0086\u0088\u008a\u008c\u008e\u0090\u0092\u0094"+
 		"\u0096\u0098\u009a\u009c\u009e\u00a0\u00a2\u00a4\u00a6\u00a8\u00aa\u00ac"+
 		"\u00ae\u00b0\u00b2\u00b4\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4"+
 		"\u00c6\u00c8\u00ca\u00cc\u00ce\u00d0\u00d2\u00d4\u00d6\u00d8\u00da\u00dc"+
-		"\u00de\u00e0\u00e2\2\r\b\f\f\16\16\20\21%&\63\63GG\4\24\24>>\4\24\24Q"+
-		"Q\3\\^\4\t\tCC\6\b\b..EEJJ\4$$ZZ\5\5\5\26\26XX\4..JJ\4\13\13YY\4\b\bE"+
-		"E\u0588\2\u00fb\3\2\2\2\4\u00fd\3\2\2\2\6\u0101\3\2\2\2\b\u010c\3\2\2"+
-		"\2\n\u0112\3\2\2\2\f\u011d\3\2\2\2\16\u0122\3\2\2\2\20\u0125\3\2\2\2\22"+
-		"\u0127\3\2\2\2\24\u0136\3\2\2\2\26\u0141\3\2\2\2\30\u0146\3\2\2\2\32\u014e"+
-		"\3\2\2\2\34\u0156\3\2\2\2\36\u0162\3\2\2\2 \u016b\3\2\2\2\"\u0174\3\2"+
-		"\2\2$\u017d\3\2\2\2&\u017f\3\2\2\2(\u018a\3\2\2\2*\u0192\3\2\2\2,\u019b"+
-		"\3\2\2\2.\u01a8\3\2\2\2\60\u01b1\3\2\2\2\62\u01b3\3\2\2\2\64\u01b8\3\2"+
-		"\2\2\66\u01c3\3\2\2\28\u01c5\3\2\2\2:\u01c8\3\2\2\2<\u01cf\3\2\2\2>\u01d8"+
-		"\3\2\2\2@\u01da\3\2\2\2B\u01e2\3\2\2\2D\u01e4\3\2\2\2F\u01f4\3\2\2\2H"+
-		"\u01fd\3\2\2\2J\u020b\3\2\2\2L\u0213\3\2\2\2N\u021a\3\2\2\2P\u0221\3\2"+
-		"\2\2R\u0224\3\2\2\2T\u022c\3\2\2\2V\u0231\3\2\2\2X\u023d\3\2\2\2Z\u0243"+
-		"\3\2\2\2\\\u024d\3\2\2\2^\u024f\3\2\2\2`\u026b\3\2\2\2b\u026d\3\2\2\2"+
-		"d\u026f\3\2\2\2f\u0271\3\2\2\2h\u0283\3\2\2\2j\u0285\3\2\2\2l\u0293\3"+
-		"\2\2\2n\u0297\3\2\2\2p\u0299\3\2\2\2r\u02aa\3\2\2\2t\u02ac\3\2\2\2v\u02b4"+
-		"\3\2\2\2x\u02ba\3\2\2\2z\u02c5\3\2\2\2|\u02c7\3\2\2\2~\u02c9\3\2\2\2\u0080"+
-		"\u02e5\3\2\2\2\u0082\u02e7\3\2\2\2\u0084\u02f5\3\2\2\2\u0086\u02f7\3\2"+
-		"\2\2\u0088\u02f9\3\2\2\2\u008a\u02fc\3\2\2\2\u008c\u0300\3\2\2\2\u008e"+
-		"\u030a\3\2\2\2\u0090\u0312\3\2\2\2\u0092\u031a\3\2\2\2\u0094\u0321\3\2"+
-		"\2\2\u0096\u0323\3\2\2\2\u0098\u0333\3\2\2\2\u009a\u0338\3\2\2\2\u009c"+
-		"\u0341\3\2\2\2\u009e\u0358\3\2\2\2\u00a0\u035c\3\2\2\2\u00a2\u035e\3\2"+
-		"\2\2\u00a4\u0364\3\2\2\2\u00a6\u0366\3\2\2\2\u00a8\u0369\3\2\2\2\u00aa"+
-		"\u0374\3\2\2\2\u00ac\u0376\3\2\2\2\u00ae\u0379\3\2\2\2\u00b0\u0380\3\2"+
-		"\2\2\u00b2\u03d2\3\2\2\2\u00b4\u03d4\3\2\2\2\u00b6\u03db\3\2\2\2\u00b8"+
-		"\u03e1\3\2\2\2\u00ba\u03e8\3\2\2\2\u00bc\u03f2\3\2\2\2\u00be\u0405\3\2"+
-		"\2\2\u00c0\u0413\3\2\2\2\u00c2\u0417\3\2\2\2\u00c4\u0419\3\2\2\2\u00c6"+
-		"\u041f\3\2\2\2\u00c8\u0421\3\2\2\2\u00ca\u0425\3\2\2\2\u00cc\u042d\3\2"+
-		"\2\2\u00ce\u042f\3\2\2\2\u00d0\u043e\3\2\2\2\u00d2\u04d0\3\2\2\2\u00d4"+
-		"\u04db\3\2\2\2\u00d6\u04df\3\2\2\2\u00d8\u04e2\3\2\2\2\u00da\u04e7\3\2"+
-		"\2\2\u00dc\u04eb\3\2\2\2\u00de\u0509\3\2\2\2\u00e0\u050d\3\2\2\2\u00e2"+
-		"\u0511\3\2\2\2\u00e4\u00e5\5\u008aF\2\u00e5\u00ed\5\4\3\2\u00e6\u00e8"+
-		"\5\6\4\2\u00e7\u00e6\3\2\2\2\u00e8\u00eb\3\2\2\2\u00e9\u00e7\3\2\2\2\u00e9"+
-		"\u00ea\3\2\2\2\u00ea\u00ec\3\2\2\2\u00eb\u00e9\3\2\2\2\u00ec\u00f0\5\b"+
-		"\5\2\u00ed\u00ee\7\1\2\2\u00ee\u00fc\3\2\2\2\u00ef\u00f1\5\4\3\2\u00f0"+
-		"\u00ef\3\2\2\2\u00f0\u00f1\3\2\2\2\u00f1\u00f5\3\2\2\2\u00f2\u00f4\5\6"+
-		"\4\2\u00f3\u00f2\3\2\2\2\u00f4\u00f7\3\2\2\2\u00f5\u00f3\3\2\2\2\u00f5"+
-		"\u00f6\3\2\2\2\u00f6\u00f8\3\2\2\2\u00f7\u00f5\3\2\2\2\u00f8\u00f9\5\b"+
-		"\5\2\u00f9\u00fa\7\1\2\2\u00fa\u00fc\3\2\2\2\u00fb\u00e4\3\2\2\2\u00fb"+
-		"\u00f0\3\2\2\2\u00fc\3\3\2\2\2\u00fd\u00fe\78\2\2\u00fe\u00ff\5\u0082"+
-		"B\2\u00ff\u0100\7O\2\2\u0100\5\3\2\2\2\u0101\u0103\7F\2\2\u0102\u0104"+
-		"\7D\2\2\u0103\u0102\3\2\2\2\u0103\u0104\3\2\2\2\u0104\u0105\3\2\2\2\u0105"+
-		"\u0108\5\u0082B\2\u0106\u0107\7I\2\2\u0107\u0109\7\5\2\2\u0108\u0106\3"+
-		"\2\2\2\u0108\u0109\3\2\2\2\u0109\u010a\3\2\2\2\u010a\u010b\7O\2\2\u010b"+
-		"\7\3\2\2\2\u010c\u010d\5\n\6\2\u010d\u010e\5\20\t\2\u010e\t\3\2\2\2\u010f"+
-		"\u0111\5\f\7\2\u0110\u010f\3\2\2\2\u0111\u0114\3\2\2\2\u0112\u0110\3\2"+
-		"\2\2\u0112\u0113\3\2\2\2\u0113\13\3\2\2\2\u0114\u0112\3\2\2\2\u0115\u011e"+
-		"\5\u008cG\2\u0116\u011e\7)\2\2\u0117\u011e\7K\2\2\u0118\u011e\7\64\2\2"+
-		"\u0119\u011e\7\r\2\2\u011a\u011e\7D\2\2\u011b\u011e\7@\2\2\u011c\u011e"+
-		"\7\22\2\2\u011d\u0115\3\2\2\2\u011d\u0116\3\2\2\2\u011d\u0117\3\2\2\2"+
-		"\u011d\u0118\3\2\2\2\u011d\u0119\3\2\2\2\u011d\u011a\3\2\2\2\u011d\u011b"+
-		"\3\2\2\2\u011d\u011c\3\2\2\2\u011e\r\3\2\2\2\u011f\u0121\5`\61\2\u0120"+
-		"\u011f\3\2\2\2\u0121\u0124\3\2\2\2\u0122\u0120\3\2\2\2\u0122\u0123\3\2"+
-		"\2\2\u0123\17\3\2\2\2\u0124\u0122\3\2\2\2\u0125\u0126\5\22\n\2\u0126\21"+
-		"\3\2\2\2\u0127\u0128\7 \2\2\u0128\u012a\7d\2\2\u0129\u012b\5\24\13\2\u012a"+
-		"\u0129\3\2\2\2\u012a\u012b\3\2\2\2\u012b\u012e\3\2\2\2\u012c\u012d\7>"+
-		"\2\2\u012d\u012f\5h\65\2\u012e\u012c\3\2\2\2\u012e\u012f\3\2\2\2\u012f"+
-		"\u0132\3\2\2\2\u0130\u0131\7T\2\2\u0131\u0133\5(\25\2\u0132\u0130\3\2"+
-		"\2\2\u0132\u0133\3\2\2\2\u0133\u0134\3\2\2\2\u0134\u0135\5*\26\2\u0135"+
-		"\23\3\2\2\2\u0136\u0137\7\7\2\2\u0137\u013c\5\26\f\2\u0138\u0139\7,\2"+
-		"\2\u0139\u013b\5\26\f\2\u013a\u0138\3\2\2\2\u013b\u013e\3\2\2\2\u013c"+
-		"\u013a\3\2\2\2\u013c\u013d\3\2\2\2\u013d\u013f\3\2\2\2\u013e\u013c\3\2"+
-		"\2\2\u013f\u0140\7S\2\2\u0140\25\3\2\2\2\u0141\u0144\7d\2\2\u0142\u0143"+
-		"\7>\2\2\u0143\u0145\5\30\r\2\u0144\u0142\3\2\2\2\u0144\u0145\3\2\2\2\u0145"+
-		"\27\3\2\2\2\u0146\u014b\5h\65\2\u0147\u0148\7\4\2\2\u0148\u014a\5h\65"+
-		"\2\u0149\u0147\3\2\2\2\u014a\u014d\3\2\2\2\u014b\u0149\3\2\2\2\u014b\u014c"+
-		"\3\2\2\2\u014c\31\3\2\2\2\u014d\u014b\3\2\2\2\u014e\u014f\7b\2\2\u014f"+
-		"\u0152\7d\2\2\u0150\u0151\7T\2\2\u0151\u0153\5(\25\2\u0152\u0150\3\2\2"+
-		"\2\u0152\u0153\3\2\2\2\u0153\u0154\3\2\2\2\u0154\u0155\5\34\17\2\u0155"+
-		"\33\3\2\2\2\u0156\u0158\7:\2\2\u0157\u0159\5\36\20\2\u0158\u0157\3\2\2"+
-		"\2\u0158\u0159\3\2\2\2\u0159\u015b\3\2\2\2\u015a\u015c\7,\2\2\u015b\u015a"+
-		"\3\2\2\2\u015b\u015c\3\2\2\2\u015c\u015e\3\2\2\2\u015d\u015f\5\"\22\2"+
-		"\u015e\u015d\3\2\2\2\u015e\u015f\3\2\2\2\u015f\u0160\3\2\2\2\u0160\u0161"+
-		"\7\17\2\2\u0161\35\3\2\2\2\u0162\u0167\5 \21\2\u0163\u0164\7,\2\2\u0164"+
-		"\u0166\5 \21\2\u0165\u0163\3\2\2\2\u0166\u0169\3\2\2\2\u0167\u0165\3\2"+
-		"\2\2\u0167\u0168\3\2\2\2\u0168\37\3\2\2\2\u0169\u0167\3\2\2\2\u016a\u016c"+
-		"\5\u008aF\2\u016b\u016a\3\2\2\2\u016b\u016c\3\2\2\2\u016c\u016d\3\2\2"+
-		"\2\u016d\u016f\7d\2\2\u016e\u0170\5\u00e2r\2\u016f\u016e\3\2\2\2\u016f"+
-		"\u0170\3\2\2\2\u0170\u0172\3\2\2\2\u0171\u0173\5*\26\2\u0172\u0171\3\2"+
-		"\2\2\u0172\u0173\3\2\2\2\u0173!\3\2\2\2\u0174\u0178\7O\2\2\u0175\u0177"+
-		"\5.\30\2\u0176\u0175\3\2\2\2\u0177\u017a\3\2\2\2\u0178\u0176\3\2\2\2\u0178"+
-		"\u0179\3\2\2\2\u0179#\3\2\2\2\u017a\u0178\3\2\2\2\u017b\u017e\5&\24\2"+
-		"\u017c\u017e\5\u0098M\2\u017d\u017b\3\2\2\2\u017d\u017c\3\2\2\2\u017e"+
-		"%\3\2\2\2\u017f\u0180\7\3\2\2\u0180\u0182\7d\2\2\u0181\u0183\5\24\13\2"+
-		"\u0182\u0181\3\2\2\2\u0182\u0183\3\2\2\2\u0183\u0186\3\2\2\2\u0184\u0185"+
-		"\7>\2\2\u0185\u0187\5(\25\2\u0186\u0184\3\2\2\2\u0186\u0187\3\2\2\2\u0187"+
-		"\u0188\3\2\2\2\u0188\u0189\5,\27\2\u0189\'\3\2\2\2\u018a\u018f\5h\65\2"+
-		"\u018b\u018c\7,\2\2\u018c\u018e\5h\65\2\u018d\u018b\3\2\2\2\u018e\u0191"+
-		"\3\2\2\2\u018f\u018d\3\2\2\2\u018f\u0190\3\2\2\2\u0190)\3\2\2\2\u0191"+
-		"\u018f\3\2\2\2\u0192\u0196\7:\2\2\u0193\u0195\5.\30\2\u0194\u0193\3\2"+
-		"\2\2\u0195\u0198\3\2\2\2\u0196\u0194\3\2\2\2\u0196\u0197\3\2\2\2\u0197"+
-		"\u0199\3\2\2\2\u0198\u0196\3\2\2\2\u0199\u019a\7\17\2\2\u019a+\3\2\2\2"+
-		"\u019b\u019f\7:\2\2\u019c\u019e\5<\37\2\u019d\u019c\3\2\2\2\u019e\u01a1"+
-		"\3\2\2\2\u019f\u019d\3\2\2\2\u019f\u01a0\3\2\2\2\u01a0\u01a2\3\2\2\2\u01a1"+
-		"\u019f\3\2\2\2\u01a2\u01a3\7\17\2\2\u01a3-\3\2\2\2\u01a4\u01a9\7O\2\2"+
-		"\u01a5\u01a6\5\16\b\2\u01a6\u01a7\5\60\31\2\u01a7\u01a9\3\2\2\2\u01a8"+
-		"\u01a4\3\2\2\2\u01a8\u01a5\3\2\2\2\u01a9/\3\2\2\2\u01aa\u01b2\5\64\33"+
-		"\2\u01ab\u01b2\5\62\32\2\u01ac\u01ad\7\67\2\2\u01ad\u01ae\7d\2\2\u01ae"+
-		"\u01b2\5F$\2\u01af\u01b0\7d\2\2\u01b0\u01b2\5N(\2\u01b1\u01aa\3\2\2\2"+
-		"\u01b1\u01ab\3\2\2\2\u01b1\u01ac\3\2\2\2\u01b1\u01af\3\2\2\2\u01b2\61"+
-		"\3\2\2\2\u01b3\u01b6\5h\65\2\u01b4\u01b7\58\35\2\u01b5\u01b7\5:\36\2\u01b6"+
-		"\u01b4\3\2\2\2\u01b6\u01b5\3\2\2\2\u01b7\63\3\2\2\2\u01b8\u01b9\5\24\13"+
-		"\2\u01b9\u01ba\5\66\34\2\u01ba\65\3\2\2\2\u01bb\u01be\5h\65\2\u01bc\u01be"+
-		"\7\67\2\2\u01bd\u01bb\3\2\2\2\u01bd\u01bc\3\2\2\2\u01be\u01bf\3\2\2\2"+
-		"\u01bf\u01c0\7d\2\2\u01c0\u01c4\5D#\2\u01c1\u01c2\7d\2\2\u01c2\u01c4\5"+
-		"N(\2\u01c3\u01bd\3\2\2\2\u01c3\u01c1\3\2\2\2\u01c4\67\3\2\2\2\u01c5\u01c6"+
-		"\7d\2\2\u01c6\u01c7\5D#\2\u01c79\3\2\2\2\u01c8\u01c9\5R*\2\u01c9\u01ca"+
-		"\7O\2\2\u01ca;\3\2\2\2\u01cb\u01cc\5\16\b\2\u01cc\u01cd\5> \2\u01cd\u01d0"+
-		"\3\2\2\2\u01ce\u01d0\7O\2\2\u01cf\u01cb\3\2\2\2\u01cf\u01ce\3\2\2\2\u01d0"+
-		"=\3\2\2\2\u01d1\u01d9\5@!\2\u01d2\u01d9\5J&\2\u01d3\u01d4\7\67\2\2\u01d4"+
-		"\u01d5\7d\2\2\u01d5\u01d9\5L\'\2\u01d6\u01d9\5$\23\2\u01d7\u01d9\5\20"+
-		"\t\2\u01d8\u01d1\3\2\2\2\u01d8\u01d2\3\2\2\2\u01d8\u01d3\3\2\2\2\u01d8"+
-		"\u01d6\3\2\2\2\u01d8\u01d7\3\2\2\2\u01d9?\3\2\2\2\u01da\u01db\5h\65\2"+
-		"\u01db\u01dc\7d\2\2\u01dc\u01dd\5B\"\2\u01ddA\3\2\2\2\u01de\u01df\5V,"+
-		"\2\u01df\u01e0\7O\2\2\u01e0\u01e3\3\2\2\2\u01e1\u01e3\5H%\2\u01e2\u01de"+
-		"\3\2\2\2\u01e2\u01e1\3\2\2\2\u01e3C\3\2\2\2\u01e4\u01e9\5v<\2\u01e5\u01e6"+
-		"\7\6\2\2\u01e6\u01e8\7\'\2\2\u01e7\u01e5\3\2\2\2\u01e8\u01eb\3\2\2\2\u01e9"+
-		"\u01e7\3\2\2\2\u01e9\u01ea\3\2\2\2\u01ea\u01ee\3\2\2\2\u01eb\u01e9\3\2"+
-		"\2\2\u01ec\u01ed\7\35\2\2\u01ed\u01ef\5t;\2\u01ee\u01ec\3\2\2\2\u01ee"+
-		"\u01ef\3\2\2\2\u01ef\u01f2\3\2\2\2\u01f0\u01f3\5|?\2\u01f1\u01f3\7O\2"+
-		"\2\u01f2\u01f0\3\2\2\2\u01f2\u01f1\3\2\2\2\u01f3E\3\2\2\2\u01f4\u01f7"+
-		"\5v<\2\u01f5\u01f6\7\35\2\2\u01f6\u01f8\5t;\2\u01f7\u01f5\3\2\2\2\u01f7"+
-		"\u01f8\3\2\2\2\u01f8\u01fb\3\2\2\2\u01f9\u01fc\5|?\2\u01fa\u01fc\7O\2"+
-		"\2\u01fb\u01f9\3\2\2\2\u01fb\u01fa\3\2\2\2\u01fcG\3\2\2\2\u01fd\u0202"+
-		"\5v<\2\u01fe\u01ff\7\6\2\2\u01ff\u0201\7\'\2\2\u0200\u01fe\3\2\2\2\u0201"+
-		"\u0204\3\2\2\2\u0202\u0200\3\2\2\2\u0202\u0203\3\2\2\2\u0203\u0207\3\2"+
-		"\2\2\u0204\u0202\3\2\2\2\u0205\u0206\7\35\2\2\u0206\u0208\5t;\2\u0207"+
-		"\u0205\3\2\2\2\u0207\u0208\3\2\2\2\u0208\u0209\3\2\2\2\u0209\u020a\7O"+
-		"\2\2\u020aI\3\2\2\2\u020b\u020e\5\24\13\2\u020c\u020f\5h\65\2\u020d\u020f"+
-		"\7\67\2\2\u020e\u020c\3\2\2\2\u020e\u020d\3\2\2\2\u020f\u0210\3\2\2\2"+
-		"\u0210\u0211\7d\2\2\u0211\u0212\5H%\2\u0212K\3\2\2\2\u0213\u0216\5v<\2"+
-		"\u0214\u0215\7\35\2\2\u0215\u0217\5t;\2\u0216\u0214\3\2\2\2\u0216\u0217"+
-		"\3\2\2\2\u0217\u0218\3\2\2\2\u0218\u0219\7O\2\2\u0219M\3\2\2\2\u021a\u021d"+
-		"\5v<\2\u021b\u021c\7\35\2\2\u021c\u021e\5t;\2\u021d\u021b\3\2\2\2\u021d"+
-		"\u021e\3\2\2\2\u021e\u021f\3\2\2\2\u021f\u0220\5~@\2\u0220O\3\2\2\2\u0221"+
-		"\u0222\7d\2\2\u0222\u0223\5X-\2\u0223Q\3\2\2\2\u0224\u0229\5T+\2\u0225"+
-		"\u0226\7,\2\2\u0226\u0228\5T+\2\u0227\u0225\3\2\2\2\u0228\u022b\3\2\2"+
-		"\2\u0229\u0227\3\2\2\2\u0229\u022a\3\2\2\2\u022aS\3\2\2\2\u022b\u0229"+
-		"\3\2\2\2\u022c\u022f\5Z.\2\u022d\u022e\7\33\2\2\u022e\u0230\5\\/\2\u022f"+
-		"\u022d\3\2\2\2\u022f\u0230\3\2\2\2\u0230U\3\2\2\2\u0231\u0236\5X-\2\u0232"+
-		"\u0233\7,\2\2\u0233\u0235\5P)\2\u0234\u0232\3\2\2\2\u0235\u0238\3\2\2"+
-		"\2\u0236\u0234\3\2\2\2\u0236\u0237\3\2\2\2\u0237W\3\2\2\2\u0238\u0236"+
-		"\3\2\2\2\u0239\u023a\7\6\2\2\u023a\u023c\7\'\2\2\u023b\u0239\3\2\2\2\u023c"+
-		"\u023f\3\2\2\2\u023d\u023b\3\2\2\2\u023d\u023e\3\2\2\2\u023e\u0240\3\2"+
-		"\2\2\u023f\u023d\3\2\2\2\u0240\u0241\7\33\2\2\u0241\u0242\5\\/\2\u0242"+
-		"Y\3\2\2\2\u0243\u0248\7d\2\2\u0244\u0245\7\6\2\2\u0245\u0247\7\'\2\2\u0246"+
-		"\u0244\3\2\2\2\u0247\u024a\3\2\2\2\u0248\u0246\3\2\2\2\u0248\u0249\3\2"+
-		"\2\2\u0249[\3\2\2\2\u024a\u0248\3\2\2\2\u024b\u024e\5^\60\2\u024c\u024e"+
-		"\5\u00d0i\2\u024d\u024b\3\2\2\2\u024d\u024c\3\2\2\2\u024e]\3\2\2\2\u024f"+
-		"\u025b\7:\2\2\u0250\u0255\5\\/\2\u0251\u0252\7,\2\2\u0252\u0254\5\\/\2"+
-		"\u0253\u0251\3\2\2\2\u0254\u0257\3\2\2\2\u0255\u0253\3\2\2\2\u0255\u0256"+
-		"\3\2\2\2\u0256\u0259\3\2\2\2\u0257\u0255\3\2\2\2\u0258\u025a\7,\2\2\u0259"+
-		"\u0258\3\2\2\2\u0259\u025a\3\2\2\2\u025a\u025c\3\2\2\2\u025b\u0250\3\2"+
-		"\2\2\u025b\u025c\3\2\2\2\u025c\u025d\3\2\2\2\u025d\u025e\7\17\2\2\u025e"+
-		"_\3\2\2\2\u025f\u026c\5\u008cG\2\u0260\u026c\7)\2\2\u0261\u026c\7K\2\2"+
-		"\u0262\u026c\7\64\2\2\u0263\u026c\7D\2\2\u0264\u026c\7\r\2\2\u0265\u026c"+
-		"\7@\2\2\u0266\u026c\7<\2\2\u0267\u026c\7+\2\2\u0268\u026c\7#\2\2\u0269"+
-		"\u026c\7N\2\2\u026a\u026c\7\22\2\2\u026b\u025f\3\2\2\2\u026b\u0260\3\2"+
-		"\2\2\u026b\u0261\3\2\2\2\u026b\u0262\3\2\2\2\u026b\u0263\3\2\2\2\u026b"+
-		"\u0264\3\2\2\2\u026b\u0265\3\2\2\2\u026b\u0266\3\2\2\2\u026b\u0267\3\2"+
-		"\2\2\u026b\u0268\3\2\2\2\u026b\u0269\3\2\2\2\u026b\u026a\3\2\2\2\u026c"+
-		"a\3\2\2\2\u026d\u026e\5\u0082B\2\u026ec\3\2\2\2\u026f\u0270\7d\2\2\u0270"+
-		"e\3\2\2\2\u0271\u0272\5\u0082B\2\u0272g\3\2\2\2\u0273\u0278\5j\66\2\u0274"+
-		"\u0275\7\6\2\2\u0275\u0277\7\'\2\2\u0276\u0274\3\2\2\2\u0277\u027a\3\2"+
-		"\2\2\u0278\u0276\3\2\2\2\u0278\u0279\3\2\2\2\u0279\u0284\3\2\2\2\u027a"+
-		"\u0278\3\2\2\2\u027b\u0280\5l\67\2\u027c\u027d\7\6\2\2\u027d\u027f\7\'"+
-		"\2\2\u027e\u027c\3\2\2\2\u027f\u0282\3\2\2\2\u0280\u027e\3\2\2\2\u0280"+
-		"\u0281\3\2\2\2\u0281\u0284\3\2\2\2\u0282\u0280\3\2\2\2\u0283\u0273\3\2"+
-		"\2\2\u0283\u027b\3\2\2\2\u0284i\3\2\2\2\u0285\u0287\7d\2\2\u0286\u0288"+
-		"\5p9\2\u0287\u0286\3\2\2\2\u0287\u0288\3\2\2\2\u0288\u0290\3\2\2\2\u0289"+
-		"\u028a\7I\2\2\u028a\u028c\7d\2\2\u028b\u028d\5p9\2\u028c\u028b\3\2\2\2"+
-		"\u028c\u028d\3\2\2\2\u028d\u028f\3\2\2\2\u028e\u0289\3\2\2\2\u028f\u0292"+
-		"\3\2\2\2\u0290\u028e\3\2\2\2\u0290\u0291\3\2\2\2\u0291k\3\2\2\2\u0292"+
-		"\u0290\3\2\2\2\u0293\u0294\t\2\2\2\u0294m\3\2\2\2\u0295\u0298\7@\2\2\u0296"+
-		"\u0298\5\u008cG\2\u0297\u0295\3\2\2\2\u0297\u0296\3\2\2\2\u0298o\3\2\2"+
-		"\2\u0299\u029a\7\7\2\2\u029a\u029f\5r:\2\u029b\u029c\7,\2\2\u029c\u029e"+
-		"\5r:\2\u029d\u029b\3\2\2\2\u029e\u02a1\3\2\2\2\u029f\u029d\3\2\2\2\u029f"+
-		"\u02a0\3\2\2\2\u02a0\u02a2\3\2\2\2\u02a1\u029f\3\2\2\2\u02a2\u02a3\7S"+
-		"\2\2\u02a3q\3\2\2\2\u02a4\u02ab\5h\65\2\u02a5\u02a8\7\65\2\2\u02a6\u02a7"+
-		"\t\3\2\2\u02a7\u02a9\5h\65\2\u02a8\u02a6\3\2\2\2\u02a8\u02a9\3\2\2\2\u02a9"+
-		"\u02ab\3\2\2\2\u02aa\u02a4\3\2\2\2\u02aa\u02a5\3\2\2\2\u02abs\3\2\2\2"+
-		"\u02ac\u02b1\5\u0082B\2\u02ad\u02ae\7,\2\2\u02ae\u02b0\5\u0082B\2\u02af"+
-		"\u02ad\3\2\2\2\u02b0\u02b3\3\2\2\2\u02b1\u02af\3\2\2\2\u02b1\u02b2\3\2"+
-		"\2\2\u02b2u\3\2\2\2\u02b3\u02b1\3\2\2\2\u02b4\u02b6\7/\2\2\u02b5\u02b7"+
-		"\5x=\2\u02b6\u02b5\3\2\2\2\u02b6\u02b7\3\2\2\2\u02b7\u02b8\3\2\2\2\u02b8"+
-		"\u02b9\7\30\2\2\u02b9w\3\2\2\2\u02ba\u02bb\5\u00b0Y\2\u02bb\u02bc\5h\65"+
-		"\2\u02bc\u02bd\5z>\2\u02bdy\3\2\2\2\u02be\u02c1\5Z.\2\u02bf\u02c0\7,\2"+
-		"\2\u02c0\u02c2\5x=\2\u02c1\u02bf\3\2\2\2\u02c1\u02c2\3\2\2\2\u02c2\u02c6"+
-		"\3\2\2\2\u02c3\u02c4\79\2\2\u02c4\u02c6\5Z.\2\u02c5\u02be\3\2\2\2\u02c5"+
-		"\u02c3\3\2\2\2\u02c6{\3\2\2\2\u02c7\u02c8\5\u00a8U\2\u02c8}\3\2\2\2\u02c9"+
-		"\u02cb\7:\2\2\u02ca\u02cc\5\u0080A\2\u02cb\u02ca\3\2\2\2\u02cb\u02cc\3"+
-		"\2\2\2\u02cc\u02d0\3\2\2\2\u02cd\u02cf\5\u00aaV\2\u02ce\u02cd\3\2\2\2"+
-		"\u02cf\u02d2\3\2\2\2\u02d0\u02ce\3\2\2\2\u02d0\u02d1\3\2\2\2\u02d1\u02d3"+
-		"\3\2\2\2\u02d2\u02d0\3\2\2\2\u02d3\u02d4\7\17\2\2\u02d4\177\3\2\2\2\u02d5"+
-		"\u02d7\5\u00e0q\2\u02d6\u02d5\3\2\2\2\u02d6\u02d7\3\2\2\2\u02d7\u02d8"+
-		"\3\2\2\2\u02d8\u02d9\t\4\2\2\u02d9\u02da\5\u00e2r\2\u02da\u02db\7O\2\2"+
-		"\u02db\u02e6\3\2\2\2\u02dc\u02dd\5\u00d2j\2\u02dd\u02df\7I\2\2\u02de\u02e0"+
-		"\5\u00e0q\2\u02df\u02de\3\2\2\2\u02df\u02e0\3\2\2\2\u02e0\u02e1\3\2\2"+
-		"\2\u02e1\u02e2\7\24\2\2\u02e2\u02e3\5\u00e2r\2\u02e3\u02e4\7O\2\2\u02e4"+
-		"\u02e6\3\2\2\2\u02e5\u02d6\3\2\2\2\u02e5\u02dc\3\2\2\2\u02e6\u0081\3\2"+
-		"\2\2\u02e7\u02ec\7d\2\2\u02e8\u02e9\7I\2\2\u02e9\u02eb\7d\2\2\u02ea\u02e8"+
-		"\3\2\2\2\u02eb\u02ee\3\2\2\2\u02ec\u02ea\3\2\2\2\u02ec\u02ed\3\2\2\2\u02ed"+
-		"\u0083\3\2\2\2\u02ee\u02ec\3\2\2\2\u02ef\u02f6\5\u0086D\2\u02f0\u02f6"+
-		"\7_\2\2\u02f1\u02f6\7`\2\2\u02f2\u02f6\7a\2\2\u02f3\u02f6\5\u0088E\2\u02f4"+
-		"\u02f6\7\34\2\2\u02f5\u02ef\3\2\2\2\u02f5\u02f0\3\2\2\2\u02f5\u02f1\3"+
-		"\2\2\2\u02f5\u02f2\3\2\2\2\u02f5\u02f3\3\2\2\2\u02f5\u02f4\3\2\2\2\u02f6"+
-		"\u0085\3\2\2\2\u02f7\u02f8\t\5\2\2\u02f8\u0087\3\2\2\2\u02f9\u02fa\t\6"+
-		"\2\2\u02fa\u0089\3\2\2\2\u02fb\u02fd\5\u008cG\2\u02fc\u02fb\3\2\2\2\u02fd"+
-		"\u02fe\3\2\2\2\u02fe\u02fc\3\2\2\2\u02fe\u02ff\3\2\2\2\u02ff\u008b\3\2"+
-		"\2\2\u0300\u0301\7\32\2\2\u0301\u0308\5\u008eH\2\u0302\u0305\7/\2\2\u0303"+
-		"\u0306\5\u0090I\2\u0304\u0306\5\u0094K\2\u0305\u0303\3\2\2\2\u0305\u0304"+
-		"\3\2\2\2\u0305\u0306\3\2\2\2\u0306\u0307\3\2\2\2\u0307\u0309\7\30\2\2"+
-		"\u0308\u0302\3\2\2\2\u0308\u0309\3\2\2\2\u0309\u008d\3\2\2\2\u030a\u030f"+
-		"\7d\2\2\u030b\u030c\7I\2\2\u030c\u030e\7d\2\2\u030d\u030b\3\2\2\2\u030e"+
-		"\u0311\3\2\2\2\u030f\u030d\3\2\2\2\u030f\u0310\3\2\2\2\u0310\u008f\3\2"+
-		"\2\2\u0311\u030f\3\2\2\2\u0312\u0317\5\u0092J\2\u0313\u0314\7,\2\2\u0314"+
-		"\u0316\5\u0092J\2\u0315\u0313\3\2\2\2\u0316\u0319\3\2\2\2\u0317\u0315"+
-		"\3\2\2\2\u0317\u0318\3\2\2\2\u0318\u0091\3\2\2\2\u0319\u0317\3\2\2\2\u031a"+
-		"\u031b\7d\2\2\u031b\u031c\7\33\2\2\u031c\u031d\5\u0094K\2\u031d\u0093"+
-		"\3\2\2\2\u031e\u0322\5\u00d0i\2\u031f\u0322\5\u008cG\2\u0320\u0322\5\u0096"+
-		"L\2\u0321\u031e\3\2\2\2\u0321\u031f\3\2\2\2\u0321\u0320\3\2\2\2\u0322"+
-		"\u0095\3\2\2\2\u0323\u032c\7:\2\2\u0324\u0329\5\u0094K\2\u0325\u0326\7"+
-		",\2\2\u0326\u0328\5\u0094K\2\u0327\u0325\3\2\2\2\u0328\u032b\3\2\2\2\u0329"+
-		"\u0327\3\2\2\2\u0329\u032a\3\2\2\2\u032a\u032d\3\2\2\2\u032b\u0329\3\2"+
-		"\2\2\u032c\u0324\3\2\2\2\u032c\u032d\3\2\2\2\u032d\u032f\3\2\2\2\u032e"+
-		"\u0330\7,\2\2\u032f\u032e\3\2\2\2\u032f\u0330\3\2\2\2\u0330\u0331\3\2"+
-		"\2\2\u0331\u0332\7\17\2\2\u0332\u0097\3\2\2\2\u0333\u0334\7\32\2\2\u0334"+
-		"\u0335\7\3\2\2\u0335\u0336\7d\2\2\u0336\u0337\5\u009aN\2\u0337\u0099\3"+
-		"\2\2\2\u0338\u033c\7:\2\2\u0339\u033b\5\u009cO\2\u033a\u0339\3\2\2\2\u033b"+
-		"\u033e\3\2\2\2\u033c\u033a\3\2\2\2\u033c\u033d\3\2\2\2\u033d\u033f\3\2"+
-		"\2\2\u033e\u033c\3\2\2\2\u033f\u0340\7\17\2\2\u0340\u009b\3\2\2\2\u0341"+
-		"\u0342\5\16\b\2\u0342\u0343\5\u009eP\2\u0343\u009d\3\2\2\2\u0344\u0345"+
-		"\5h\65\2\u0345\u0346\5\u00a0Q\2\u0346\u0347\7O\2\2\u0347\u0359\3\2\2\2"+
-		"\u0348\u034a\5\22\n\2\u0349\u034b\7O\2\2\u034a\u0349\3\2\2\2\u034a\u034b"+
-		"\3\2\2\2\u034b\u0359\3\2\2\2\u034c\u034e\5&\24\2\u034d\u034f\7O\2\2\u034e"+
-		"\u034d\3\2\2\2\u034e\u034f\3\2\2\2\u034f\u0359\3\2\2\2\u0350\u0352\5\32"+
-		"\16\2\u0351\u0353\7O\2\2\u0352\u0351\3\2\2\2\u0352\u0353\3\2\2\2\u0353"+
-		"\u0359\3\2\2\2\u0354\u0356\5\u0098M\2\u0355\u0357\7O\2\2\u0356\u0355\3"+
-		"\2\2\2\u0356\u0357\3\2\2\2\u0357\u0359\3\2\2\2\u0358\u0344\3\2\2\2\u0358"+
-		"\u0348\3\2\2\2\u0358\u034c\3\2\2\2\u0358\u0350\3\2\2\2\u0358\u0354\3\2"+
-		"\2\2\u0359\u009f\3\2\2\2\u035a\u035d\5\u00a2R\2\u035b\u035d\5\u00a4S\2"+
-		"\u035c\u035a\3\2\2\2\u035c\u035b\3\2\2\2\u035d\u00a1\3\2\2\2\u035e\u035f"+
-		"\7d\2\2\u035f\u0360\7/\2\2\u0360\u0362\7\30\2\2\u0361\u0363\5\u00a6T\2"+
-		"\u0362\u0361\3\2\2\2\u0362\u0363\3\2\2\2\u0363\u00a3\3\2\2\2\u0364\u0365"+
-		"\5R*\2\u0365\u00a5\3\2\2\2\u0366\u0367\7*\2\2\u0367\u0368\5\u0094K\2\u0368"+
-		"\u00a7\3\2\2\2\u0369\u036d\7:\2\2\u036a\u036c\5\u00aaV\2\u036b\u036a\3"+
-		"\2\2\2\u036c\u036f\3\2\2\2\u036d\u036b\3\2\2\2\u036d\u036e\3\2\2\2\u036e"+
-		"\u0370\3\2\2\2\u036f\u036d\3\2\2\2\u0370\u0371\7\17\2\2\u0371\u00a9\3"+
-		"\2\2\2\u0372\u0375\5\u00acW\2\u0373\u0375\5\u00b2Z\2\u0374\u0372\3\2\2"+
-		"\2\u0374\u0373\3\2\2\2\u0375\u00ab\3\2\2\2\u0376\u0377\5\u00aeX\2\u0377"+
-		"\u0378\7O\2\2\u0378\u00ad\3\2\2\2\u0379\u037a\5\u00b0Y\2\u037a\u037b\5"+
-		"h\65\2\u037b\u037c\5R*\2\u037c\u00af\3\2\2\2\u037d\u037f\5n8\2\u037e\u037d"+
-		"\3\2\2\2\u037f\u0382\3\2\2\2\u0380\u037e\3\2\2\2\u0380\u0381\3\2\2\2\u0381"+
-		"\u00b1\3\2\2\2\u0382\u0380\3\2\2\2\u0383\u03d3\5\u00a8U\2\u0384\u0385"+
-		"\7c\2\2\u0385\u0388\5\u00d0i\2\u0386\u0387\7\60\2\2\u0387\u0389\5\u00d0"+
-		"i\2\u0388\u0386\3\2\2\2\u0388\u0389\3\2\2\2\u0389\u038a\3\2\2\2\u038a"+
-		"\u038b\7O\2\2\u038b\u03d3\3\2\2\2\u038c\u038d\7\61\2\2\u038d\u038e\5\u00c8"+
-		"e\2\u038e\u0391\5\u00b2Z\2\u038f\u0390\7A\2\2\u0390\u0392\5\u00b2Z\2\u0391"+
-		"\u038f\3\2\2\2\u0391\u0392\3\2\2\2\u0392\u03d3\3\2\2\2\u0393\u0394\7L"+
-		"\2\2\u0394\u0395\7/\2\2\u0395\u0396\5\u00c0a\2\u0396\u0397\7\30\2\2\u0397"+
-		"\u0398\5\u00b2Z\2\u0398\u03d3\3\2\2\2\u0399\u039a\7-\2\2\u039a\u039b\5"+
-		"\u00c8e\2\u039b\u039c\5\u00b2Z\2\u039c\u03d3\3\2\2\2\u039d\u039e\7\25"+
-		"\2\2\u039e\u039f\5\u00b2Z\2\u039f\u03a0\7-\2\2\u03a0\u03a1\5\u00c8e\2"+
-		"\u03a1\u03a2\7O\2\2\u03a2\u03d3\3\2\2\2\u03a3\u03a4\7\66\2\2\u03a4\u03ac"+
-		"\5\u00a8U\2\u03a5\u03a8\5\u00b4[\2\u03a6\u03a7\7!\2\2\u03a7\u03a9\5\u00a8"+
-		"U\2\u03a8\u03a6\3\2\2\2\u03a8\u03a9\3\2\2\2\u03a9\u03ad\3\2\2\2\u03aa"+
-		"\u03ab\7!\2\2\u03ab\u03ad\5\u00a8U\2\u03ac\u03a5\3\2\2\2\u03ac\u03aa\3"+
-		"\2\2\2\u03ad\u03d3\3\2\2\2\u03ae\u03af\7V\2\2\u03af\u03b0\5\u00c8e\2\u03b0"+
-		"\u03b1\7:\2\2\u03b1\u03b2\5\u00ba^\2\u03b2\u03b3\7\17\2\2\u03b3\u03d3"+
-		"\3\2\2\2\u03b4\u03b5\7+\2\2\u03b5\u03b6\5\u00c8e\2\u03b6\u03b7\5\u00a8"+
-		"U\2\u03b7\u03d3\3\2\2\2\u03b8\u03ba\7M\2\2\u03b9\u03bb\5\u00d0i\2\u03ba"+
-		"\u03b9\3\2\2\2\u03ba\u03bb\3\2\2\2\u03bb\u03bc\3\2\2\2\u03bc\u03d3\7O"+
-		"\2\2\u03bd\u03be\7\31\2\2\u03be\u03bf\5\u00d0i\2\u03bf\u03c0\7O\2\2\u03c0"+
-		"\u03d3\3\2\2\2\u03c1\u03c3\7;\2\2\u03c2\u03c4\7d\2\2\u03c3\u03c2\3\2\2"+
-		"\2\u03c3\u03c4\3\2\2\2\u03c4\u03c5\3\2\2\2\u03c5\u03d3\7O\2\2\u03c6\u03c8"+
-		"\7\n\2\2\u03c7\u03c9\7d\2\2\u03c8\u03c7\3\2\2\2\u03c8\u03c9\3\2\2\2\u03c9"+
-		"\u03ca\3\2\2\2\u03ca\u03d3\7O\2\2\u03cb\u03d3\7O\2\2\u03cc\u03cd\5\u00cc"+
-		"g\2\u03cd\u03ce\7O\2\2\u03ce\u03d3\3\2\2\2\u03cf\u03d0\7d\2\2\u03d0\u03d1"+
-		"\7\60\2\2\u03d1\u03d3\5\u00b2Z\2\u03d2\u0383\3\2\2\2\u03d2\u0384\3\2\2"+
-		"\2\u03d2\u038c\3\2\2\2\u03d2\u0393\3\2\2\2\u03d2\u0399\3\2\2\2\u03d2\u039d"+
-		"\3\2\2\2\u03d2\u03a3\3\2\2\2\u03d2\u03ae\3\2\2\2\u03d2\u03b4\3\2\2\2\u03d2"+
-		"\u03b8\3\2\2\2\u03d2\u03bd\3\2\2\2\u03d2\u03c1\3\2\2\2\u03d2\u03c6\3\2"+
-		"\2\2\u03d2\u03cb\3\2\2\2\u03d2\u03cc\3\2\2\2\u03d2\u03cf\3\2\2\2\u03d3"+
-		"\u00b3\3\2\2\2\u03d4\u03d8\5\u00b6\\\2\u03d5\u03d7\5\u00b6\\\2\u03d6\u03d5"+
-		"\3\2\2\2\u03d7\u03da\3\2\2\2\u03d8\u03d6\3\2\2\2\u03d8\u03d9\3\2\2\2\u03d9"+
-		"\u00b5\3\2\2\2\u03da\u03d8\3\2\2\2\u03db\u03dc\7B\2\2\u03dc\u03dd\7/\2"+
-		"\2\u03dd\u03de\5\u00b8]\2\u03de\u03df\7\30\2\2\u03df\u03e0\5\u00a8U\2"+
-		"\u03e0\u00b7\3\2\2\2\u03e1\u03e2\5\u00b0Y\2\u03e2\u03e3\5h\65\2\u03e3"+
-		"\u03e4\5Z.\2\u03e4\u00b9\3\2\2\2\u03e5\u03e7\5\u00bc_\2\u03e6\u03e5\3"+
-		"\2\2\2\u03e7\u03ea\3\2\2\2\u03e8\u03e6\3\2\2\2\u03e8\u03e9\3\2\2\2\u03e9"+
-		"\u03ee\3\2\2\2\u03ea\u03e8\3\2\2\2\u03eb\u03ed\5\u00be`\2\u03ec\u03eb"+
-		"\3\2\2\2\u03ed\u03f0\3\2\2\2\u03ee\u03ec\3\2\2\2\u03ee\u03ef\3\2\2\2\u03ef"+
-		"\u00bb\3\2\2\2\u03f0\u03ee\3\2\2\2\u03f1\u03f3\5\u00be`\2\u03f2\u03f1"+
-		"\3\2\2\2\u03f3\u03f4\3\2\2\2\u03f4\u03f2\3\2\2\2\u03f4\u03f5\3\2\2\2\u03f5"+
-		"\u03f7\3\2\2\2\u03f6\u03f8\5\u00aaV\2\u03f7\u03f6\3\2\2\2\u03f8\u03f9"+
-		"\3\2\2\2\u03f9\u03f7\3\2\2\2\u03f9\u03fa\3\2\2\2\u03fa\u00bd\3\2\2\2\u03fb"+
-		"\u03fc\7\23\2\2\u03fc\u03fd\5\u00ceh\2\u03fd\u03fe\7\60\2\2\u03fe\u0406"+
-		"\3\2\2\2\u03ff\u0400\7\23\2\2\u0400\u0401\5d\63\2\u0401\u0402\7\60\2\2"+
-		"\u0402\u0406\3\2\2\2\u0403\u0404\7*\2\2\u0404\u0406\7\60\2\2\u0405\u03fb"+
-		"\3\2\2\2\u0405\u03ff\3\2\2\2\u0405\u0403\3\2\2\2\u0406\u00bf\3\2\2\2\u0407"+
-		"\u0414\5\u00c4c\2\u0408\u040a\5\u00c2b\2\u0409\u0408\3\2\2\2\u0409\u040a"+
-		"\3\2\2\2\u040a\u040b\3\2\2\2\u040b\u040d\7O\2\2\u040c\u040e\5\u00d0i\2"+
-		"\u040d\u040c\3\2\2\2\u040d\u040e\3\2\2\2\u040e\u040f\3\2\2\2\u040f\u0411"+
-		"\7O\2\2\u0410\u0412\5\u00c6d\2\u0411\u0410\3\2\2\2\u0411\u0412\3\2\2\2"+
-		"\u0412\u0414\3\2\2\2\u0413\u0407\3\2\2\2\u0413\u0409\3\2\2\2\u0414\u00c1"+
-		"\3\2\2\2\u0415\u0418\5\u00aeX\2\u0416\u0418\5\u00caf\2\u0417\u0415\3\2"+
-		"\2\2\u0417\u0416\3\2\2\2\u0418\u00c3\3\2\2\2\u0419\u041a\5\u00b0Y\2\u041a"+
-		"\u041b\5h\65\2\u041b\u041c\7d\2\2\u041c\u041d\7\60\2\2\u041d\u041e\5\u00d0"+
-		"i\2\u041e\u00c5\3\2\2\2\u041f\u0420\5\u00caf\2\u0420\u00c7\3\2\2\2\u0421"+
-		"\u0422\7/\2\2\u0422\u0423\5\u00d0i\2\u0423\u0424\7\30\2\2\u0424\u00c9"+
-		"\3\2\2\2\u0425\u042a\5\u00d0i\2\u0426\u0427\7,\2\2\u0427\u0429\5\u00d0"+
-		"i\2\u0428\u0426\3\2\2\2\u0429\u042c\3\2\2\2\u042a\u0428\3\2\2\2\u042a"+
-		"\u042b\3\2\2\2\u042b\u00cb\3\2\2\2\u042c\u042a\3\2\2\2\u042d\u042e\5\u00d0"+
-		"i\2\u042e\u00cd\3\2\2\2\u042f\u0430\5\u00d0i\2\u0430\u00cf\3\2\2\2\u0431"+
-		"\u0432\bi\1\2\u0432\u0433\t\7\2\2\u0433\u043f\5\u00d0i\2\u0434\u0435\t"+
-		"\b\2\2\u0435\u043f\5\u00d0i\2\u0436\u0437\7/\2\2\u0437\u0438\5h\65\2\u0438"+
-		"\u0439\7\30\2\2\u0439\u043a\5\u00d0i\2\u043a\u043f\3\2\2\2\u043b\u043f"+
-		"\5\u00d2j\2\u043c\u043d\7\37\2\2\u043d\u043f\5\u00d4k\2\u043e\u0431\3"+
-		"\2\2\2\u043e\u0434\3\2\2\2\u043e\u0436\3\2\2\2\u043e\u043b\3\2\2\2\u043e"+
-		"\u043c\3\2\2\2\u043f\u04be\3\2\2\2\u0440\u0441\6i\2\3\u0441\u0442\t\t"+
-		"\2\2\u0442\u04bd\5\u00d0i\2\u0443\u0444\6i\3\3\u0444\u0445\t\n\2\2\u0445"+
-		"\u04bd\5\u00d0i\2\u0446\u044e\6i\4\3\u0447\u0448\7\7\2\2\u0448\u044f\7"+
-		"\7\2\2\u0449\u044a\7S\2\2\u044a\u044b\7S\2\2\u044b\u044f\7S\2\2\u044c"+
-		"\u044d\7S\2\2\u044d\u044f\7S\2\2\u044e\u0447\3\2\2\2\u044e\u0449\3\2\2"+
-		"\2\u044e\u044c\3\2\2\2\u044f\u0450\3\2\2\2\u0450\u04bd\5\u00d0i\2\u0451"+
-		"\u0458\6i\5\3\u0452\u0453\7\7\2\2\u0453\u0459\7\33\2\2\u0454\u0455\7S"+
-		"\2\2\u0455\u0459\7\33\2\2\u0456\u0459\7S\2\2\u0457\u0459\7\7\2\2\u0458"+
-		"\u0452\3\2\2\2\u0458\u0454\3\2\2\2\u0458\u0456\3\2\2\2\u0458\u0457\3\2"+
-		"\2\2\u0459\u045a\3\2\2\2\u045a\u04bd\5\u00d0i\2\u045b\u045c\6i\6\3\u045c"+
-		"\u045d\t\13\2\2\u045d\u04bd\5\u00d0i\2\u045e\u045f\6i\7\3\u045f\u0460"+
-		"\7\4\2\2\u0460\u04bd\5\u00d0i\2\u0461\u0462\6i\b\3\u0462\u0463\7H\2\2"+
-		"\u0463\u04bd\5\u00d0i\2\u0464\u0465\6i\t\3\u0465\u0466\7\"\2\2\u0466\u04bd"+
-		"\5\u00d0i\2\u0467\u0468\6i\n\3\u0468\u0469\7P\2\2\u0469\u04bd\5\u00d0"+
-		"i\2\u046a\u046b\6i\13\3\u046b\u046c\7R\2\2\u046c\u04bd\5\u00d0i\2\u046d"+
-		"\u0481\6i\f\3\u046e\u0482\7?\2\2\u046f\u0482\7=\2\2\u0470\u0482\7(\2\2"+
-		"\u0471\u0482\7\27\2\2\u0472\u0482\7W\2\2\u0473\u0482\7\62\2\2\u0474\u0482"+
-		"\7\36\2\2\u0475\u0482\7\33\2\2\u0476\u0477\7S\2\2\u0477\u0478\7S\2\2\u0478"+
-		"\u0482\7\33\2\2\u0479\u047a\7S\2\2\u047a\u047b\7S\2\2\u047b\u047c\7S\2"+
-		"\2\u047c\u0482\7\33\2\2\u047d\u047e\7\7\2\2\u047e\u047f\7\7\2\2\u047f"+
-		"\u0482\7\33\2\2\u0480\u0482\7U\2\2\u0481\u046e\3\2\2\2\u0481\u046f\3\2"+
-		"\2\2\u0481\u0470\3\2\2\2\u0481\u0471\3\2\2\2\u0481\u0472\3\2\2\2\u0481"+
-		"\u0473\3\2\2\2\u0481\u0474\3\2\2\2\u0481\u0475\3\2\2\2\u0481\u0476\3\2"+
-		"\2\2\u0481\u0479\3\2\2\2\u0481\u047d\3\2\2\2\u0481\u0480\3\2\2\2\u0482"+
-		"\u0483\3\2\2\2\u0483\u04bd\5\u00d0i\2\u0484\u0485\6i\r\3\u0485\u0486\7"+
-		"\65\2\2\u0486\u0487\5\u00d0i\2\u0487\u0488\7\60\2\2\u0488\u0489\5\u00d0"+
-		"i\2\u0489\u04bd\3\2\2\2\u048a\u048b\6i\16\3\u048b\u048c\7I\2\2\u048c\u04bd"+
-		"\7d\2\2\u048d\u048e\6i\17\3\u048e\u048f\7I\2\2\u048f\u04bd\7Q\2\2\u0490"+
-		"\u0491\6i\20\3\u0491\u0492\7I\2\2\u0492\u0493\7\24\2\2\u0493\u0495\7/"+
-		"\2\2\u0494\u0496\5\u00caf\2\u0495\u0494\3\2\2\2\u0495\u0496\3\2\2\2\u0496"+
-		"\u0497\3\2\2\2\u0497\u04bd\7\30\2\2\u0498\u0499\6i\21\3\u0499\u049a\7"+
-		"I\2\2\u049a\u049b\7\37\2\2\u049b\u049c\7d\2\2\u049c\u049e\7/\2\2\u049d"+
-		"\u049f\5\u00caf\2\u049e\u049d\3\2\2\2\u049e\u049f\3\2\2\2\u049f\u04a0"+
-		"\3\2\2\2\u04a0\u04bd\7\30\2\2\u04a1\u04a2\6i\22\3\u04a2\u04a3\7I\2\2\u04a3"+
-		"\u04a4\7\24\2\2\u04a4\u04a5\7I\2\2\u04a5\u04a7\7d\2\2\u04a6\u04a8\5\u00e2"+
-		"r\2\u04a7\u04a6\3\2\2\2\u04a7\u04a8\3\2\2\2\u04a8\u04bd\3\2\2\2\u04a9"+
-		"\u04aa\6i\23\3\u04aa\u04ab\7I\2\2\u04ab\u04bd\5\u00dan\2\u04ac\u04ad\6"+
-		"i\24\3\u04ad\u04ae\7\6\2\2\u04ae\u04af\5\u00d0i\2\u04af\u04b0\7\'\2\2"+
-		"\u04b0\u04bd\3\2\2\2\u04b1\u04b2\6i\25\3\u04b2\u04b4\7/\2\2\u04b3\u04b5"+
-		"\5\u00caf\2\u04b4\u04b3\3\2\2\2\u04b4\u04b5\3\2\2\2\u04b5\u04b6\3\2\2"+
-		"\2\u04b6\u04bd\7\30\2\2\u04b7\u04b8\6i\26\3\u04b8\u04bd\t\f\2\2\u04b9"+
-		"\u04ba\6i\27\3\u04ba\u04bb\7[\2\2\u04bb\u04bd\5h\65\2\u04bc\u0440\3\2"+
-		"\2\2\u04bc\u0443\3\2\2\2\u04bc\u0446\3\2\2\2\u04bc\u0451\3\2\2\2\u04bc"+
-		"\u045b\3\2\2\2\u04bc\u045e\3\2\2\2\u04bc\u0461\3\2\2\2\u04bc\u0464\3\2"+
-		"\2\2\u04bc\u0467\3\2\2\2\u04bc\u046a\3\2\2\2\u04bc\u046d\3\2\2\2\u04bc"+
-		"\u0484\3\2\2\2\u04bc\u048a\3\2\2\2\u04bc\u048d\3\2\2\2\u04bc\u0490\3\2"+
-		"\2\2\u04bc\u0498\3\2\2\2\u04bc\u04a1\3\2\2\2\u04bc\u04a9\3\2\2\2\u04bc"+
-		"\u04ac\3\2\2\2\u04bc\u04b1\3\2\2\2\u04bc\u04b7\3\2\2\2\u04bc\u04b9\3\2"+
-		"\2\2\u04bd\u04c0\3\2\2\2\u04be\u04bc\3\2\2\2\u04be\u04bf\3\2\2\2\u04bf"+
-		"\u00d1\3\2\2\2\u04c0\u04be\3\2\2\2\u04c1\u04c2\7/\2\2\u04c2\u04c3\5\u00d0"+
-		"i\2\u04c3\u04c4\7\30\2\2\u04c4\u04d1\3\2\2\2\u04c5\u04d1\7Q\2\2\u04c6"+
-		"\u04d1\7\24\2\2\u04c7\u04d1\5\u0084C\2\u04c8\u04d1\7d\2\2\u04c9\u04ca"+
-		"\5h\65\2\u04ca\u04cb\7I\2\2\u04cb\u04cc\7 \2\2\u04cc\u04d1\3\2\2\2\u04cd"+
-		"\u04ce\7\67\2\2\u04ce\u04cf\7I\2\2\u04cf\u04d1\7 \2\2\u04d0\u04c1\3\2"+
-		"\2\2\u04d0\u04c5\3\2\2\2\u04d0\u04c6\3\2\2\2\u04d0\u04c7\3\2\2\2\u04d0"+
-		"\u04c8\3\2\2\2\u04d0\u04c9\3\2\2\2\u04d0\u04cd\3\2\2\2\u04d1\u00d3\3\2"+
-		"\2\2\u04d2\u04d3\5\u00e0q\2\u04d3\u04d4\5\u00d6l\2\u04d4\u04d5\5\u00de"+
-		"p\2\u04d5\u04dc\3\2\2\2\u04d6\u04d9\5\u00d6l\2\u04d7\u04da\5\u00dco\2"+
-		"\u04d8\u04da\5\u00dep\2\u04d9\u04d7\3\2\2\2\u04d9\u04d8\3\2\2\2\u04da"+
-		"\u04dc\3\2\2\2\u04db\u04d2\3\2\2\2\u04db\u04d6\3\2\2\2\u04dc\u00d5\3\2"+
-		"\2\2\u04dd\u04e0\5j\66\2\u04de\u04e0\5l\67\2\u04df\u04dd\3\2\2\2\u04df"+
-		"\u04de\3\2\2\2\u04e0\u00d7\3\2\2\2\u04e1\u04e3\5\u00e0q\2\u04e2\u04e1"+
-		"\3\2\2\2\u04e2\u04e3\3\2\2\2\u04e3\u04e4\3\2\2\2\u04e4\u04e5\7d\2\2\u04e5"+
-		"\u04e6\5\u00dep\2\u04e6\u00d9\3\2\2\2\u04e7\u04e8\5\u00e0q\2\u04e8\u04e9"+
-		"\7d\2\2\u04e9\u04ea\5\u00e2r\2\u04ea\u00db\3\2\2\2\u04eb\u0507\7\6\2\2"+
-		"\u04ec\u04f1\7\'\2\2\u04ed\u04ee\7\6\2\2\u04ee\u04f0\7\'\2\2\u04ef\u04ed"+
-		"\3\2\2\2\u04f0\u04f3\3\2\2\2\u04f1\u04ef\3\2\2\2\u04f1\u04f2\3\2\2\2\u04f2"+
-		"\u04f4\3\2\2\2\u04f3\u04f1\3\2\2\2\u04f4\u0508\5^\60\2\u04f5\u04f6\5\u00d0"+
-		"i\2\u04f6\u04fd\7\'\2\2\u04f7\u04f8\7\6\2\2\u04f8\u04f9\5\u00d0i\2\u04f9"+
-		"\u04fa\7\'\2\2\u04fa\u04fc\3\2\2\2\u04fb\u04f7\3\2\2\2\u04fc\u04ff\3\2"+
-		"\2\2\u04fd\u04fb\3\2\2\2\u04fd\u04fe\3\2\2\2\u04fe\u0504\3\2\2\2\u04ff"+
-		"\u04fd\3\2\2\2\u0500\u0501\7\6\2\2\u0501\u0503\7\'\2\2\u0502\u0500\3\2"+
-		"\2\2\u0503\u0506\3\2\2\2\u0504\u0502\3\2\2\2\u0504\u0505\3\2\2\2\u0505"+
-		"\u0508\3\2\2\2\u0506\u0504\3\2\2\2\u0507\u04ec\3\2\2\2\u0507\u04f5\3\2"+
-		"\2\2\u0508\u00dd\3\2\2\2\u0509\u050b\5\u00e2r\2\u050a\u050c\5*\26\2\u050b"+
-		"\u050a\3\2\2\2\u050b\u050c\3\2\2\2\u050c\u00df\3\2\2\2\u050d\u050e\7\7"+
-		"\2\2\u050e\u050f\5(\25\2\u050f\u0510\7S\2\2\u0510\u00e1\3\2\2\2\u0511"+
-		"\u0513\7/\2\2\u0512\u0514\5\u00caf\2\u0513\u0512\3\2\2\2\u0513\u0514\3"+
-		"\2\2\2\u0514\u0515\3\2\2\2\u0515\u0516\7\30\2\2\u0516\u00e3\3\2\2\2\u008e"+
-		"\u00e9\u00f0\u00f5\u00fb\u0103\u0108\u0112\u011d\u0122\u012a\u012e\u0132"+
-		"\u013c\u0144\u014b\u0152\u0158\u015b\u015e\u0167\u016b\u016f\u0172\u0178"+
-		"\u017d\u0182\u0186\u018f\u0196\u019f\u01a8\u01b1\u01b6\u01bd\u01c3\u01cf"+
-		"\u01d8\u01e2\u01e9\u01ee\u01f2\u01f7\u01fb\u0202\u0207\u020e\u0216\u021d"+
-		"\u0229\u022f\u0236\u023d\u0248\u024d\u0255\u0259\u025b\u026b\u0278\u0280"+
-		"\u0283\u0287\u028c\u0290\u0297\u029f\u02a8\u02aa\u02b1\u02b6\u02c1\u02c5"+
-		"\u02cb\u02d0\u02d6\u02df\u02e5\u02ec\u02f5\u02fe\u0305\u0308\u030f\u0317"+
-		"\u0321\u0329\u032c\u032f\u033c\u034a\u034e\u0352\u0356\u0358\u035c\u0362"+
-		"\u036d\u0374\u0380\u0388\u0391\u03a8\u03ac\u03ba\u03c3\u03c8\u03d2\u03d8"+
-		"\u03e8\u03ee\u03f4\u03f9\u0405\u0409\u040d\u0411\u0413\u0417\u042a\u043e"+
-		"\u044e\u0458\u0481\u0495\u049e\u04a7\u04b4\u04bc\u04be\u04d0\u04d9\u04db"+
-		"\u04df\u04e2\u04f1\u04fd\u0504\u0507\u050b\u0513";
+		"\u00de\u00e0\u00e2\2\r\b\b\b\f\f\22\22\27\27$%CD\4>>XX\4IIXX\3\\^\4\37"+
+		"\3788\6&&//RRZZ\4))UU\5\61\61HHVV\4//ZZ\4\13\13QQ\4&&RR\u059e\2\u0103"+
+		"\3\2\2\2\4\u0105\3\2\2\2\6\u0109\3\2\2\2\b\u0114\3\2\2\2\n\u011a\3\2\2"+
+		"\2\f\u0125\3\2\2\2\16\u012a\3\2\2\2\20\u012d\3\2\2\2\22\u012f\3\2\2\2"+
+		"\24\u013e\3\2\2\2\26\u0149\3\2\2\2\30\u014e\3\2\2\2\32\u0156\3\2\2\2\34"+
+		"\u015e\3\2\2\2\36\u016a\3\2\2\2 \u0173\3\2\2\2\"\u017c\3\2\2\2$\u0185"+
+		"\3\2\2\2&\u0187\3\2\2\2(\u0192\3\2\2\2*\u019a\3\2\2\2,\u01a3\3\2\2\2."+
+		"\u01b0\3\2\2\2\60\u01ba\3\2\2\2\62\u01bc\3\2\2\2\64\u01c1\3\2\2\2\66\u01cc"+
+		"\3\2\2\28\u01ce\3\2\2\2:\u01d1\3\2\2\2<\u01d8\3\2\2\2>\u01e1\3\2\2\2@"+
+		"\u01e3\3\2\2\2B\u01eb\3\2\2\2D\u01ed\3\2\2\2F\u01fd\3\2\2\2H\u0206\3\2"+
+		"\2\2J\u0214\3\2\2\2L\u021c\3\2\2\2N\u0223\3\2\2\2P\u022a\3\2\2\2R\u022d"+
+		"\3\2\2\2T\u0235\3\2\2\2V\u023a\3\2\2\2X\u0246\3\2\2\2Z\u024c\3\2\2\2\\"+
+		"\u0256\3\2\2\2^\u0258\3\2\2\2`\u0274\3\2\2\2b\u0276\3\2\2\2d\u0278\3\2"+
+		"\2\2f\u027a\3\2\2\2h\u028c\3\2\2\2j\u028e\3\2\2\2l\u029c\3\2\2\2n\u02a0"+
+		"\3\2\2\2p\u02a2\3\2\2\2r\u02b3\3\2\2\2t\u02b5\3\2\2\2v\u02bd\3\2\2\2x"+
+		"\u02c3\3\2\2\2z\u02ce\3\2\2\2|\u02d0\3\2\2\2~\u02da\3\2\2\2\u0080\u02f7"+
+		"\3\2\2\2\u0082\u02f9\3\2\2\2\u0084\u0307\3\2\2\2\u0086\u0309\3\2\2\2\u0088"+
+		"\u030b\3\2\2\2\u008a\u030e\3\2\2\2\u008c\u0312\3\2\2\2\u008e\u031c\3\2"+
+		"\2\2\u0090\u0324\3\2\2\2\u0092\u032c\3\2\2\2\u0094\u0333\3\2\2\2\u0096"+
+		"\u0335\3\2\2\2\u0098\u0345\3\2\2\2\u009a\u034a\3\2\2\2\u009c\u0353\3\2"+
+		"\2\2\u009e\u036a\3\2\2\2\u00a0\u036e\3\2\2\2\u00a2\u0370\3\2\2\2\u00a4"+
+		"\u0376\3\2\2\2\u00a6\u0378\3\2\2\2\u00a8\u037b\3\2\2\2\u00aa\u0386\3\2"+
+		"\2\2\u00ac\u0388\3\2\2\2\u00ae\u038b\3\2\2\2\u00b0\u0392\3\2\2\2\u00b2"+
+		"\u03e4\3\2\2\2\u00b4\u03e6\3\2\2\2\u00b6\u03ed\3\2\2\2\u00b8\u03f3\3\2"+
+		"\2\2\u00ba\u03fa\3\2\2\2\u00bc\u0404\3\2\2\2\u00be\u0417\3\2\2\2\u00c0"+
+		"\u0425\3\2\2\2\u00c2\u0429\3\2\2\2\u00c4\u042b\3\2\2\2\u00c6\u0431\3\2"+
+		"\2\2\u00c8\u0433\3\2\2\2\u00ca\u0437\3\2\2\2\u00cc\u043f\3\2\2\2\u00ce"+
+		"\u0441\3\2\2\2\u00d0\u0450\3\2\2\2\u00d2\u04e2\3\2\2\2\u00d4\u04ed\3\2"+
+		"\2\2\u00d6\u04f1\3\2\2\2\u00d8\u04f4\3\2\2\2\u00da\u04f9\3\2\2\2\u00dc"+
+		"\u04fd\3\2\2\2\u00de\u051b\3\2\2\2\u00e0\u051f\3\2\2\2\u00e2\u0523\3\2"+
+		"\2\2\u00e4\u00e5\5\u008aF\2\u00e5\u00e9\5\4\3\2\u00e6\u00e8\5\6\4\2\u00e7"+
+		"\u00e6\3\2\2\2\u00e8\u00eb\3\2\2\2\u00e9\u00e7\3\2\2\2\u00e9\u00ea\3\2"+
+		"\2\2\u00ea\u00ed\3\2\2\2\u00eb\u00e9\3\2\2\2\u00ec\u00ee\5\b\5\2\u00ed"+
+		"\u00ec\3\2\2\2\u00ee\u00ef\3\2\2\2\u00ef\u00ed\3\2\2\2\u00ef\u00f0\3\2"+
+		"\2\2\u00f0\u00f1\3\2\2\2\u00f1\u00f2\7\1\2\2\u00f2\u0104\3\2\2\2\u00f3"+
+		"\u00f5\5\4\3\2\u00f4\u00f3\3\2\2\2\u00f4\u00f5\3\2\2\2\u00f5\u00f9\3\2"+
+		"\2\2\u00f6\u00f8\5\6\4\2\u00f7\u00f6\3\2\2\2\u00f8\u00fb\3\2\2\2\u00f9"+
+		"\u00f7\3\2\2\2\u00f9\u00fa\3\2\2\2\u00fa\u00fd\3\2\2\2\u00fb\u00f9\3\2"+
+		"\2\2\u00fc\u00fe\5\b\5\2\u00fd\u00fc\3\2\2\2\u00fe\u00ff\3\2\2\2\u00ff"+
+		"\u00fd\3\2\2\2\u00ff\u0100\3\2\2\2\u0100\u0101\3\2\2\2\u0101\u0102\7\1"+
+		"\2\2\u0102\u0104\3\2\2\2\u0103\u00e4\3\2\2\2\u0103\u00f4\3\2\2\2\u0104"+
+		"\3\3\2\2\2\u0105\u0106\7\33\2\2\u0106\u0107\5\u0082B\2\u0107\u0108\7;"+
+		"\2\2\u0108\5\3\2\2\2\u0109\u010b\7[\2\2\u010a\u010c\7,\2\2\u010b\u010a"+
+		"\3\2\2\2\u010b\u010c\3\2\2\2\u010c\u010d\3\2\2\2\u010d\u0110\5\u0082B"+
+		"\2\u010e\u010f\7J\2\2\u010f\u0111\7H\2\2\u0110\u010e\3\2\2\2\u0110\u0111"+
+		"\3\2\2\2\u0111\u0112\3\2\2\2\u0112\u0113\7;\2\2\u0113\7\3\2\2\2\u0114"+
+		"\u0115\5\n\6\2\u0115\u0116\5\20\t\2\u0116\t\3\2\2\2\u0117\u0119\5\f\7"+
+		"\2\u0118\u0117\3\2\2\2\u0119\u011c\3\2\2\2\u011a\u0118\3\2\2\2\u011a\u011b"+
+		"\3\2\2\2\u011b\13\3\2\2\2\u011c\u011a\3\2\2\2\u011d\u0126\5\u008cG\2\u011e"+
+		"\u0126\7S\2\2\u011f\u0126\7-\2\2\u0120\u0126\7\5\2\2\u0121\u0126\7#\2"+
+		"\2\u0122\u0126\7,\2\2\u0123\u0126\7.\2\2\u0124\u0126\7\62\2\2\u0125\u011d"+
+		"\3\2\2\2\u0125\u011e\3\2\2\2\u0125\u011f\3\2\2\2\u0125\u0120\3\2\2\2\u0125"+
+		"\u0121\3\2\2\2\u0125\u0122\3\2\2\2\u0125\u0123\3\2\2\2\u0125\u0124\3\2"+
+		"\2\2\u0126\r\3\2\2\2\u0127\u0129\5`\61\2\u0128\u0127\3\2\2\2\u0129\u012c"+
+		"\3\2\2\2\u012a\u0128\3\2\2\2\u012a\u012b\3\2\2\2\u012b\17\3\2\2\2\u012c"+
+		"\u012a\3\2\2\2\u012d\u012e\5\22\n\2\u012e\21\3\2\2\2\u012f\u0130\79\2"+
+		"\2\u0130\u0132\7d\2\2\u0131\u0133\5\24\13\2\u0132\u0131\3\2\2\2\u0132"+
+		"\u0133\3\2\2\2\u0133\u0136\3\2\2\2\u0134\u0135\7>\2\2\u0135\u0137\5h\65"+
+		"\2\u0136\u0134\3\2\2\2\u0136\u0137\3\2\2\2\u0137\u013a\3\2\2\2\u0138\u0139"+
+		"\7\"\2\2\u0139\u013b\5(\25\2\u013a\u0138\3\2\2\2\u013a\u013b\3\2\2\2\u013b"+
+		"\u013c\3\2\2\2\u013c\u013d\5*\26\2\u013d\23\3\2\2\2\u013e\u013f\7\'\2"+
+		"\2\u013f\u0144\5\26\f\2\u0140\u0141\7\35\2\2\u0141\u0143\5\26\f\2\u0142"+
+		"\u0140\3\2\2\2\u0143\u0146\3\2\2\2\u0144\u0142\3\2\2\2\u0144\u0145\3\2"+
+		"\2\2\u0145\u0147\3\2\2\2\u0146\u0144\3\2\2\2\u0147\u0148\7T\2\2\u0148"+
+		"\25\3\2\2\2\u0149\u014c\7d\2\2\u014a\u014b\7>\2\2\u014b\u014d\5\30\r\2"+
+		"\u014c\u014a\3\2\2\2\u014c\u014d\3\2\2\2\u014d\27\3\2\2\2\u014e\u0153"+
+		"\5h\65\2\u014f\u0150\7F\2\2\u0150\u0152\5h\65\2\u0151\u014f\3\2\2\2\u0152"+
+		"\u0155\3\2\2\2\u0153\u0151\3\2\2\2\u0153\u0154\3\2\2\2\u0154\31\3\2\2"+
+		"\2\u0155\u0153\3\2\2\2\u0156\u0157\7b\2\2\u0157\u015a\7d\2\2\u0158\u0159"+
+		"\7\"\2\2\u0159\u015b\5(\25\2\u015a\u0158\3\2\2\2\u015a\u015b\3\2\2\2\u015b"+
+		"\u015c\3\2\2\2\u015c\u015d\5\34\17\2\u015d\33\3\2\2\2\u015e\u0160\7\17"+
+		"\2\2\u015f\u0161\5\36\20\2\u0160\u015f\3\2\2\2\u0160\u0161\3\2\2\2\u0161"+
+		"\u0163\3\2\2\2\u0162\u0164\7\35\2\2\u0163\u0162\3\2\2\2\u0163\u0164\3"+
+		"\2\2\2\u0164\u0166\3\2\2\2\u0165\u0167\5\"\22\2\u0166\u0165\3\2\2\2\u0166"+
+		"\u0167\3\2\2\2\u0167\u0168\3\2\2\2\u0168\u0169\7=\2\2\u0169\35\3\2\2\2"+
+		"\u016a\u016f\5 \21\2\u016b\u016c\7\35\2\2\u016c\u016e\5 \21\2\u016d\u016b"+
+		"\3\2\2\2\u016e\u0171\3\2\2\2\u016f\u016d\3\2\2\2\u016f\u0170\3\2\2\2\u0170"+
+		"\37\3\2\2\2\u0171\u016f\3\2\2\2\u0172\u0174\5\u008aF\2\u0173\u0172\3\2"+
+		"\2\2\u0173\u0174\3\2\2\2\u0174\u0175\3\2\2\2\u0175\u0177\7d\2\2\u0176"+
+		"\u0178\5\u00e2r\2\u0177\u0176\3\2\2\2\u0177\u0178\3\2\2\2\u0178\u017a"+
+		"\3\2\2\2\u0179\u017b\5*\26\2\u017a\u0179\3\2\2\2\u017a\u017b\3\2\2\2\u017b"+
+		"!\3\2\2\2\u017c\u0180\7;\2\2\u017d\u017f\5.\30\2\u017e\u017d\3\2\2\2\u017f"+
+		"\u0182\3\2\2\2\u0180\u017e\3\2\2\2\u0180\u0181\3\2\2\2\u0181#\3\2\2\2"+
+		"\u0182\u0180\3\2\2\2\u0183\u0186\5&\24\2\u0184\u0186\5\u0098M\2\u0185"+
+		"\u0183\3\2\2\2\u0185\u0184\3\2\2\2\u0186%\3\2\2\2\u0187\u0188\7\t\2\2"+
+		"\u0188\u018a\7d\2\2\u0189\u018b\5\24\13\2\u018a\u0189\3\2\2\2\u018a\u018b"+
+		"\3\2\2\2\u018b\u018e\3\2\2\2\u018c\u018d\7>\2\2\u018d\u018f\5(\25\2\u018e"+
+		"\u018c\3\2\2\2\u018e\u018f\3\2\2\2\u018f\u0190\3\2\2\2\u0190\u0191\5,"+
+		"\27\2\u0191\'\3\2\2\2\u0192\u0197\5h\65\2\u0193\u0194\7\35\2\2\u0194\u0196"+
+		"\5h\65\2\u0195\u0193\3\2\2\2\u0196\u0199\3\2\2\2\u0197\u0195\3\2\2\2\u0197"+
+		"\u0198\3\2\2\2\u0198)\3\2\2\2\u0199\u0197\3\2\2\2\u019a\u019e\7\17\2\2"+
+		"\u019b\u019d\5.\30\2\u019c\u019b\3\2\2\2\u019d\u01a0\3\2\2\2\u019e\u019c"+
+		"\3\2\2\2\u019e\u019f\3\2\2\2\u019f\u01a1\3\2\2\2\u01a0\u019e\3\2\2\2\u01a1"+
+		"\u01a2\7=\2\2\u01a2+\3\2\2\2\u01a3\u01a7\7\17\2\2\u01a4\u01a6\5<\37\2"+
+		"\u01a5\u01a4\3\2\2\2\u01a6\u01a9\3\2\2\2\u01a7\u01a5\3\2\2\2\u01a7\u01a8"+
+		"\3\2\2\2\u01a8\u01aa\3\2\2\2\u01a9\u01a7\3\2\2\2\u01aa\u01ab\7=\2\2\u01ab"+
+		"-\3\2\2\2\u01ac\u01b1\7;\2\2\u01ad\u01ae\5\16\b\2\u01ae\u01af\5\60\31"+
+		"\2\u01af\u01b1\3\2\2\2\u01b0\u01ac\3\2\2\2\u01b0\u01ad\3\2\2\2\u01b1/"+
+		"\3\2\2\2\u01b2\u01bb\5\64\33\2\u01b3\u01bb\5\62\32\2\u01b4\u01b5\7\16"+
+		"\2\2\u01b5\u01b6\7d\2\2\u01b6\u01bb\5F$\2\u01b7\u01b8\7d\2\2\u01b8\u01bb"+
+		"\5N(\2\u01b9\u01bb\5\20\t\2\u01ba\u01b2\3\2\2\2\u01ba\u01b3\3\2\2\2\u01ba"+
+		"\u01b4\3\2\2\2\u01ba\u01b7\3\2\2\2\u01ba\u01b9\3\2\2\2\u01bb\61\3\2\2"+
+		"\2\u01bc\u01bf\5h\65\2\u01bd\u01c0\58\35\2\u01be\u01c0\5:\36\2\u01bf\u01bd"+
+		"\3\2\2\2\u01bf\u01be\3\2\2\2\u01c0\63\3\2\2\2\u01c1\u01c2\5\24\13\2\u01c2"+
+		"\u01c3\5\66\34\2\u01c3\65\3\2\2\2\u01c4\u01c7\5h\65\2\u01c5\u01c7\7\16"+
+		"\2\2\u01c6\u01c4\3\2\2\2\u01c6\u01c5\3\2\2\2\u01c7\u01c8\3\2\2\2\u01c8"+
+		"\u01c9\7d\2\2\u01c9\u01cd\5D#\2\u01ca\u01cb\7d\2\2\u01cb\u01cd\5N(\2\u01cc"+
+		"\u01c6\3\2\2\2\u01cc\u01ca\3\2\2\2\u01cd\67\3\2\2\2\u01ce\u01cf\7d\2\2"+
+		"\u01cf\u01d0\5D#\2\u01d09\3\2\2\2\u01d1\u01d2\5R*\2\u01d2\u01d3\7;\2\2"+
+		"\u01d3;\3\2\2\2\u01d4\u01d5\5\16\b\2\u01d5\u01d6\5> \2\u01d6\u01d9\3\2"+
+		"\2\2\u01d7\u01d9\7;\2\2\u01d8\u01d4\3\2\2\2\u01d8\u01d7\3\2\2\2\u01d9"+
+		"=\3\2\2\2\u01da\u01e2\5@!\2\u01db\u01e2\5J&\2\u01dc\u01dd\7\16\2\2\u01dd"+
+		"\u01de\7d\2\2\u01de\u01e2\5L\'\2\u01df\u01e2\5$\23\2\u01e0\u01e2\5\20"+
+		"\t\2\u01e1\u01da\3\2\2\2\u01e1\u01db\3\2\2\2\u01e1\u01dc\3\2\2\2\u01e1"+
+		"\u01df\3\2\2\2\u01e1\u01e0\3\2\2\2\u01e2?\3\2\2\2\u01e3\u01e4\5h\65\2"+
+		"\u01e4\u01e5\7d\2\2\u01e5\u01e6\5B\"\2\u01e6A\3\2\2\2\u01e7\u01e8\5V,"+
+		"\2\u01e8\u01e9\7;\2\2\u01e9\u01ec\3\2\2\2\u01ea\u01ec\5H%\2\u01eb\u01e7"+
+		"\3\2\2\2\u01eb\u01ea\3\2\2\2\u01ecC\3\2\2\2\u01ed\u01f2\5v<\2\u01ee\u01ef"+
+		"\7O\2\2\u01ef\u01f1\7(\2\2\u01f0\u01ee\3\2\2\2\u01f1\u01f4\3\2\2\2\u01f2"+
+		"\u01f0\3\2\2\2\u01f2\u01f3\3\2\2\2\u01f3\u01f7\3\2\2\2\u01f4\u01f2\3\2"+
+		"\2\2\u01f5\u01f6\7 \2\2\u01f6\u01f8\5t;\2\u01f7\u01f5\3\2\2\2\u01f7\u01f8"+
+		"\3\2\2\2\u01f8\u01fb\3\2\2\2\u01f9\u01fc\5|?\2\u01fa\u01fc\7;\2\2\u01fb"+
+		"\u01f9\3\2\2\2\u01fb\u01fa\3\2\2\2\u01fcE\3\2\2\2\u01fd\u0200\5v<\2\u01fe"+
+		"\u01ff\7 \2\2\u01ff\u0201\5t;\2\u0200\u01fe\3\2\2\2\u0200\u0201\3\2\2"+
+		"\2\u0201\u0204\3\2\2\2\u0202\u0205\5|?\2\u0203\u0205\7;\2\2\u0204\u0202"+
+		"\3\2\2\2\u0204\u0203\3\2\2\2\u0205G\3\2\2\2\u0206\u020b\5v<\2\u0207\u0208"+
+		"\7O\2\2\u0208\u020a\7(\2\2\u0209\u0207\3\2\2\2\u020a\u020d\3\2\2\2\u020b"+
+		"\u0209\3\2\2\2\u020b\u020c\3\2\2\2\u020c\u0210\3\2\2\2\u020d\u020b\3\2"+
+		"\2\2\u020e\u020f\7 \2\2\u020f\u0211\5t;\2\u0210\u020e\3\2\2\2\u0210\u0211"+
+		"\3\2\2\2\u0211\u0212\3\2\2\2\u0212\u0213\7;\2\2\u0213I\3\2\2\2\u0214\u0217"+
+		"\5\24\13\2\u0215\u0218\5h\65\2\u0216\u0218\7\16\2\2\u0217\u0215\3\2\2"+
+		"\2\u0217\u0216\3\2\2\2\u0218\u0219\3\2\2\2\u0219\u021a\7d\2\2\u021a\u021b"+
+		"\5H%\2\u021bK\3\2\2\2\u021c\u021f\5v<\2\u021d\u021e\7 \2\2\u021e\u0220"+
+		"\5t;\2\u021f\u021d\3\2\2\2\u021f\u0220\3\2\2\2\u0220\u0221\3\2\2\2\u0221"+
+		"\u0222\7;\2\2\u0222M\3\2\2\2\u0223\u0226\5v<\2\u0224\u0225\7 \2\2\u0225"+
+		"\u0227\5t;\2\u0226\u0224\3\2\2\2\u0226\u0227\3\2\2\2\u0227\u0228\3\2\2"+
+		"\2\u0228\u0229\5~@\2\u0229O\3\2\2\2\u022a\u022b\7d\2\2\u022b\u022c\5X"+
+		"-\2\u022cQ\3\2\2\2\u022d\u0232\5T+\2\u022e\u022f\7\35\2\2\u022f\u0231"+
+		"\5T+\2\u0230\u022e\3\2\2\2\u0231\u0234\3\2\2\2\u0232\u0230\3\2\2\2\u0232"+
+		"\u0233\3\2\2\2\u0233S\3\2\2\2\u0234\u0232\3\2\2\2\u0235\u0238\5Z.\2\u0236"+
+		"\u0237\7\23\2\2\u0237\u0239\5\\/\2\u0238\u0236\3\2\2\2\u0238\u0239\3\2"+
+		"\2\2\u0239U\3\2\2\2\u023a\u023f\5X-\2\u023b\u023c\7\35\2\2\u023c\u023e"+
+		"\5P)\2\u023d\u023b\3\2\2\2\u023e\u0241\3\2\2\2\u023f\u023d\3\2\2\2\u023f"+
+		"\u0240\3\2\2\2\u0240W\3\2\2\2\u0241\u023f\3\2\2\2\u0242\u0243\7O\2\2\u0243"+
+		"\u0245\7(\2\2\u0244\u0242\3\2\2\2\u0245\u0248\3\2\2\2\u0246\u0244\3\2"+
+		"\2\2\u0246\u0247\3\2\2\2\u0247\u0249\3\2\2\2\u0248\u0246\3\2\2\2\u0249"+
+		"\u024a\7\23\2\2\u024a\u024b\5\\/\2\u024bY\3\2\2\2\u024c\u0251\7d\2\2\u024d"+
+		"\u024e\7O\2\2\u024e\u0250\7(\2\2\u024f\u024d\3\2\2\2\u0250\u0253\3\2\2"+
+		"\2\u0251\u024f\3\2\2\2\u0251\u0252\3\2\2\2\u0252[\3\2\2\2\u0253\u0251"+
+		"\3\2\2\2\u0254\u0257\5^\60\2\u0255\u0257\5\u00d0i\2\u0256\u0254\3\2\2"+
+		"\2\u0256\u0255\3\2\2\2\u0257]\3\2\2\2\u0258\u0264\7\17\2\2\u0259\u025e"+
+		"\5\\/\2\u025a\u025b\7\35\2\2\u025b\u025d\5\\/\2\u025c\u025a\3\2\2\2\u025d"+
+		"\u0260\3\2\2\2\u025e\u025c\3\2\2\2\u025e\u025f\3\2\2\2\u025f\u0262\3\2"+
+		"\2\2\u0260\u025e\3\2\2\2\u0261\u0263\7\35\2\2\u0262\u0261\3\2\2\2\u0262"+
+		"\u0263\3\2\2\2\u0263\u0265\3\2\2\2\u0264\u0259\3\2\2\2\u0264\u0265\3\2"+
+		"\2\2\u0265\u0266\3\2\2\2\u0266\u0267\7=\2\2\u0267_\3\2\2\2\u0268\u0275"+
+		"\5\u008cG\2\u0269\u0275\7S\2\2\u026a\u0275\7-\2\2\u026b\u0275\7\5\2\2"+
+		"\u026c\u0275\7,\2\2\u026d\u0275\7#\2\2\u026e\u0275\7.\2\2\u026f\u0275"+
+		"\7\65\2\2\u0270\u0275\7E\2\2\u0271\u0275\7*\2\2\u0272\u0275\7!\2\2\u0273"+
+		"\u0275\7\62\2\2\u0274\u0268\3\2\2\2\u0274\u0269\3\2\2\2\u0274\u026a\3"+
+		"\2\2\2\u0274\u026b\3\2\2\2\u0274\u026c\3\2\2\2\u0274\u026d\3\2\2\2\u0274"+
+		"\u026e\3\2\2\2\u0274\u026f\3\2\2\2\u0274\u0270\3\2\2\2\u0274\u0271\3\2"+
+		"\2\2\u0274\u0272\3\2\2\2\u0274\u0273\3\2\2\2\u0275a\3\2\2\2\u0276\u0277"+
+		"\5\u0082B\2\u0277c\3\2\2\2\u0278\u0279\7d\2\2\u0279e\3\2\2\2\u027a\u027b"+
+		"\5\u0082B\2\u027bg\3\2\2\2\u027c\u0281\5j\66\2\u027d\u027e\7O\2\2\u027e"+
+		"\u0280\7(\2\2\u027f\u027d\3\2\2\2\u0280\u0283\3\2\2\2\u0281\u027f\3\2"+
+		"\2\2\u0281\u0282\3\2\2\2\u0282\u028d\3\2\2\2\u0283\u0281\3\2\2\2\u0284"+
+		"\u0289\5l\67\2\u0285\u0286\7O\2\2\u0286\u0288\7(\2\2\u0287\u0285\3\2\2"+
+		"\2\u0288\u028b\3\2\2\2\u0289\u0287\3\2\2\2\u0289\u028a\3\2\2\2\u028a\u028d"+
+		"\3\2\2\2\u028b\u0289\3\2\2\2\u028c\u027c\3\2\2\2\u028c\u0284\3\2\2\2\u028d"+
+		"i\3\2\2\2\u028e\u0290\7d\2\2\u028f\u0291\5p9\2\u0290\u028f\3\2\2\2\u0290"+
+		"\u0291\3\2\2\2\u0291\u0299\3\2\2\2\u0292\u0293\7J\2\2\u0293\u0295\7d\2"+
+		"\2\u0294\u0296\5p9\2\u0295\u0294\3\2\2\2\u0295\u0296\3\2\2\2\u0296\u0298"+
+		"\3\2\2\2\u0297\u0292\3\2\2\2\u0298\u029b\3\2\2\2\u0299\u0297\3\2\2\2\u0299"+
+		"\u029a\3\2\2\2\u029ak\3\2\2\2\u029b\u0299\3\2\2\2\u029c\u029d\t\2\2\2"+
+		"\u029dm\3\2\2\2\u029e\u02a1\7.\2\2\u029f\u02a1\5\u008cG\2\u02a0\u029e"+
+		"\3\2\2\2\u02a0\u029f\3\2\2\2\u02a1o\3\2\2\2\u02a2\u02a3\7\'\2\2\u02a3"+
+		"\u02a8\5r:\2\u02a4\u02a5\7\35\2\2\u02a5\u02a7\5r:\2\u02a6\u02a4\3\2\2"+
+		"\2\u02a7\u02aa\3\2\2\2\u02a8\u02a6\3\2\2\2\u02a8\u02a9\3\2\2\2\u02a9\u02ab"+
+		"\3\2\2\2\u02aa\u02a8\3\2\2\2\u02ab\u02ac\7T\2\2\u02acq\3\2\2\2\u02ad\u02b4"+
+		"\5h\65\2\u02ae\u02b1\7A\2\2\u02af\u02b0\t\3\2\2\u02b0\u02b2\5h\65\2\u02b1"+
+		"\u02af\3\2\2\2\u02b1\u02b2\3\2\2\2\u02b2\u02b4\3\2\2\2\u02b3\u02ad\3\2"+
+		"\2\2\u02b3\u02ae\3\2\2\2\u02b4s\3\2\2\2\u02b5\u02ba\5\u0082B\2\u02b6\u02b7"+
+		"\7\35\2\2\u02b7\u02b9\5\u0082B\2\u02b8\u02b6\3\2\2\2\u02b9\u02bc\3\2\2"+
+		"\2\u02ba\u02b8\3\2\2\2\u02ba\u02bb\3\2\2\2\u02bbu\3\2\2\2\u02bc\u02ba"+
+		"\3\2\2\2\u02bd\u02bf\7\32\2\2\u02be\u02c0\5x=\2\u02bf\u02be\3\2\2\2\u02bf"+
+		"\u02c0\3\2\2\2\u02c0\u02c1\3\2\2\2\u02c1\u02c2\7Y\2\2\u02c2w\3\2\2\2\u02c3"+
+		"\u02c4\5\u00b0Y\2\u02c4\u02c5\5h\65\2\u02c5\u02c6\5z>\2\u02c6y\3\2\2\2"+
+		"\u02c7\u02ca\5Z.\2\u02c8\u02c9\7\35\2\2\u02c9\u02cb\5x=\2\u02ca\u02c8"+
+		"\3\2\2\2\u02ca\u02cb\3\2\2\2\u02cb\u02cf\3\2\2\2\u02cc\u02cd\7M\2\2\u02cd"+
+		"\u02cf\5Z.\2\u02ce\u02c7\3\2\2\2\u02ce\u02cc\3\2\2\2\u02cf{\3\2\2\2\u02d0"+
+		"\u02d1\7\17\2\2\u02d1\u02d5\b?\1\2\u02d2\u02d4\5\u00aaV\2\u02d3\u02d2"+
+		"\3\2\2\2\u02d4\u02d7\3\2\2\2\u02d5\u02d3\3\2\2\2\u02d5\u02d6\3\2\2\2\u02d6"+
+		"\u02d8\3\2\2\2\u02d7\u02d5\3\2\2\2\u02d8\u02d9\7=\2\2\u02d9}\3\2\2\2\u02da"+
+		"\u02db\7\17\2\2\u02db\u02dd\b@\1\2\u02dc\u02de\5\u0080A\2\u02dd\u02dc"+
+		"\3\2\2\2\u02dd\u02de\3\2\2\2\u02de\u02e2\3\2\2\2\u02df\u02e1\5\u00aaV"+
+		"\2\u02e0\u02df\3\2\2\2\u02e1\u02e4\3\2\2\2\u02e2\u02e0\3\2\2\2\u02e2\u02e3"+
+		"\3\2\2\2\u02e3\u02e5\3\2\2\2\u02e4\u02e2\3\2\2\2\u02e5\u02e6\7=\2\2\u02e6"+
+		"\177\3\2\2\2\u02e7\u02e9\5\u00e0q\2\u02e8\u02e7\3\2\2\2\u02e8\u02e9\3"+
+		"\2\2\2\u02e9\u02ea\3\2\2\2\u02ea\u02eb\t\4\2\2\u02eb\u02ec\5\u00e2r\2"+
+		"\u02ec\u02ed\7;\2\2\u02ed\u02f8\3\2\2\2\u02ee\u02ef\5\u00d2j\2\u02ef\u02f1"+
+		"\7J\2\2\u02f0\u02f2\5\u00e0q\2\u02f1\u02f0\3\2\2\2\u02f1\u02f2\3\2\2\2"+
+		"\u02f2\u02f3\3\2\2\2\u02f3\u02f4\7X\2\2\u02f4\u02f5\5\u00e2r\2\u02f5\u02f6"+
+		"\7;\2\2\u02f6\u02f8\3\2\2\2\u02f7\u02e8\3\2\2\2\u02f7\u02ee\3\2\2\2\u02f8"+
+		"\u0081\3\2\2\2\u02f9\u02fe\7d\2\2\u02fa\u02fb\7J\2\2\u02fb\u02fd\7d\2"+
+		"\2\u02fc\u02fa\3\2\2\2\u02fd\u0300\3\2\2\2\u02fe\u02fc\3\2\2\2\u02fe\u02ff"+
+		"\3\2\2\2\u02ff\u0083\3\2\2\2\u0300\u02fe\3\2\2\2\u0301\u0308\5\u0086D"+
+		"\2\u0302\u0308\7_\2\2\u0303\u0308\7`\2\2\u0304\u0308\7a\2\2\u0305\u0308"+
+		"\5\u0088E\2\u0306\u0308\7\30\2\2\u0307\u0301\3\2\2\2\u0307\u0302\3\2\2"+
+		"\2\u0307\u0303\3\2\2\2\u0307\u0304\3\2\2\2\u0307\u0305\3\2\2\2\u0307\u0306"+
+		"\3\2\2\2\u0308\u0085\3\2\2\2\u0309\u030a\t\5\2\2\u030a\u0087\3\2\2\2\u030b"+
+		"\u030c\t\6\2\2\u030c\u0089\3\2\2\2\u030d\u030f\5\u008cG\2\u030e\u030d"+
+		"\3\2\2\2\u030f\u0310\3\2\2\2\u0310\u030e\3\2\2\2\u0310\u0311\3\2\2\2\u0311"+
+		"\u008b\3\2\2\2\u0312\u0313\7+\2\2\u0313\u031a\5\u008eH\2\u0314\u0317\7"+
+		"\32\2\2\u0315\u0318\5\u0090I\2\u0316\u0318\5\u0094K\2\u0317\u0315\3\2"+
+		"\2\2\u0317\u0316\3\2\2\2\u0317\u0318\3\2\2\2\u0318\u0319\3\2\2\2\u0319"+
+		"\u031b\7Y\2\2\u031a\u0314\3\2\2\2\u031a\u031b\3\2\2\2\u031b\u008d\3\2"+
+		"\2\2\u031c\u0321\7d\2\2\u031d\u031e\7J\2\2\u031e\u0320\7d\2\2\u031f\u031d"+
+		"\3\2\2\2\u0320\u0323\3\2\2\2\u0321\u031f\3\2\2\2\u0321\u0322\3\2\2\2\u0322"+
+		"\u008f\3\2\2\2\u0323\u0321\3\2\2\2\u0324\u0329\5\u0092J\2\u0325\u0326"+
+		"\7\35\2\2\u0326\u0328\5\u0092J\2\u0327\u0325\3\2\2\2\u0328\u032b\3\2\2"+
+		"\2\u0329\u0327\3\2\2\2\u0329\u032a\3\2\2\2\u032a\u0091\3\2\2\2\u032b\u0329"+
+		"\3\2\2\2\u032c\u032d\7d\2\2\u032d\u032e\7\23\2\2\u032e\u032f\5\u0094K"+
+		"\2\u032f\u0093\3\2\2\2\u0330\u0334\5\u00d0i\2\u0331\u0334\5\u008cG\2\u0332"+
+		"\u0334\5\u0096L\2\u0333\u0330\3\2\2\2\u0333\u0331\3\2\2\2\u0333\u0332"+
+		"\3\2\2\2\u0334\u0095\3\2\2\2\u0335\u033e\7\17\2\2\u0336\u033b\5\u0094"+
+		"K\2\u0337\u0338\7\35\2\2\u0338\u033a\5\u0094K\2\u0339\u0337\3\2\2\2\u033a"+
+		"\u033d\3\2\2\2\u033b\u0339\3\2\2\2\u033b\u033c\3\2\2\2\u033c\u033f\3\2"+
+		"\2\2\u033d\u033b\3\2\2\2\u033e\u0336\3\2\2\2\u033e\u033f\3\2\2\2\u033f"+
+		"\u0341\3\2\2\2\u0340\u0342\7\35\2\2\u0341\u0340\3\2\2\2\u0341\u0342\3"+
+		"\2\2\2\u0342\u0343\3\2\2\2\u0343\u0344\7=\2\2\u0344\u0097\3\2\2\2\u0345"+
+		"\u0346\7+\2\2\u0346\u0347\7\t\2\2\u0347\u0348\7d\2\2\u0348\u0349\5\u009a"+
+		"N\2\u0349\u0099\3\2\2\2\u034a\u034e\7\17\2\2\u034b\u034d\5\u009cO\2\u034c"+
+		"\u034b\3\2\2\2\u034d\u0350\3\2\2\2\u034e\u034c\3\2\2\2\u034e\u034f\3\2"+
+		"\2\2\u034f\u0351\3\2\2\2\u0350\u034e\3\2\2\2\u0351\u0352\7=\2\2\u0352"+
+		"\u009b\3\2\2\2\u0353\u0354\5\16\b\2\u0354\u0355\5\u009eP\2\u0355\u009d"+
+		"\3\2\2\2\u0356\u0357\5h\65\2\u0357\u0358\5\u00a0Q\2\u0358\u0359\7;\2\2"+
+		"\u0359\u036b\3\2\2\2\u035a\u035c\5\22\n\2\u035b\u035d\7;\2\2\u035c\u035b"+
+		"\3\2\2\2\u035c\u035d\3\2\2\2\u035d\u036b\3\2\2\2\u035e\u0360\5&\24\2\u035f"+
+		"\u0361\7;\2\2\u0360\u035f\3\2\2\2\u0360\u0361\3\2\2\2\u0361\u036b\3\2"+
+		"\2\2\u0362\u0364\5\32\16\2\u0363\u0365\7;\2\2\u0364\u0363\3\2\2\2\u0364"+
+		"\u0365\3\2\2\2\u0365\u036b\3\2\2\2\u0366\u0368\5\u0098M\2\u0367\u0369"+
+		"\7;\2\2\u0368\u0367\3\2\2\2\u0368\u0369\3\2\2\2\u0369\u036b\3\2\2\2\u036a"+
+		"\u0356\3\2\2\2\u036a\u035a\3\2\2\2\u036a\u035e\3\2\2\2\u036a\u0362\3\2"+
+		"\2\2\u036a\u0366\3\2\2\2\u036b\u009f\3\2\2\2\u036c\u036f\5\u00a2R\2\u036d"+
+		"\u036f\5\u00a4S\2\u036e\u036c\3\2\2\2\u036e\u036d\3\2\2\2\u036f\u00a1"+
+		"\3\2\2\2\u0370\u0371\7d\2\2\u0371\u0372\7\32\2\2\u0372\u0374\7Y\2\2\u0373"+
+		"\u0375\5\u00a6T\2\u0374\u0373\3\2\2\2\u0374\u0375\3\2\2\2\u0375\u00a3"+
+		"\3\2\2\2\u0376\u0377\5R*\2\u0377\u00a5\3\2\2\2\u0378\u0379\7\3\2\2\u0379"+
+		"\u037a\5\u0094K\2\u037a\u00a7\3\2\2\2\u037b\u037f\7\17\2\2\u037c\u037e"+
+		"\5\u00aaV\2\u037d\u037c\3\2\2\2\u037e\u0381\3\2\2\2\u037f\u037d\3\2\2"+
+		"\2\u037f\u0380\3\2\2\2\u0380\u0382\3\2\2\2\u0381\u037f\3\2\2\2\u0382\u0383"+
+		"\7=\2\2\u0383\u00a9\3\2\2\2\u0384\u0387\5\u00acW\2\u0385\u0387\5\u00b2"+
+		"Z\2\u0386\u0384\3\2\2\2\u0386\u0385\3\2\2\2\u0387\u00ab\3\2\2\2\u0388"+
+		"\u0389\5\u00aeX\2\u0389\u038a\7;\2\2\u038a\u00ad\3\2\2\2\u038b\u038c\5"+
+		"\u00b0Y\2\u038c\u038d\5h\65\2\u038d\u038e\5R*\2\u038e\u00af\3\2\2\2\u038f"+
+		"\u0391\5n8\2\u0390\u038f\3\2\2\2\u0391\u0394\3\2\2\2\u0392\u0390\3\2\2"+
+		"\2\u0392\u0393\3\2\2\2\u0393\u00b1\3\2\2\2\u0394\u0392\3\2\2\2\u0395\u03e5"+
+		"\5\u00a8U\2\u0396\u0397\7c\2\2\u0397\u039a\5\u00d0i\2\u0398\u0399\7N\2"+
+		"\2\u0399\u039b\5\u00d0i\2\u039a\u0398\3\2\2\2\u039a\u039b\3\2\2\2\u039b"+
+		"\u039c\3\2\2\2\u039c\u039d\7;\2\2\u039d\u03e5\3\2\2\2\u039e\u039f\7?\2"+
+		"\2\u039f\u03a0\5\u00c8e\2\u03a0\u03a3\5\u00b2Z\2\u03a1\u03a2\7W\2\2\u03a2"+
+		"\u03a4\5\u00b2Z\2\u03a3\u03a1\3\2\2\2\u03a3\u03a4\3\2\2\2\u03a4\u03e5"+
+		"\3\2\2\2\u03a5\u03a6\7\25\2\2\u03a6\u03a7\7\32\2\2\u03a7\u03a8\5\u00c0"+
+		"a\2\u03a8\u03a9\7Y\2\2\u03a9\u03aa\5\u00b2Z\2\u03aa\u03e5\3\2\2\2\u03ab"+
+		"\u03ac\7\r\2\2\u03ac\u03ad\5\u00c8e\2\u03ad\u03ae\5\u00b2Z\2\u03ae\u03e5"+
+		"\3\2\2\2\u03af\u03b0\7\31\2\2\u03b0\u03b1\5\u00b2Z\2\u03b1\u03b2\7\r\2"+
+		"\2\u03b2\u03b3\5\u00c8e\2\u03b3\u03b4\7;\2\2\u03b4\u03e5\3\2\2\2\u03b5"+
+		"\u03b6\7@\2\2\u03b6\u03be\5\u00a8U\2\u03b7\u03ba\5\u00b4[\2\u03b8\u03b9"+
+		"\7\7\2\2\u03b9\u03bb\5\u00a8U\2\u03ba\u03b8\3\2\2\2\u03ba\u03bb\3\2\2"+
+		"\2\u03bb\u03bf\3\2\2\2\u03bc\u03bd\7\7\2\2\u03bd\u03bf\5\u00a8U\2\u03be"+
+		"\u03b7\3\2\2\2\u03be\u03bc\3\2\2\2\u03bf\u03e5\3\2\2\2\u03c0\u03c1\7G"+
+		"\2\2\u03c1\u03c2\5\u00c8e\2\u03c2\u03c3\7\17\2\2\u03c3\u03c4\5\u00ba^"+
+		"\2\u03c4\u03c5\7=\2\2\u03c5\u03e5\3\2\2\2\u03c6\u03c7\7E\2\2\u03c7\u03c8"+
+		"\5\u00c8e\2\u03c8\u03c9\5\u00a8U\2\u03c9\u03e5\3\2\2\2\u03ca\u03cc\7\67"+
+		"\2\2\u03cb\u03cd\5\u00d0i\2\u03cc\u03cb\3\2\2\2\u03cc\u03cd\3\2\2\2\u03cd"+
+		"\u03ce\3\2\2\2\u03ce\u03e5\7;\2\2\u03cf\u03d0\7L\2\2\u03d0\u03d1\5\u00d0"+
+		"i\2\u03d1\u03d2\7;\2\2\u03d2\u03e5\3\2\2\2\u03d3\u03d5\7B\2\2\u03d4\u03d6"+
+		"\7d\2\2\u03d5\u03d4\3\2\2\2\u03d5\u03d6\3\2\2\2\u03d6\u03d7\3\2\2\2\u03d7"+
+		"\u03e5\7;\2\2\u03d8\u03da\7\63\2\2\u03d9\u03db\7d\2\2\u03da\u03d9\3\2"+
+		"\2\2\u03da\u03db\3\2\2\2\u03db\u03dc\3\2\2\2\u03dc\u03e5\7;\2\2\u03dd"+
+		"\u03e5\7;\2\2\u03de\u03df\5\u00ccg\2\u03df\u03e0\7;\2\2\u03e0\u03e5\3"+
+		"\2\2\2\u03e1\u03e2\7d\2\2\u03e2\u03e3\7N\2\2\u03e3\u03e5\5\u00b2Z\2\u03e4"+
+		"\u0395\3\2\2\2\u03e4\u0396\3\2\2\2\u03e4\u039e\3\2\2\2\u03e4\u03a5\3\2"+
+		"\2\2\u03e4\u03ab\3\2\2\2\u03e4\u03af\3\2\2\2\u03e4\u03b5\3\2\2\2\u03e4"+
+		"\u03c0\3\2\2\2\u03e4\u03c6\3\2\2\2\u03e4\u03ca\3\2\2\2\u03e4\u03cf\3\2"+
+		"\2\2\u03e4\u03d3\3\2\2\2\u03e4\u03d8\3\2\2\2\u03e4\u03dd\3\2\2\2\u03e4"+
+		"\u03de\3\2\2\2\u03e4\u03e1\3\2\2\2\u03e5\u00b3\3\2\2\2\u03e6\u03ea\5\u00b6"+
+		"\\\2\u03e7\u03e9\5\u00b6\\\2\u03e8\u03e7\3\2\2\2\u03e9\u03ec\3\2\2\2\u03ea"+
+		"\u03e8\3\2\2\2\u03ea\u03eb\3\2\2\2\u03eb\u00b5\3\2\2\2\u03ec\u03ea\3\2"+
+		"\2\2\u03ed\u03ee\7\64\2\2\u03ee\u03ef\7\32\2\2\u03ef\u03f0\5\u00b8]\2"+
+		"\u03f0\u03f1\7Y\2\2\u03f1\u03f2\5\u00a8U\2\u03f2\u00b7\3\2\2\2\u03f3\u03f4"+
+		"\5\u00b0Y\2\u03f4\u03f5\5h\65\2\u03f5\u03f6\5Z.\2\u03f6\u00b9\3\2\2\2"+
+		"\u03f7\u03f9\5\u00bc_\2\u03f8\u03f7\3\2\2\2\u03f9\u03fc\3\2\2\2\u03fa"+
+		"\u03f8\3\2\2\2\u03fa\u03fb\3\2\2\2\u03fb\u0400\3\2\2\2\u03fc\u03fa\3\2"+
+		"\2\2\u03fd\u03ff\5\u00be`\2\u03fe\u03fd\3\2\2\2\u03ff\u0402\3\2\2\2\u0400"+
+		"\u03fe\3\2\2\2\u0400\u0401\3\2\2\2\u0401\u00bb\3\2\2\2\u0402\u0400\3\2"+
+		"\2\2\u0403\u0405\5\u00be`\2\u0404\u0403\3\2\2\2\u0405\u0406\3\2\2\2\u0406"+
+		"\u0404\3\2\2\2\u0406\u0407\3\2\2\2\u0407\u0409\3\2\2\2\u0408\u040a\5\u00aa"+
+		"V\2\u0409\u0408\3\2\2\2\u040a\u040b\3\2\2\2\u040b\u0409\3\2\2\2\u040b"+
+		"\u040c\3\2\2\2\u040c\u00bd\3\2\2\2\u040d\u040e\7K\2\2\u040e\u040f\5\u00ce"+
+		"h\2\u040f\u0410\7N\2\2\u0410\u0418\3\2\2\2\u0411\u0412\7K\2\2\u0412\u0413"+
+		"\5d\63\2\u0413\u0414\7N\2\2\u0414\u0418\3\2\2\2\u0415\u0416\7\3\2\2\u0416"+
+		"\u0418\7N\2\2\u0417\u040d\3\2\2\2\u0417\u0411\3\2\2\2\u0417\u0415\3\2"+
+		"\2\2\u0418\u00bf\3\2\2\2\u0419\u0426\5\u00c4c\2\u041a\u041c\5\u00c2b\2"+
+		"\u041b\u041a\3\2\2\2\u041b\u041c\3\2\2\2\u041c\u041d\3\2\2\2\u041d\u041f"+
+		"\7;\2\2\u041e\u0420\5\u00d0i\2\u041f\u041e\3\2\2\2\u041f\u0420\3\2\2\2"+
+		"\u0420\u0421\3\2\2\2\u0421\u0423\7;\2\2\u0422\u0424\5\u00c6d\2\u0423\u0422"+
+		"\3\2\2\2\u0423\u0424\3\2\2\2\u0424\u0426\3\2\2\2\u0425\u0419\3\2\2\2\u0425"+
+		"\u041b\3\2\2\2\u0426\u00c1\3\2\2\2\u0427\u042a\5\u00aeX\2\u0428\u042a"+
+		"\5\u00caf\2\u0429\u0427\3\2\2\2\u0429\u0428\3\2\2\2\u042a\u00c3\3\2\2"+
+		"\2\u042b\u042c\5\u00b0Y\2\u042c\u042d\5h\65\2\u042d\u042e\7d\2\2\u042e"+
+		"\u042f\7N\2\2\u042f\u0430\5\u00d0i\2\u0430\u00c5\3\2\2\2\u0431\u0432\5"+
+		"\u00caf\2\u0432\u00c7\3\2\2\2\u0433\u0434\7\32\2\2\u0434\u0435\5\u00d0"+
+		"i\2\u0435\u0436\7Y\2\2\u0436\u00c9\3\2\2\2\u0437\u043c\5\u00d0i\2\u0438"+
+		"\u0439\7\35\2\2\u0439\u043b\5\u00d0i\2\u043a\u0438\3\2\2\2\u043b\u043e"+
+		"\3\2\2\2\u043c\u043a\3\2\2\2\u043c\u043d\3\2\2\2\u043d\u00cb\3\2\2\2\u043e"+
+		"\u043c\3\2\2\2\u043f\u0440\5\u00d0i\2\u0440\u00cd\3\2\2\2\u0441\u0442"+
+		"\5\u00d0i\2\u0442\u00cf\3\2\2\2\u0443\u0444\bi\1\2\u0444\u0445\t\7\2\2"+
+		"\u0445\u0451\5\u00d0i\2\u0446\u0447\t\b\2\2\u0447\u0451\5\u00d0i\2\u0448"+
+		"\u0449\7\32\2\2\u0449\u044a\5h\65\2\u044a\u044b\7Y\2\2\u044b\u044c\5\u00d0"+
+		"i\2\u044c\u0451\3\2\2\2\u044d\u0451\5\u00d2j\2\u044e\u044f\7\n\2\2\u044f"+
+		"\u0451\5\u00d4k\2\u0450\u0443\3\2\2\2\u0450\u0446\3\2\2\2\u0450\u0448"+
+		"\3\2\2\2\u0450\u044d\3\2\2\2\u0450\u044e\3\2\2\2\u0451\u04d0\3\2\2\2\u0452"+
+		"\u0453\6i\2\3\u0453\u0454\t\t\2\2\u0454\u04cf\5\u00d0i\2\u0455\u0456\6"+
+		"i\3\3\u0456\u0457\t\n\2\2\u0457\u04cf\5\u00d0i\2\u0458\u0460\6i\4\3\u0459"+
+		"\u045a\7\'\2\2\u045a\u0461\7\'\2\2\u045b\u045c\7T\2\2\u045c\u045d\7T\2"+
+		"\2\u045d\u0461\7T\2\2\u045e\u045f\7T\2\2\u045f\u0461\7T\2\2\u0460\u0459"+
+		"\3\2\2\2\u0460\u045b\3\2\2\2\u0460\u045e\3\2\2\2\u0461\u0462\3\2\2\2\u0462"+
+		"\u04cf\5\u00d0i\2\u0463\u046a\6i\5\3\u0464\u0465\7\'\2\2\u0465\u046b\7"+
+		"\23\2\2\u0466\u0467\7T\2\2\u0467\u046b\7\23\2\2\u0468\u046b\7T\2\2\u0469"+
+		"\u046b\7\'\2\2\u046a\u0464\3\2\2\2\u046a\u0466\3\2\2\2\u046a\u0468\3\2"+
+		"\2\2\u046a\u0469\3\2\2\2\u046b\u046c\3\2\2\2\u046c\u04cf\5\u00d0i\2\u046d"+
+		"\u046e\6i\6\3\u046e\u046f\t\13\2\2\u046f\u04cf\5\u00d0i\2\u0470\u0471"+
+		"\6i\7\3\u0471\u0472\7F\2\2\u0472\u04cf\5\u00d0i\2\u0473\u0474\6i\b\3\u0474"+
+		"\u0475\7\24\2\2\u0475\u04cf\5\u00d0i\2\u0476\u0477\6i\t\3\u0477\u0478"+
+		"\7P\2\2\u0478\u04cf\5\u00d0i\2\u0479\u047a\6i\n\3\u047a\u047b\7\21\2\2"+
+		"\u047b\u04cf\5\u00d0i\2\u047c\u047d\6i\13\3\u047d\u047e\7:\2\2\u047e\u04cf"+
+		"\5\u00d0i\2\u047f\u0493\6i\f\3\u0480\u0494\7\20\2\2\u0481\u0494\7\4\2"+
+		"\2\u0482\u0494\7\34\2\2\u0483\u0494\7\60\2\2\u0484\u0494\7\36\2\2\u0485"+
+		"\u0494\7\66\2\2\u0486\u0494\7\26\2\2\u0487\u0494\7\23\2\2\u0488\u0489"+
+		"\7T\2\2\u0489\u048a\7T\2\2\u048a\u0494\7\23\2\2\u048b\u048c\7T\2\2\u048c"+
+		"\u048d\7T\2\2\u048d\u048e\7T\2\2\u048e\u0494\7\23\2\2\u048f\u0490\7\'"+
+		"\2\2\u0490\u0491\7\'\2\2\u0491\u0494\7\23\2\2\u0492\u0494\7\6\2\2\u0493"+
+		"\u0480\3\2\2\2\u0493\u0481\3\2\2\2\u0493\u0482\3\2\2\2\u0493\u0483\3\2"+
+		"\2\2\u0493\u0484\3\2\2\2\u0493\u0485\3\2\2\2\u0493\u0486\3\2\2\2\u0493"+
+		"\u0487\3\2\2\2\u0493\u0488\3\2\2\2\u0493\u048b\3\2\2\2\u0493\u048f\3\2"+
+		"\2\2\u0493\u0492\3\2\2\2\u0494\u0495\3\2\2\2\u0495\u04cf\5\u00d0i\2\u0496"+
+		"\u0497\6i\r\3\u0497\u0498\7A\2\2\u0498\u0499\5\u00d0i\2\u0499\u049a\7"+
+		"N\2\2\u049a\u049b\5\u00d0i\2\u049b\u04cf\3\2\2\2\u049c\u049d\6i\16\3\u049d"+
+		"\u049e\7J\2\2\u049e\u04cf\7d\2\2\u049f\u04a0\6i\17\3\u04a0\u04a1\7J\2"+
+		"\2\u04a1\u04cf\7I\2\2\u04a2\u04a3\6i\20\3\u04a3\u04a4\7J\2\2\u04a4\u04a5"+
+		"\7X\2\2\u04a5\u04a7\7\32\2\2\u04a6\u04a8\5\u00caf\2\u04a7\u04a6\3\2\2"+
+		"\2\u04a7\u04a8\3\2\2\2\u04a8\u04a9\3\2\2\2\u04a9\u04cf\7Y\2\2\u04aa\u04ab"+
+		"\6i\21\3\u04ab\u04ac\7J\2\2\u04ac\u04ad\7\n\2\2\u04ad\u04ae\7d\2\2\u04ae"+
+		"\u04b0\7\32\2\2\u04af\u04b1\5\u00caf\2\u04b0\u04af\3\2\2\2\u04b0\u04b1"+
+		"\3\2\2\2\u04b1\u04b2\3\2\2\2\u04b2\u04cf\7Y\2\2\u04b3\u04b4\6i\22\3\u04b4"+
+		"\u04b5\7J\2\2\u04b5\u04b6\7X\2\2\u04b6\u04b7\7J\2\2\u04b7\u04b9\7d\2\2"+
+		"\u04b8\u04ba\5\u00e2r\2\u04b9\u04b8\3\2\2\2\u04b9\u04ba\3\2\2\2\u04ba"+
+		"\u04cf\3\2\2\2\u04bb\u04bc\6i\23\3\u04bc\u04bd\7J\2\2\u04bd\u04cf\5\u00da"+
+		"n\2\u04be\u04bf\6i\24\3\u04bf\u04c0\7O\2\2\u04c0\u04c1\5\u00d0i\2\u04c1"+
+		"\u04c2\7(\2\2\u04c2\u04cf\3\2\2\2\u04c3\u04c4\6i\25\3\u04c4\u04c6\7\32"+
+		"\2\2\u04c5\u04c7\5\u00caf\2\u04c6\u04c5\3\2\2\2\u04c6\u04c7\3\2\2\2\u04c7"+
+		"\u04c8\3\2\2\2\u04c8\u04cf\7Y\2\2\u04c9\u04ca\6i\26\3\u04ca\u04cf\t\f"+
+		"\2\2\u04cb\u04cc\6i\27\3\u04cc\u04cd\7<\2\2\u04cd\u04cf\5h\65\2\u04ce"+
+		"\u0452\3\2\2\2\u04ce\u0455\3\2\2\2\u04ce\u0458\3\2\2\2\u04ce\u0463\3\2"+
+		"\2\2\u04ce\u046d\3\2\2\2\u04ce\u0470\3\2\2\2\u04ce\u0473\3\2\2\2\u04ce"+
+		"\u0476\3\2\2\2\u04ce\u0479\3\2\2\2\u04ce\u047c\3\2\2\2\u04ce\u047f\3\2"+
+		"\2\2\u04ce\u0496\3\2\2\2\u04ce\u049c\3\2\2\2\u04ce\u049f\3\2\2\2\u04ce"+
+		"\u04a2\3\2\2\2\u04ce\u04aa\3\2\2\2\u04ce\u04b3\3\2\2\2\u04ce\u04bb\3\2"+
+		"\2\2\u04ce\u04be\3\2\2\2\u04ce\u04c3\3\2\2\2\u04ce\u04c9\3\2\2\2\u04ce"+
+		"\u04cb\3\2\2\2\u04cf\u04d2\3\2\2\2\u04d0\u04ce\3\2\2\2\u04d0\u04d1\3\2"+
+		"\2\2\u04d1\u00d1\3\2\2\2\u04d2\u04d0\3\2\2\2\u04d3\u04d4\7\32\2\2\u04d4"+
+		"\u04d5\5\u00d0i\2\u04d5\u04d6\7Y\2\2\u04d6\u04e3\3\2\2\2\u04d7\u04e3\7"+
+		"I\2\2\u04d8\u04e3\7X\2\2\u04d9\u04e3\5\u0084C\2\u04da\u04e3\7d\2\2\u04db"+
+		"\u04dc\5h\65\2\u04dc\u04dd\7J\2\2\u04dd\u04de\79\2\2\u04de\u04e3\3\2\2"+
+		"\2\u04df\u04e0\7\16\2\2\u04e0\u04e1\7J\2\2\u04e1\u04e3\79\2\2\u04e2\u04d3"+
+		"\3\2\2\2\u04e2\u04d7\3\2\2\2\u04e2\u04d8\3\2\2\2\u04e2\u04d9\3\2\2\2\u04e2"+
+		"\u04da\3\2\2\2\u04e2\u04db\3\2\2\2\u04e2\u04df\3\2\2\2\u04e3\u00d3\3\2"+
+		"\2\2\u04e4\u04e5\5\u00e0q\2\u04e5\u04e6\5\u00d6l\2\u04e6\u04e7\5\u00de"+
+		"p\2\u04e7\u04ee\3\2\2\2\u04e8\u04eb\5\u00d6l\2\u04e9\u04ec\5\u00dco\2"+
+		"\u04ea\u04ec\5\u00dep\2\u04eb\u04e9\3\2\2\2\u04eb\u04ea\3\2\2\2\u04ec"+
+		"\u04ee\3\2\2\2\u04ed\u04e4\3\2\2\2\u04ed\u04e8\3\2\2\2\u04ee\u00d5\3\2"+
+		"\2\2\u04ef\u04f2\5j\66\2\u04f0\u04f2\5l\67\2\u04f1\u04ef\3\2\2\2\u04f1"+
+		"\u04f0\3\2\2\2\u04f2\u00d7\3\2\2\2\u04f3\u04f5\5\u00e0q\2\u04f4\u04f3"+
+		"\3\2\2\2\u04f4\u04f5\3\2\2\2\u04f5\u04f6\3\2\2\2\u04f6\u04f7\7d\2\2\u04f7"+
+		"\u04f8\5\u00dep\2\u04f8\u00d9\3\2\2\2\u04f9\u04fa\5\u00e0q\2\u04fa\u04fb"+
+		"\7d\2\2\u04fb\u04fc\5\u00e2r\2\u04fc\u00db\3\2\2\2\u04fd\u0519\7O\2\2"+
+		"\u04fe\u0503\7(\2\2\u04ff\u0500\7O\2\2\u0500\u0502\7(\2\2\u0501\u04ff"+
+		"\3\2\2\2\u0502\u0505\3\2\2\2\u0503\u0501\3\2\2\2\u0503\u0504\3\2\2\2\u0504"+
+		"\u0506\3\2\2\2\u0505\u0503\3\2\2\2\u0506\u051a\5^\60\2\u0507\u0508\5\u00d0"+
+		"i\2\u0508\u050f\7(\2\2\u0509\u050a\7O\2\2\u050a\u050b\5\u00d0i\2\u050b"+
+		"\u050c\7(\2\2\u050c\u050e\3\2\2\2\u050d\u0509\3\2\2\2\u050e\u0511\3\2"+
+		"\2\2\u050f\u050d\3\2\2\2\u050f\u0510\3\2\2\2\u0510\u0516\3\2\2\2\u0511"+
+		"\u050f\3\2\2\2\u0512\u0513\7O\2\2\u0513\u0515\7(\2\2\u0514\u0512\3\2\2"+
+		"\2\u0515\u0518\3\2\2\2\u0516\u0514\3\2\2\2\u0516\u0517\3\2\2\2\u0517\u051a"+
+		"\3\2\2\2\u0518\u0516\3\2\2\2\u0519\u04fe\3\2\2\2\u0519\u0507\3\2\2\2\u051a"+
+		"\u00dd\3\2\2\2\u051b\u051d\5\u00e2r\2\u051c\u051e\5*\26\2\u051d\u051c"+
+		"\3\2\2\2\u051d\u051e\3\2\2\2\u051e\u00df\3\2\2\2\u051f\u0520\7\'\2\2\u0520"+
+		"\u0521\5(\25\2\u0521\u0522\7T\2\2\u0522\u00e1\3\2\2\2\u0523\u0525\7\32"+
+		"\2\2\u0524\u0526\5\u00caf\2\u0525\u0524\3\2\2\2\u0525\u0526\3\2\2\2\u0526"+
+		"\u0527\3\2\2\2\u0527\u0528\7Y\2\2\u0528\u00e3\3\2\2\2\u0091\u00e9\u00ef"+
+		"\u00f4\u00f9\u00ff\u0103\u010b\u0110\u011a\u0125\u012a\u0132\u0136\u013a"+
+		"\u0144\u014c\u0153\u015a\u0160\u0163\u0166\u016f\u0173\u0177\u017a\u0180"+
+		"\u0185\u018a\u018e\u0197\u019e\u01a7\u01b0\u01ba\u01bf\u01c6\u01cc\u01d8"+
+		"\u01e1\u01eb\u01f2\u01f7\u01fb\u0200\u0204\u020b\u0210\u0217\u021f\u0226"+
+		"\u0232\u0238\u023f\u0246\u0251\u0256\u025e\u0262\u0264\u0274\u0281\u0289"+
+		"\u028c\u0290\u0295\u0299\u02a0\u02a8\u02b1\u02b3\u02ba\u02bf\u02ca\u02ce"+
+		"\u02d5\u02dd\u02e2\u02e8\u02f1\u02f7\u02fe\u0307\u0310\u0317\u031a\u0321"+
+		"\u0329\u0333\u033b\u033e\u0341\u034e\u035c\u0360\u0364\u0368\u036a\u036e"+
+		"\u0374\u037f\u0386\u0392\u039a\u03a3\u03ba\u03be\u03cc\u03d5\u03da\u03e4"+
+		"\u03ea\u03fa\u0400\u0406\u040b\u0417\u041b\u041f\u0423\u0425\u0429\u043c"+
+		"\u0450\u0460\u046a\u0493\u04a7\u04b0\u04b9\u04c6\u04ce\u04d0\u04e2\u04eb"+
+		"\u04ed\u04f1\u04f4\u0503\u050f\u0516\u0519\u051d\u0525";
 	public static final ATN _ATN =
 		ATNSimulator.deserialize(_serializedATN.toCharArray());
 	static {
@@ -2,6 +2,8 @@ package org.jbpm.datamodeler.codegen.parser.tokens;
 
 public class AnnotationToken extends Token {
 
+    private static final long serialVersionUID = 1L;
+
     private String name;
 
     private TokenList<AnnotationValuePairToken> valuePairs = new TokenList<AnnotationValuePairToken>();
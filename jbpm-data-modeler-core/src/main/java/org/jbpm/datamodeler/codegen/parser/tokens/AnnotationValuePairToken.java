@@ -1,10 +1,48 @@
 package org.jbpm.datamodeler.codegen.parser.tokens;
 
 public class AnnotationValuePairToken extends Token {
-            
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Kind of the member value, it determines the class of the typed value.
+     */
+    public enum ValueType {
+        /** java.lang.String, with the quotes removed and the escape sequences resolved. */
+        STRING,
+        /** java.lang.Character */
+        CHARACTER,
+        /** java.lang.Integer */
+        INTEGER,
+        /** java.lang.Long */
+        LONG,
+        /** java.lang.Float */
+        FLOAT,
+        /** java.lang.Double */
+        DOUBLE,
+        /** java.lang.Boolean */
+        BOOLEAN,
+        /** the null literal, typed value is null. */
+        NULL,
+        /** class literal, the typed value is the class name as written, e.g. java.util.List */
+        CLASS,
+        /** enum constant or constant reference, the typed value is the name as written, e.g. ElementType.FIELD */
+        ENUM,
+        /** array initializer, the typed value is a java.util.List with the typed values of the elements. */
+        ARRAY,
+        /** nested annotation, the typed value is an AnnotationToken. */
+        ANNOTATION,
+        /** any other constant expression, the typed value is the source text. */
+        EXPRESSION
+    }
+
     private String name;
     
     private String value;
+
+    private ValueType valueType;
+
+    private Object typedValue;
     
     public static final String ANNOTATION_VALUE_PAIR_TOKEN = "ANNOTATION_VALUE_PAIR_TOKEN";
 
@@ -33,4 +71,24 @@ public class AnnotationValuePairToken extends Token {
     public void setValue(String value) {
         this.value = value;
     }
+
+    public ValueType getValueType() {
+        return valueType;
+    }
+
+    public void setValueType(ValueType valueType) {
+        this.valueType = valueType;
+    }
+
+    /**
+     * @return the value converted to java, see ValueType for the class of every kind of value. Null when the token
+     * was not created by the parser.
+     */
+    public Object getTypedValue() {
+        return typedValue;
+    }
+
+    public void setTypedValue(Object typedValue) {
+        this.typedValue = typedValue;
+    }
 }
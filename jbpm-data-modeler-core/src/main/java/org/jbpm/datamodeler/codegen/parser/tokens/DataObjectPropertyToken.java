@@ -2,8 +2,16 @@ package org.jbpm.datamodeler.codegen.parser.tokens;
 
 public class DataObjectPropertyToken extends Token {
 
+    private static final long serialVersionUID = 1L;
+
     private String type;
 
+    private String className;
+
+    private boolean multiple;
+
+    private String bag;
+
     private String name;
 
     private TokenList<ModifierToken> modifiers = new TokenList<ModifierToken>();
@@ -24,6 +32,40 @@ public class DataObjectPropertyToken extends Token {
         this.type = type;
     }
 
+    /**
+     * @return the fully qualified type of the property, or the element type for multiple properties. Simple names
+     * that couldn't be resolved are kept as they were declared.
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    public void setClassName(String className) {
+        this.className = className;
+    }
+
+    /**
+     * @return true if the property was declared with a collection type of a single type argument, e.g. List&lt;Invoice&gt;
+     */
+    public boolean isMultiple() {
+        return multiple;
+    }
+
+    public void setMultiple(boolean multiple) {
+        this.multiple = multiple;
+    }
+
+    /**
+     * @return the fully qualified collection type for multiple properties, e.g. "java.util.List".
+     */
+    public String getBag() {
+        return bag;
+    }
+
+    public void setBag(String bag) {
+        this.bag = bag;
+    }
+
     public String getName() {
         return name;
     }
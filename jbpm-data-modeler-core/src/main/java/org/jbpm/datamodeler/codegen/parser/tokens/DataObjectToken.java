@@ -3,6 +3,8 @@ package org.jbpm.datamodeler.codegen.parser.tokens;
 
 public class DataObjectToken extends Token {
 
+    private static final long serialVersionUID = 1L;
+
     private TokenList<ImportToken> imports = new TokenList<ImportToken>();
 
     private TokenList<ModifierToken> classModifiers = new TokenList<ModifierToken>();
@@ -11,6 +13,8 @@ public class DataObjectToken extends Token {
 
     private String className;
 
+    private String enclosingClassName;
+
     private String superClassName;
 
     private TokenList<ImplementsToken> implementedInterfaces = new TokenList<ImplementsToken>();
@@ -53,6 +57,22 @@ public class DataObjectToken extends Token {
         this.className = className;
     }
 
+    /**
+     * @return the name of the enclosing class for nested classes, e.g. "Outer" or "Outer.Inner", null for top
+     * level classes.
+     */
+    public String getEnclosingClassName() {
+        return enclosingClassName;
+    }
+
+    public void setEnclosingClassName(String enclosingClassName) {
+        this.enclosingClassName = enclosingClassName;
+    }
+
+    public boolean isNested() {
+        return enclosingClassName != null;
+    }
+
     public String getSuperClassName() {
         return superClassName;
     }
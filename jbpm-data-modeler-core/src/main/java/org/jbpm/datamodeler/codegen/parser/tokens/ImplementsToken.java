@@ -2,6 +2,8 @@ package org.jbpm.datamodeler.codegen.parser.tokens;
 
 public class ImplementsToken extends Token {
 
+    private static final long serialVersionUID = 1L;
+
     public static final String IMPLEMENTS_TOKEN = "IMPLEMENTS_TOKEN";
 
     private String implementedInterface;
@@ -3,6 +3,8 @@ package org.jbpm.datamodeler.codegen.parser.tokens;
 
 public class ImportToken extends Token {
 
+    private static final long serialVersionUID = 1L;
+
     public static final String IMPORT_TOKEN = "IMPORT_TOKEN";
 
     private String importSentence;
@@ -2,6 +2,8 @@ package org.jbpm.datamodeler.codegen.parser.tokens;
 
 public class ModifierToken extends Token {
 
+    private static final long serialVersionUID = 1L;
+
     public static final String MODIFIER_TOKEN = "MODIFIER_TOKEN";
 
     private String modifier;
@@ -1,6 +1,10 @@
 package org.jbpm.datamodeler.codegen.parser.tokens;
 
-public abstract class Token {
+import java.io.Serializable;
+
+public abstract class Token implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private String id;
 
@@ -4,6 +4,8 @@ import java.util.ArrayList;
 
 public class TokenList<E> extends ArrayList<E> {
 
+    private static final long serialVersionUID = 1L;
+
     public E getLast() {
         return size() > 0 ? get(size()-1) : null;        
     }
@@ -0,0 +1,49 @@
+package org.jbpm.datamodeler.commons;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Simple thread safe pool of reusable objects. The pool never blocks, when no idle object is available a new one
+ * is created, and at most maxIdle released objects are kept for reuse. Released objects are reset before they
+ * are returned to the pool.
+ */
+public abstract class BoundedObjectPool<T> {
+
+    private final BlockingQueue<T> idleObjects;
+
+    protected BoundedObjectPool(int maxIdle) {
+        idleObjects = new ArrayBlockingQueue<T>(maxIdle);
+    }
+
+    public T borrow() {
+        T object = idleObjects.poll();
+        return object != null ? object : create();
+    }
+
+    public void release(T object) {
+        if (object != null) {
+            reset(object);
+            //if the pool is full the object is simply discarded.
+            idleObjects.offer(object);
+        }
+    }
+
+    public int getIdleCount() {
+        return idleObjects.size();
+    }
+
+    public void clear() {
+        idleObjects.clear();
+    }
+
+    /**
+     * Creates a new pooled object.
+     */
+    protected abstract T create();
+
+    /**
+     * Restores a released object to it's initial state.
+     */
+    protected abstract void reset(T object);
+}
@@ -26,7 +26,7 @@ public class DataObjectBuilder {
     public DataObject buildDataObject(DataModel dataModel, DataObjectToken dataObjectToken) throws ModelDriverException {
         
         //TODO add validations
-        DataObject dataObject = dataModel.addDataObject(dataObjectToken.getClassName());
+        DataObject dataObject = dataModel.addDataObject(dataObjectToken.getPackageName(), dataObjectToken.getClassName());
         dataObject.setSuperClassName(dataObjectToken.getSuperClassName());
 
         List<DataObjectPropertyToken> properties = dataObjectToken.getProperties();
@@ -40,7 +40,11 @@ public class DataObjectBuilder {
     }
     
     private ObjectProperty buildProperty(DataObject dataObject, DataObjectPropertyToken propertyToken) throws ModelDriverException {
-        ObjectProperty property = dataObject.addProperty(propertyToken.getName(), propertyToken.getType());
+        //the parser resolves the fully qualified type, and the element type of the collections.
+        String className = propertyToken.getClassName() != null ? propertyToken.getClassName() : propertyToken.getType();
+        ObjectProperty property = propertyToken.isMultiple() ?
+                dataObject.addProperty(propertyToken.getName(), className, true, propertyToken.getBag()) :
+                dataObject.addProperty(propertyToken.getName(), className);
         addPropertyAnnotations(property, propertyToken.getAnnotations());
         return property;
     }
@@ -54,13 +58,13 @@ public class DataObjectBuilder {
             for(AnnotationToken annotationToken : annotationTokens) {
                 //1) check if the given annotation is recognized by current configuration.
                 //2) add the annotation to the data object property
-                annotationDefinition = modelDriver.getConfiguredAnnotation(annotationToken.getName());
+                annotationDefinition = modelDriver.getConfiguredAnnotation(normalizeAnnotationName(annotationToken.getName()));
                 if (annotationDefinition == null) {
                     logger.error("Annotation definition could'n be found for annotation: " + annotationToken.getName());
                     throw new ModelDriverException("Annotation definition could'n be found for annotation: " + annotationToken.getName());
                 }
 
-                annotationDriver = modelDriver.getAnnotationDriver(annotationToken.getName());
+                annotationDriver = modelDriver.getAnnotationDriver(normalizeAnnotationName(annotationToken.getName()));
                 if (annotationDriver == null) {
                     logger.error("Annotation driver could'n be found for annotation: " + annotationToken.getName());
                     throw new ModelDriverException("Annotation driver could'n be found for annotation: " + annotationToken.getName());
@@ -73,6 +77,13 @@ public class DataObjectBuilder {
     }
 
 
+    /**
+     * Annotation definitions are configured by its name, e.g. "@Equals", but the parsed tokens has no "@".
+     */
+    private String normalizeAnnotationName(String name) {
+        return name != null && !name.startsWith("@") ? "@" + name : name;
+    }
+
     public void addDataObjectAnnotations() {
         
     }
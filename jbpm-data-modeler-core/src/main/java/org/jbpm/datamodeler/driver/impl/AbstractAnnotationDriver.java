@@ -32,7 +32,7 @@ public abstract class AbstractAnnotationDriver implements AnnotationDriver {
         if (valuePairTokens != null) {
             for (AnnotationValuePairToken valuePairToken : valuePairTokens) {
                 if (annotationDefinition.hasMember(valuePairToken.getName())) {
-                    annotation.setValue(valuePairToken.getName(), convertValue(valuePairToken.getValue()));
+                    annotation.setValue(valuePairToken.getName(), convertValue(valuePairToken));
                 } else {
                     //TODO review this policy, another option could be to skip invalid tokens.
                     logger.debug("Annotation member: " + valuePairToken.getName() + " is not present for the annotation: " +  annotationDefinition.getName());
@@ -43,6 +43,14 @@ public abstract class AbstractAnnotationDriver implements AnnotationDriver {
         return annotation;
     }
     
+    /**
+     * Converts the value of an annotation member. The parser provides the value both as source text and as a typed
+     * value, see AnnotationValuePairToken.ValueType. By default the source text is converted.
+     */
+    protected Object convertValue(AnnotationValuePairToken valuePairToken) throws ModelDriverException {
+        return convertValue(valuePairToken.getValue());
+    }
+
     protected abstract Object convertValue(String tokenValue) throws ModelDriverException;
 
     public String normalizeAnnotationName(String name) {
@@ -1,13 +1,20 @@
 package org.jbpm.datamodeler.driver.impl;
 
 import org.jbpm.datamodeler.codegen.parser.DataModelParser;
+import org.jbpm.datamodeler.codegen.parser.DataModelerParserFactory;
+import org.jbpm.datamodeler.codegen.parser.ParseResultCache;
+import org.jbpm.datamodeler.codegen.parser.ParserError;
+import org.jbpm.datamodeler.codegen.parser.TypeIndex;
+import org.jbpm.datamodeler.codegen.parser.tokens.DataObjectToken;
 import org.jbpm.datamodeler.commons.file.FileScanner;
 import org.jbpm.datamodeler.commons.file.ScanResult;
 import org.jbpm.datamodeler.core.AnnotationDefinition;
 import org.jbpm.datamodeler.core.DataModel;
 import org.jbpm.datamodeler.core.impl.DataModelImpl;
 import org.jbpm.datamodeler.driver.AnnotationDriver;
+import org.jbpm.datamodeler.driver.DataObjectBuilder;
 import org.jbpm.datamodeler.driver.ModelDriver;
+import org.jbpm.datamodeler.driver.ModelDriverException;
 import org.jbpm.datamodeler.driver.impl.annotations.EqualsAnnotationDefinition;
 import org.kie.commons.io.IOService;
 import org.kie.commons.java.nio.IOException;
@@ -16,6 +23,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 
 public class PojoDriver implements ModelDriver {
@@ -26,6 +38,14 @@ public class PojoDriver implements ModelDriver {
     
     private final Map<String, AnnotationDriver> configuredAnnotationsDriver = new HashMap<String, AnnotationDriver>();
 
+    private ExecutorService executorService;
+
+    private ParseResultCache parseCache = ParseResultCache.getInstance();
+
+    private int errorBudget = DataModelParser.DEFAULT_ERROR_BUDGET;
+
+    private boolean failOnParseErrors = false;
+
     public PojoDriver() {
         AnnotationDefinition annotationDefinition;
 
@@ -35,34 +55,202 @@ public class PojoDriver implements ModelDriver {
 
     }
 
+    /**
+     * Sets the executor used to parse the source files. When not set, a pool with one thread per available processor
+     * is created for every model load.
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Sets the cache used to skip the parsing of the files that didn't change since the previous load. By default
+     * the JVM wide cache is used, null disables the caching.
+     */
+    public void setParseCache(ParseResultCache parseCache) {
+        this.parseCache = parseCache;
+    }
+
+    public ParseResultCache getParseCache() {
+        return parseCache;
+    }
+
+    /**
+     * Sets the number of syntax errors after which the parse of a file is aborted.
+     */
+    public void setErrorBudget(int errorBudget) {
+        this.errorBudget = errorBudget;
+    }
+
+    public int getErrorBudget() {
+        return errorBudget;
+    }
+
+    /**
+     * When true a file with syntax errors makes the whole load fail. By default the file is skipped, and the
+     * remaining files are loaded.
+     */
+    public void setFailOnParseErrors(boolean failOnParseErrors) {
+        this.failOnParseErrors = failOnParseErrors;
+    }
+
+    public boolean isFailOnParseErrors() {
+        return failOnParseErrors;
+    }
+
+    /**
+     * Loads the data model from the java files found in the given paths. Files are read and parsed in parallel, and
+     * then the data objects are built in the calling thread following the scan order.
+     */
     @Override
     public DataModel loadModel(IOService ioService, Collection<Path> rootPaths, boolean recursiveScan) throws IOException {
+        return loadModel(ioService, rootPaths, recursiveScan, null);
+    }
+
+    /**
+     * Same as loadModel(IOService, Collection, boolean), the syntax errors of the skipped files are added to the
+     * given map when not null.
+     */
+    public DataModel loadModel(final IOService ioService, Collection<Path> rootPaths, boolean recursiveScan, Map<Path, List<ParserError>> parseErrors) throws IOException {
 
         FileScanner fileScanner = new FileScanner();
-        DataModelParser modelParser;
-        DataModel dataModel;
-        String fileContent;
-
-        dataModel = createModel();
-
-        Collection<ScanResult> scanResults = fileScanner.scan(ioService, rootPaths, ".java", true);
-        if (scanResults != null) {
-            for (ScanResult scanResult : scanResults) {
-
-                fileContent = ioService.readAllString(scanResult.getFile());
-                try {
-                    modelParser = new DataModelParser(fileContent);
-                    modelParser.parse();
-                } catch (Exception e) {
-                    logger.error("An error was produced during file parsing: " + scanResult.getFile());
-                    throw new IOException(e);
+        DataModel dataModel = createModel();
+
+        Collection<ScanResult> scanResults = fileScanner.scan(ioService, rootPaths, ".java", recursiveScan);
+        if (scanResults == null || scanResults.isEmpty()) return dataModel;
+
+        //the project types must be known before parsing, so the types of the same package or imported on demand
+        //can be resolved. Every load gets its own index, types of other projects or removed files are not used.
+        final TypeIndex typeIndex = new TypeIndex(DataModelerParserFactory.getInstance().getTypeIndex());
+        typeIndex.addTypes(projectTypes(rootPaths, scanResults));
+
+        ExecutorService parseExecutor = executorService;
+        final boolean ownExecutor = parseExecutor == null;
+
+        List<Callable<ParseResult>> parseTasks = new ArrayList<Callable<ParseResult>>(scanResults.size());
+        List<Path> files = new ArrayList<Path>(scanResults.size());
+        for (ScanResult scanResult : scanResults) {
+            final Path file = scanResult.getFile();
+            files.add(file);
+            parseTasks.add(new Callable<ParseResult>() {
+                @Override
+                public ParseResult call() throws Exception {
+                    try {
+                        return parseFile(ioService, file, typeIndex);
+                    } finally {
+                        //the threads of a given executor outlive the load, so the parser instances are not kept.
+                        if (!ownExecutor) DataModelerParserFactory.getInstance().release();
+                    }
                 }
+            });
+        }
+
+        if (ownExecutor) {
+            parseExecutor = Executors.newFixedThreadPool(Math.min(parseTasks.size(), Runtime.getRuntime().availableProcessors()));
+        }
+
+        try {
+            List<Future<ParseResult>> results = parseExecutor.invokeAll(parseTasks);
+            //the data model is not thread safe, so data objects are always built by the calling thread.
+            DataObjectBuilder dataObjectBuilder = new DataObjectBuilder(this);
+            for (int i = 0; i < results.size(); i++) {
+                buildDataObject(dataObjectBuilder, dataModel, files.get(i), results.get(i), parseErrors);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } finally {
+            if (ownExecutor) parseExecutor.shutdownNow();
+        }
 
+        return dataModel;
+    }
+
+    /**
+     * @return the class names of the scanned files, e.g. org.acme.Invoice for org/acme/Invoice.java below a root path.
+     */
+    private Collection<String> projectTypes(Collection<Path> rootPaths, Collection<ScanResult> scanResults) {
+        List<String> rootUris = new ArrayList<String>(rootPaths.size());
+        for (Path rootPath : rootPaths) {
+            String rootUri = rootPath.toUri().toString();
+            rootUris.add(rootUri.endsWith("/") ? rootUri : rootUri + "/");
+        }
 
+        List<String> projectTypes = new ArrayList<String>(scanResults.size());
+        for (ScanResult scanResult : scanResults) {
+            String fileUri = scanResult.getFile().toUri().toString();
+            for (String rootUri : rootUris) {
+                if (fileUri.startsWith(rootUri)) {
+                    String relativePath = fileUri.substring(rootUri.length(), fileUri.length() - ".java".length());
+                    projectTypes.add(relativePath.replace('/', '.'));
+                    break;
+                }
             }
         }
+        return projectTypes;
+    }
+
+    private ParseResult parseFile(IOService ioService, Path file, TypeIndex typeIndex) throws Exception {
+        String content = ioService.readAllString(file);
+        String filePath = file.toUri().toString();
+        String contentHash = null;
+
+        ParseResultCache cache = parseCache;
+        if (cache != null) {
+            contentHash = ParseResultCache.contentHash(content);
+            List<DataObjectToken> dataObjectTokens = cache.get(filePath, contentHash, typeIndex);
+            if (dataObjectTokens != null) return new ParseResult(dataObjectTokens, null);
+        }
+
+        DataModelParser parser = new DataModelParser(content);
+        parser.setErrorBudget(errorBudget);
+        parser.setSourceName(filePath);
+        parser.setTypeIndex(typeIndex);
+        List<DataObjectToken> dataObjectTokens = parser.parseAll();
+        if (parser.hasErros()) {
+            return new ParseResult(null, parser.getErrors());
+        }
+        if (cache != null) cache.put(filePath, contentHash, typeIndex, dataObjectTokens);
+        return new ParseResult(dataObjectTokens, null);
+    }
 
-        return null;  //To change body of implemented methods use File | Settings | File Templates.
+    private void buildDataObject(DataObjectBuilder dataObjectBuilder, DataModel dataModel, Path file, Future<ParseResult> result, Map<Path, List<ParserError>> parseErrors) throws IOException, InterruptedException {
+        try {
+            ParseResult parseResult = result.get();
+            if (parseResult.errors != null) {
+                if (failOnParseErrors) {
+                    throw new IOException("Syntax errors were found in file: " + file + ", " + parseResult.errors);
+                }
+                logger.warn("File: " + file + " was skipped, syntax errors were found: " + parseResult.errors);
+                if (parseErrors != null) parseErrors.put(file, parseResult.errors);
+                return;
+            }
+            if (parseResult.dataObjectTokens == null || parseResult.dataObjectTokens.isEmpty()) {
+                logger.debug("No data object was found in file: " + file);
+                return;
+            }
+            for (DataObjectToken dataObjectToken : parseResult.dataObjectTokens) {
+                if (dataObjectToken.isNested()) {
+                    //the data model has no nested data objects, only the top level classes are loaded.
+                    if (logger.isDebugEnabled()) logger.debug("Nested class: " + dataObjectToken.getEnclosingClassName() + "." + dataObjectToken.getClassName() + " was skipped in file: " + file);
+                    continue;
+                }
+                dataObjectBuilder.buildDataObject(dataModel, dataObjectToken);
+            }
+        } catch (ExecutionException e) {
+            logger.error("An error was produced during file parsing: " + file, e.getCause());
+            if (failOnParseErrors) throw new IOException(e.getCause());
+            if (parseErrors != null) {
+                parseErrors.put(file, Collections.singletonList(new ParserError(0, 0, String.valueOf(e.getCause()))));
+            }
+        } catch (ModelDriverException e) {
+            logger.error("An error was produced building the data object for file: " + file, e);
+            throw new IOException(e);
+        }
     }
 
     @Override
@@ -91,4 +279,16 @@ public class PojoDriver implements ModelDriver {
     public DataModel createModel() {
         return new DataModelImpl();
     }
+
+    private static class ParseResult {
+
+        private final List<DataObjectToken> dataObjectTokens;
+
+        private final List<ParserError> errors;
+
+        private ParseResult(List<DataObjectToken> dataObjectTokens, List<ParserError> errors) {
+            this.dataObjectTokens = dataObjectTokens;
+            this.errors = errors;
+        }
+    }
 }
@@ -16,7 +16,9 @@
 
 package org.jbpm.datamodeler.codegen;
 
+import org.apache.velocity.Template;
 import org.jbpm.datamodeler.annotations.TestTypesAnnotationDefinition;
+import org.jbpm.datamodeler.codegen.metrics.GenerationStatistics;
 import org.jbpm.datamodeler.core.Annotation;
 import org.jbpm.datamodeler.core.DataModel;
 import org.jbpm.datamodeler.core.DataObject;
@@ -26,9 +28,32 @@ import org.jbpm.datamodeler.core.impl.ModelFactoryImpl;
 import org.jbpm.datamodeler.driver.impl.annotations.DescriptionAnnotationDefinition;
 import org.jbpm.datamodeler.driver.impl.annotations.EqualsAnnotationDefinition;
 import org.jbpm.datamodeler.driver.impl.annotations.LabelAnnotationDefinition;
+import org.kie.commons.io.IOService;
+import org.kie.commons.io.impl.IOServiceDotFileImpl;
+import org.kie.commons.java.nio.file.Path;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class TestSimplePOJOGeneration {
     private DataModel dataModel;
@@ -122,4 +147,430 @@ public class TestSimplePOJOGeneration {
 
         GenerationEngine.getInstance().generate(generationContext);
     }
+
+    @org.junit.Test
+    public void testParallelGeneration() throws Exception {
+        final Map<String, String> sequentialAssets = new HashMap<String, String>();
+        GenerationContext generationContext = new GenerationContext(getInvoiceModel());
+        generationContext.setGenerationListener(new GenerationListener() {
+            @Override
+            public void assetGenerated(String fileName, String content) {
+                sequentialAssets.put(fileName, content);
+            }
+        });
+        GenerationEngine.getInstance().generate(generationContext);
+
+        final List<String> parallelFiles = new ArrayList<String>();
+        final Map<String, String> parallelAssets = new HashMap<String, String>();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            generationContext = new GenerationContext(getInvoiceModel());
+            generationContext.setExecutorService(executorService);
+            generationContext.setGenerationListener(new GenerationListener() {
+                @Override
+                public void assetGenerated(String fileName, String content) {
+                    parallelFiles.add(fileName);
+                    parallelAssets.put(fileName, content);
+                }
+            });
+            GenerationEngine.getInstance().generate(generationContext);
+        } finally {
+            executorService.shutdown();
+        }
+
+        //assets are notified following the class name order
+        assertEquals(2, parallelFiles.size());
+        assertEquals("/org/jbpm/datamodeler/autogenerated/Invoice.java", parallelFiles.get(0));
+        assertEquals("/org/jbpm/datamodeler/autogenerated/InvoiceLine.java", parallelFiles.get(1));
+        assertEquals(sequentialAssets, parallelAssets);
+
+        //without asset template the executor is ignored and the initial template is merged as usual.
+        final Map<String, String> fallbackAssets = new HashMap<String, String>();
+        executorService = Executors.newFixedThreadPool(2);
+        try {
+            generationContext = new GenerationContext(getInvoiceModel(), false);
+            generationContext.setTemplatesPath("org/jbpm/datamodeler/codegen");
+            generationContext.setInitialTemplate("initial");
+            generationContext.setExecutorService(executorService);
+            generationContext.setGenerationListener(new GenerationListener() {
+                @Override
+                public void assetGenerated(String fileName, String content) {
+                    fallbackAssets.put(fileName, content);
+                }
+            });
+            assertFalse(generationContext.isParallelGeneration());
+            GenerationEngine.getInstance().generate(generationContext);
+        } finally {
+            executorService.shutdown();
+        }
+        assertEquals(sequentialAssets, fallbackAssets);
+    }
+
+    @org.junit.Test
+    public void testIncrementalGeneration() throws Exception {
+        final List<String> generatedFiles = new ArrayList<String>();
+        GenerationListener listener = new GenerationListener() {
+            @Override
+            public void assetGenerated(String fileName, String content) {
+                generatedFiles.add(fileName);
+            }
+        };
+
+        GenerationContext generationContext = new GenerationContext(getInvoiceModel());
+        generationContext.setIncrementalGeneration(true);
+        generationContext.setGenerationListener(listener);
+        GenerationEngine.getInstance().generate(generationContext);
+        assertEquals(2, generatedFiles.size());
+
+        //nothing changed, nothing is generated.
+        Map<String, String> fingerprints = generationContext.getFingerprints();
+        generatedFiles.clear();
+        generationContext = new GenerationContext(getInvoiceModel());
+        generationContext.setIncrementalGeneration(true);
+        generationContext.setPreviousFingerprints(fingerprints);
+        generationContext.setGenerationListener(listener);
+        GenerationEngine.getInstance().generate(generationContext);
+        assertEquals(0, generatedFiles.size());
+
+        //only the modified object is generated.
+        getInvoiceModel().getDataObject("org.jbpm.datamodeler.autogenerated.InvoiceLine").addProperty("discount", BigDecimal.class.getName());
+        generationContext = new GenerationContext(getInvoiceModel());
+        generationContext.setIncrementalGeneration(true);
+        generationContext.setPreviousFingerprints(fingerprints);
+        generationContext.setGenerationListener(listener);
+        GenerationEngine.getInstance().generate(generationContext);
+        assertEquals(1, generatedFiles.size());
+        assertEquals("/org/jbpm/datamodeler/autogenerated/InvoiceLine.java", generatedFiles.get(0));
+    }
+
+    @org.junit.Test
+    public void testPrecompiledTemplates() throws Exception {
+        DataModel dataModel = getInvoiceModel();
+        DataObject noPackageObject = dataModel.addDataObject(null, "NoPackageObject");
+        noPackageObject.setSuperClassName("org.jbpm.datamodeler.autogenerated.Invoice");
+        DataObject emptyObject = dataModel.addDataObject("org.jbpm.datamodeler.autogenerated", "EmptyObject");
+        //annotations without definition are written as velocity does.
+        emptyObject.addAnnotation(new AnnotationImpl(null));
+        emptyObject.addProperty("value", String.class.getName()).addAnnotation(new AnnotationImpl(null));
+
+        final Map<String, String> velocityAssets = new HashMap<String, String>();
+        GenerationStatistics velocityStatistics = new GenerationStatistics();
+        GenerationContext generationContext = new GenerationContext(dataModel);
+        generationContext.setGenerationMeter(velocityStatistics);
+        generationContext.setGenerationListener(new GenerationListener() {
+            @Override
+            public void assetGenerated(String fileName, String content) {
+                velocityAssets.put(fileName, content);
+            }
+        });
+        GenerationEngine.getInstance().generate(generationContext);
+
+        final Map<String, String> precompiledAssets = new HashMap<String, String>();
+        GenerationStatistics precompiledStatistics = new GenerationStatistics();
+        generationContext = new GenerationContext(dataModel);
+        generationContext.setPrecompiledTemplates(true);
+        generationContext.setGenerationMeter(precompiledStatistics);
+        generationContext.setGenerationListener(new GenerationListener() {
+            @Override
+            public void assetGenerated(String fileName, String content) {
+                precompiledAssets.put(fileName, content);
+            }
+        });
+        GenerationEngine.getInstance().generate(generationContext);
+
+        assertEquals(4, precompiledAssets.size());
+        for (Map.Entry<String, String> asset : velocityAssets.entrySet()) {
+            assertEquals(asset.getValue(), precompiledAssets.get(asset.getKey()));
+        }
+        assertEquals(velocityStatistics.getSubTemplateInvocations(), precompiledStatistics.getSubTemplateInvocations());
+    }
+
+    @org.junit.Test
+    public void testStreamingGeneration() throws Exception {
+        final Map<String, String> assets = new HashMap<String, String>();
+        GenerationContext generationContext = new GenerationContext(getInvoiceModel());
+        generationContext.setGenerationListener(new GenerationListener() {
+            @Override
+            public void assetGenerated(String fileName, String content) {
+                assets.put(fileName, content);
+            }
+        });
+        GenerationEngine.getInstance().generate(generationContext);
+
+        final Map<String, StringWriter> streamedAssets = new HashMap<String, StringWriter>();
+        generationContext = new GenerationContext(getInvoiceModel());
+        generationContext.setGenerationListener(new StreamingGenerationListener() {
+            @Override
+            public Writer assetStarted(String fileName) throws IOException {
+                StringWriter writer = new StringWriter();
+                streamedAssets.put(fileName, writer);
+                return writer;
+            }
+
+            @Override
+            public void assetFailed(String fileName, Exception cause) {
+                streamedAssets.remove(fileName);
+            }
+
+            @Override
+            public void assetGenerated(String fileName, String content) {
+                throw new IllegalStateException("Streaming listeners don't receive the content as a String.");
+            }
+        });
+        GenerationEngine.getInstance().generate(generationContext);
+
+        assertEquals(assets.size(), streamedAssets.size());
+        for (Map.Entry<String, String> asset : assets.entrySet()) {
+            assertEquals(asset.getValue(), streamedAssets.get(asset.getKey()).toString());
+        }
+    }
+
+    @org.junit.Test
+    public void testFailedAsset() throws Exception {
+        DataModel dataModel = ModelFactoryImpl.getInstance().newModel();
+        DataObject dataObject = dataModel.addDataObject("org.test", "Failed");
+        Annotation label = new AnnotationImpl(LabelAnnotationDefinition.getInstance());
+        label.setValue("value", new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException("Value can't be written.");
+            }
+        });
+        dataObject.addAnnotation(label);
+
+        final StringWriter streamed = new StringWriter();
+        final List<String> failedAssets = new ArrayList<String>();
+        GenerationContext generationContext = new GenerationContext(dataModel);
+        generationContext.setPrecompiledTemplates(true);
+        generationContext.setCurrentDataObject(dataObject);
+        generationContext.setGenerationListener(new StreamingGenerationListener() {
+            @Override
+            public Writer assetStarted(String fileName) throws IOException {
+                return streamed;
+            }
+
+            @Override
+            public void assetFailed(String fileName, Exception cause) {
+                failedAssets.add(fileName);
+            }
+
+            @Override
+            public void assetGenerated(String fileName, String content) {
+            }
+        });
+
+        try {
+            GenerationEngine.getInstance().generateAsset(generationContext, "java_class", "/org/test/Failed.java");
+            fail("The asset generation should fail.");
+        } catch (IllegalStateException e) {
+            //expected
+        }
+        //the content buffered when the merge failed is discarded, and the tools borrowed for the asset are released.
+        assertEquals("", streamed.toString());
+        assertEquals(Arrays.asList("/org/test/Failed.java"), failedAssets);
+        assertNull(generationContext.getGenerationTools());
+
+        //the output file is removed when the listener can't start the asset.
+        File outputPath = new File(System.getProperty("java.io.tmpdir"), "failed-asset-" + System.nanoTime());
+        generationContext = new GenerationContext(getInvoiceModel());
+        generationContext.setOutputPath(outputPath.getAbsolutePath());
+        generationContext.setGenerationListener(new StreamingGenerationListener() {
+            @Override
+            public Writer assetStarted(String fileName) throws IOException {
+                throw new IOException("Asset can't be started.");
+            }
+
+            @Override
+            public void assetFailed(String fileName, Exception cause) {
+            }
+
+            @Override
+            public void assetGenerated(String fileName, String content) {
+            }
+        });
+        try {
+            GenerationEngine.getInstance().generate(generationContext);
+            fail("The generation should fail.");
+        } catch (Exception e) {
+            //expected, velocity wraps the listener exception
+        }
+        assertFalse(new File(outputPath, "org/jbpm/datamodeler/autogenerated/Invoice.java").exists());
+    }
+
+    @org.junit.Test
+    public void testFailedAssetParallel() throws Exception {
+        DataModel dataModel = getInvoiceModel();
+        DataObject dataObject = dataModel.addDataObject("org.test", "Failed");
+        Annotation label = new AnnotationImpl(LabelAnnotationDefinition.getInstance());
+        label.setValue("value", new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException("Value can't be written.");
+            }
+        });
+        dataObject.addAnnotation(label);
+
+        final List<String> failedAssets = new ArrayList<String>();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            GenerationContext generationContext = new GenerationContext(dataModel);
+            generationContext.setPrecompiledTemplates(true);
+            generationContext.setExecutorService(executorService);
+            generationContext.setGenerationListener(new StreamingGenerationListener() {
+                @Override
+                public Writer assetStarted(String fileName) throws IOException {
+                    return new StringWriter();
+                }
+
+                @Override
+                public void assetFailed(String fileName, Exception cause) {
+                    failedAssets.add(fileName);
+                }
+
+                @Override
+                public void assetGenerated(String fileName, String content) {
+                }
+            });
+            assertTrue(generationContext.isParallelGeneration());
+
+            try {
+                GenerationEngine.getInstance().generate(generationContext);
+                fail("The generation should fail.");
+            } catch (IllegalStateException e) {
+                //expected
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        //the failed unit is reported to the listener as the sequential generation does.
+        assertEquals(Arrays.asList("/org/test/Failed.java"), failedAssets);
+    }
+
+    @org.junit.Test
+    public void testGenerationStatistics() throws Exception {
+        DataModel dataModel = getInvoiceModel();
+
+        final Map<String, String> assets = new HashMap<String, String>();
+        GenerationStatistics statistics = new GenerationStatistics();
+        GenerationContext generationContext = new GenerationContext(dataModel);
+        generationContext.setGenerationMeter(statistics);
+        generationContext.setGenerationListener(new GenerationListener() {
+            @Override
+            public void assetGenerated(String fileName, String content) {
+                assets.put(fileName, content);
+            }
+        });
+        GenerationEngine.getInstance().generate(generationContext);
+
+        long chars = 0;
+        for (String content : assets.values()) {
+            chars += content.length();
+        }
+        assertEquals(1, statistics.getGeneratedModels());
+        assertEquals(assets.size(), statistics.getGeneratedAssets());
+        assertEquals(chars, statistics.getGeneratedChars());
+        assertEquals(Long.valueOf(assets.size()), statistics.getTemplateMerges().get("java_class"));
+        assertTrue(statistics.getSubTemplateInvocations().get("generateAttribute") > 0);
+
+        //the writes done after the generation are reported apart from the listener time.
+        statistics.assetsWritten(assets.size(), 1000000);
+        assertEquals(assets.size(), statistics.getWrittenAssets());
+        assertEquals(1, statistics.getWriteMillis());
+
+        statistics.reset();
+        assertEquals(0, statistics.getGeneratedAssets());
+        assertEquals(0, statistics.getWrittenAssets());
+
+        //a new registration replaces the previous one, e.g. after a redeployment.
+        String objectName = "org.jbpm.datamodeler:type=TestGenerationStatistics";
+        ObjectName name = new ObjectName(objectName);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        GenerationStatistics previous = new GenerationStatistics();
+        previous.registerMBean(objectName);
+        statistics.modelGenerated(1);
+        statistics.registerMBean(objectName);
+        assertEquals(1L, server.getAttribute(name, "GeneratedModels"));
+
+        statistics.unregisterMBean();
+        assertFalse(server.isRegistered(name));
+    }
+
+    @org.junit.Test
+    public void testRepositoryTemplates() throws Exception {
+        IOService ioService = new IOServiceDotFileImpl();
+        File root = new File(System.getProperty("java.io.tmpdir"), "repository-templates-" + System.nanoTime());
+        new File(root, "custom").mkdirs();
+        Path rootPath = ioService.get(root.toURI());
+        ioService.write(rootPath.resolve("custom/initial.vm"), "#foreach( $object in $dataModel.dataObjects )" +
+                "$context.setCurrentDataObject($object)$engine.generateAsset($context, \"java_class\", $object.name)#end");
+        ioService.write(rootPath.resolve("custom/java_class.vm"), "class $context.currentDataObject.name");
+
+        final Map<String, String> assets = new HashMap<String, String>();
+        GenerationContext generationContext = new GenerationContext(getInvoiceModel(), false);
+        generationContext.setTemplatesPath("custom");
+        generationContext.setInitialTemplate("initial");
+        generationContext.setGenerationListener(new GenerationListener() {
+            @Override
+            public void assetGenerated(String fileName, String content) {
+                assets.put(fileName, content);
+            }
+        });
+        GenerationEngine engine = GenerationEngine.getInstance();
+        engine.setTemplatesRepository(ioService, rootPath);
+        try {
+            engine.generate(generationContext);
+        } finally {
+            engine.setTemplatesRepository(null, null);
+        }
+        assertEquals("class Invoice", assets.get("Invoice"));
+
+        //modifications are detected by the last modified time of the template, the content is not read.
+        IOServiceResourceLoader loader = new IOServiceResourceLoader();
+        loader.setRepository(ioService, rootPath);
+        File templateFile = new File(root, "custom/java_class.vm");
+        Template template = new Template();
+        template.setName("/custom/java_class.vm");
+        template.setLastModified(loader.getLastModified(template));
+        assertEquals(templateFile.lastModified(), template.getLastModified());
+
+        long lastModified = templateFile.lastModified();
+        ioService.write(rootPath.resolve("custom/java_class.vm"), "interface $context.currentDataObject.name");
+        templateFile.setLastModified(lastModified);
+        assertFalse(loader.isSourceModified(template));
+
+        templateFile.setLastModified(lastModified + 10000);
+        assertTrue(loader.isSourceModified(template));
+    }
+
+    @org.junit.Test
+    public void testAnnotationTypeCache() throws Exception {
+        GenerationTools tools = new GenerationTools();
+        Annotation label = new AnnotationImpl(LabelAnnotationDefinition.getInstance());
+        label.setValue("value", "first label");
+        Annotation sameLabel = new AnnotationImpl(LabelAnnotationDefinition.getInstance());
+        sameLabel.setValue("value", "first label");
+
+        assertEquals("(value = \"first label\")", tools.resolveAnnotationType(label));
+        assertEquals("(value = \"first label\")", tools.resolveAnnotationType(sameLabel));
+
+        //a modified annotation must be rendered again.
+        label.setValue("value", "second label");
+        assertEquals("(value = \"second label\")", tools.resolveAnnotationType(label));
+        assertEquals("(value = \"first label\")", tools.resolveAnnotationType(sameLabel));
+    }
+
+    @org.junit.Test
+    public void testJavaNames() throws Exception {
+        GenerationTools tools = new GenerationTools();
+        assertEquals("nombrecliente", tools.toJavaVar("nombreCliente"));
+        assertEquals("NombreCliente", tools.toJavaClass("nombre_cliente"));
+        assertEquals("getNombreCliente", tools.toJavaGetter("nombre_cliente"));
+        //the cached names are the same.
+        assertEquals("setNombreCliente", tools.toJavaSetter("nombre_cliente"));
+        assertEquals("setNombreCliente", tools.toJavaSetter("nombre_cliente"));
+
+        //names are lower cased with String.toLowerCase, e.g. a final sigma keeps its final form.
+        assertEquals("\u039f\u0394\u039f\u03a3".toLowerCase(), tools.toJavaVar("\u039f\u0394\u039f\u03a3"));
+        assertEquals("\u03bf\u03b4\u03bf\u03c2", tools.toJavaVar("\u039f\u0394\u039f\u03a3"));
+    }
 }
@@ -0,0 +1,105 @@
+/**
+ * Copyright 2012 JBoss Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.datamodeler.codegen.batch;
+
+import org.jbpm.datamodeler.driver.impl.PojoDriver;
+import org.kie.commons.io.IOService;
+import org.kie.commons.io.impl.IOServiceDotFileImpl;
+import org.kie.commons.java.nio.file.Path;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestBatchGenerator {
+
+    private static final String SOURCE = "package org.test;\n" +
+            "public class Invoice {\n" +
+            "    public static final int MAX = 10;\n" +
+            "    private String byName;\n" +
+            "    public String getByName() { return byName; }\n" +
+            "    public boolean isValid() { return byName != null; }\n" +
+            "}\n";
+
+    private IOService ioService = new IOServiceDotFileImpl();
+
+    private Path createProject() {
+        File root = new File(System.getProperty("java.io.tmpdir"), "batch-project-" + System.nanoTime());
+        new File(root, "src/main/java/org/test").mkdirs();
+        Path projectRoot = ioService.get(root.toURI());
+        ioService.write(sourcePath(projectRoot), SOURCE);
+        return projectRoot;
+    }
+
+    private Path sourcePath(Path projectRoot) {
+        return projectRoot.resolve("src").resolve("main").resolve("java").resolve("org").resolve("test").resolve("Invoice.java");
+    }
+
+    private Path outputPath(Path projectRoot) {
+        return projectRoot.resolve("target").resolve("generated-sources").resolve("datamodeler").resolve("org").resolve("test").resolve("Invoice.java");
+    }
+
+    @org.junit.Test
+    public void testGenerate() throws Exception {
+        Path projectRoot = createProject();
+        BatchGenerator batchGenerator = new BatchGenerator(new PojoDriver(), ioService);
+
+        BatchGenerationReport report = batchGenerator.generate(Collections.singletonList(projectRoot));
+        assertTrue(report.isSuccess());
+        ProjectGenerationResult result = report.getResults().get(0);
+        assertEquals(1, result.getGeneratedAssets());
+        assertEquals(1, result.getWrittenAssets());
+        //the generated class loses the constant and the methods, it's reported but the source is kept.
+        assertEquals(Arrays.asList("/org/test/Invoice.java"), result.getChangedAssets());
+        assertEquals(SOURCE, ioService.readAllString(sourcePath(projectRoot)));
+        assertTrue(ioService.exists(outputPath(projectRoot)));
+
+        //unchanged output files are not written again.
+        result = batchGenerator.generateProject(projectRoot);
+        assertEquals(0, result.getWrittenAssets());
+    }
+
+    @org.junit.Test
+    public void testDryRun() throws Exception {
+        Path projectRoot = createProject();
+        BatchGenerator batchGenerator = new BatchGenerator(new PojoDriver(), ioService);
+        batchGenerator.setDryRun(true);
+
+        ProjectGenerationResult result = batchGenerator.generateProject(projectRoot);
+        assertTrue(result.isSuccess());
+        assertEquals(0, result.getWrittenAssets());
+        assertEquals(Arrays.asList("/org/test/Invoice.java"), result.getChangedAssets());
+        assertFalse(ioService.exists(outputPath(projectRoot)));
+    }
+
+    @org.junit.Test
+    public void testSourcesAreNeverOverwritten() throws Exception {
+        Path projectRoot = createProject();
+        BatchGenerator batchGenerator = new BatchGenerator(new PojoDriver(), ioService);
+
+        for (String outputPath : new String[] {"src/main/java", "src/main/java/generated", "src"}) {
+            batchGenerator.setOutputPath(outputPath);
+            ProjectGenerationResult result = batchGenerator.generateProject(projectRoot);
+            assertFalse(result.isSuccess());
+            assertEquals(SOURCE, ioService.readAllString(sourcePath(projectRoot)));
+        }
+    }
+}
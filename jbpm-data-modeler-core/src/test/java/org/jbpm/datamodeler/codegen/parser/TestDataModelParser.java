@@ -1,17 +1,59 @@
 package org.jbpm.datamodeler.codegen.parser;
 
 import org.antlr.v4.runtime.ANTLRInputStream;
+import org.jbpm.datamodeler.codegen.parser.grammars.modelerv1.DataModelerParser;
+import org.jbpm.datamodeler.codegen.parser.tokens.AnnotationToken;
+import org.jbpm.datamodeler.codegen.parser.tokens.AnnotationValuePairToken;
+import org.jbpm.datamodeler.codegen.parser.tokens.AnnotationValuePairToken.ValueType;
 import org.jbpm.datamodeler.codegen.parser.tokens.DataObjectPropertyToken;
 import org.jbpm.datamodeler.codegen.parser.tokens.DataObjectToken;
+import org.jbpm.datamodeler.codegen.parser.tokens.ImplementsToken;
+import org.jbpm.datamodeler.codegen.parser.tokens.ModifierToken;
 import org.junit.Before;
 
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 public class TestDataModelParser {
 
+    //several top level and nested classes, with method bodies that contain braces in literals and anonymous classes.
+    private static final String DATA_OBJECTS = "package a;\n" +
+            "import java.util.List;\n" +
+            "@Entity(name = \"orders\", tags = {\"a\", \"b\"})\n" +
+            "public class Order extends Base implements java.io.Serializable, Comparable<Order> {\n" +
+            "    private static final char OPEN = '{';\n" +
+            "    @Id @Column(length = 10) private Long id;\n" +
+            "    private List<Line> lines;\n" +
+            "    private String text = \"}{ \\\" }\", other = \"{\";\n" +
+            "    public Order() { if (id == null) { id = 0L; } }\n" +
+            "    public String describe() {\n" +
+            "        Runnable r = new Runnable() { private int hidden; public void run() { String s = \"}\"; char c = '}'; } };\n" +
+            "        return \"{\" + text + '}';\n" +
+            "    }\n" +
+            "    public int compareTo(Order o) { return '\\'' == '{' ? 0 : 1; }\n" +
+            "    public static class Line {\n" +
+            "        private int quantity;\n" +
+            "        private Order order;\n" +
+            "    }\n" +
+            "    private Runnable task = new Runnable() { private int ignored; public void run() { } };\n" +
+            "    private java.math.BigDecimal total;\n" +
+            "}\n" +
+            "class Customer {\n" +
+            "    private String name;\n" +
+            "    public void visit() { char c = '\"'; String s = \"'{\"; if (s != null) { Object o = new Object() { private String visits = \"}\"; }; } }\n" +
+            "    private java.util.Set<Order> orders;\n" +
+            "}\n" +
+            "final class Empty { }\n";
+
     DataModelParser parser;
 
     @Before
@@ -53,4 +95,293 @@ public class TestDataModelParser {
             }
         }
     }
+
+    @org.junit.Test
+    public void testAnnotationValues() throws Exception {
+        DataObjectToken token = new DataModelParser("package a;\n" +
+                "@Entity(name = \"a=b\", sizes = {1, -2, 3L}, type = java.util.List.class, kind = ElementType.FIELD, nested = @Other('c'))\n" +
+                "public class A { }").parse();
+
+        AnnotationToken annotation = token.getAnnotations().get(0);
+        assertEquals("Entity", annotation.getName());
+        assertEquals(5, annotation.getValuePairs().size());
+
+        assertValue(annotation.getValuePairs().get(0), "name", "\"a=b\"", ValueType.STRING, "a=b");
+        assertValue(annotation.getValuePairs().get(1), "sizes", "{1, -2, 3L}", ValueType.ARRAY, Arrays.<Object>asList(1, -2, 3L));
+        assertValue(annotation.getValuePairs().get(2), "type", "java.util.List.class", ValueType.CLASS, "java.util.List");
+        assertValue(annotation.getValuePairs().get(3), "kind", "ElementType.FIELD", ValueType.ENUM, "ElementType.FIELD");
+
+        AnnotationValuePairToken nested = annotation.getValuePairs().get(4);
+        assertEquals(ValueType.ANNOTATION, nested.getValueType());
+        AnnotationToken nestedAnnotation = (AnnotationToken) nested.getTypedValue();
+        assertEquals("Other", nestedAnnotation.getName());
+        assertValue(nestedAnnotation.getValuePairs().get(0), "value", "'c'", ValueType.CHARACTER, 'c');
+    }
+
+    @org.junit.Test
+    public void testMultipleClasses() throws Exception {
+        List<DataObjectToken> tokens = new DataModelParser("package a;\n" +
+                "import java.util.List;\n" +
+                "public class A {\n" +
+                "    private int a1;\n" +
+                "    @Label(\"b\") public static class B extends A {\n" +
+                "        private String b1;\n" +
+                "        static class C { private long c1; }\n" +
+                "        private String b2;\n" +
+                "    }\n" +
+                "    private int a2;\n" +
+                "}\n" +
+                "class D implements java.io.Serializable { private List<String> d1; }").parseAll();
+
+        assertEquals(4, tokens.size());
+        assertClass(tokens.get(0), "A", null, "a1", "a2");
+        assertClass(tokens.get(1), "B", "A", "b1", "b2");
+        assertClass(tokens.get(2), "C", "A.B", "c1");
+        assertClass(tokens.get(3), "D", null, "d1");
+
+        assertEquals("A", tokens.get(1).getSuperClassName());
+        assertEquals(2, tokens.get(1).getClassModifiers().size());
+        assertEquals("Label", tokens.get(1).getAnnotations().get(0).getName());
+        assertEquals("a", tokens.get(3).getPackageName());
+        assertEquals(1, tokens.get(3).getImports().size());
+        assertEquals("java.io.Serializable", tokens.get(3).getImplementedInterfaces().get(0).getImplementedInterface());
+    }
+
+    @org.junit.Test
+    public void testTypeResolution() throws Exception {
+        DataObjectToken token = new DataModelParser("package a;\n" +
+                "import java.util.*;\n" +
+                "import b.Invoice;\n" +
+                "public class A {\n" +
+                "    private List<Invoice> invoices;\n" +
+                "    private Set<Item> items;\n" +
+                "    private Map<String, List<? extends Invoice>> map;\n" +
+                "    private Invoice[] array;\n" +
+                "    private int values[];\n" +
+                "    private Date date;\n" +
+                "    private Unknown unknown;\n" +
+                "    public static class Item { }\n" +
+                "}").parse();
+
+        assertType(token.getProperties().get(0), "b.Invoice", true, "java.util.List");
+        assertType(token.getProperties().get(1), "a.A.Item", true, "java.util.Set");
+        assertType(token.getProperties().get(2), "java.util.Map<java.lang.String,java.util.List<? extends b.Invoice>>", false, null);
+        assertType(token.getProperties().get(3), "b.Invoice[]", false, null);
+        assertType(token.getProperties().get(4), "int[]", false, null);
+        assertType(token.getProperties().get(5), "java.util.Date", false, null);
+        //unknown types imported on demand can't be resolved.
+        assertType(token.getProperties().get(6), "Unknown", false, null);
+    }
+
+    @org.junit.Test
+    public void testTypeParametersResolution() throws Exception {
+        List<DataObjectToken> tokens = new DataModelParser("package a;\n" +
+                "public class Box<T, K extends Comparable<K>> {\n" +
+                "    private T value;\n" +
+                "    private java.util.List<K> keys;\n" +
+                "    private Throwable error;\n" +
+                "    private Later.Inner inner;\n" +
+                "    public class Entry<E> {\n" +
+                "        private E element;\n" +
+                "        private T owner;\n" +
+                "    }\n" +
+                "    public static class Later { public static class Inner { } }\n" +
+                "}").parseAll();
+
+        DataObjectToken box = tokens.get(0);
+        assertType(box.getProperties().get(0), "T", false, null);
+        assertType(box.getProperties().get(1), "K", true, "java.util.List");
+        //unknown types are not guessed to be in the same package.
+        assertType(box.getProperties().get(2), "Throwable", false, null);
+        //forward references to nested classes are resolved at the end of the compilation unit.
+        assertType(box.getProperties().get(3), "a.Box.Later.Inner", false, null);
+
+        DataObjectToken entry = tokens.get(1);
+        assertType(entry.getProperties().get(0), "E", false, null);
+        assertType(entry.getProperties().get(1), "T", false, null);
+    }
+
+    @org.junit.Test
+    public void testParserInstancesRelease() throws Exception {
+        DataModelerParserFactory factory = DataModelerParserFactory.getInstance();
+        DataModelerParser parser = factory.getParser(new ANTLRInputStream("class A { }"));
+        new DataModelParser("package a;\npublic class A { private int a1; }").parse();
+
+        //the reused parser doesn't keep the last parsed input.
+        assertSame(parser, factory.getParser(new ANTLRInputStream("class A { }")));
+        new DataModelParser("package a;\npublic class A { private int a1; }").parse();
+        assertEquals(0, parser.getTokenStream().getTokenSource().getInputStream().size());
+
+        factory.release();
+        assertNotSame(parser, factory.getParser(new ANTLRInputStream("class A { }")));
+    }
+
+    @org.junit.Test
+    public void testTwoStageParsing() throws Exception {
+        String twoStage = parseWith(DATA_OBJECTS, true, false, false);
+        assertEquals(parseWith(DATA_OBJECTS, false, false, false), twoStage);
+
+        //inputs SLL prediction can't parse are parsed again with LL prediction, with the same result.
+        String invalid = "package a;\npublic class A { private int a1; private int; private String a2; }";
+        ParserStatistics statistics = DataModelerParserFactory.getInstance().getStatistics();
+        long fallbacks = statistics.getLlFallbacks();
+        twoStage = parseWith(invalid, true, false, false);
+        assertEquals(fallbacks + 1, statistics.getLlFallbacks());
+        assertEquals(parseWith(invalid, false, false, false), twoStage);
+    }
+
+    @org.junit.Test
+    public void testSkipMethodBodies() throws Exception {
+        //braces in string and char literals don't end the skipped bodies, and the members of anonymous classes
+        //are not read in any case.
+        String skipped = parseWith(DATA_OBJECTS, true, true, false);
+        assertEquals(parseWith(DATA_OBJECTS, true, false, false), skipped);
+        assertEquals(parseWith(DATA_OBJECTS, false, false, false), parseWith(DATA_OBJECTS, false, true, false));
+        assertFalse(skipped.contains("ignored"));
+        assertFalse(skipped.contains("visits"));
+        assertTrue(skipped.contains("total"));
+    }
+
+    @org.junit.Test
+    public void testStreamingParsing() throws Exception {
+        String streamed = parseWith(DATA_OBJECTS, true, true, true);
+        assertEquals(parseWith(DATA_OBJECTS, true, true, false), streamed);
+        assertEquals(parseWith(DATA_OBJECTS, false, false, false), parseWith(DATA_OBJECTS, false, false, true));
+        //every top level class is read, not only the first one.
+        assertTrue(streamed.contains("Customer"));
+        assertTrue(streamed.contains("Empty"));
+
+        //the SLL stage fails in the middle of a streamed parse.
+        String invalid = "package a;\npublic class A { private int a1; }\nclass B { private int; private String b1; }";
+        assertEquals(parseWith(invalid, true, true, false), parseWith(invalid, true, true, true));
+    }
+
+    @org.junit.Test
+    public void testErrorBudget() throws Exception {
+        String invalid = "package a;\n" +
+                "public class A {\n" +
+                "    private int;\n" +
+                "    private String;\n" +
+                "    private long;\n" +
+                "    private int a1;\n" +
+                "}";
+
+        DataModelParser dataModelParser = new DataModelParser(invalid);
+        dataModelParser.setErrorBudget(2);
+        assertNull(dataModelParser.parseAll());
+        assertTrue(dataModelParser.isAborted());
+        assertEquals(2, dataModelParser.getErrors().size());
+        assertEquals(3, dataModelParser.getErrors().get(0).getLine());
+        assertEquals(15, dataModelParser.getErrors().get(0).getColumn());
+        assertEquals(4, dataModelParser.getErrors().get(1).getLine());
+
+        //without budget the parse completes and every error is reported.
+        dataModelParser = new DataModelParser(invalid);
+        dataModelParser.setErrorBudget(0);
+        List<DataObjectToken> tokens = dataModelParser.parseAll();
+        assertFalse(dataModelParser.isAborted());
+        assertTrue(dataModelParser.hasErros());
+        assertEquals(3, dataModelParser.getErrors().size());
+        assertEquals(5, dataModelParser.getErrors().get(2).getLine());
+        assertEquals("A", tokens.get(0).getClassName());
+    }
+
+    @org.junit.Test
+    public void testTracingDisabledByDefault() throws Exception {
+        assertFalse(ParseTracer.isTracingEnabled());
+        assertSame(ParseTracer.DISABLED, ParseTracer.forSource("a/A.java"));
+        assertFalse(ParseTracer.DISABLED.isEnabled());
+
+        //sources not matching the filter are not traced.
+        ParseTracer.setTracingEnabled(true);
+        ParseTracer.setSourceFilter("b/B.java");
+        try {
+            assertSame(ParseTracer.DISABLED, ParseTracer.forSource("a/A.java"));
+            assertSame(ParseTracer.DISABLED, ParseTracer.forSource(null));
+        } finally {
+            ParseTracer.setTracingEnabled(false);
+            ParseTracer.setSourceFilter(null);
+        }
+    }
+
+    private void assertType(DataObjectPropertyToken property, String className, boolean multiple, String bag) {
+        assertEquals(className, property.getClassName());
+        assertEquals(multiple, property.isMultiple());
+        assertEquals(bag, property.getBag());
+    }
+
+    private void assertClass(DataObjectToken token, String className, String enclosingClassName, String... properties) {
+        assertEquals(className, token.getClassName());
+        assertEquals(enclosingClassName, token.getEnclosingClassName());
+        assertEquals(properties.length, token.getProperties().size());
+        for (int i = 0; i < properties.length; i++) {
+            assertEquals(properties[i], token.getProperties().get(i).getName());
+        }
+    }
+
+    /**
+     * Parses the source with the given factory options, restoring the default ones afterwards.
+     *
+     * @return the description of the parsed data objects and errors.
+     */
+    private String parseWith(String source, boolean twoStageParsing, boolean skipMethodBodies, boolean streamingParsing) throws Exception {
+        DataModelerParserFactory factory = DataModelerParserFactory.getInstance();
+        boolean defaultTwoStageParsing = factory.isTwoStageParsing();
+        boolean defaultSkipMethodBodies = factory.isSkipMethodBodies();
+        boolean defaultStreamingParsing = factory.isStreamingParsing();
+        try {
+            factory.setTwoStageParsing(twoStageParsing);
+            factory.setSkipMethodBodies(skipMethodBodies);
+            factory.setStreamingParsing(streamingParsing);
+            DataModelParser dataModelParser = new DataModelParser(source);
+            return describe(dataModelParser.parseAll()) + dataModelParser.getErrors();
+        } finally {
+            factory.setTwoStageParsing(defaultTwoStageParsing);
+            factory.setSkipMethodBodies(defaultSkipMethodBodies);
+            factory.setStreamingParsing(defaultStreamingParsing);
+        }
+    }
+
+    private String describe(List<DataObjectToken> tokens) {
+        StringBuilder description = new StringBuilder();
+        for (DataObjectToken token : tokens) {
+            description.append(token.getPackageName()).append(' ').append(token.getEnclosingClassName()).append(' ')
+                    .append(token.getClassName()).append(" extends ").append(token.getSuperClassName());
+            for (ImplementsToken implementsToken : token.getImplementedInterfaces()) {
+                description.append(" implements ").append(implementsToken.getImplementedInterface());
+            }
+            for (ModifierToken modifier : token.getClassModifiers()) {
+                description.append(' ').append(modifier.getModifier());
+            }
+            describe(description, token.getAnnotations());
+            description.append('\n');
+            for (DataObjectPropertyToken property : token.getProperties()) {
+                description.append("    ").append(property.getName()).append(' ').append(property.getType())
+                        .append(' ').append(property.getClassName()).append(' ').append(property.isMultiple())
+                        .append(' ').append(property.getBag());
+                for (ModifierToken modifier : property.getModifiers()) {
+                    description.append(' ').append(modifier.getModifier());
+                }
+                describe(description, property.getAnnotations());
+                description.append('\n');
+            }
+        }
+        return description.toString();
+    }
+
+    private void describe(StringBuilder description, List<AnnotationToken> annotations) {
+        for (AnnotationToken annotation : annotations) {
+            description.append(" @").append(annotation.getName());
+            for (AnnotationValuePairToken valuePair : annotation.getValuePairs()) {
+                description.append(' ').append(valuePair.getName()).append('=').append(valuePair.getValue());
+            }
+        }
+    }
+
+    private void assertValue(AnnotationValuePairToken valuePair, String name, String value, ValueType valueType, Object typedValue) {
+        assertEquals(name, valuePair.getName());
+        assertEquals(value, valuePair.getValue());
+        assertEquals(valueType, valuePair.getValueType());
+        assertEquals(typedValue, valuePair.getTypedValue());
+    }
 }
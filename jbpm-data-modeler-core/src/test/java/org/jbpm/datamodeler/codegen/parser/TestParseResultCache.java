@@ -0,0 +1,113 @@
+package org.jbpm.datamodeler.codegen.parser;
+
+import org.jbpm.datamodeler.codegen.parser.tokens.DataObjectToken;
+
+import java.io.File;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TestParseResultCache {
+
+    private static final String SOURCE = "package a;\n" +
+            "import java.util.List;\n" +
+            "@Entity(name = \"orders\")\n" +
+            "public class Order {\n" +
+            "    private List<Line> lines;\n" +
+            "    public static class Line { private int quantity; }\n" +
+            "}";
+
+    private TypeIndex typeIndex = TypeIndex.getInstance();
+
+    @org.junit.Test
+    public void testHits() throws Exception {
+        ParseResultCache cache = new ParseResultCache();
+        String contentHash = ParseResultCache.contentHash(SOURCE);
+        List<DataObjectToken> tokens = new DataModelParser(SOURCE).parseAll();
+
+        assertNull(cache.get("a/Order.java", contentHash, typeIndex));
+        cache.put("a/Order.java", contentHash, typeIndex, tokens);
+        assertEquals(tokens, cache.get("a/Order.java", contentHash, typeIndex));
+        //the file was modified.
+        assertNull(cache.get("a/Order.java", ParseResultCache.contentHash(SOURCE + "\n"), typeIndex));
+
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+
+        cache.remove("a/Order.java");
+        assertEquals(0, cache.size());
+    }
+
+    @org.junit.Test
+    public void testProjectTypesChange() throws Exception {
+        ParseResultCache cache = new ParseResultCache();
+        String source = "package a;\nimport b.*;\npublic class Invoice { private InvoiceLine line; }";
+        String contentHash = ParseResultCache.contentHash(source);
+
+        TypeIndex projectTypes = new TypeIndex(typeIndex);
+        projectTypes.addType("a.Invoice");
+        cache.put("a/Invoice.java", contentHash, projectTypes, new DataModelParser(source).parseAll());
+        assertNotNull(cache.get("a/Invoice.java", contentHash, projectTypes));
+
+        //types of other packages don't matter.
+        projectTypes.addType("c.InvoiceLine");
+        assertNotNull(cache.get("a/Invoice.java", contentHash, projectTypes));
+
+        //a type added to the same package or to a package imported on demand may change the resolved types.
+        TypeIndex samePackage = new TypeIndex(projectTypes);
+        samePackage.addType("a.InvoiceLine");
+        assertNull(cache.get("a/Invoice.java", contentHash, samePackage));
+        TypeIndex onDemand = new TypeIndex(projectTypes);
+        onDemand.addType("b.InvoiceLine");
+        assertNull(cache.get("a/Invoice.java", contentHash, onDemand));
+    }
+
+    @org.junit.Test
+    public void testEviction() throws Exception {
+        ParseResultCache cache = new ParseResultCache(2);
+        List<DataObjectToken> tokens = new DataModelParser(SOURCE).parseAll();
+
+        cache.put("A.java", "a", typeIndex, tokens);
+        cache.put("B.java", "b", typeIndex, tokens);
+        //A becomes the most recently used entry, so B is the evicted one.
+        assertNotNull(cache.get("A.java", "a", typeIndex));
+        cache.put("C.java", "c", typeIndex, tokens);
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("A.java", "a", typeIndex));
+        assertNull(cache.get("B.java", "b", typeIndex));
+        assertNotNull(cache.get("C.java", "c", typeIndex));
+    }
+
+    @org.junit.Test
+    public void testSaveAndLoad() throws Exception {
+        ParseResultCache cache = new ParseResultCache();
+        String contentHash = ParseResultCache.contentHash(SOURCE);
+        cache.put("a/Order.java", contentHash, typeIndex, new DataModelParser(SOURCE).parseAll());
+
+        File file = File.createTempFile("parse-cache", ".ser");
+        file.deleteOnExit();
+        cache.save(file);
+
+        ParseResultCache loaded = new ParseResultCache();
+        assertTrue(loaded.load(file));
+        List<DataObjectToken> tokens = loaded.get("a/Order.java", contentHash, typeIndex);
+        assertNotNull(tokens);
+        assertEquals(2, tokens.size());
+
+        DataObjectToken order = tokens.get(0);
+        assertEquals("Order", order.getClassName());
+        assertEquals("Entity", order.getAnnotations().get(0).getName());
+        assertEquals("\"orders\"", order.getAnnotations().get(0).getValuePairs().get(0).getValue());
+        assertEquals("a.Order.Line", order.getProperties().get(0).getClassName());
+        assertEquals("java.util.List", order.getProperties().get(0).getBag());
+        assertEquals("Order", tokens.get(1).getEnclosingClassName());
+
+        assertFalse(loaded.load(new File(file.getPath() + ".missing")));
+        assertTrue(file.delete());
+    }
+}
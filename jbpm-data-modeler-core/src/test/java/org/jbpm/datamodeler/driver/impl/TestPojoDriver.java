@@ -0,0 +1,44 @@
+package org.jbpm.datamodeler.driver.impl;
+
+import org.jbpm.datamodeler.codegen.parser.ParseResultCache;
+import org.jbpm.datamodeler.core.DataModel;
+import org.kie.commons.io.IOService;
+import org.kie.commons.io.impl.IOServiceDotFileImpl;
+import org.kie.commons.java.nio.file.Path;
+
+import java.io.File;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestPojoDriver {
+
+    private IOService ioService = new IOServiceDotFileImpl();
+
+    @org.junit.Test
+    public void testProjectTypesBetweenLoads() throws Exception {
+        File root = new File(System.getProperty("java.io.tmpdir"), "pojo-driver-" + System.nanoTime());
+        new File(root, "org/test").mkdirs();
+        Path sourcesRoot = ioService.get(root.toURI());
+        Path packagePath = sourcesRoot.resolve("org").resolve("test");
+        ioService.write(packagePath.resolve("Invoice.java"), "package org.test;\npublic class Invoice {\n    private InvoiceLine line;\n}\n");
+
+        PojoDriver driver = new PojoDriver();
+        driver.setParseCache(new ParseResultCache());
+
+        assertEquals("InvoiceLine", lineClassName(driver.loadModel(ioService, Collections.singletonList(sourcesRoot), true)));
+
+        //the unchanged Invoice.java is parsed again once the same package type exists.
+        ioService.write(packagePath.resolve("InvoiceLine.java"), "package org.test;\npublic class InvoiceLine {\n}\n");
+        assertEquals("org.test.InvoiceLine", lineClassName(driver.loadModel(ioService, Collections.singletonList(sourcesRoot), true)));
+
+        //and again once it's removed, the type isn't remembered by the driver.
+        assertTrue(new File(root, "org/test/InvoiceLine.java").delete());
+        assertEquals("InvoiceLine", lineClassName(driver.loadModel(ioService, Collections.singletonList(sourcesRoot), true)));
+    }
+
+    private String lineClassName(DataModel dataModel) {
+        return dataModel.getDataObject("org.test.Invoice").getProperties().get("line").getClassName();
+    }
+}
@@ -1,9 +1,13 @@
 package org.jbpm.datamodeler.editor.backend.server;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.jboss.errai.bus.server.annotations.Service;
 import org.jbpm.datamodeler.codegen.GenerationContext;
 import org.jbpm.datamodeler.codegen.GenerationEngine;
 import org.jbpm.datamodeler.codegen.GenerationListener;
+import org.jbpm.datamodeler.codegen.metrics.GenerationMeter;
+import org.jbpm.datamodeler.codegen.metrics.GenerationStatistics;
+import org.jbpm.datamodeler.codegen.metrics.Slf4jGenerationMeter;
 import org.jbpm.datamodeler.commons.NamingUtils;
 import org.jbpm.datamodeler.commons.file.FileScanner;
 import org.jbpm.datamodeler.commons.file.ScanResult;
@@ -35,11 +39,17 @@ import org.uberfire.backend.vfs.Path;
 import org.uberfire.client.workbench.widgets.events.ChangeType;
 import org.uberfire.client.workbench.widgets.events.ResourceBatchChangesEvent;
 import org.uberfire.client.workbench.widgets.events.ResourceChange;
+import org.uberfire.client.workbench.widgets.events.ResourceDeletedEvent;
+import org.uberfire.client.workbench.widgets.events.ResourceRenamedEvent;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 import javax.inject.Named;
+import java.net.URI;
 import java.util.*;
 
 @Service
@@ -55,6 +65,22 @@ public class DataModelerServiceImpl implements DataModelerService {
 
     private static final String DEFAULT_GUVNOR_PKG = "defaultpkg";
 
+    /**
+     * File to store the fingerprints of the generated data objects, it's kept in the java sources directory.
+     */
+    private static final String FINGERPRINTS_FILE = ".datamodeler.fingerprints";
+
+    /**
+     * System property with the uri of a repository directory with custom template sets, e.g.
+     * default://uf-playground/templates. The template sets are looked up in this directory before the classpath.
+     */
+    private static final String TEMPLATES_REPOSITORY = "org.jbpm.datamodeler.templates.repository";
+
+    /**
+     * Maximum number of generated files whose content hash is remembered.
+     */
+    private static final int MAX_CONTENT_HASHES = 4096;
+
     @Inject
     @Named("ioStrategy")
     IOService ioService;
@@ -78,10 +104,45 @@ public class DataModelerServiceImpl implements DataModelerService {
     @Inject
     private Event<ResourceBatchChangesEvent> resourceBatchChangesEvent;
 
+    /**
+     * Content hash of the last content written or read for the generated files, by file uri. A hash is only trusted
+     * while the file keeps the last modified time and size it had when the hash was taken.
+     */
+    private final Map<String, ContentHash> generatedContentHashes = Collections.synchronizedMap(new ContentHashes(MAX_CONTENT_HASHES));
+
+    /**
+     * When enabled, package directories known to exist are remembered between saves.
+     */
+    private boolean crossSaveDirectoryCache = Boolean.getBoolean("org.jbpm.datamodeler.crossSaveDirectoryCache");
+
+    /**
+     * Directories known to exist, only used when the cross save directory cache is enabled. They are forgotten
+     * when a resource containing them is deleted or renamed.
+     */
+    private final KnownDirectories knownDirectories = new KnownDirectories();
+
+    /**
+     * Meter for the code generation, the accumulated statistics are published by JMX.
+     */
+    private GenerationMeter generationMeter;
+
+    private GenerationStatistics generationStatistics;
 
     public DataModelerServiceImpl() {
     }
 
+    @PostConstruct
+    public void init() {
+        String templatesRepository = System.getProperty(TEMPLATES_REPOSITORY);
+        if (templatesRepository == null || "".equals(templatesRepository.trim())) return;
+
+        try {
+            GenerationEngine.getInstance().setTemplatesRepository(ioService, ioService.get(URI.create(templatesRepository.trim())));
+        } catch (Exception e) {
+            logger.error("Templates repository couldn't be configured: " + templatesRepository, e);
+        }
+    }
+
     @Override
     public DataModelTO loadModel(Path path) {
 
@@ -117,28 +178,54 @@ public class DataModelerServiceImpl implements DataModelerService {
         
         try {
 
+            //all the file system changes are collected and applied at the end as a single batch.
+            FileChangesBatch batch = new FileChangesBatch(ioService);
+
             //get the path to project root directory (the main pom.xml directory) and calculate
             //the java sources path
             Path projectPath = projectService.resolveProject(path);
 
             //ensure java sources directory exists.
-            org.kie.commons.java.nio.file.Path javaPath = ensureProjectJavaPath(paths.convert(projectPath));
+            org.kie.commons.java.nio.file.Path javaPath = ensureProjectJavaPath(paths.convert(projectPath), batch);
 
             //clean the files that needs to be deleted
-            List<FileChangeDescriptor> fileChanges = cleanupFiles(dataModel, javaPath);
+            List<FileChangeDescriptor> fileChanges = cleanupFiles(dataModel, javaPath, batch);
 
             //convert to domain model
             DataModel dataModelDomain = DataModelerServiceHelper.getInstance().to2Domain(dataModel);
 
+            //only the data objects changed since the last generation are generated.
+            String fingerprintsContent = readFingerprints(javaPath);
             GenerationContext generationContext = new GenerationContext(dataModelDomain);
-            ServiceGenerationListener generationListener = new ServiceGenerationListener(javaPath);
+            generationContext.setIncrementalGeneration(true);
+            generationContext.setPrecompiledTemplates(true);
+            generationContext.setPreviousFingerprints(parseFingerprints(fingerprintsContent));
+            ServiceGenerationListener generationListener = new ServiceGenerationListener(javaPath, batch);
             generationContext.setGenerationListener(generationListener);
+            generationContext.setGenerationMeter(getGenerationMeter());
 
             invalidateDMOProjectCache.fire( new InvalidateDMOProjectCacheEvent( projectPath ) );
 
             GenerationEngine generationEngine = GenerationEngine.getInstance();
             generationEngine.generate(generationContext);
 
+            writeFingerprints(javaPath, generationContext.getFingerprints(), fingerprintsContent, batch);
+
+            //the listener only collects the assets, the time spent by the writes is reported separately.
+            long writeStart = System.nanoTime();
+            try {
+                batch.apply();
+            } catch (RuntimeException e) {
+                //the file system state is unknown from now.
+                knownDirectories.clear();
+                throw e;
+            }
+            generationContext.getGenerationMeter().assetsWritten(batch.getWrites(), System.nanoTime() - writeStart);
+            rememberContentHashes(generationListener.getContentHashes());
+            if (crossSaveDirectoryCache) {
+                knownDirectories.addAll(generationListener.getEnsuredDirectories());
+            }
+
             fileChanges.addAll(generationListener.getFileChanges());
             notifyFileChanges(fileChanges);
 
@@ -175,11 +262,78 @@ public class DataModelerServiceImpl implements DataModelerService {
     }
 
 
+    /**
+     * Remembers the hashes of the files written by a save, once the batch was applied.
+     */
+    private void rememberContentHashes(Map<org.kie.commons.java.nio.file.Path, String> contentHashes) {
+        for (Map.Entry<org.kie.commons.java.nio.file.Path, String> entry : contentHashes.entrySet()) {
+            generatedContentHashes.put(entry.getKey().toUri().toString(), new ContentHash(entry.getValue(), fileVersion(entry.getKey())));
+        }
+    }
+
+    /**
+     * @return the last modified time and size of the given file.
+     */
+    private String fileVersion(org.kie.commons.java.nio.file.Path filePath) {
+        return Files.getLastModifiedTime(filePath).toMillis() + ":" + Files.size(filePath);
+    }
+
+    void onResourceDeleted(@Observes ResourceDeletedEvent event) {
+        forgetDirectories(event.getPath());
+    }
+
+    void onResourceRenamed(@Observes ResourceRenamedEvent event) {
+        forgetDirectories(event.getSourcePath());
+    }
+
+    void onResourceBatchChanges(@Observes ResourceBatchChangesEvent event) {
+        for (ResourceChange change : event.getBatch()) {
+            if (change.getType() == ChangeType.DELETE) {
+                forgetDirectories(change.getPath());
+            }
+        }
+    }
+
+    private void forgetDirectories(Path path) {
+        if (path != null && knownDirectories.size() > 0) {
+            knownDirectories.forget(paths.convert(path).toUri().toString());
+        }
+    }
+
+    private synchronized GenerationMeter getGenerationMeter() {
+        if (generationMeter == null) {
+            generationStatistics = new GenerationStatistics();
+            generationStatistics.registerMBean();
+            generationMeter = new Slf4jGenerationMeter(generationStatistics);
+        }
+        return generationMeter;
+    }
+
+    /**
+     * Releases the templates repository and removes the generation statistics MBean when the application is
+     * undeployed.
+     */
+    @PreDestroy
+    public synchronized void destroy() {
+        if (System.getProperty(TEMPLATES_REPOSITORY) != null) {
+            try {
+                GenerationEngine.getInstance().setTemplatesRepository(null, null);
+            } catch (Exception e) {
+                logger.warn("Templates repository couldn't be released.", e);
+            }
+        }
+        if (generationStatistics != null) {
+            generationStatistics.unregisterMBean();
+            generationStatistics = null;
+            generationMeter = null;
+        }
+    }
+
     /**
      * This auxiliary method deletes the files that belongs to data objects that was removed in memory.
      *
      */
-    private List<FileChangeDescriptor> cleanupFiles(DataModelTO dataModel, org.kie.commons.java.nio.file.Path javaPath) {
+    private List<FileChangeDescriptor> cleanupFiles(DataModelTO dataModel, org.kie.commons.java.nio.file.Path javaPath, FileChangesBatch batch) {
 
         List<DataObjectTO> currentObjects = dataModel.getDataObjects();
         List<DataObjectTO> deletedObjects = dataModel.getDeletedDataObjects();
@@ -199,7 +353,8 @@ public class DataModelerServiceImpl implements DataModelerService {
                     //fileChanges.add(new FileChangeDescriptor(paths.convert(filePath), FileChangeDescriptor.UPDATE));
                 } else {
                     fileChanges.add(new FileChangeDescriptor(paths.convert(filePath), FileChangeDescriptor.DELETE));
-                    ioService.delete(filePath);
+                    batch.delete(filePath);
+                    generatedContentHashes.remove(filePath.toUri().toString());
                 }
             }
         }
@@ -219,7 +374,8 @@ public class DataModelerServiceImpl implements DataModelerService {
                     //fileChanges.add(new FileChangeDescriptor(paths.convert(filePath), FileChangeDescriptor.UPDATE));
                 } else {
                     fileChanges.add(new FileChangeDescriptor(paths.convert(filePath), FileChangeDescriptor.DELETE));
-                    ioService.delete(filePath);
+                    batch.delete(filePath);
+                    generatedContentHashes.remove(filePath.toUri().toString());
                 }
             }
         }
@@ -227,6 +383,48 @@ public class DataModelerServiceImpl implements DataModelerService {
         return  fileChanges;
     }
 
+    /**
+     * Reads the fingerprints file stored by the last generation.
+     *
+     * @return the file content, or null if the file don't exists.
+     */
+    private String readFingerprints(org.kie.commons.java.nio.file.Path javaPath) {
+        org.kie.commons.java.nio.file.Path fingerprintsPath = javaPath.resolve(FINGERPRINTS_FILE);
+        return ioService.exists(fingerprintsPath) ? ioService.readAllString(fingerprintsPath) : null;
+    }
+
+    /**
+     * Parses the fingerprints file content. The files are not checked, the model is loaded from the java files so
+     * the data objects whose file was removed are not saved with the same fingerprint again.
+     */
+    private Map<String, String> parseFingerprints(String content) {
+        Map<String, String> fingerprints = new HashMap<String, String>();
+        if (content == null) return fingerprints;
+
+        StringTokenizer lines = new StringTokenizer(content, "\n");
+        String line;
+        String className;
+        int index;
+        while (lines.hasMoreTokens()) {
+            line = lines.nextToken().trim();
+            if ((index = line.indexOf('=')) > 0) {
+                className = line.substring(0, index);
+                fingerprints.put(className, line.substring(index + 1));
+            }
+        }
+        return fingerprints;
+    }
+
+    private void writeFingerprints(org.kie.commons.java.nio.file.Path javaPath, Map<String, String> fingerprints, String previousContent, FileChangesBatch batch) {
+        StringBuilder content = new StringBuilder();
+        for (Map.Entry<String, String> entry : new TreeMap<String, String>(fingerprints).entrySet()) {
+            content.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+        if (!content.toString().equals(previousContent)) {
+            batch.write(javaPath.resolve(FINGERPRINTS_FILE), content.toString());
+        }
+    }
+
     @Override
     public Path createModel(Path context, String fileName) {
 
@@ -250,22 +448,30 @@ public class DataModelerServiceImpl implements DataModelerService {
         return types;
     }
 
+    /**
+     * Collects the generated files into the save batch. It's not a StreamingGenerationListener on purpose, the full
+     * content is needed anyway to compare its hash with the current file and to write it with the batch.
+     */
     public class ServiceGenerationListener implements GenerationListener {
 
         org.kie.commons.java.nio.file.Path output;
+        FileChangesBatch batch;
         List<FileChangeDescriptor> fileChanges = new ArrayList<FileChangeDescriptor>();
+        //hashes of the written files, they are remembered only when the batch is successfully applied.
+        Map<org.kie.commons.java.nio.file.Path, String> contentHashes = new HashMap<org.kie.commons.java.nio.file.Path, String>();
+        //package directories already ensured in this save, by relative directory name. e.g. /org/jbpm
+        Map<String, org.kie.commons.java.nio.file.Path> ensuredDirectories = new HashMap<String, org.kie.commons.java.nio.file.Path>();
 
-        public ServiceGenerationListener(org.kie.commons.java.nio.file.Path output) {
+        public ServiceGenerationListener(org.kie.commons.java.nio.file.Path output, FileChangesBatch batch) {
             this.output = output;
+            this.batch = batch;
         }
 
         @Override
         public void assetGenerated(String fileName, String content) {
 
-            String subDir;
             org.kie.commons.java.nio.file.Path subDirPath;
             org.kie.commons.java.nio.file.Path destFilePath;
-            StringTokenizer dirNames;
 
             subDirPath = output;
             int index = fileName.lastIndexOf("/");
@@ -276,21 +482,22 @@ public class DataModelerServiceImpl implements DataModelerService {
                 //the file name was provided in the most common form /dir1/dir2/SomeFile.java
                 String dirNamesPath = fileName.substring(0, index);
                 fileName = fileName.substring(index+1, fileName.length());
-                dirNames = new StringTokenizer(dirNamesPath, "/");
-                while (dirNames.hasMoreElements()) {
-                    subDir = dirNames.nextToken();
-                    subDirPath = subDirPath.resolve(subDir);
-                    if (!ioService.exists(subDirPath)) {
-                        ioService.createDirectory(subDirPath);
-                    }
-                }
+                subDirPath = ensureDirectory(dirNamesPath);
             }
 
             //the last subDirPath is the directory to crate the file.
             destFilePath = subDirPath.resolve(fileName);
             boolean exists = ioService.exists(destFilePath);
+            String contentHash = DigestUtils.sha1Hex(content);
 
-            ioService.write(destFilePath, content);
+            if (exists && isUnchanged(destFilePath, contentHash)) {
+                //writing the same content produces a new commit and rebuilds for nothing.
+                logger.debug("Generated content is equal to current content, file is not modified: " + destFilePath);
+                return;
+            }
+
+            batch.write(destFilePath, content);
+            contentHashes.put(destFilePath, contentHash);
 
             if (!exists) {
                 logger.debug("Genertion listener created a new file: " + destFilePath);
@@ -301,9 +508,103 @@ public class DataModelerServiceImpl implements DataModelerService {
             }
         }
 
+        /**
+         * Resolves a package directory relative to the output path and ensures it exists. Every directory is
+         * checked against the file system only once per save, or once per service if the cross save directory
+         * cache is enabled.
+         *
+         * @param dirNamesPath a relative directory name in the form /dir1/dir2
+         *
+         * @return the resolved directory path.
+         */
+        private org.kie.commons.java.nio.file.Path ensureDirectory(String dirNamesPath) {
+            org.kie.commons.java.nio.file.Path dirPath = ensuredDirectories.get(dirNamesPath);
+            if (dirPath != null) return dirPath;
+
+            dirPath = output;
+            StringTokenizer dirNames = new StringTokenizer(dirNamesPath, "/");
+            StringBuilder currentDirName = new StringBuilder();
+            String subDir;
+            org.kie.commons.java.nio.file.Path ensuredPath;
+            while (dirNames.hasMoreTokens()) {
+                subDir = dirNames.nextToken();
+                currentDirName.append('/').append(subDir);
+                if ((ensuredPath = ensuredDirectories.get(currentDirName.toString())) != null) {
+                    dirPath = ensuredPath;
+                } else {
+                    dirPath = dirPath.resolve(subDir);
+                    if (!knownDirectories.contains(dirPath.toUri().toString()) && !ioService.exists(dirPath)) {
+                        batch.createDirectory(dirPath);
+                    }
+                    ensuredDirectories.put(currentDirName.toString(), dirPath);
+                }
+            }
+            return dirPath;
+        }
+
+        /**
+         * @return the uris of the directories ensured by this listener.
+         */
+        public Set<String> getEnsuredDirectories() {
+            Set<String> result = new HashSet<String>();
+            for (org.kie.commons.java.nio.file.Path dirPath : ensuredDirectories.values()) {
+                result.add(dirPath.toUri().toString());
+            }
+            return result;
+        }
+
+        /**
+         * Checks if an existing file has the given content hash. The file is read only if its hash is not
+         * remembered or the file was modified since the hash was taken, e.g. by an external edit.
+         */
+        private boolean isUnchanged(org.kie.commons.java.nio.file.Path filePath, String contentHash) {
+            String key = filePath.toUri().toString();
+            String version = fileVersion(filePath);
+            ContentHash currentHash = generatedContentHashes.get(key);
+            if (currentHash == null || !currentHash.version.equals(version)) {
+                currentHash = new ContentHash(DigestUtils.sha1Hex(ioService.readAllString(filePath)), version);
+                generatedContentHashes.put(key, currentHash);
+            }
+            return currentHash.hash.equals(contentHash);
+        }
+
         public List<FileChangeDescriptor> getFileChanges() {
             return fileChanges;
         }
+
+        public Map<org.kie.commons.java.nio.file.Path, String> getContentHashes() {
+            return contentHashes;
+        }
+    }
+
+    private static class ContentHash {
+
+        final String hash;
+
+        //last modified time and size of the file when the hash was taken.
+        final String version;
+
+        ContentHash(String hash, String version) {
+            this.hash = hash;
+            this.version = version;
+        }
+    }
+
+    private static class ContentHashes extends LinkedHashMap<String, ContentHash> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maxEntries;
+
+        private ContentHashes(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ContentHash> eldest) {
+            return size() > maxEntries;
+        }
     }
 
     public Path resolveResourcePackage(final Path resource) {
@@ -379,18 +680,18 @@ public class DataModelerServiceImpl implements DataModelerService {
         return null;
     }
 
-    private org.kie.commons.java.nio.file.Path ensureProjectJavaPath(org.kie.commons.java.nio.file.Path projectPath) {
+    private org.kie.commons.java.nio.file.Path ensureProjectJavaPath(org.kie.commons.java.nio.file.Path projectPath, FileChangesBatch batch) {
         org.kie.commons.java.nio.file.Path javaPath = projectPath.resolve("src");
         if (!ioService.exists(javaPath)) {
-            javaPath = ioService.createDirectory(javaPath);
+            batch.createDirectory(javaPath);
         }
         javaPath = javaPath.resolve("main");
         if (!ioService.exists(javaPath)) {
-            javaPath = ioService.createDirectory(javaPath);
+            batch.createDirectory(javaPath);
         }
         javaPath = javaPath.resolve("java");
         if (!ioService.exists(javaPath)) {
-            javaPath = ioService.createDirectory(javaPath);
+            batch.createDirectory(javaPath);
         }
 
         return javaPath;
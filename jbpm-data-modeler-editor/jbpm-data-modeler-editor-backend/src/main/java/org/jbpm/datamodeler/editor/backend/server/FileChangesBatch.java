@@ -0,0 +1,86 @@
+package org.jbpm.datamodeler.editor.backend.server;
+
+import org.kie.commons.io.IOService;
+import org.kie.commons.java.nio.file.Path;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects the directories, files and deletions produced by a data model save, and applies all of them as a
+ * single batch against the IOService. On a git based file system the whole save produces one commit instead of
+ * one commit per touched file.
+ */
+public class FileChangesBatch {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileChangesBatch.class);
+
+    private IOService ioService;
+
+    //insertion order is kept, so parent directories are always created before it's children.
+    private Set<Path> directories = new LinkedHashSet<Path>();
+
+    private Map<Path, String> writes = new LinkedHashMap<Path, String>();
+
+    private List<Path> deletes = new ArrayList<Path>();
+
+    public FileChangesBatch(IOService ioService) {
+        this.ioService = ioService;
+    }
+
+    public void createDirectory(Path directory) {
+        directories.add(directory);
+    }
+
+    public void write(Path file, String content) {
+        writes.put(file, content);
+    }
+
+    public void delete(Path file) {
+        writes.remove(file);
+        deletes.add(file);
+    }
+
+    /**
+     * @return the number of files to write.
+     */
+    public int getWrites() {
+        return writes.size();
+    }
+
+    public boolean isEmpty() {
+        return directories.isEmpty() && writes.isEmpty() && deletes.isEmpty();
+    }
+
+    /**
+     * Applies all the collected changes in one IOService batch.
+     */
+    public void apply() {
+        if (isEmpty()) return;
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Applying file changes batch, directories: " + directories.size() + ", writes: " + writes.size() + ", deletes: " + deletes.size());
+        }
+
+        ioService.startBatch();
+        try {
+            for (Path directory : directories) {
+                ioService.createDirectory(directory);
+            }
+            for (Path file : deletes) {
+                ioService.deleteIfExists(file);
+            }
+            for (Map.Entry<Path, String> write : writes.entrySet()) {
+                ioService.write(write.getKey(), write.getValue());
+            }
+        } finally {
+            ioService.endBatch();
+        }
+    }
+}
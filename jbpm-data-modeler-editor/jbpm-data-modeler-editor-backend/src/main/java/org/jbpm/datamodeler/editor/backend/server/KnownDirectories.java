@@ -0,0 +1,50 @@
+package org.jbpm.datamodeler.editor.backend.server;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Uris of the package directories known to exist between data model saves. A directory is forgotten when it, or
+ * any of its parents, is deleted or renamed.
+ */
+public class KnownDirectories {
+
+    private final Set<String> directories = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    public boolean contains(String directoryUri) {
+        return directories.contains(directoryUri);
+    }
+
+    public void addAll(Collection<String> directoryUris) {
+        directories.addAll(directoryUris);
+    }
+
+    /**
+     * Forgets the given resource and all the directories below it.
+     */
+    public void forget(String resourceUri) {
+        if (directories.isEmpty()) return;
+
+        String prefix = trimSlash(resourceUri) + "/";
+        for (Iterator<String> it = directories.iterator(); it.hasNext();) {
+            if ((trimSlash(it.next()) + "/").startsWith(prefix)) {
+                it.remove();
+            }
+        }
+    }
+
+    public void clear() {
+        directories.clear();
+    }
+
+    public int size() {
+        return directories.size();
+    }
+
+    private static String trimSlash(String uri) {
+        return uri.endsWith("/") ? uri.substring(0, uri.length() - 1) : uri;
+    }
+}
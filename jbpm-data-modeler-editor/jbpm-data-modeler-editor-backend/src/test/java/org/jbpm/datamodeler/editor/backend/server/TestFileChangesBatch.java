@@ -0,0 +1,50 @@
+package org.jbpm.datamodeler.editor.backend.server;
+
+import org.kie.commons.io.IOService;
+import org.kie.commons.io.impl.IOServiceDotFileImpl;
+import org.kie.commons.java.nio.file.Path;
+
+import java.io.File;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestFileChangesBatch {
+
+    @org.junit.Test
+    public void testApply() throws Exception {
+        IOService ioService = new IOServiceDotFileImpl();
+        File root = new File(System.getProperty("java.io.tmpdir"), "file-changes-batch-" + System.nanoTime());
+        root.mkdirs();
+        Path rootPath = ioService.get(root.toURI());
+        Path deletedPath = rootPath.resolve("Deleted.java");
+        ioService.write(deletedPath, "class Deleted { }");
+
+        FileChangesBatch batch = new FileChangesBatch(ioService);
+        assertTrue(batch.isEmpty());
+
+        Path orgPath = rootPath.resolve("org");
+        Path jbpmPath = orgPath.resolve("jbpm");
+        batch.createDirectory(orgPath);
+        batch.createDirectory(jbpmPath);
+        batch.write(jbpmPath.resolve("Invoice.java"), "class Invoice { }");
+        //a file written and then deleted in the same batch is not written.
+        batch.write(jbpmPath.resolve("Removed.java"), "class Removed { }");
+        batch.delete(jbpmPath.resolve("Removed.java"));
+        batch.delete(deletedPath);
+        assertFalse(batch.isEmpty());
+        assertEquals(1, batch.getWrites());
+
+        //nothing is applied until the end of the save.
+        assertFalse(ioService.exists(orgPath));
+        assertTrue(ioService.exists(deletedPath));
+
+        batch.apply();
+
+        assertTrue(ioService.exists(jbpmPath));
+        assertEquals("class Invoice { }", ioService.readAllString(jbpmPath.resolve("Invoice.java")));
+        assertFalse(ioService.exists(jbpmPath.resolve("Removed.java")));
+        assertFalse(ioService.exists(deletedPath));
+    }
+}
@@ -0,0 +1,31 @@
+package org.jbpm.datamodeler.editor.backend.server;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestKnownDirectories {
+
+    @org.junit.Test
+    public void testForget() throws Exception {
+        KnownDirectories knownDirectories = new KnownDirectories();
+        knownDirectories.addAll(Arrays.asList("file:///p/src/main/java/org", "file:///p/src/main/java/org/jbpm/",
+                "file:///p/src/main/java/org/jbpm/model", "file:///p/src/main/java/org/jbpmx"));
+
+        //deleted files don't affect the directories.
+        knownDirectories.forget("file:///p/src/main/java/org/jbpm/model/Invoice.java");
+        assertEquals(4, knownDirectories.size());
+
+        //a deleted directory is forgotten with all its sub directories, with or without a trailing slash.
+        knownDirectories.forget("file:///p/src/main/java/org/jbpm/");
+        assertEquals(2, knownDirectories.size());
+        assertTrue(knownDirectories.contains("file:///p/src/main/java/org"));
+        assertTrue(knownDirectories.contains("file:///p/src/main/java/org/jbpmx"));
+        assertFalse(knownDirectories.contains("file:///p/src/main/java/org/jbpm/model"));
+
+        knownDirectories.forget("file:///p/src");
+        assertEquals(0, knownDirectories.size());
+    }
+}